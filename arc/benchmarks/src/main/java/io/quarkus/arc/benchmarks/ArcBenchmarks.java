@@ -0,0 +1,27 @@
+package io.quarkus.arc.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks with the {@link GCProfiler} attached so that the allocation rate is always reported. All the
+ * standard JMH command line options are supported, e.g. {@code java -jar target/arc-benchmarks.jar RequestContext -f 2}.
+ */
+public final class ArcBenchmarks {
+
+    private ArcBenchmarks() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+        new Runner(new OptionsBuilder()
+                .parent(commandLineOptions)
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+}
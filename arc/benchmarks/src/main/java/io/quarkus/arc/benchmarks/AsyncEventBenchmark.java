@@ -0,0 +1,86 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.AsyncEventDelivery;
+import io.quarkus.arc.benchmarks.beans.Ping;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.NotificationOptions;
+import javax.enterprise.util.TypeLiteral;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Asynchronous event delivery through {@link Event#fireAsync(Object, NotificationOptions)}. Each invocation fires a burst
+ * of events and waits until all of them are delivered.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AsyncEventBenchmark {
+
+    private static final int BURST = 100;
+
+    @Param({ "default", "batched", "coalesced" })
+    public String delivery;
+
+    private final Ping[] pings = new Ping[BURST];
+    private final CompletableFuture<?>[] futures = new CompletableFuture<?>[BURST];
+
+    private Event<Ping> event;
+    private ExecutorService executor;
+    private NotificationOptions options;
+
+    @Setup
+    public void setup() {
+        event = Arc.initialize().beanManager().getEvent().select(new TypeLiteral<Ping>() {
+        });
+        executor = Executors.newSingleThreadExecutor();
+        for (int i = 0; i < BURST; i++) {
+            pings[i] = new Ping(i % 10);
+        }
+        switch (delivery) {
+            case "batched":
+                options = AsyncEventDelivery.batched(executor);
+                break;
+            case "coalesced":
+                options = AsyncEventDelivery.<Ping> coalesced(Ping::getValue, executor);
+                break;
+            default:
+                options = NotificationOptions.ofExecutor(executor);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        Arc.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public void fireAsync() {
+        for (int i = 0; i < BURST; i++) {
+            futures[i] = event.fireAsync(pings[i], options).toCompletableFuture();
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+
+}
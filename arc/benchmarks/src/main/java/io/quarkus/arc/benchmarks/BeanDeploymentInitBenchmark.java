@@ -0,0 +1,83 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.processor.BeanProcessor;
+import io.quarkus.arc.processor.BytecodeTransformer;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.jboss.jandex.IndexView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Scaling of the bean deployment initialization, i.e. the resolution of injection points, interceptor bindings and
+ * decorators, with the number of beans of a {@link SyntheticApplication}. The beans are discovered before each
+ * invocation and only {@link BeanProcessor#initialize(Consumer, java.util.List, ExecutorService)} is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BeanDeploymentInitBenchmark {
+
+    private static final Consumer<BytecodeTransformer> UNSUPPORTED_BYTECODE_TRANSFORMER = transformer -> {
+        throw new UnsupportedOperationException();
+    };
+
+    @Param({ "1000", "10000", "50000" })
+    public int beans;
+
+    @Param({ "1", "4" })
+    public int threads;
+
+    private IndexView index;
+    private ExecutorService executor;
+    private BeanProcessor processor;
+
+    @Setup
+    public void setup() {
+        index = SyntheticApplication.index(beans);
+        executor = threads > 1 ? Executors.newFixedThreadPool(threads) : null;
+    }
+
+    @Setup(Level.Invocation)
+    public void registerBeans() {
+        processor = BeanProcessor.builder()
+                .setBeanArchiveIndex(index)
+                .build();
+        processor.registerCustomContexts();
+        processor.registerScopes();
+        processor.registerBeans();
+        processor.getBeanDeployment().initBeanByTypeMap();
+        processor.registerSyntheticObservers();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public BeanProcessor initialize() {
+        processor.initialize(UNSUPPORTED_BYTECODE_TRANSFORMER, Collections.emptyList(), executor);
+        return processor;
+    }
+
+}
@@ -0,0 +1,95 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.processor.BatchedResourceOutput;
+import io.quarkus.arc.processor.BeanProcessor;
+import io.quarkus.arc.processor.ResourceOutput;
+import io.quarkus.arc.processor.ResourceOutput.Resource;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import org.jboss.jandex.IndexView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Build time processing of a synthetic application, i.e. the work done by the {@code process} goal of the
+ * cdi-maven-plugin after indexing: bean discovery, validation, class generation and writing the class files.
+ * <p>
+ * The application is generated by {@link SyntheticApplication}. With {@code threads > 1} the components are initialized
+ * and the resources generated in parallel, and written by a {@link BatchedResourceOutput} while the generation is still in
+ * progress, as in the plugin.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class BeanProcessorBenchmark {
+
+    @Param({ "5000" })
+    public int beans;
+
+    @Param({ "1", "4" })
+    public int threads;
+
+    private IndexView index;
+    private ExecutorService executor;
+    private File outputDirectory;
+
+    @Setup
+    public void setup() throws IOException {
+        index = SyntheticApplication.index(beans);
+        executor = threads > 1 ? Executors.newFixedThreadPool(threads) : null;
+        outputDirectory = Files.createTempDirectory("arc-benchmark").toFile();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+        try (Stream<Path> files = Files.walk(outputDirectory.toPath())) {
+            files.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        }
+    }
+
+    @Benchmark
+    public int process() throws Exception {
+        AtomicInteger written = new AtomicInteger();
+        ResourceOutput writer = resource -> {
+            if (resource.getType() == Resource.Type.JAVA_CLASS) {
+                resource.writeTo(outputDirectory);
+            }
+            written.incrementAndGet();
+        };
+        BatchedResourceOutput output = executor != null ? new BatchedResourceOutput(writer, executor) : null;
+        BeanProcessor.builder()
+                .setBeanArchiveIndex(index)
+                .setOutput(output != null ? output : writer)
+                .build()
+                .process(executor);
+        if (output != null) {
+            output.await();
+        }
+        return written.get();
+    }
+
+}
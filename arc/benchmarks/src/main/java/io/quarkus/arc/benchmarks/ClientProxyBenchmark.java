@@ -0,0 +1,55 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.arc.benchmarks.beans.ApplicationScopedService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Method invocation through the client proxy of an {@link javax.enterprise.context.ApplicationScoped} bean, compared to a
+ * direct call on the contextual instance.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientProxyBenchmark {
+
+    private ApplicationScopedService proxy;
+    private ApplicationScopedService instance;
+
+    @Setup
+    public void setup() {
+        proxy = Arc.initialize().instance(ApplicationScopedService.class).get();
+        instance = (ApplicationScopedService) ((ClientProxy) proxy).arc_contextualInstance();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Arc.shutdown();
+    }
+
+    @Benchmark
+    public int proxyDispatch() {
+        return proxy.ping();
+    }
+
+    @Benchmark
+    public int directCall() {
+        return instance.ping();
+    }
+
+}
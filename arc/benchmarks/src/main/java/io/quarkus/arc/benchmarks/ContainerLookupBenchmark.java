@@ -0,0 +1,99 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableInstance;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.benchmarks.beans.ApplicationScopedService;
+import io.quarkus.arc.benchmarks.beans.DependentService;
+import io.quarkus.arc.benchmarks.beans.NamedService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import javax.enterprise.inject.literal.NamedLiteral;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Programmatic lookup: {@link ArcContainer#instance(Class, java.lang.annotation.Annotation...)} and
+ * {@link javax.enterprise.inject.Instance#get()}.
+ * <p>
+ * The {@code containerInstanceNamed} benchmark performs a dynamic lookup with a new {@link NamedLiteral} each time, i.e.
+ * the qualifier is hashed and compared whenever the resolution cache is queried.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ContainerLookupBenchmark {
+
+    private ArcContainer container;
+    private InjectableInstance<ApplicationScopedService> applicationScopedInstance;
+    private InjectableInstance<DependentService> dependentInstance;
+    private Supplier<InstanceHandle<ApplicationScopedService>> applicationScopedResolver;
+
+    @Setup
+    public void setup() {
+        container = Arc.initialize();
+        applicationScopedInstance = container.select(ApplicationScopedService.class);
+        dependentInstance = container.select(DependentService.class);
+        applicationScopedResolver = container.instanceResolver(ApplicationScopedService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Arc.shutdown();
+    }
+
+    @Benchmark
+    public ApplicationScopedService containerInstanceApplicationScoped() {
+        return container.instance(ApplicationScopedService.class).get();
+    }
+
+    @Benchmark
+    public ApplicationScopedService instanceResolverApplicationScoped() {
+        return applicationScopedResolver.get().get();
+    }
+
+    @Benchmark
+    public NamedService containerInstanceNamed() {
+        return container.instance(NamedService.class, NamedLiteral.of("named")).get();
+    }
+
+    @Benchmark
+    public int containerInstanceDependent() {
+        InstanceHandle<DependentService> handle = container.instance(DependentService.class);
+        try {
+            return handle.get().ping();
+        } finally {
+            handle.destroy();
+        }
+    }
+
+    @Benchmark
+    public ApplicationScopedService instanceGetApplicationScoped() {
+        return applicationScopedInstance.get();
+    }
+
+    @Benchmark
+    public int instanceGetDestroyDependent() {
+        // The same pattern as the Generator example - every dependent instance must be destroyed explicitly
+        DependentService service = dependentInstance.get();
+        try {
+            return service.ping();
+        } finally {
+            dependentInstance.destroy(service);
+        }
+    }
+
+}
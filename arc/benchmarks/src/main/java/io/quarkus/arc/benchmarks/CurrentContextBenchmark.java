@@ -0,0 +1,95 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ContextCarrier;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.benchmarks.beans.RequestScopedService;
+import io.quarkus.arc.impl.SlotCurrentContextFactory;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * The cost of the request context lifecycle for the default {@link ThreadLocal} current context and the
+ * {@link SlotCurrentContextFactory}, on a single thread and for many short tasks executed by a worker pool.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CurrentContextBenchmark {
+
+    private static final int TASKS = 10_000;
+
+    @Param({ "thread-local", "slot" })
+    public String currentContext;
+
+    private ManagedContext requestContext;
+    private RequestScopedService service;
+    private ExecutorService executor;
+    private final Future<?>[] futures = new Future<?>[TASKS];
+
+    @Setup
+    public void setup() {
+        ArcContainer container = Arc.initialize("slot".equals(currentContext) ? new SlotCurrentContextFactory() : null);
+        requestContext = container.requestContext();
+        service = container.instance(RequestScopedService.class).get();
+        executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+        Arc.shutdown();
+    }
+
+    @Benchmark
+    public int activateUseTerminate() {
+        requestContext.activate();
+        try {
+            return service.ping();
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    @Benchmark
+    public int propagate() throws Exception {
+        requestContext.activate();
+        try {
+            // Capture the state and execute the task on the same thread
+            return ContextCarrier.capture().wrap(service::ping).call();
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public void manyTasks() throws Exception {
+        for (int i = 0; i < TASKS; i++) {
+            futures[i] = executor.submit(this::activateUseTerminate);
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+}
@@ -0,0 +1,153 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.DependentArena;
+import io.quarkus.arc.InjectableInstance;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.benchmarks.beans.FreeGraphRoot;
+import io.quarkus.arc.benchmarks.beans.TrackedGraphRoot;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Creation of a deep {@link javax.enterprise.context.Dependent} graph: a root with three inner beans, each with three
+ * leaves. The {@code Free*} graph is destruction-free, i.e. nothing is tracked, while the leaves of the
+ * {@code Tracked*} graph declare a {@link javax.annotation.PreDestroy} callback so that every instance of the graph needs
+ * to be tracked and destroyed.
+ * <p>
+ * The {@code get*} benchmarks report the allocation per graph ({@code gc.alloc.rate.norm}). The {@code retain*}
+ * benchmarks obtain {@link #graphs} graphs through a long-lived {@link InjectableInstance} without destroying them and
+ * report the heap retained by the container afterwards ({@code retainedBytes}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DependentGraphBenchmark {
+
+    @Param({ "10000" })
+    public int graphs;
+
+    private ArcContainer container;
+    private InjectableInstance<FreeGraphRoot> freeInstance;
+    private InjectableInstance<TrackedGraphRoot> trackedInstance;
+
+    @Setup
+    public void setup() {
+        container = Arc.initialize();
+        freeInstance = container.select(FreeGraphRoot.class);
+        trackedInstance = container.select(TrackedGraphRoot.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Arc.shutdown();
+    }
+
+    @Benchmark
+    public int getDestroyFree() {
+        FreeGraphRoot root = freeInstance.get();
+        try {
+            return root.ping();
+        } finally {
+            freeInstance.destroy(root);
+        }
+    }
+
+    @Benchmark
+    public int getDestroyTracked() {
+        TrackedGraphRoot root = trackedInstance.get();
+        try {
+            return root.ping();
+        } finally {
+            trackedInstance.destroy(root);
+        }
+    }
+
+    @Benchmark
+    public int containerInstanceFree() {
+        try (InstanceHandle<FreeGraphRoot> handle = container.instance(FreeGraphRoot.class)) {
+            return handle.get().ping();
+        }
+    }
+
+    @Benchmark
+    public int containerInstanceTracked() {
+        try (InstanceHandle<TrackedGraphRoot> handle = container.instance(TrackedGraphRoot.class)) {
+            return handle.get().ping();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 5)
+    public void retainFree(RetainedHeap heap) {
+        try (DependentArena<FreeGraphRoot> arena = freeInstance.arena()) {
+            heap.start();
+            for (int i = 0; i < graphs; i++) {
+                arena.get();
+            }
+            heap.stop();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Measurement(iterations = 5)
+    public void retainTracked(RetainedHeap heap) {
+        try (DependentArena<TrackedGraphRoot> arena = trackedInstance.arena()) {
+            heap.start();
+            for (int i = 0; i < graphs; i++) {
+                arena.get();
+            }
+            heap.stop();
+        }
+    }
+
+    /**
+     * The heap retained between {@link #start()} and {@link #stop()}, measured after a full GC.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class RetainedHeap {
+
+        public long retainedBytes;
+
+        private long start;
+
+        void start() {
+            start = usedHeap();
+        }
+
+        void stop() {
+            retainedBytes = Math.max(0, usedHeap() - start);
+        }
+
+        private static long usedHeap() {
+            Runtime runtime = Runtime.getRuntime();
+            for (int i = 0; i < 3; i++) {
+                System.gc();
+            }
+            return runtime.totalMemory() - runtime.freeMemory();
+        }
+
+    }
+
+}
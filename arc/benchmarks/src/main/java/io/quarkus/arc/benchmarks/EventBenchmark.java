@@ -0,0 +1,57 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.benchmarks.beans.Important;
+import io.quarkus.arc.benchmarks.beans.Ping;
+import java.util.concurrent.TimeUnit;
+import javax.enterprise.event.Event;
+import javax.enterprise.util.TypeLiteral;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Synchronous event delivery through {@link Event#fire(Object)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventBenchmark {
+
+    private final Ping ping = new Ping(1);
+
+    private Event<Ping> event;
+
+    @Setup
+    public void setup() {
+        event = Arc.initialize().beanManager().getEvent().select(new TypeLiteral<Ping>() {
+        });
+    }
+
+    @TearDown
+    public void tearDown() {
+        Arc.shutdown();
+    }
+
+    @Benchmark
+    public void fire() {
+        event.fire(ping);
+    }
+
+    @Benchmark
+    public void selectQualifierAndFire() {
+        event.select(Important.Literal.INSTANCE).fire(ping);
+    }
+
+}
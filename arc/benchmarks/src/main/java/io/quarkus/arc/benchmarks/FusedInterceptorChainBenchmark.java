@@ -0,0 +1,81 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.benchmarks.beans.InterceptedService;
+import io.quarkus.arc.impl.InvocationContexts;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A business method invocation that goes through a chain of one, three and six {@link javax.interceptor.AroundInvoke}
+ * interceptors.
+ * <p>
+ * The benchmarks module is built with the fused interceptor chains enabled. The {@code generic*} benchmarks disable them
+ * via {@link InvocationContexts#FUSED_CHAINS_PROPERTY} in a separate fork so that the same subclass uses the generic
+ * interceptor chain instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FusedInterceptorChainBenchmark {
+
+    private InterceptedService service;
+    private int value;
+
+    @Setup
+    public void setup() {
+        service = Arc.initialize().instance(InterceptedService.class).get();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Arc.shutdown();
+    }
+
+    @Benchmark
+    public int fused1() {
+        return service.ping1(value++);
+    }
+
+    @Benchmark
+    public int fused3() {
+        return service.ping(value++);
+    }
+
+    @Benchmark
+    public int fused6() {
+        return service.ping6(value++);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-D" + InvocationContexts.FUSED_CHAINS_PROPERTY + "=false")
+    public int generic1() {
+        return service.ping1(value++);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-D" + InvocationContexts.FUSED_CHAINS_PROPERTY + "=false")
+    public int generic3() {
+        return service.ping(value++);
+    }
+
+    @Benchmark
+    @Fork(value = 1, jvmArgsAppend = "-D" + InvocationContexts.FUSED_CHAINS_PROPERTY + "=false")
+    public int generic6() {
+        return service.ping6(value++);
+    }
+
+}
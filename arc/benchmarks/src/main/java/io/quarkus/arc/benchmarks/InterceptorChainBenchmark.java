@@ -0,0 +1,63 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.benchmarks.beans.InterceptedService;
+import io.quarkus.arc.impl.InvocationContexts;
+import io.quarkus.arc.impl.InvocationContexts.AroundInvokeMode;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A business method invocation that goes through a chain of three {@link javax.interceptor.AroundInvoke} interceptors.
+ * <p>
+ * The {@code mode} parameter selects the {@link AroundInvokeMode} used to create the invocation contexts. The fused
+ * interceptor chains are disabled because the mode does not apply to them, see {@link FusedInterceptorChainBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-D" + InvocationContexts.FUSED_CHAINS_PROPERTY + "=false")
+public class InterceptorChainBenchmark {
+
+    @Param({ "PER_INTERCEPTOR", "SHARED" })
+    public AroundInvokeMode mode;
+
+    private InterceptedService service;
+    private int value;
+
+    @Setup
+    public void setup() {
+        InvocationContexts.setAroundInvokeMode(mode);
+        service = Arc.initialize().instance(InterceptedService.class).get();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Arc.shutdown();
+        InvocationContexts.setAroundInvokeMode(AroundInvokeMode.PER_INTERCEPTOR);
+    }
+
+    @Benchmark
+    public int intercepted() {
+        return service.ping(value++);
+    }
+
+    @Benchmark
+    public int notIntercepted() {
+        return service.pingNotIntercepted(value++);
+    }
+
+}
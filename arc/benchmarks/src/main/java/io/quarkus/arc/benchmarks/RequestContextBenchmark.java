@@ -0,0 +1,62 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.benchmarks.beans.RequestScopedService;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Request context lifecycle, i.e. what an HTTP layer pays for every request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RequestContextBenchmark {
+
+    private ManagedContext requestContext;
+    private RequestScopedService service;
+
+    @Setup
+    public void setup() {
+        ArcContainer container = Arc.initialize();
+        requestContext = container.requestContext();
+        service = container.instance(RequestScopedService.class).get();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Arc.shutdown();
+    }
+
+    @Benchmark
+    public void activateTerminate() {
+        requestContext.activate();
+        requestContext.terminate();
+    }
+
+    @Benchmark
+    public int activateUseTerminate() {
+        requestContext.activate();
+        try {
+            return service.ping();
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.benchmarks.beans.ApplicationScopedService;
+import io.quarkus.arc.benchmarks.beans.NamedService;
+import io.quarkus.arc.benchmarks.beans.SingletonService;
+import io.quarkus.arc.impl.ArcContainerImpl;
+import io.quarkus.arc.impl.CreationalContextImpl;
+import java.util.concurrent.TimeUnit;
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Singleton;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 32 threads resolving the same application scoped and singleton beans from the shared contexts, i.e. what a client
+ * proxy or an injection of a singleton does. The {@code slots} parameter compares the slot-indexed storage with the map
+ * keyed by the bean identifier (see {@link ArcContainerImpl#SHARED_CONTEXT_SLOTS_PROPERTY}).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(32)
+@Fork(1)
+public class SharedContextBenchmark {
+
+    @Param({ "true", "false" })
+    public String slots;
+
+    private InjectableContext applicationContext;
+    private InjectableContext singletonContext;
+    private InjectableBean<ApplicationScopedService> applicationScopedBean;
+    private InjectableBean<NamedService> namedBean;
+    private InjectableBean<SingletonService> singletonBean;
+    private CreationalContextImpl<ApplicationScopedService> applicationScopedCtx;
+    private CreationalContextImpl<NamedService> namedCtx;
+    private CreationalContextImpl<SingletonService> singletonCtx;
+
+    @Setup
+    public void setup() {
+        System.setProperty(ArcContainerImpl.SHARED_CONTEXT_SLOTS_PROPERTY, slots);
+        ArcContainer container = Arc.initialize();
+        applicationContext = container.getActiveContext(ApplicationScoped.class);
+        singletonContext = container.getActiveContext(Singleton.class);
+        applicationScopedBean = container.instance(ApplicationScopedService.class).getBean();
+        namedBean = container.instance(NamedService.class).getBean();
+        singletonBean = container.instance(SingletonService.class).getBean();
+        applicationScopedCtx = new CreationalContextImpl<>(applicationScopedBean);
+        namedCtx = new CreationalContextImpl<>(namedBean);
+        singletonCtx = new CreationalContextImpl<>(singletonBean);
+    }
+
+    @TearDown
+    public void tearDown() {
+        Arc.shutdown();
+        System.clearProperty(ArcContainerImpl.SHARED_CONTEXT_SLOTS_PROPERTY);
+    }
+
+    @Benchmark
+    public void get(Blackhole blackhole) {
+        blackhole.consume(applicationContext.get(applicationScopedBean, applicationScopedCtx));
+        blackhole.consume(applicationContext.get(namedBean, namedCtx));
+        blackhole.consume(singletonContext.get(singletonBean, singletonCtx));
+    }
+
+}
@@ -0,0 +1,56 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.processor.BeanArchives;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.FieldCreator;
+import io.quarkus.gizmo.MethodCreator;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Dependent;
+import javax.inject.Inject;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.Indexer;
+
+/**
+ * Generates the bean archive index of a synthetic application for the build time benchmarks. Every other bean is
+ * {@link ApplicationScoped} and each bean injects the previous one.
+ */
+final class SyntheticApplication {
+
+    private static final String PACKAGE = "io.quarkus.arc.benchmarks.synthetic.";
+
+    private SyntheticApplication() {
+    }
+
+    static IndexView index(int beans) {
+        Indexer indexer = new Indexer();
+        for (int i = 0; i < beans; i++) {
+            try (ClassCreator bean = ClassCreator.builder()
+                    .classOutput((className, data) -> index(indexer, data))
+                    .className(PACKAGE + "Bean" + i)
+                    .build()) {
+                bean.addAnnotation(i % 2 == 0 ? ApplicationScoped.class : Dependent.class);
+                if (i > 0) {
+                    FieldCreator dependency = bean.getFieldCreator("dependency", PACKAGE + "Bean" + (i - 1));
+                    dependency.addAnnotation(Inject.class);
+                }
+                MethodCreator ping = bean.getMethodCreator("ping", int.class);
+                ping.returnValue(ping.load(i));
+            }
+        }
+        return BeanArchives.buildBeanArchiveIndex(SyntheticApplication.class.getClassLoader(), new ConcurrentHashMap<>(),
+                indexer.complete());
+    }
+
+    private static void index(Indexer indexer, byte[] data) {
+        try {
+            indexer.index(new ByteArrayInputStream(data));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
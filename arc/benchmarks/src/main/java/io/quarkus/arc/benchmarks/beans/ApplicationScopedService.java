@@ -0,0 +1,14 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import javax.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class ApplicationScopedService {
+
+    private int counter;
+
+    public int ping() {
+        return ++counter;
+    }
+
+}
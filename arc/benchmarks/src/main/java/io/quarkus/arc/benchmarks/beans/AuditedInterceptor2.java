@@ -0,0 +1,18 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import javax.annotation.Priority;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+
+@Audited
+@Interceptor
+@Priority(5)
+public class AuditedInterceptor2 {
+
+    @AroundInvoke
+    Object aroundInvoke(InvocationContext ctx) throws Exception {
+        return ctx.proceed();
+    }
+
+}
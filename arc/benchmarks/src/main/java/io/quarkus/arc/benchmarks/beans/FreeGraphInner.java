@@ -0,0 +1,22 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import javax.enterprise.context.Dependent;
+import javax.inject.Inject;
+
+@Dependent
+public class FreeGraphInner {
+
+    @Inject
+    FreeGraphLeaf first;
+
+    @Inject
+    FreeGraphLeaf second;
+
+    @Inject
+    FreeGraphLeaf third;
+
+    public int ping() {
+        return first.ping() + second.ping() + third.ping();
+    }
+
+}
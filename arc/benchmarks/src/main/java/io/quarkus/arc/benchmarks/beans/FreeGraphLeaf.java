@@ -0,0 +1,12 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import javax.enterprise.context.Dependent;
+
+@Dependent
+public class FreeGraphLeaf {
+
+    public int ping() {
+        return 1;
+    }
+
+}
@@ -0,0 +1,22 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import javax.enterprise.context.Dependent;
+import javax.inject.Inject;
+
+@Dependent
+public class FreeGraphRoot {
+
+    @Inject
+    FreeGraphInner first;
+
+    @Inject
+    FreeGraphInner second;
+
+    @Inject
+    FreeGraphInner third;
+
+    public int ping() {
+        return first.ping() + second.ping() + third.ping();
+    }
+
+}
@@ -0,0 +1,28 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import javax.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class InterceptedService {
+
+    @Counted
+    public int ping1(int value) {
+        return value + 1;
+    }
+
+    @Monitored
+    public int ping(int value) {
+        return value + 1;
+    }
+
+    @Audited
+    @Monitored
+    public int ping6(int value) {
+        return value + 1;
+    }
+
+    public int pingNotIntercepted(int value) {
+        return value + 1;
+    }
+
+}
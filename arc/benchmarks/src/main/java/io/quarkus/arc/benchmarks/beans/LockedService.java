@@ -0,0 +1,27 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import io.quarkus.arc.Lock;
+import io.quarkus.arc.Lock.Type;
+import javax.enterprise.context.ApplicationScoped;
+
+@ApplicationScoped
+public class LockedService {
+
+    private volatile int value = 42;
+
+    @Lock(Type.READ)
+    public int read() {
+        return value;
+    }
+
+    @Lock(Type.OPTIMISTIC_READ)
+    public int readOptimistic() {
+        return value;
+    }
+
+    @Lock(Type.WRITE)
+    public void write(int value) {
+        this.value = value;
+    }
+
+}
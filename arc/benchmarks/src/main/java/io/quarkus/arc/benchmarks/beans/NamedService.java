@@ -0,0 +1,16 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Named;
+
+@Named("named")
+@ApplicationScoped
+public class NamedService {
+
+    private int counter;
+
+    public int ping() {
+        return ++counter;
+    }
+
+}
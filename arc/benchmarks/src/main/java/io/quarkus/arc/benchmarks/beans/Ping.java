@@ -0,0 +1,15 @@
+package io.quarkus.arc.benchmarks.beans;
+
+public final class Ping {
+
+    private final int value;
+
+    public Ping(int value) {
+        this.value = value;
+    }
+
+    public int getValue() {
+        return value;
+    }
+
+}
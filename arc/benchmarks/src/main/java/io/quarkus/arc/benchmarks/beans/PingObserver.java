@@ -0,0 +1,31 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import java.util.concurrent.atomic.LongAdder;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.ObservesAsync;
+
+@ApplicationScoped
+public class PingObserver {
+
+    private final LongAdder pings = new LongAdder();
+    private final LongAdder importantPings = new LongAdder();
+    private final LongAdder asyncPings = new LongAdder();
+
+    void onPing(@Observes Ping ping) {
+        pings.add(ping.getValue());
+    }
+
+    void onImportantPing(@Observes @Important Ping ping) {
+        importantPings.add(ping.getValue());
+    }
+
+    void onAsyncPing(@ObservesAsync Ping ping) {
+        asyncPings.add(ping.getValue());
+    }
+
+    public long sum() {
+        return pings.sum() + importantPings.sum() + asyncPings.sum();
+    }
+
+}
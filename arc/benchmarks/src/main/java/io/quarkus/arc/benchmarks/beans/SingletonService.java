@@ -0,0 +1,14 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import javax.inject.Singleton;
+
+@Singleton
+public class SingletonService {
+
+    private int counter;
+
+    public int ping() {
+        return ++counter;
+    }
+
+}
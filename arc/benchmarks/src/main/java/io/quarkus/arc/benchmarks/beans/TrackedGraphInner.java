@@ -0,0 +1,22 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import javax.enterprise.context.Dependent;
+import javax.inject.Inject;
+
+@Dependent
+public class TrackedGraphInner {
+
+    @Inject
+    TrackedGraphLeaf first;
+
+    @Inject
+    TrackedGraphLeaf second;
+
+    @Inject
+    TrackedGraphLeaf third;
+
+    public int ping() {
+        return first.ping() + second.ping() + third.ping();
+    }
+
+}
@@ -0,0 +1,17 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.Dependent;
+
+@Dependent
+public class TrackedGraphLeaf {
+
+    public int ping() {
+        return 1;
+    }
+
+    @PreDestroy
+    void destroy() {
+    }
+
+}
@@ -0,0 +1,22 @@
+package io.quarkus.arc.benchmarks.beans;
+
+import javax.enterprise.context.Dependent;
+import javax.inject.Inject;
+
+@Dependent
+public class TrackedGraphRoot {
+
+    @Inject
+    TrackedGraphInner first;
+
+    @Inject
+    TrackedGraphInner second;
+
+    @Inject
+    TrackedGraphInner third;
+
+    public int ping() {
+        return first.ping() + second.ping() + third.ping();
+    }
+
+}
@@ -5,6 +5,7 @@ import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
 import static org.objectweb.asm.Opcodes.ACC_STATIC;
 
+import io.quarkus.arc.QualifierComparator;
 import io.quarkus.arc.impl.ComputingCache;
 import io.quarkus.arc.processor.AnnotationLiteralProcessor.AnnotationLiteralClassInfo;
 import io.quarkus.arc.processor.AnnotationLiteralProcessor.CacheKey;
@@ -16,16 +17,22 @@ import io.quarkus.gizmo.FieldDescriptor;
 import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import javax.enterprise.util.AnnotationLiteral;
 import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
 import org.jboss.jandex.Type;
 import org.jboss.logging.Logger;
 
@@ -36,6 +43,8 @@ import org.jboss.logging.Logger;
 public class AnnotationLiteralGenerator extends AbstractGenerator {
     private static final Logger LOGGER = Logger.getLogger(AnnotationLiteralGenerator.class);
 
+    private static final String QUALIFIER_COMPARATOR_SUFFIX = "_QualifierComparator";
+
     AnnotationLiteralGenerator(boolean generateSources) {
         super(generateSources);
     }
@@ -144,6 +153,163 @@ public class AnnotationLiteralGenerator extends AbstractGenerator {
         LOGGER.debugf("Annotation literal class generated: %s", literal.generatedClassName);
     }
 
+    /**
+     * Generates a {@link QualifierComparator} for the given qualifier into the given {@code classOutput}. The generated
+     * class reads the binding members directly, i.e. the container does not need to compare the annotation member values
+     * reflectively. No class is generated if the qualifier has no binding members.
+     *
+     * @param classOutput the output to which the class is written
+     * @param qualifier the qualifier type
+     * @param nonbindingMembers the names of the members that are configured as non-binding
+     * @return the name of the generated class or {@code null} if no class was generated
+     */
+    String createQualifierComparatorClass(ClassOutput classOutput, ClassInfo qualifier, Set<String> nonbindingMembers) {
+        List<MethodInfo> bindingMembers = new ArrayList<>();
+        for (MethodInfo member : qualifier.methods()) {
+            if (member.name().equals(Methods.CLINIT) || Modifier.isStatic(member.flags())
+                    || member.hasAnnotation(DotNames.NONBINDING) || nonbindingMembers.contains(member.name())) {
+                continue;
+            }
+            bindingMembers.add(member);
+        }
+        if (bindingMembers.isEmpty()) {
+            return null;
+        }
+
+        String qualifierName = qualifier.name().toString();
+        // the same rules apply as for the annotation literal classes
+        String generatedName = (qualifierName.startsWith("java.lang")
+                ? AbstractGenerator.DEFAULT_PACKAGE + qualifier.name().withoutPackagePrefix()
+                : qualifierName) + QUALIFIER_COMPARATOR_SUFFIX;
+
+        ClassCreator comparator = ClassCreator.builder()
+                .classOutput(classOutput)
+                .className(generatedName)
+                .interfaces(QualifierComparator.class)
+                .build();
+
+        MethodCreator annotationType = comparator.getMethodCreator("annotationType", Class.class).setModifiers(ACC_PUBLIC);
+        annotationType.returnValue(annotationType.loadClass(qualifierName));
+
+        MethodCreator bindingEquals = comparator
+                .getMethodCreator("bindingEquals", boolean.class, Annotation.class, Annotation.class)
+                .setModifiers(ACC_PUBLIC);
+        ResultHandle qualifierHandle = bindingEquals.checkCast(bindingEquals.getMethodParam(0), qualifierName);
+        ResultHandle otherHandle = bindingEquals.checkCast(bindingEquals.getMethodParam(1), qualifierName);
+        for (MethodInfo member : bindingMembers) {
+            MethodDescriptor memberDescriptor = MethodDescriptor.ofMethod(qualifierName, member.name(),
+                    member.returnType().name().toString());
+            ResultHandle value = bindingEquals.invokeInterfaceMethod(memberDescriptor, qualifierHandle);
+            ResultHandle otherValue = bindingEquals.invokeInterfaceMethod(memberDescriptor, otherHandle);
+            Type type = member.returnType();
+            if (type.kind() == Type.Kind.PRIMITIVE) {
+                // Boxed.compare() is consistent with the equals() of the boxed value, e.g. for Float.NaN
+                Class<?> primitive = primitiveClass(type.asPrimitiveType());
+                ResultHandle compared = bindingEquals.invokeStaticMethod(
+                        MethodDescriptor.ofMethod(boxedClass(primitive), "compare", int.class, primitive, primitive),
+                        value, otherValue);
+                bindingEquals.ifNonZero(compared).trueBranch().returnValue(bindingEquals.load(false));
+            } else {
+                MethodDescriptor equals;
+                if (type.kind() == Type.Kind.ARRAY) {
+                    Object arrayType = arrayParameterType(type);
+                    equals = MethodDescriptor.ofMethod(Arrays.class, "equals", boolean.class, arrayType, arrayType);
+                } else {
+                    equals = MethodDescriptor.ofMethod(Objects.class, "equals", boolean.class, Object.class,
+                            Object.class);
+                }
+                bindingEquals.ifFalse(bindingEquals.invokeStaticMethod(equals, value, otherValue)).trueBranch()
+                        .returnValue(bindingEquals.load(false));
+            }
+        }
+        bindingEquals.returnValue(bindingEquals.load(true));
+
+        MethodCreator bindingHashCode = comparator.getMethodCreator("bindingHashCode", int.class, Annotation.class)
+                .setModifiers(ACC_PUBLIC);
+        qualifierHandle = bindingHashCode.checkCast(bindingHashCode.getMethodParam(0), qualifierName);
+        ResultHandle hash = null;
+        for (MethodInfo member : bindingMembers) {
+            ResultHandle value = bindingHashCode.invokeInterfaceMethod(MethodDescriptor.ofMethod(qualifierName,
+                    member.name(), member.returnType().name().toString()), qualifierHandle);
+            Type type = member.returnType();
+            MethodDescriptor hashCode;
+            if (type.kind() == Type.Kind.PRIMITIVE) {
+                Class<?> primitive = primitiveClass(type.asPrimitiveType());
+                hashCode = MethodDescriptor.ofMethod(boxedClass(primitive), "hashCode", int.class, primitive);
+            } else if (type.kind() == Type.Kind.ARRAY) {
+                hashCode = MethodDescriptor.ofMethod(Arrays.class, "hashCode", int.class, arrayParameterType(type));
+            } else {
+                hashCode = MethodDescriptor.ofMethod(Objects.class, "hashCode", int.class, Object.class);
+            }
+            ResultHandle valueHash = bindingHashCode.invokeStaticMethod(hashCode, value);
+            if (hash == null) {
+                hash = valueHash;
+            } else {
+                // hash = rotateLeft(hash, 5) + valueHash
+                hash = bindingHashCode.add(bindingHashCode.invokeStaticMethod(
+                        MethodDescriptor.ofMethod(Integer.class, "rotateLeft", int.class, int.class, int.class), hash,
+                        bindingHashCode.load(5)), valueHash);
+            }
+        }
+        bindingHashCode.returnValue(hash);
+
+        comparator.close();
+        LOGGER.debugf("Qualifier comparator class generated: %s", generatedName);
+        return generatedName;
+    }
+
+    private static Object arrayParameterType(Type arrayType) {
+        Type component = arrayType.asArrayType().component();
+        if (component.kind() == Type.Kind.PRIMITIVE) {
+            // e.g. [I
+            return arrayType.name().toString();
+        }
+        return Object[].class;
+    }
+
+    private static Class<?> primitiveClass(PrimitiveType type) {
+        switch (type.primitive()) {
+            case BOOLEAN:
+                return boolean.class;
+            case BYTE:
+                return byte.class;
+            case CHAR:
+                return char.class;
+            case SHORT:
+                return short.class;
+            case INT:
+                return int.class;
+            case LONG:
+                return long.class;
+            case FLOAT:
+                return float.class;
+            case DOUBLE:
+                return double.class;
+            default:
+                throw new IllegalArgumentException("Unsupported primitive type: " + type);
+        }
+    }
+
+    private static Class<?> boxedClass(Class<?> primitive) {
+        if (primitive == boolean.class) {
+            return Boolean.class;
+        } else if (primitive == byte.class) {
+            return Byte.class;
+        } else if (primitive == char.class) {
+            return Character.class;
+        } else if (primitive == short.class) {
+            return Short.class;
+        } else if (primitive == int.class) {
+            return Integer.class;
+        } else if (primitive == long.class) {
+            return Long.class;
+        } else if (primitive == float.class) {
+            return Float.class;
+        } else {
+            return Double.class;
+        }
+    }
+
     static String defaultValueStaticFieldName(MethodInfo annotationMember) {
         return annotationMember.name() + "_default_value";
     }
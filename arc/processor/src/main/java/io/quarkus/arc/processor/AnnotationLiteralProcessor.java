@@ -38,6 +38,7 @@ public class AnnotationLiteralProcessor {
 
     private final ComputingCache<CacheKey, AnnotationLiteralClassInfo> cache;
     private final IndexView beanArchiveIndex;
+    private final Predicate<DotName> applicationClassPredicate;
 
     AnnotationLiteralProcessor(IndexView beanArchiveIndex, Predicate<DotName> applicationClassPredicate) {
         this.cache = new ComputingCache<>(key -> new AnnotationLiteralClassInfo(
@@ -45,6 +46,7 @@ public class AnnotationLiteralProcessor {
                 applicationClassPredicate.test(key.annotationName()),
                 key.annotationClass));
         this.beanArchiveIndex = beanArchiveIndex;
+        this.applicationClassPredicate = applicationClassPredicate;
     }
 
     boolean hasLiteralsToGenerate() {
@@ -55,6 +57,10 @@ public class AnnotationLiteralProcessor {
         return cache;
     }
 
+    boolean isApplicationClass(DotName annotationName) {
+        return applicationClassPredicate.test(annotationName);
+    }
+
     /**
      * @deprecated annotation literal sharing is now always enabled, this method is superseded
      *             by {@link #create(BytecodeCreator, ClassInfo, AnnotationInstance)} and will be removed
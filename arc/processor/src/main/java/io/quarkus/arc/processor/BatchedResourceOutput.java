@@ -0,0 +1,92 @@
+package io.quarkus.arc.processor;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * A {@link ResourceOutput} that passes the resources to a delegate in batches, asynchronously on the given executor. The
+ * delegate must be thread-safe.
+ * <p>
+ * {@link #await()} must be called to flush the last batch, wait for the pending writes and propagate the first failure.
+ */
+public final class BatchedResourceOutput implements ResourceOutput {
+
+    public static final int DEFAULT_BATCH_SIZE = 64;
+
+    private final ResourceOutput delegate;
+    private final ExecutorService executor;
+    private final int batchSize;
+    private final List<Future<Void>> pending;
+    private List<Resource> batch;
+
+    public BatchedResourceOutput(ResourceOutput delegate, ExecutorService executor) {
+        this(delegate, executor, DEFAULT_BATCH_SIZE);
+    }
+
+    public BatchedResourceOutput(ResourceOutput delegate, ExecutorService executor, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+        this.delegate = delegate;
+        this.executor = executor;
+        this.batchSize = batchSize;
+        this.pending = new ArrayList<>();
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    @Override
+    public synchronized void writeResource(Resource resource) throws IOException {
+        batch.add(resource);
+        if (batch.size() >= batchSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Waits until all the resources written so far are passed to the delegate.
+     *
+     * @throws IOException if the delegate failed to write a resource
+     * @throws InterruptedException
+     */
+    public void await() throws IOException, InterruptedException {
+        List<Future<Void>> futures;
+        synchronized (this) {
+            flush();
+            futures = new ArrayList<>(pending);
+            pending.clear();
+        }
+        for (Future<Void> future : futures) {
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof IOException) {
+                    throw (IOException) cause;
+                }
+                if (cause instanceof RuntimeException) {
+                    throw (RuntimeException) cause;
+                }
+                throw new IOException("Failed to write resources", cause);
+            }
+        }
+    }
+
+    private void flush() {
+        if (batch.isEmpty()) {
+            return;
+        }
+        List<Resource> resources = batch;
+        batch = new ArrayList<>(batchSize);
+        pending.add(executor.submit(() -> {
+            for (Resource resource : resources) {
+                delegate.writeResource(resource);
+            }
+            return null;
+        }));
+    }
+
+}
@@ -9,8 +9,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -18,6 +20,9 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -112,6 +117,8 @@ public class BeanDeployment {
 
     private final boolean jtaCapabilities;
 
+    private final boolean proxyElision;
+
     private final AlternativePriorities alternativePriorities;
 
     private final List<Predicate<ClassInfo>> excludeTypes;
@@ -201,6 +208,8 @@ public class BeanDeployment {
         this.transformUnproxyableClasses = builder.transformUnproxyableClasses;
         this.failOnInterceptedPrivateMethod = builder.failOnInterceptedPrivateMethod;
         this.jtaCapabilities = builder.jtaCapabilities;
+        // Mocks are installed on client proxies
+        this.proxyElision = builder.proxyElision && !builder.allowMocking;
         this.alternativePriorities = builder.alternativePriorities;
     }
 
@@ -260,21 +269,30 @@ public class BeanDeployment {
 
     void init(Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
             List<Predicate<BeanInfo>> additionalUnusedBeanExclusions) {
+        init(bytecodeTransformerConsumer, additionalUnusedBeanExclusions, null);
+    }
+
+    void init(Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
+            List<Predicate<BeanInfo>> additionalUnusedBeanExclusions, ExecutorService executor) {
         long start = System.nanoTime();
 
         // Collect dependency resolution errors
         List<Throwable> errors = new ArrayList<>();
-        for (BeanInfo bean : beans) {
-            bean.init(errors, bytecodeTransformerConsumer, transformUnproxyableClasses);
-        }
-        for (ObserverInfo observer : observers) {
-            observer.init(errors);
-        }
-        for (InterceptorInfo interceptor : interceptors) {
-            interceptor.init(errors, bytecodeTransformerConsumer, transformUnproxyableClasses);
-        }
-        for (DecoratorInfo decorator : decorators) {
-            decorator.init(errors, bytecodeTransformerConsumer, transformUnproxyableClasses);
+        if (executor != null) {
+            initComponents(errors, bytecodeTransformerConsumer, executor);
+        } else {
+            for (BeanInfo bean : beans) {
+                bean.init(errors, bytecodeTransformerConsumer, transformUnproxyableClasses);
+            }
+            for (ObserverInfo observer : observers) {
+                observer.init(errors);
+            }
+            for (InterceptorInfo interceptor : interceptors) {
+                interceptor.init(errors, bytecodeTransformerConsumer, transformUnproxyableClasses);
+            }
+            for (DecoratorInfo decorator : decorators) {
+                decorator.init(errors, bytecodeTransformerConsumer, transformUnproxyableClasses);
+            }
         }
 
         processErrors(errors);
@@ -301,9 +319,167 @@ public class BeanDeployment {
                     Collections.unmodifiableSet(removedDecorators));
         }
         buildContext.putInternal(BuildExtension.Key.REMOVED_BEANS.asString(), Collections.unmodifiableSet(removedBeans));
+        assignContextSlots();
+        if (proxyElision) {
+            elideClientProxies();
+        }
         LOGGER.debugf("Bean deployment initialized in %s ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
     }
 
+    /**
+     * Initializes the components in parallel. Each component collects its own errors and the errors are reported in the
+     * same order as if the components were initialized one after another.
+     */
+    private void initComponents(List<Throwable> errors, Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
+            ExecutorService executor) {
+        List<Future<List<Throwable>>> tasks = new ArrayList<>(
+                beans.size() + observers.size() + interceptors.size() + decorators.size());
+        for (BeanInfo bean : beans) {
+            tasks.add(executor.submit(() -> {
+                List<Throwable> beanErrors = new ArrayList<>(0);
+                bean.init(beanErrors, bytecodeTransformerConsumer, transformUnproxyableClasses);
+                return beanErrors;
+            }));
+        }
+        for (ObserverInfo observer : observers) {
+            tasks.add(executor.submit(() -> {
+                List<Throwable> observerErrors = new ArrayList<>(0);
+                observer.init(observerErrors);
+                return observerErrors;
+            }));
+        }
+        for (InterceptorInfo interceptor : interceptors) {
+            tasks.add(executor.submit(() -> {
+                List<Throwable> interceptorErrors = new ArrayList<>(0);
+                interceptor.init(interceptorErrors, bytecodeTransformerConsumer, transformUnproxyableClasses);
+                return interceptorErrors;
+            }));
+        }
+        for (DecoratorInfo decorator : decorators) {
+            tasks.add(executor.submit(() -> {
+                List<Throwable> decoratorErrors = new ArrayList<>(0);
+                decorator.init(decoratorErrors, bytecodeTransformerConsumer, transformUnproxyableClasses);
+                return decoratorErrors;
+            }));
+        }
+        try {
+            for (Future<List<Throwable>> task : tasks) {
+                errors.addAll(task.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while initializing the bean deployment", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            for (Future<List<Throwable>> task : tasks) {
+                task.cancel(false);
+            }
+        }
+    }
+
+    /**
+     * Each bean with the built-in request, application or singleton scope is assigned a slot that is dense within the
+     * scope so that the context can store the contextual instances in an array. The slots are assigned after the unused
+     * beans are removed.
+     */
+    private void assignContextSlots() {
+        for (BuiltinScope scope : new BuiltinScope[] { BuiltinScope.REQUEST, BuiltinScope.APPLICATION,
+                BuiltinScope.SINGLETON }) {
+            List<BeanInfo> scoped = beans.stream().filter(bean -> scope.is(bean.getScope()))
+                    .sorted(Comparator.comparing(BeanInfo::getIdentifier)).collect(Collectors.toList());
+            for (int i = 0; i < scoped.size(); i++) {
+                scoped.get(i).setContextSlot(i);
+            }
+        }
+    }
+
+    /**
+     * The client proxy of an {@link BuiltinScope#APPLICATION} bean is elided for an injection point of an application
+     * scoped class bean or a singleton class bean, i.e. of a bean that lives as long as the container. The contextual
+     * instance is created eagerly when the injection point is injected, therefore the injection point must not be part of
+     * a dependency cycle of the beans that are created directly, i.e. without a client proxy. An elided injection point
+     * is not updated if the contextual instance is destroyed at runtime.
+     */
+    private void elideClientProxies() {
+        Map<InjectionPointInfo, BeanInfo> candidates = new IdentityHashMap<>();
+        for (BeanInfo bean : beans) {
+            if (!bean.isClassBean() || !(BuiltinScope.APPLICATION.is(bean.getScope())
+                    || BuiltinScope.SINGLETON.is(bean.getScope())) || keepsClientProxy(bean)) {
+                continue;
+            }
+            for (InjectionPointInfo injectionPoint : bean.getAllInjectionPoints()) {
+                BeanInfo resolved = injectionPoint.getResolvedBean();
+                if (resolved != null && !injectionPoint.isDelegate() && BuiltinScope.APPLICATION.is(resolved.getScope())
+                        && !keepsClientProxy(resolved)) {
+                    candidates.put(injectionPoint, bean);
+                }
+            }
+        }
+        List<String> elided = new ArrayList<>();
+        for (Entry<InjectionPointInfo, BeanInfo> entry : candidates.entrySet()) {
+            InjectionPointInfo injectionPoint = entry.getKey();
+            if (!isCreatedDirectly(entry.getValue(), injectionPoint.getResolvedBean(), candidates.keySet(),
+                    new HashSet<>())) {
+                injectionPoint.setProxyElided();
+                elided.add(injectionPoint.getTargetInfo());
+            }
+        }
+        if (!elided.isEmpty()) {
+            Collections.sort(elided);
+            LOGGER.infof("Client proxy elided for %s injection points - the injected instances must not be destroyed "
+                    + "before the container is shut down, use @KeepClientProxy otherwise:\n\t- %s", elided.size(),
+                    String.join("\n\t- ", elided));
+        }
+    }
+
+    private boolean keepsClientProxy(BeanInfo bean) {
+        return bean.getTarget().isPresent()
+                && annotationStore.hasAnnotation(bean.getTarget().get(), DotNames.KEEP_CLIENT_PROXY);
+    }
+
+    /**
+     *
+     * @param bean
+     * @param from
+     * @param candidates
+     * @param visited
+     * @return {@code true} if the creation of {@code from} may create the given bean without a client proxy
+     */
+    private static boolean isCreatedDirectly(BeanInfo bean, BeanInfo from, Set<InjectionPointInfo> candidates,
+            Set<BeanInfo> visited) {
+        if (from.equals(bean)) {
+            return true;
+        }
+        if (!visited.add(from)) {
+            return false;
+        }
+        List<BeanInfo> created = new ArrayList<>();
+        for (InjectionPointInfo injectionPoint : from.getAllInjectionPoints()) {
+            BeanInfo resolved = injectionPoint.getResolvedBean();
+            if (resolved != null && (!resolved.getScope().isNormal() || candidates.contains(injectionPoint))) {
+                created.add(resolved);
+            }
+        }
+        if (from.getDeclaringBean() != null) {
+            created.add(from.getDeclaringBean());
+        }
+        created.addAll(from.getBoundInterceptors());
+        created.addAll(from.getBoundDecorators());
+        for (BeanInfo next : created) {
+            if (isCreatedDirectly(bean, next, candidates, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Re-initialize the map that is used to speed-up lookup requests.
      */
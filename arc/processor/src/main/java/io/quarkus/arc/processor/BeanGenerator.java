@@ -244,6 +244,7 @@ public class BeanGenerator extends AbstractGenerator {
         // Foo_Bean implements InjectableBean<T>
         ClassCreator beanCreator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
                 .interfaces(InjectableBean.class, Supplier.class).build();
+        MemberHandles memberHandles = new MemberHandles(beanCreator, privateMembers);
 
         // Fields
         FieldCreator beanTypes = beanCreator.getFieldCreator(FIELD_NAME_BEAN_TYPES, Set.class)
@@ -271,11 +272,13 @@ public class BeanGenerator extends AbstractGenerator {
         constructor.returnValue(null);
 
         implementGetIdentifier(bean, beanCreator);
+        implementGetContextSlot(bean, beanCreator);
         implementSupplierGet(beanCreator);
         if (bean.hasDestroyLogic()) {
-            implementDestroy(bean, beanCreator, providerType, Collections.emptyMap(), isApplicationClass, baseName);
+            implementDestroy(bean, beanCreator, memberHandles, providerType, Collections.emptyMap(), isApplicationClass,
+                    baseName);
         }
-        implementCreate(classOutput, beanCreator, bean, providerType, baseName,
+        implementCreate(classOutput, beanCreator, memberHandles, bean, providerType, baseName,
                 Collections.emptyMap(), Collections.emptyMap(),
                 Collections.emptyMap(), targetPackage, isApplicationClass);
         implementGet(bean, beanCreator, providerType, baseName);
@@ -299,11 +302,15 @@ public class BeanGenerator extends AbstractGenerator {
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
+        if (bean.isDestructionFree()) {
+            implementIsDestructionFree(bean, beanCreator);
+        }
         implementGetKind(beanCreator, InjectableBean.Kind.SYNTHETIC);
         implementEquals(bean, beanCreator);
         implementHashCode(bean, beanCreator);
         implementToString(beanCreator);
 
+        memberHandles.close();
         beanCreator.close();
         return classOutput.getResources();
     }
@@ -324,6 +331,7 @@ public class BeanGenerator extends AbstractGenerator {
         // Foo_Bean implements InjectableBean<T>
         ClassCreator beanCreator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
                 .interfaces(InjectableBean.class, Supplier.class).build();
+        MemberHandles memberHandles = new MemberHandles(beanCreator, privateMembers);
 
         // Fields
         FieldCreator beanTypes = beanCreator.getFieldCreator(FIELD_NAME_BEAN_TYPES, Set.class)
@@ -354,12 +362,13 @@ public class BeanGenerator extends AbstractGenerator {
                 annotationLiterals, reflectionRegistration);
 
         implementGetIdentifier(bean, beanCreator);
+        implementGetContextSlot(bean, beanCreator);
         implementSupplierGet(beanCreator);
         if (bean.hasDestroyLogic()) {
-            implementDestroy(bean, beanCreator, providerType, injectionPointToProviderSupplierField, isApplicationClass,
-                    baseName);
+            implementDestroy(bean, beanCreator, memberHandles, providerType, injectionPointToProviderSupplierField,
+                    isApplicationClass, baseName);
         }
-        implementCreate(classOutput, beanCreator, bean, providerType, baseName,
+        implementCreate(classOutput, beanCreator, memberHandles, bean, providerType, baseName,
                 injectionPointToProviderSupplierField,
                 interceptorToProviderSupplierField,
                 decoratorToProviderSupplierField,
@@ -385,12 +394,16 @@ public class BeanGenerator extends AbstractGenerator {
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
+        if (bean.isDestructionFree()) {
+            implementIsDestructionFree(bean, beanCreator);
+        }
 
         implementIsSuppressed(bean, beanCreator);
         implementEquals(bean, beanCreator);
         implementHashCode(bean, beanCreator);
         implementToString(beanCreator);
 
+        memberHandles.close();
         beanCreator.close();
         return classOutput.getResources();
     }
@@ -413,6 +426,7 @@ public class BeanGenerator extends AbstractGenerator {
         // Foo_Bean implements InjectableBean<T>
         ClassCreator beanCreator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
                 .interfaces(InjectableBean.class, Supplier.class).build();
+        MemberHandles memberHandles = new MemberHandles(beanCreator, privateMembers);
 
         // Fields
         FieldCreator beanTypes = beanCreator.getFieldCreator(FIELD_NAME_BEAN_TYPES, Set.class)
@@ -440,11 +454,13 @@ public class BeanGenerator extends AbstractGenerator {
                 annotationLiterals, reflectionRegistration);
 
         implementGetIdentifier(bean, beanCreator);
+        implementGetContextSlot(bean, beanCreator);
         implementSupplierGet(beanCreator);
         if (bean.hasDestroyLogic()) {
-            implementDestroy(bean, beanCreator, providerType, injectionPointToProviderField, isApplicationClass, baseName);
+            implementDestroy(bean, beanCreator, memberHandles, providerType, injectionPointToProviderField, isApplicationClass,
+                    baseName);
         }
-        implementCreate(classOutput, beanCreator, bean, providerType, baseName,
+        implementCreate(classOutput, beanCreator, memberHandles, bean, providerType, baseName,
                 injectionPointToProviderField,
                 Collections.emptyMap(), Collections.emptyMap(),
                 targetPackage, isApplicationClass);
@@ -470,12 +486,16 @@ public class BeanGenerator extends AbstractGenerator {
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
+        if (bean.isDestructionFree()) {
+            implementIsDestructionFree(bean, beanCreator);
+        }
         implementGetKind(beanCreator, InjectableBean.Kind.PRODUCER_METHOD);
         implementIsSuppressed(bean, beanCreator);
         implementEquals(bean, beanCreator);
         implementHashCode(bean, beanCreator);
         implementToString(beanCreator);
 
+        memberHandles.close();
         beanCreator.close();
         return classOutput.getResources();
     }
@@ -498,6 +518,7 @@ public class BeanGenerator extends AbstractGenerator {
         // Foo_Bean implements InjectableBean<T>
         ClassCreator beanCreator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
                 .interfaces(InjectableBean.class, Supplier.class).build();
+        MemberHandles memberHandles = new MemberHandles(beanCreator, privateMembers);
 
         // Fields
         FieldCreator beanTypes = beanCreator.getFieldCreator(FIELD_NAME_BEAN_TYPES, Set.class)
@@ -521,11 +542,12 @@ public class BeanGenerator extends AbstractGenerator {
                 annotationLiterals, reflectionRegistration);
 
         implementGetIdentifier(bean, beanCreator);
+        implementGetContextSlot(bean, beanCreator);
         implementSupplierGet(beanCreator);
         if (bean.hasDestroyLogic()) {
-            implementDestroy(bean, beanCreator, providerType, null, isApplicationClass, baseName);
+            implementDestroy(bean, beanCreator, memberHandles, providerType, null, isApplicationClass, baseName);
         }
-        implementCreate(classOutput, beanCreator, bean, providerType, baseName,
+        implementCreate(classOutput, beanCreator, memberHandles, bean, providerType, baseName,
                 Collections.emptyMap(), Collections.emptyMap(),
                 Collections.emptyMap(), targetPackage, isApplicationClass);
         implementGet(bean, beanCreator, providerType, baseName);
@@ -550,12 +572,16 @@ public class BeanGenerator extends AbstractGenerator {
         if (bean.isDefaultBean()) {
             implementIsDefaultBean(bean, beanCreator);
         }
+        if (bean.isDestructionFree()) {
+            implementIsDestructionFree(bean, beanCreator);
+        }
         implementGetKind(beanCreator, InjectableBean.Kind.PRODUCER_FIELD);
         implementIsSuppressed(bean, beanCreator);
         implementEquals(bean, beanCreator);
         implementHashCode(bean, beanCreator);
         implementToString(beanCreator);
 
+        memberHandles.close();
         beanCreator.close();
         return classOutput.getResources();
     }
@@ -788,7 +814,8 @@ public class BeanGenerator extends AbstractGenerator {
         return constructor;
     }
 
-    protected void implementDestroy(BeanInfo bean, ClassCreator beanCreator, ProviderType providerType,
+    protected void implementDestroy(BeanInfo bean, ClassCreator beanCreator, MemberHandles memberHandles,
+            ProviderType providerType,
             Map<InjectionPointInfo, String> injectionPointToProviderField, boolean isApplicationClass, String baseName) {
 
         MethodCreator destroy = beanCreator
@@ -815,11 +842,7 @@ public class BeanGenerator extends AbstractGenerator {
                         privateMembers.add(isApplicationClass, String.format("@PreDestroy callback %s#%s()",
                                 callback.declaringClass().name(), callback.name()));
                         reflectionRegistration.registerMethod(callback);
-                        destroy.invokeStaticMethod(MethodDescriptors.REFLECTIONS_INVOKE_METHOD,
-                                destroy.loadClass(callback.declaringClass().name().toString()),
-                                destroy.load(callback.name()), destroy.newArray(Class.class, destroy.load(0)),
-                                destroy.getMethodParam(0),
-                                destroy.newArray(Object.class, destroy.load(0)));
+                        memberHandles.invokeMethod(destroy, callback, destroy.getMethodParam(0));
                     } else {
                         // instance.superCoolDestroyCallback()
                         destroy.invokeVirtualMethod(MethodDescriptor.of(callback), destroy.getMethodParam(0));
@@ -879,17 +902,8 @@ public class BeanGenerator extends AbstractGenerator {
             if (Modifier.isPrivate(disposerMethod.flags())) {
                 privateMembers.add(isApplicationClass, String.format("Disposer %s#%s", disposerMethod.declaringClass().name(),
                         disposerMethod.name()));
-                ResultHandle paramTypesArray = destroy.newArray(Class.class, destroy.load(referenceHandles.length));
-                ResultHandle argsArray = destroy.newArray(Object.class, destroy.load(referenceHandles.length));
-                for (int i = 0; i < referenceHandles.length; i++) {
-                    destroy.writeArrayValue(paramTypesArray, i,
-                            destroy.loadClass(disposerMethod.parameterType(i).name().toString()));
-                    destroy.writeArrayValue(argsArray, i, referenceHandles[i]);
-                }
                 reflectionRegistration.registerMethod(disposerMethod);
-                destroy.invokeStaticMethod(MethodDescriptors.REFLECTIONS_INVOKE_METHOD,
-                        destroy.loadClass(disposerMethod.declaringClass().name().toString()),
-                        destroy.load(disposerMethod.name()), paramTypesArray, declaringProviderInstanceHandle, argsArray);
+                memberHandles.invokeMethod(destroy, disposerMethod, declaringProviderInstanceHandle, referenceHandles);
             } else {
                 destroy.invokeVirtualMethod(MethodDescriptor.of(disposerMethod), declaringProviderInstanceHandle,
                         referenceHandles);
@@ -919,7 +933,8 @@ public class BeanGenerator extends AbstractGenerator {
                 bridgeDestroy.getMethodParam(1)));
     }
 
-    protected void implementCreate(ClassOutput classOutput, ClassCreator beanCreator, BeanInfo bean, ProviderType providerType,
+    protected void implementCreate(ClassOutput classOutput, ClassCreator beanCreator, MemberHandles memberHandles,
+            BeanInfo bean, ProviderType providerType,
             String baseName,
             Map<InjectionPointInfo, String> injectionPointToProviderSupplierField,
             Map<InterceptorInfo, String> interceptorToProviderSupplierField,
@@ -930,16 +945,16 @@ public class BeanGenerator extends AbstractGenerator {
                 .setModifiers(ACC_PUBLIC);
 
         if (bean.isClassBean()) {
-            implementCreateForClassBean(classOutput, beanCreator, bean, providerType, baseName,
+            implementCreateForClassBean(classOutput, beanCreator, memberHandles, bean, providerType, baseName,
                     injectionPointToProviderSupplierField, interceptorToProviderSupplierField, decoratorToProviderSupplierField,
                     reflectionRegistration,
                     targetPackage, isApplicationClass, create);
         } else if (bean.isProducerMethod()) {
-            implementCreateForProducerMethod(classOutput, beanCreator, bean, providerType, baseName,
+            implementCreateForProducerMethod(classOutput, beanCreator, memberHandles, bean, providerType, baseName,
                     injectionPointToProviderSupplierField, reflectionRegistration,
                     targetPackage, isApplicationClass, create);
         } else if (bean.isProducerField()) {
-            implementCreateForProducerField(classOutput, beanCreator, bean, providerType, baseName,
+            implementCreateForProducerField(classOutput, beanCreator, memberHandles, bean, providerType, baseName,
                     injectionPointToProviderSupplierField, reflectionRegistration,
                     targetPackage, isApplicationClass, create);
         } else if (bean.isSynthetic()) {
@@ -971,10 +986,8 @@ public class BeanGenerator extends AbstractGenerator {
                         createMethod.getThis());
                 ResultHandle providerHandle = createMethod.invokeInterfaceMethod(MethodDescriptors.SUPPLIER_GET,
                         providerSupplierHandle);
-                ResultHandle childCtx = createMethod.invokeStaticMethod(MethodDescriptors.CREATIONAL_CTX_CHILD_CONTEXTUAL,
-                        providerHandle, createMethod.getMethodParam(0));
-                ResultHandle referenceHandle = createMethod.invokeInterfaceMethod(MethodDescriptors.INJECTABLE_REF_PROVIDER_GET,
-                        providerHandle, childCtx);
+                ResultHandle childCtx = injectionPointCreationalContext(createMethod, injectionPoint, providerHandle);
+                ResultHandle referenceHandle = injectedReference(createMethod, injectionPoint, providerHandle, childCtx);
                 providerHandles.add(referenceHandle);
                 if (injectionPoint.isDependentTransientReference()) {
                     transientReferences.add(new TransientReference(providerHandle, referenceHandle, childCtx));
@@ -1009,7 +1022,8 @@ public class BeanGenerator extends AbstractGenerator {
         return providerHandles;
     }
 
-    private ResultHandle newInstanceHandle(BeanInfo bean, ClassCreator beanCreator, BytecodeCreator creator,
+    private ResultHandle newInstanceHandle(BeanInfo bean, ClassCreator beanCreator, MemberHandles memberHandles,
+            BytecodeCreator creator,
             MethodCreator createMethod,
             String providerTypeName, String baseName, List<ResultHandle> providerHandles, ReflectionRegistration registration,
             boolean isApplicationClass) {
@@ -1056,17 +1070,9 @@ public class BeanGenerator extends AbstractGenerator {
             if (Modifier.isPrivate(constructor.flags())) {
                 privateMembers.add(isApplicationClass,
                         String.format("Bean constructor %s on %s", constructor, constructor.declaringClass().name()));
-                ResultHandle paramTypesArray = creator.newArray(Class.class, creator.load(providerHandles.size()));
-                ResultHandle argsArray = creator.newArray(Object.class, creator.load(providerHandles.size()));
-                for (int i = 0; i < injectionPoints.size(); i++) {
-                    creator.writeArrayValue(paramTypesArray, i,
-                            creator.loadClass(injectionPoints.get(i).getType().name().toString()));
-                    creator.writeArrayValue(argsArray, i, providerHandles.get(i));
-                }
                 registration.registerMethod(constructor);
-                return creator.invokeStaticMethod(MethodDescriptors.REFLECTIONS_NEW_INSTANCE,
-                        creator.loadClass(constructor.declaringClass().name().toString()),
-                        paramTypesArray, argsArray);
+                return memberHandles.newInstance(creator, constructor,
+                        providerHandles.subList(0, injectionPoints.size()).toArray(new ResultHandle[0]));
             } else {
                 // new SimpleBean(foo)
                 String[] paramTypes = new String[injectionPoints.size()];
@@ -1083,13 +1089,8 @@ public class BeanGenerator extends AbstractGenerator {
                 privateMembers.add(isApplicationClass,
                         String.format("Bean constructor %s on %s", noArgsConstructor,
                                 noArgsConstructor.declaringClass().name()));
-                ResultHandle paramTypesArray = creator.newArray(Class.class, creator.load(0));
-                ResultHandle argsArray = creator.newArray(Object.class, creator.load(0));
-
                 registration.registerMethod(noArgsConstructor);
-                return creator.invokeStaticMethod(MethodDescriptors.REFLECTIONS_NEW_INSTANCE,
-                        creator.loadClass(noArgsConstructor.declaringClass().name().toString()), paramTypesArray,
-                        argsArray);
+                return memberHandles.newInstance(creator, noArgsConstructor);
             } else {
                 // new SimpleBean()
                 return creator.newInstance(MethodDescriptor.ofConstructor(providerTypeName));
@@ -1097,7 +1098,8 @@ public class BeanGenerator extends AbstractGenerator {
         }
     }
 
-    void implementCreateForProducerField(ClassOutput classOutput, ClassCreator beanCreator, BeanInfo bean,
+    void implementCreateForProducerField(ClassOutput classOutput, ClassCreator beanCreator, MemberHandles memberHandles,
+            BeanInfo bean,
             ProviderType providerType, String baseName, Map<InjectionPointInfo, String> injectionPointToProviderSupplierField,
             ReflectionRegistration reflectionRegistration,
             String targetPackage, boolean isApplicationClass, MethodCreator create) {
@@ -1135,10 +1137,7 @@ public class BeanGenerator extends AbstractGenerator {
             privateMembers.add(isApplicationClass,
                     String.format("Producer field %s#%s", producerField.declaringClass().name(), producerField.name()));
             reflectionRegistration.registerField(producerField);
-            create.assign(instanceHandle, create.invokeStaticMethod(MethodDescriptors.REFLECTIONS_READ_FIELD,
-                    create.loadClass(producerField.declaringClass().name().toString()),
-                    create.load(producerField.name()),
-                    declaringProviderInstanceHandle));
+            create.assign(instanceHandle, memberHandles.readField(create, producerField, declaringProviderInstanceHandle));
         } else {
             ResultHandle readFieldHandle;
             if (Modifier.isStatic(producerField.flags())) {
@@ -1164,7 +1163,8 @@ public class BeanGenerator extends AbstractGenerator {
         create.returnValue(instanceHandle);
     }
 
-    void implementCreateForProducerMethod(ClassOutput classOutput, ClassCreator beanCreator, BeanInfo bean,
+    void implementCreateForProducerMethod(ClassOutput classOutput, ClassCreator beanCreator, MemberHandles memberHandles,
+            BeanInfo bean,
             ProviderType providerType, String baseName, Map<InjectionPointInfo, String> injectionPointToProviderSupplierField,
             ReflectionRegistration reflectionRegistration,
             String targetPackage, boolean isApplicationClass, MethodCreator create) {
@@ -1208,8 +1208,7 @@ public class BeanGenerator extends AbstractGenerator {
                     create.getThis());
             ResultHandle providerHandle = create.invokeInterfaceMethod(MethodDescriptors.SUPPLIER_GET,
                     providerSupplierHandle);
-            ResultHandle childCtxHandle = create.invokeStaticMethod(MethodDescriptors.CREATIONAL_CTX_CHILD_CONTEXTUAL,
-                    providerHandle, create.getMethodParam(0));
+            ResultHandle childCtxHandle = injectionPointCreationalContext(create, injectionPoint, providerHandle);
             ResultHandle referenceHandle = create.invokeInterfaceMethod(MethodDescriptors.INJECTABLE_REF_PROVIDER_GET,
                     providerHandle, childCtxHandle);
             referenceHandles[paramIdx++] = referenceHandle;
@@ -1222,20 +1221,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (Modifier.isPrivate(producerMethod.flags())) {
             privateMembers.add(isApplicationClass, String.format("Producer method %s#%s()",
                     producerMethod.declaringClass().name(), producerMethod.name()));
-            ResultHandle paramTypesArray = create.newArray(Class.class, create.load(referenceHandles.length));
-            ResultHandle argsArray = create.newArray(Object.class, create.load(referenceHandles.length));
-            for (int i = 0; i < referenceHandles.length; i++) {
-                create.writeArrayValue(paramTypesArray, i,
-                        create.loadClass(producerMethod.parameterType(i).name().toString()));
-                create.writeArrayValue(argsArray, i, referenceHandles[i]);
-            }
             reflectionRegistration.registerMethod(producerMethod);
-            create.assign(instanceHandle, create.invokeStaticMethod(MethodDescriptors.REFLECTIONS_INVOKE_METHOD,
-                    create.loadClass(producerMethod.declaringClass().name().toString()),
-                    create.load(producerMethod.name()),
-                    paramTypesArray,
-                    declaringProviderInstanceHandle,
-                    argsArray));
+            create.assign(instanceHandle,
+                    memberHandles.invokeMethod(create, producerMethod, declaringProviderInstanceHandle, referenceHandles));
         } else {
             ResultHandle invokeMethodHandle;
             if (Modifier.isStatic(producerMethod.flags())) {
@@ -1266,7 +1254,8 @@ public class BeanGenerator extends AbstractGenerator {
         create.returnValue(instanceHandle);
     }
 
-    void implementCreateForClassBean(ClassOutput classOutput, ClassCreator beanCreator, BeanInfo bean,
+    void implementCreateForClassBean(ClassOutput classOutput, ClassCreator beanCreator, MemberHandles memberHandles,
+            BeanInfo bean,
             ProviderType providerType,
             String baseName, Map<InjectionPointInfo, String> injectionPointToProviderSupplierField,
             Map<InterceptorInfo, String> interceptorToProviderSupplierField,
@@ -1407,8 +1396,8 @@ public class BeanGenerator extends AbstractGenerator {
             // Supplier<Object> forward = () -> new SimpleBean_Subclass(ctx,lifecycleInterceptorProvider1)
             FunctionCreator func = create.createFunction(Supplier.class);
             BytecodeCreator funcBytecode = func.getBytecode();
-            ResultHandle retHandle = newInstanceHandle(bean, beanCreator, funcBytecode, create, providerType.className(),
-                    baseName,
+            ResultHandle retHandle = newInstanceHandle(bean, beanCreator, memberHandles, funcBytecode, create,
+                    providerType.className(), baseName,
                     providerHandles,
                     reflectionRegistration, isApplicationClass);
             // Destroy injected transient references
@@ -1444,7 +1433,7 @@ public class BeanGenerator extends AbstractGenerator {
         } else {
             List<TransientReference> transientReferences = new ArrayList<>();
             create.assign(instanceHandle,
-                    newInstanceHandle(bean, beanCreator, create, create, providerType.className(), baseName,
+                    newInstanceHandle(bean, beanCreator, memberHandles, create, create, providerType.className(), baseName,
                             newProviderHandles(bean, beanCreator, create, injectionPointToProviderSupplierField,
                                     interceptorToProviderSupplierField, decoratorToProviderSupplierField,
                                     interceptorToWrap, transientReferences),
@@ -1462,10 +1451,8 @@ public class BeanGenerator extends AbstractGenerator {
                     tryBlock.getThis());
             ResultHandle providerHandle = tryBlock.invokeInterfaceMethod(
                     MethodDescriptors.SUPPLIER_GET, providerSupplierHandle);
-            ResultHandle childCtxHandle = tryBlock.invokeStaticMethod(MethodDescriptors.CREATIONAL_CTX_CHILD_CONTEXTUAL,
-                    providerHandle, tryBlock.getMethodParam(0));
-            ResultHandle referenceHandle = tryBlock.invokeInterfaceMethod(MethodDescriptors.INJECTABLE_REF_PROVIDER_GET,
-                    providerHandle, childCtxHandle);
+            ResultHandle childCtxHandle = injectionPointCreationalContext(tryBlock, injectionPoint, providerHandle);
+            ResultHandle referenceHandle = injectedReference(tryBlock, injectionPoint, providerHandle, childCtxHandle);
 
             FieldInfo injectedField = fieldInjection.target.asField();
             if (isReflectionFallbackNeeded(injectedField, targetPackage)) {
@@ -1475,9 +1462,7 @@ public class BeanGenerator extends AbstractGenerator {
                                     fieldInjection.target.asField().name()));
                 }
                 reflectionRegistration.registerField(injectedField);
-                tryBlock.invokeStaticMethod(MethodDescriptors.REFLECTIONS_WRITE_FIELD,
-                        tryBlock.loadClass(injectedField.declaringClass().name().toString()),
-                        tryBlock.load(injectedField.name()), instanceHandle, referenceHandle);
+                memberHandles.writeField(tryBlock, injectedField, instanceHandle, referenceHandle);
 
             } else {
                 // We cannot use injectionPoint.getRequiredType() because it might be a resolved parameterize type and we could get NoSuchFieldError
@@ -1501,10 +1486,8 @@ public class BeanGenerator extends AbstractGenerator {
                         create.getThis());
                 ResultHandle providerHandle = create.invokeInterfaceMethod(MethodDescriptors.SUPPLIER_GET,
                         providerSupplierHandle);
-                ResultHandle childCtxHandle = create.invokeStaticMethod(MethodDescriptors.CREATIONAL_CTX_CHILD_CONTEXTUAL,
-                        providerHandle, create.getMethodParam(0));
-                ResultHandle referenceHandle = create.invokeInterfaceMethod(MethodDescriptors.INJECTABLE_REF_PROVIDER_GET,
-                        providerHandle, childCtxHandle);
+                ResultHandle childCtxHandle = injectionPointCreationalContext(create, injectionPoint, providerHandle);
+                ResultHandle referenceHandle = injectedReference(create, injectionPoint, providerHandle, childCtxHandle);
                 referenceHandles[paramIdx++] = referenceHandle;
                 // We need to destroy dependent beans for @TransientReference injection points
                 if (injectionPoint.isDependentTransientReference()) {
@@ -1519,18 +1502,8 @@ public class BeanGenerator extends AbstractGenerator {
                             String.format("@Inject initializer %s#%s()", initializerMethod.declaringClass().name(),
                                     initializerMethod.name()));
                 }
-                ResultHandle paramTypesArray = create.newArray(Class.class, create.load(referenceHandles.length));
-                ResultHandle argsArray = create.newArray(Object.class, create.load(referenceHandles.length));
-                for (int i = 0; i < referenceHandles.length; i++) {
-                    create.writeArrayValue(paramTypesArray, i,
-                            create.loadClass(initializerMethod.parameterType(i).name().toString()));
-                    create.writeArrayValue(argsArray, i, referenceHandles[i]);
-                }
                 reflectionRegistration.registerMethod(initializerMethod);
-                create.invokeStaticMethod(MethodDescriptors.REFLECTIONS_INVOKE_METHOD,
-                        create.loadClass(initializerMethod.declaringClass().name().toString()),
-                        create.load(methodInjection.target.asMethod().name()),
-                        paramTypesArray, instanceHandle, argsArray);
+                memberHandles.invokeMethod(create, initializerMethod, instanceHandle, referenceHandles);
 
             } else {
                 create.invokeVirtualMethod(MethodDescriptor.of(methodInjection.target.asMethod()), instanceHandle,
@@ -1583,10 +1556,7 @@ public class BeanGenerator extends AbstractGenerator {
                                         callback.name()));
                     }
                     reflectionRegistration.registerMethod(callback);
-                    create.invokeStaticMethod(MethodDescriptors.REFLECTIONS_INVOKE_METHOD,
-                            create.loadClass(callback.declaringClass().name().toString()),
-                            create.load(callback.name()), create.newArray(Class.class, create.load(0)), instanceHandle,
-                            create.newArray(Object.class, create.load(0)));
+                    memberHandles.invokeMethod(create, callback, instanceHandle);
                 } else {
                     create.invokeVirtualMethod(MethodDescriptor.of(callback), instanceHandle);
                 }
@@ -1609,23 +1579,30 @@ public class BeanGenerator extends AbstractGenerator {
                     get.getThis(),
                     get.getMethodParam(0));
 
-            // We can optimize if:
-            // 1) class bean - has no @PreDestroy interceptor and there is no @PreDestroy callback
-            // 2) producer - there is no disposal method
-            // 3) synthetic bean - has no destruction logic
-            if (!bean.hasDestroyLogic()) {
-                // If there is no dependency in the creational context we don't have to store the instance in the CreationalContext
-                ResultHandle creationalContext = get.checkCast(get.getMethodParam(0), CreationalContextImpl.class);
-                get.ifNonZero(
-                        get.invokeVirtualMethod(MethodDescriptors.CREATIONAL_CTX_HAS_DEPENDENT_INSTANCES, creationalContext))
-                        .falseBranch().returnValue(instance);
-            }
+            if (bean.isDestructionFree()) {
+                // Neither the instance nor its dependencies ever need to be destroyed
+                get.returnValue(instance);
+            } else {
+                // We can optimize if:
+                // 1) class bean - has no @PreDestroy interceptor and there is no @PreDestroy callback
+                // 2) producer - there is no disposal method
+                // 3) synthetic bean - has no destruction logic
+                if (!bean.hasDestroyLogic()) {
+                    // If there is no dependency in the creational context we don't have to store the instance in the
+                    // CreationalContext
+                    ResultHandle creationalContext = get.checkCast(get.getMethodParam(0), CreationalContextImpl.class);
+                    get.ifNonZero(
+                            get.invokeVirtualMethod(MethodDescriptors.CREATIONAL_CTX_HAS_DEPENDENT_INSTANCES,
+                                    creationalContext))
+                            .falseBranch().returnValue(instance);
+                }
 
-            // CreationalContextImpl.addDependencyToParent(this,instance,ctx)
-            get.invokeStaticMethod(MethodDescriptors.CREATIONAL_CTX_ADD_DEP_TO_PARENT, get.getThis(), instance,
-                    get.getMethodParam(0));
-            // return instance
-            get.returnValue(instance);
+                // CreationalContextImpl.addDependencyToParent(this,instance,ctx)
+                get.invokeStaticMethod(MethodDescriptors.CREATIONAL_CTX_ADD_DEP_TO_PARENT, get.getThis(), instance,
+                        get.getMethodParam(0));
+                // return instance
+                get.returnValue(instance);
+            }
         } else if (bean.getScope().isNormal()) {
             // All normal scopes
             // return proxy()
@@ -1685,6 +1662,20 @@ public class BeanGenerator extends AbstractGenerator {
         getScope.returnValue(getScope.load(bean.getIdentifier()));
     }
 
+    /**
+     *
+     * @param bean
+     * @param beanCreator
+     * @see InjectableBean#getContextSlot()
+     */
+    protected void implementGetContextSlot(BeanInfo bean, ClassCreator beanCreator) {
+        if (bean.getContextSlot() >= 0) {
+            MethodCreator getContextSlot = beanCreator.getMethodCreator("getContextSlot", int.class)
+                    .setModifiers(ACC_PUBLIC);
+            getContextSlot.returnValue(getContextSlot.load(bean.getContextSlot()));
+        }
+    }
+
     protected void implementEquals(BeanInfo bean, ClassCreator beanCreator) {
         MethodCreator equals = beanCreator.getMethodCreator("equals", boolean.class, Object.class).setModifiers(ACC_PUBLIC);
         final ResultHandle obj = equals.getMethodParam(0);
@@ -1769,6 +1760,12 @@ public class BeanGenerator extends AbstractGenerator {
                 .returnValue(isDefaultBean.load(bean.isDefaultBean()));
     }
 
+    protected void implementIsDestructionFree(BeanInfo bean, ClassCreator beanCreator) {
+        MethodCreator isDestructionFree = beanCreator.getMethodCreator("isDestructionFree", boolean.class)
+                .setModifiers(ACC_PUBLIC);
+        isDestructionFree.returnValue(isDestructionFree.load(true));
+    }
+
     protected void implementGetStereotypes(BeanInfo bean, ClassCreator beanCreator, FieldDescriptor stereotypesField) {
         MethodCreator getStereotypes = beanCreator.getMethodCreator("getStereotypes", Set.class).setModifiers(ACC_PUBLIC);
         getStereotypes.returnValue(getStereotypes.readInstanceField(stereotypesField, getStereotypes.getThis()));
@@ -1972,6 +1969,38 @@ public class BeanGenerator extends AbstractGenerator {
         }
     }
 
+    /**
+     * The creational context passed to the provider of an injection point. A child context is not needed if the injected
+     * bean never registers a dependent instance, i.e. if it's not {@code @Dependent} or if it's destruction-free.
+     *
+     * @see BeanInfo#isDestructionFree()
+     */
+    static ResultHandle injectionPointCreationalContext(BytecodeCreator creator, InjectionPointInfo injectionPoint,
+            ResultHandle providerHandle) {
+        BeanInfo resolved = injectionPoint.getResolvedBean();
+        if (resolved != null && !injectionPoint.isDependentTransientReference()
+                && (!BuiltinScope.DEPENDENT.is(resolved.getScope()) || resolved.isDestructionFree())) {
+            return creator.getMethodParam(0);
+        }
+        return creator.invokeStaticMethod(MethodDescriptors.CREATIONAL_CTX_CHILD_CONTEXTUAL, providerHandle,
+                creator.getMethodParam(0));
+    }
+
+    /**
+     * The client proxy is unwrapped if the proxy is elided for the given injection point.
+     *
+     * @see InjectionPointInfo#isProxyElided()
+     */
+    static ResultHandle injectedReference(BytecodeCreator creator, InjectionPointInfo injectionPoint,
+            ResultHandle providerHandle, ResultHandle ctxHandle) {
+        ResultHandle referenceHandle = creator.invokeInterfaceMethod(MethodDescriptors.INJECTABLE_REF_PROVIDER_GET,
+                providerHandle, ctxHandle);
+        if (injectionPoint.isProxyElided()) {
+            return creator.invokeInterfaceMethod(MethodDescriptors.CLIENT_PROXY_GET_CONTEXTUAL_INSTANCE, referenceHandle);
+        }
+        return referenceHandle;
+    }
+
     static class TransientReference {
 
         final ResultHandle provider;
@@ -87,6 +87,10 @@ public class BeanInfo implements InjectionTargetInfo {
 
     private final String targetPackageName;
 
+    private int contextSlot = -1;
+
+    private volatile Boolean destructionFree;
+
     BeanInfo(AnnotationTarget target, BeanDeployment beanDeployment, ScopeInfo scope, Set<Type> types,
             Set<AnnotationInstance> qualifiers, List<Injection> injections, BeanInfo declaringBean, DisposerInfo disposer,
             boolean alternative, List<StereotypeInfo> stereotypes, String name, boolean isDefaultBean, String targetPackageName,
@@ -227,6 +231,19 @@ public class BeanInfo implements InjectionTargetInfo {
         return scope;
     }
 
+    /**
+     *
+     * @return the slot in the request context state or -1 if no slot was assigned
+     * @see BeanDeployment#init(Consumer, List)
+     */
+    public int getContextSlot() {
+        return contextSlot;
+    }
+
+    void setContextSlot(int contextSlot) {
+        this.contextSlot = contextSlot;
+    }
+
     public Set<Type> getTypes() {
         return types;
     }
@@ -359,6 +376,52 @@ public class BeanInfo implements InjectionTargetInfo {
                         .isEmpty());
     }
 
+    /**
+     * A {@link BuiltinScope#DEPENDENT} bean is destruction-free if neither the bean nor any of its dependent instances,
+     * transitively, ever needs to be destroyed. An instance of such a bean does not have to be tracked by the creational
+     * context it was created with and the bean may share that creational context with its dependencies.
+     * <p>
+     * Note that the result is only valid after the bean deployment was initialized.
+     *
+     * @return {@code true} if the bean is destruction-free
+     */
+    public boolean isDestructionFree() {
+        return isDestructionFree(new HashSet<>());
+    }
+
+    private boolean isDestructionFree(Set<BeanInfo> path) {
+        Boolean value = destructionFree;
+        if (value != null) {
+            return value;
+        }
+        if (!path.add(this)) {
+            // Dependency cycle
+            return false;
+        }
+        value = BuiltinScope.DEPENDENT.is(getScope()) && !isInterceptor() && !isDecorator() && !isSynthetic()
+                && !hasDestroyLogic() && getBoundInterceptors().isEmpty() && getBoundDecorators().isEmpty();
+        if (value) {
+            for (InjectionPointInfo injectionPoint : getAllInjectionPoints()) {
+                BeanInfo resolved = injectionPoint.getResolvedBean();
+                if (resolved == null) {
+                    // Built-in beans that never register a dependent instance
+                    BuiltinBean builtin = BuiltinBean.resolve(injectionPoint);
+                    if (builtin != BuiltinBean.INJECTION_POINT && builtin != BuiltinBean.BEAN
+                            && builtin != BuiltinBean.BEAN_MANAGER && builtin != BuiltinBean.EVENT) {
+                        value = false;
+                        break;
+                    }
+                } else if (BuiltinScope.DEPENDENT.is(resolved.getScope()) && !resolved.isDestructionFree(path)) {
+                    value = false;
+                    break;
+                }
+            }
+        }
+        path.remove(this);
+        destructionFree = value;
+        return value;
+    }
+
     public boolean isForceApplicationClass() {
         return forceApplicationClass;
     }
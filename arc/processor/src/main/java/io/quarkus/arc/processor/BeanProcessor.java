@@ -26,6 +26,7 @@ import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -76,6 +77,7 @@ public class BeanProcessor {
     private final BeanDeployment beanDeployment;
     private final boolean generateSources;
     private final boolean allowMocking;
+    private final boolean fusedInterceptorChains;
     private final boolean transformUnproxyableClasses;
     private final List<Function<BeanInfo, Consumer<BytecodeCreator>>> suppressConditionGenerators;
 
@@ -93,6 +95,7 @@ public class BeanProcessor {
         this.annotationLiterals = new AnnotationLiteralProcessor(builder.beanArchiveIndex, applicationClassPredicate);
         this.generateSources = builder.generateSources;
         this.allowMocking = builder.allowMocking;
+        this.fusedInterceptorChains = builder.fusedInterceptorChains;
         this.transformUnproxyableClasses = builder.transformUnproxyableClasses;
         this.suppressConditionGenerators = builder.suppressConditionGenerators;
 
@@ -139,7 +142,20 @@ public class BeanProcessor {
      */
     public void initialize(Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
             List<Predicate<BeanInfo>> additionalUnusedBeanExclusions) {
-        beanDeployment.init(bytecodeTransformerConsumer, additionalUnusedBeanExclusions);
+        initialize(bytecodeTransformerConsumer, additionalUnusedBeanExclusions, null);
+    }
+
+    /**
+     * The injection points, interceptor bindings and decorators of the components are resolved in parallel if an executor
+     * is given. The bytecode transformer consumer must be thread-safe in that case.
+     *
+     * @param bytecodeTransformerConsumer Used to register a bytecode transformation
+     * @param additionalUnusedBeanExclusions Additional predicates to exclude unused beans
+     * @param executor The executor used to initialize the components, may be {@code null}
+     */
+    public void initialize(Consumer<BytecodeTransformer> bytecodeTransformerConsumer,
+            List<Predicate<BeanInfo>> additionalUnusedBeanExclusions, ExecutorService executor) {
+        beanDeployment.init(bytecodeTransformerConsumer, additionalUnusedBeanExclusions, executor);
     }
 
     /**
@@ -155,6 +171,17 @@ public class BeanProcessor {
         BeanDeployment.processErrors(validationContext.getDeploymentProblems());
     }
 
+    /**
+     * If an executor is given the resources are generated in parallel and each resource is passed to the output as soon as
+     * it is generated, i.e. the output must be thread-safe in that case.
+     *
+     * @param reflectionRegistration
+     * @param existingClasses
+     * @param bytecodeTransformerConsumer Used to register a bytecode transformation
+     * @param detectUnusedFalsePositives
+     * @param executor The executor used to generate the resources, may be {@code null}
+     * @return the generated resources
+     */
     public List<Resource> generateResources(ReflectionRegistration reflectionRegistration, Set<String> existingClasses,
             Consumer<BytecodeTransformer> bytecodeTransformerConsumer, boolean detectUnusedFalsePositives,
             ExecutorService executor)
@@ -196,7 +223,7 @@ public class BeanProcessor {
         }
 
         SubclassGenerator subclassGenerator = new SubclassGenerator(annotationLiterals, applicationClassPredicate,
-                generateSources, refReg, existingClasses);
+                generateSources, refReg, existingClasses, fusedInterceptorChains);
 
         ObserverGenerator observerGenerator = new ObserverGenerator(annotationLiterals, applicationClassPredicate,
                 privateMembers, generateSources, refReg, existingClasses, observerToGeneratedName,
@@ -217,7 +244,7 @@ public class BeanProcessor {
             ConcurrentLinkedQueue<Future<Collection<Resource>>> secondaryTasks = new ConcurrentLinkedQueue<>();
 
             // Generate _ComponentsProvider
-            primaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
+            primaryTasks.add(submit(executor, new Callable<Collection<Resource>>() {
                 @Override
                 public Collection<Resource> call() throws Exception {
                     return new ComponentsProviderGenerator(annotationLiterals, generateSources, detectUnusedFalsePositives)
@@ -231,7 +258,7 @@ public class BeanProcessor {
 
             // Generate interceptors
             for (InterceptorInfo interceptor : interceptors) {
-                primaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
+                primaryTasks.add(submit(executor, new Callable<Collection<Resource>>() {
                     @Override
                     public Collection<Resource> call() throws Exception {
                         return interceptorGenerator.generate(interceptor);
@@ -240,7 +267,7 @@ public class BeanProcessor {
             }
             // Generate decorators
             for (DecoratorInfo decorator : decorators) {
-                primaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
+                primaryTasks.add(submit(executor, new Callable<Collection<Resource>>() {
                     @Override
                     public Collection<Resource> call() throws Exception {
                         return decoratorGenerator.generate(decorator);
@@ -250,7 +277,7 @@ public class BeanProcessor {
             // Generate beans
             for (BeanInfo bean : beans) {
 
-                primaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
+                primaryTasks.add(submit(executor, new Callable<Collection<Resource>>() {
                     @Override
                     public Collection<Resource> call() throws Exception {
 
@@ -260,7 +287,7 @@ public class BeanProcessor {
 
                                 if (bean.getScope().isNormal()) {
                                     // Generate client proxy
-                                    secondaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
+                                    secondaryTasks.add(submit(executor, new Callable<Collection<Resource>>() {
                                         @Override
                                         public Collection<Resource> call() throws Exception {
                                             Collection<Resource> proxyResources = clientProxyGenerator.generate(bean,
@@ -282,7 +309,7 @@ public class BeanProcessor {
 
                                 if (bean.isSubclassRequired()) {
                                     // Generate subclass
-                                    secondaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
+                                    secondaryTasks.add(submit(executor, new Callable<Collection<Resource>>() {
                                         @Override
                                         public Collection<Resource> call() throws Exception {
                                             Collection<Resource> subclassResources = subclassGenerator.generate(bean,
@@ -306,7 +333,7 @@ public class BeanProcessor {
 
             // Generate observers
             for (ObserverInfo observer : observers) {
-                primaryTasks.add(executor.submit(new Callable<Collection<Resource>>() {
+                primaryTasks.add(submit(executor, new Callable<Collection<Resource>>() {
                     @Override
                     public Collection<Resource> call() throws Exception {
                         return observerGenerator.generate(observer);
@@ -388,7 +415,9 @@ public class BeanProcessor {
                 Collection<Future<Collection<Resource>>> annotationTasks = generator.generate(annotationLiterals.getCache(),
                         existingClasses, executor);
                 for (Future<Collection<Resource>> future : annotationTasks) {
-                    resources.addAll(future.get());
+                    Collection<Resource> literals = future.get();
+                    resources.addAll(literals);
+                    write(literals);
                 }
             } else {
                 resources.addAll(generator.generate(annotationLiterals.getCache(), existingClasses));
@@ -397,12 +426,33 @@ public class BeanProcessor {
 
         privateMembers.log();
 
+        if (executor == null) {
+            write(resources);
+        }
+        return resources;
+    }
+
+    private Future<Collection<Resource>> submit(ExecutorService executor, Callable<Collection<Resource>> task) {
+        if (output == null) {
+            return executor.submit(task);
+        }
+        // Write the resources while the other components are generated
+        return executor.submit(new Callable<Collection<Resource>>() {
+            @Override
+            public Collection<Resource> call() throws Exception {
+                Collection<Resource> resources = task.call();
+                write(resources);
+                return resources;
+            }
+        });
+    }
+
+    private void write(Collection<Resource> resources) throws IOException {
         if (output != null) {
             for (Resource resource : resources) {
                 output.writeResource(resource);
             }
         }
-        return resources;
     }
 
     public BeanDeployment getBeanDeployment() {
@@ -414,6 +464,18 @@ public class BeanProcessor {
     }
 
     public BeanDeployment process() throws IOException, InterruptedException, ExecutionException {
+        return process(null);
+    }
+
+    /**
+     * Runs all the processing phases. If an executor is given the components are initialized and the resources generated in
+     * parallel, and the resources are passed to the output as soon as they are generated, i.e. the output must be thread-safe.
+     *
+     * @param executor The executor, may be {@code null}
+     * @return the bean deployment
+     * @see #generateResources(ReflectionRegistration, Set, Consumer, boolean, ExecutorService)
+     */
+    public BeanDeployment process(ExecutorService executor) throws IOException, InterruptedException, ExecutionException {
         Consumer<BytecodeTransformer> unsupportedBytecodeTransformer = new Consumer<BytecodeTransformer>() {
             @Override
             public void accept(BytecodeTransformer transformer) {
@@ -425,13 +487,23 @@ public class BeanProcessor {
         registerBeans();
         beanDeployment.initBeanByTypeMap();
         registerSyntheticObservers();
-        initialize(unsupportedBytecodeTransformer, Collections.emptyList());
+        long start = System.nanoTime();
+        initialize(unsupportedBytecodeTransformer, Collections.emptyList(), executor);
+        start = logPhase("Initialization", start);
         ValidationContext validationContext = validate(unsupportedBytecodeTransformer);
         processValidationErrors(validationContext);
-        generateResources(null, new HashSet<>(), unsupportedBytecodeTransformer, true, null);
+        start = logPhase("Validation", start);
+        generateResources(null, new HashSet<>(), unsupportedBytecodeTransformer, true, executor);
+        logPhase("Generation", start);
         return beanDeployment;
     }
 
+    private static long logPhase(String phase, long start) {
+        long now = System.nanoTime();
+        LOGGER.debugf("%s finished in %s ms", phase, TimeUnit.NANOSECONDS.toMillis(now - start));
+        return now;
+    }
+
     public Predicate<DotName> getInjectionPointAnnotationsPredicate() {
         return injectionPointAnnotationsPredicate;
     }
@@ -466,6 +538,8 @@ public class BeanProcessor {
         boolean transformUnproxyableClasses;
         boolean failOnInterceptedPrivateMethod;
         boolean allowMocking;
+        boolean proxyElision;
+        boolean fusedInterceptorChains;
 
         AlternativePriorities alternativePriorities;
         final List<Predicate<ClassInfo>> excludeTypes;
@@ -497,6 +571,8 @@ public class BeanProcessor {
             transformUnproxyableClasses = false;
             failOnInterceptedPrivateMethod = false;
             allowMocking = false;
+            proxyElision = false;
+            fusedInterceptorChains = false;
 
             excludeTypes = new ArrayList<>();
 
@@ -629,6 +705,49 @@ public class BeanProcessor {
             this.allowMocking = allowMocking;
         }
 
+        /**
+         * If set to true the container injects the contextual instance of an {@link javax.enterprise.context.ApplicationScoped}
+         * bean directly, i.e. without a client proxy, if it can be proved at build time that it is safe:
+         * <ul>
+         * <li>the injection point belongs to an application scoped or singleton class bean,</li>
+         * <li>neither the injected bean nor the bean that declares the injection point is annotated with
+         * {@link io.quarkus.arc.KeepClientProxy},</li>
+         * <li>the injection point is not part of a dependency cycle,</li>
+         * <li>mocking is not allowed.</li>
+         * </ul>
+         * The contextual instance is created when the injection point is injected. The elided injection points are logged.
+         * <p>
+         * <strong>This changes the semantics of destruction.</strong> An elided injection point holds the contextual
+         * instance itself, so if the instance is destroyed at runtime, e.g. via
+         * {@code InjectableContext#destroy(Contextual)} or {@code InstanceHandle#destroy()}, the injection point keeps
+         * referencing the destroyed instance instead of a new one. A bean whose instance may be destroyed before the
+         * container is shut down must be annotated with {@link io.quarkus.arc.KeepClientProxy}.
+         *
+         * @param value
+         * @return self
+         * @see InjectionPointInfo#isProxyElided()
+         */
+        public Builder setProxyElision(boolean value) {
+            this.proxyElision = value;
+            return this;
+        }
+
+        /**
+         * If set to true a dedicated {@link javax.interceptor.InvocationContext} class is generated for each intercepted method
+         * that is not decorated. The generated class invokes the {@link javax.interceptor.AroundInvoke} methods of the bound
+         * interceptors and the intercepted method directly, so that the JIT compiler can inline the whole interceptor chain.
+         * <p>
+         * The fused chains can be disabled at runtime, see
+         * {@link io.quarkus.arc.impl.InvocationContexts#FUSED_CHAINS_PROPERTY}.
+         *
+         * @param value
+         * @return self
+         */
+        public Builder setFusedInterceptorChains(boolean value) {
+            this.fusedInterceptorChains = value;
+            return this;
+        }
+
         /**
          * If set to true the container will attempt to remove all unused beans.
          * <p>
@@ -775,10 +894,12 @@ public class BeanProcessor {
 
         private final List<String> appDescriptions;
         private final List<String> fwkDescriptions;
+        private final List<String> handleDescriptions;
 
         public PrivateMembersCollector() {
             this.appDescriptions = new CopyOnWriteArrayList<>();
             this.fwkDescriptions = LOGGER.isDebugEnabled() ? new CopyOnWriteArrayList<>() : null;
+            this.handleDescriptions = LOGGER.isDebugEnabled() ? new CopyOnWriteArrayList<>() : null;
         }
 
         void add(boolean isApplicationClass, String description) {
@@ -789,6 +910,12 @@ public class BeanProcessor {
             }
         }
 
+        void addHandles(String generatedClassName, List<String> members) {
+            if (handleDescriptions != null) {
+                handleDescriptions.add(generatedClassName + ": " + String.join(", ", members));
+            }
+        }
+
         private void log() {
             // Log application problems
             if (!appDescriptions.isEmpty()) {
@@ -808,6 +935,11 @@ public class BeanProcessor {
                         "Found unrecommended usage of private members (use package-private instead) in framework beans:%n%s",
                         fwkDescriptions.stream().map(d -> "\t- " + d).collect(Collectors.joining(",\n")));
             }
+            // Log generated classes that still need reflective access, i.e. the members must be registered for reflection
+            if (handleDescriptions != null && !handleDescriptions.isEmpty()) {
+                LOGGER.debugf("Generated classes that access members via method handles:%n%s",
+                        handleDescriptions.stream().sorted().map(d -> "\t- " + d).collect(Collectors.joining(",\n")));
+            }
         }
 
     }
@@ -8,6 +8,7 @@ import static org.objectweb.asm.Opcodes.ACC_VOLATILE;
 import io.quarkus.arc.ClientProxy;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.impl.ContextInstanceHandleImpl;
 import io.quarkus.arc.impl.Mockable;
 import io.quarkus.arc.processor.BeanGenerator.ProviderType;
 import io.quarkus.arc.processor.ResourceOutput.Resource;
@@ -53,6 +54,7 @@ public class ClientProxyGenerator extends AbstractGenerator {
     static final String BEAN_FIELD = "bean";
     static final String MOCK_FIELD = "mock";
     static final String CONTEXT_FIELD = "context";
+    static final String INSTANCE_HANDLE_FIELD = "instanceHandle";
 
     private final Predicate<DotName> applicationClassPredicate;
     private final boolean mockable;
@@ -109,6 +111,7 @@ public class ClientProxyGenerator extends AbstractGenerator {
         ClassCreator clientProxy = ClassCreator.builder().classOutput(classOutput).className(generatedName)
                 .superClass(superClass)
                 .interfaces(interfaces.toArray(new String[0])).build();
+        MemberHandles memberHandles = new MemberHandles(clientProxy, null);
         // See https://docs.oracle.com/javase/specs/jvms/se14/html/jvms-4.html#jvms-4.7.9.1
         // Essentially a signature is needed if a class has type parameters or extends/implements parameterized type.
         // We're generating a subtype (subclass or subinterface) of "providerClass".
@@ -132,6 +135,9 @@ public class ClientProxyGenerator extends AbstractGenerator {
             // It is safe to store the application context instance on the proxy
             contextField = clientProxy.getFieldCreator(CONTEXT_FIELD, InjectableContext.class)
                     .setModifiers(ACC_PRIVATE | ACC_FINAL);
+            // The handle of the contextual instance is cached until the instance is destroyed
+            clientProxy.getFieldCreator(INSTANCE_HANDLE_FIELD, ContextInstanceHandleImpl.class)
+                    .setModifiers(ACC_PRIVATE | ACC_VOLATILE);
         }
 
         createConstructor(clientProxy, superClass, beanField.getFieldDescriptor(),
@@ -206,21 +212,9 @@ public class ClientProxyGenerator extends AbstractGenerator {
             } else if (isInterface) {
                 ret = forward.invokeInterfaceMethod(method, delegate, params);
             } else if (isReflectionFallbackNeeded(method, targetPackage)) {
-                // Reflection fallback
-                ResultHandle paramTypesArray = forward.newArray(Class.class, forward.load(method.parametersCount()));
-                int idx = 0;
-                for (Type param : method.parameterTypes()) {
-                    forward.writeArrayValue(paramTypesArray, idx++, forward.loadClass(param.name().toString()));
-                }
-                ResultHandle argsArray = forward.newArray(Object.class, forward.load(params.length));
-                idx = 0;
-                for (ResultHandle argHandle : params) {
-                    forward.writeArrayValue(argsArray, idx++, argHandle);
-                }
+                // Method handle fallback
                 reflectionRegistration.registerMethod(method);
-                ret = forward.invokeStaticMethod(MethodDescriptors.REFLECTIONS_INVOKE_METHOD,
-                        forward.loadClass(method.declaringClass().name().toString()),
-                        forward.load(method.name()), paramTypesArray, delegate, argsArray);
+                ret = memberHandles.invokeMethod(forward, method, delegate, params);
             } else {
                 // make sure we do not use the original method descriptor as it could point to
                 // a default interface method containing class: make sure we invoke it on the provider type.
@@ -234,6 +228,7 @@ public class ClientProxyGenerator extends AbstractGenerator {
             forward.returnValue(ret);
         }
 
+        memberHandles.close();
         clientProxy.close();
         return classOutput.getResources();
     }
@@ -290,11 +285,26 @@ public class ClientProxyGenerator extends AbstractGenerator {
 
         if (BuiltinScope.APPLICATION.is(bean.getScope())) {
             // Application context is stored in a field and is always active
-            creator.returnValue(creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_APP_SCOPED_DELEGATE,
+            // ContextInstanceHandleImpl handle = this.instanceHandle;
+            // if (handle != null && handle.isValid()) return handle.get();
+            FieldDescriptor handleField = FieldDescriptor.of(clientProxy.getClassName(), INSTANCE_HANDLE_FIELD,
+                    ContextInstanceHandleImpl.class);
+            ResultHandle handle = creator.readInstanceField(handleField, creator.getThis());
+            BytecodeCreator notNull = creator.ifNull(handle).falseBranch();
+            BytecodeCreator valid = notNull
+                    .ifTrue(notNull.invokeVirtualMethod(MethodDescriptors.CONTEXT_INSTANCE_HANDLE_IS_VALID, handle))
+                    .trueBranch();
+            valid.returnValue(valid.invokeInterfaceMethod(MethodDescriptors.INSTANCE_HANDLE_GET, handle));
+            // handle = ClientProxies.getApplicationScopedHandle(this.context, this.bean);
+            // this.instanceHandle = handle;
+            // return handle.get();
+            handle = creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_APP_SCOPED_HANDLE,
                     creator.readInstanceField(
                             FieldDescriptor.of(clientProxy.getClassName(), CONTEXT_FIELD, InjectableContext.class),
                             creator.getThis()),
-                    beanHandle));
+                    beanHandle);
+            creator.writeInstanceField(handleField, creator.getThis(), handle);
+            creator.returnValue(creator.invokeInterfaceMethod(MethodDescriptors.INSTANCE_HANDLE_GET, handle));
         } else {
             creator.returnValue(creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_DELEGATE,
                     beanHandle));
@@ -8,6 +8,7 @@ import io.quarkus.arc.Arc;
 import io.quarkus.arc.Components;
 import io.quarkus.arc.ComponentsProvider;
 import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.ResolutionSnapshot;
 import io.quarkus.arc.processor.ResourceOutput.Resource;
 import io.quarkus.gizmo.AssignableResultHandle;
 import io.quarkus.gizmo.BytecodeCreator;
@@ -19,15 +20,18 @@ import io.quarkus.gizmo.MethodCreator;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.gizmo.TryBlock;
+import java.lang.annotation.Annotation;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -49,6 +53,7 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
     static final String ADD_OBSERVERS = "addObservers";
     static final String ADD_REMOVED_BEANS = "addRemovedBeans";
     static final String ADD_BEANS = "addBeans";
+    static final String ADD_RESOLUTIONS = "addResolutions";
 
     private final AnnotationLiteralProcessor annotationLiterals;
     private final boolean detectUnusedFalsePositives;
@@ -141,11 +146,23 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
                     getComponents.load(entry.getKey().toString()), nonbindingMembers);
         }
 
+        // Qualifier comparators
+        ResultHandle qualifierComparatorsHandle = getComponents.newInstance(MethodDescriptor.ofConstructor(ArrayList.class));
+        List<Resource> qualifierComparators = generateQualifierComparators(getComponents, qualifierComparatorsHandle,
+                beanDeployment);
+
+        // Break resolution snapshot processing into multiple addResolutions() methods
+        ResultHandle resolutionSnapshotHandle = getComponents
+                .newInstance(MethodDescriptor.ofConstructor(ResolutionSnapshot.class));
+        ResultHandle resolutionTypeCacheHandle = getComponents.newInstance(MethodDescriptor.ofConstructor(HashMap.class));
+        processResolutions(componentsProvider, getComponents, resolutionSnapshotHandle, resolutionTypeCacheHandle,
+                beanDeployment);
+
         ResultHandle componentsHandle = getComponents.newInstance(
                 MethodDescriptor.ofConstructor(Components.class, Collection.class, Collection.class, Collection.class,
-                        Map.class, Collection.class, Map.class),
+                        Map.class, Collection.class, Map.class, ResolutionSnapshot.class, Collection.class),
                 beansHandle, observersHandle, contextsHandle, transitiveBindingsHandle, removedBeansHandle,
-                qualifiersNonbindingMembers);
+                qualifiersNonbindingMembers, resolutionSnapshotHandle, qualifierComparatorsHandle);
         getComponents.returnValue(componentsHandle);
 
         // Finally write the bytecode
@@ -157,6 +174,26 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
             resources.add(ResourceImpl.serviceProvider(ComponentsProvider.class.getName(),
                     (resource.getName().replace('/', '.')).getBytes(StandardCharsets.UTF_8), null));
         }
+        resources.addAll(qualifierComparators);
+        return resources;
+    }
+
+    private List<Resource> generateQualifierComparators(MethodCreator getComponents, ResultHandle qualifierComparatorsHandle,
+            BeanDeployment beanDeployment) {
+        AnnotationLiteralGenerator generator = new AnnotationLiteralGenerator(generateSources);
+        List<Resource> resources = new ArrayList<>();
+        for (ClassInfo qualifier : beanDeployment.getQualifiers()) {
+            // The comparators are not components providers and must not be written to the main class output
+            ResourceClassOutput classOutput = new ResourceClassOutput(
+                    annotationLiterals.isApplicationClass(qualifier.name()), generateSources);
+            String comparatorName = generator.createQualifierComparatorClass(classOutput, qualifier,
+                    beanDeployment.getQualifierNonbindingMembers(qualifier.name()));
+            if (comparatorName != null) {
+                getComponents.invokeInterfaceMethod(MethodDescriptors.LIST_ADD, qualifierComparatorsHandle,
+                        getComponents.newInstance(MethodDescriptor.ofConstructor(comparatorName)));
+                resources.addAll(classOutput.getResources());
+            }
+        }
         return resources;
     }
 
@@ -172,16 +209,23 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
         // - when a bean is processed the map entry is removed
         // - if we're stuck and the map is not empty ISE is thrown
         boolean stuck = false;
+        // The number of beanToInjections entries whose value contains a bean, updated when an entry is removed
+        Map<BeanInfo, Integer> dependencyCounts = new HashMap<>();
+        for (List<BeanInfo> injections : beanToInjections.values()) {
+            for (BeanInfo injection : new HashSet<>(injections)) {
+                dependencyCounts.merge(injection, 1, Integer::sum);
+            }
+        }
         Predicate<BeanInfo> isNotDependencyPredicate = new Predicate<BeanInfo>() {
             @Override
             public boolean test(BeanInfo b) {
-                return !isDependency(b, beanToInjections);
+                return !isDependency(b, dependencyCounts);
             }
         };
         Predicate<BeanInfo> isNormalScopedOrNotDependencyPredicate = new Predicate<BeanInfo>() {
             @Override
             public boolean test(BeanInfo b) {
-                return b.getScope().isNormal() || !isDependency(b, beanToInjections);
+                return b.getScope().isNormal() || !isDependency(b, dependencyCounts);
             }
         };
         Predicate<BeanInfo> isNotProducerOrNormalScopedOrNotDependencyPredicate = new Predicate<BeanInfo>() {
@@ -191,7 +235,7 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
                 if (b.isProducerField() || b.isProducerMethod()) {
                     return false;
                 }
-                return b.getScope().isNormal() || !isDependency(b, beanToInjections);
+                return b.getScope().isNormal() || !isDependency(b, dependencyCounts);
             }
         };
 
@@ -201,14 +245,14 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
             }
             stuck = true;
             // First try to process beans that are not dependencies
-            stuck = addBeans(beanAdder, beanToInjections, processed, beanIdToBeanHandle,
+            stuck = addBeans(beanAdder, beanToInjections, dependencyCounts, processed, beanIdToBeanHandle,
                     beanToGeneratedName, isNotDependencyPredicate);
             if (stuck) {
                 // It seems we're stuck but we can try to process normal scoped beans that can prevent a circular dependency
-                stuck = addBeans(beanAdder, beanToInjections, processed, beanIdToBeanHandle,
+                stuck = addBeans(beanAdder, beanToInjections, dependencyCounts, processed, beanIdToBeanHandle,
                         beanToGeneratedName, isNotProducerOrNormalScopedOrNotDependencyPredicate);
                 if (stuck) {
-                    stuck = addBeans(beanAdder, beanToInjections, processed,
+                    stuck = addBeans(beanAdder, beanToInjections, dependencyCounts, processed,
                             beanIdToBeanHandle, beanToGeneratedName, isNormalScopedOrNotDependencyPredicate);
                 }
             }
@@ -270,6 +314,92 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
         }
     }
 
+    private void processResolutions(ClassCreator componentsProvider, MethodCreator getComponents,
+            ResultHandle resolutionSnapshotHandle, ResultHandle typeCacheHandle, BeanDeployment beanDeployment) {
+        try (ResolutionAdder resolutionAdder = new ResolutionAdder(componentsProvider, getComponents, resolutionSnapshotHandle,
+                typeCacheHandle, beanDeployment)) {
+            for (Resolution resolution : initResolutions(beanDeployment)) {
+                resolutionAdder.addComponent(resolution);
+            }
+        }
+    }
+
+    /**
+     * Collects the typesafe resolution results for all injection points and programmatic lookups, and the event types and
+     * qualifiers for all injected {@code Event} and all observers. Lookups that cannot be resolved to exactly one bean are
+     * skipped and resolved lazily at runtime.
+     */
+    private Set<Resolution> initResolutions(BeanDeployment beanDeployment) {
+        Set<Resolution> resolutions = new LinkedHashSet<>();
+        for (InjectionPointInfo injectionPoint : beanDeployment.getInjectionPoints()) {
+            if (injectionPoint.isDelegate()) {
+                continue;
+            }
+            if (BuiltinBean.EVENT.matches(injectionPoint)) {
+                org.jboss.jandex.Type type = injectionPoint.getType();
+                if (type.kind() == org.jboss.jandex.Type.Kind.PARAMETERIZED_TYPE) {
+                    org.jboss.jandex.Type eventType = type.asParameterizedType().arguments().get(0);
+                    if (eventType.kind() == org.jboss.jandex.Type.Kind.CLASS) {
+                        resolutions.add(Resolution.event(eventType, withAny(injectionPoint.getRequiredQualifiers())));
+                    }
+                }
+            } else if (injectionPoint.isProgrammaticLookup()) {
+                org.jboss.jandex.Type requiredType = injectionPoint.getRequiredType();
+                if (isResolvable(requiredType)) {
+                    BeanInfo bean = resolve(beanDeployment, requiredType, injectionPoint.getRequiredQualifiers());
+                    if (bean != null) {
+                        resolutions.add(Resolution.beans(requiredType, injectionPoint.getRequiredQualifiers(), bean));
+                    }
+                }
+            } else if (!BuiltinBean.resolvesTo(injectionPoint) && injectionPoint.hasResolvedBean()
+                    && isResolvable(injectionPoint.getRequiredType())) {
+                resolutions.add(Resolution.beans(injectionPoint.getRequiredType(), injectionPoint.getRequiredQualifiers(),
+                        injectionPoint.getResolvedBean()));
+            }
+        }
+        for (ObserverInfo observer : beanDeployment.getObservers()) {
+            if (observer.getObservedType().kind() == org.jboss.jandex.Type.Kind.CLASS) {
+                resolutions.add(Resolution.event(observer.getObservedType(), withAny(observer.getQualifiers())));
+            }
+        }
+        return resolutions;
+    }
+
+    private static boolean isResolvable(org.jboss.jandex.Type requiredType) {
+        if (requiredType.kind() != org.jboss.jandex.Type.Kind.CLASS
+                && requiredType.kind() != org.jboss.jandex.Type.Kind.PARAMETERIZED_TYPE) {
+            return false;
+        }
+        DotName name = requiredType.name();
+        // Built-in beans are not part of the deployment
+        if (DotNames.OBJECT.equals(name) || DotNames.INSTANCE.equals(name) || DotNames.INJECTABLE_INSTANCE.equals(name)
+                || DotNames.PROVIDER.equals(name) || DotNames.EVENT.equals(name) || DotNames.INJECTION_POINT.equals(name)
+                || DotNames.BEAN_MANAGER.equals(name)) {
+            return false;
+        }
+        return !Types.containsTypeVariable(requiredType);
+    }
+
+    private static BeanInfo resolve(BeanDeployment beanDeployment, org.jboss.jandex.Type requiredType,
+            Set<AnnotationInstance> qualifiers) {
+        Set<BeanInfo> beans = beanDeployment.getBeanResolver().resolveBeans(requiredType, qualifiers);
+        if (beans.size() == 1) {
+            return beans.iterator().next();
+        }
+        return beans.isEmpty() ? null : Beans.resolveAmbiguity(beans);
+    }
+
+    private static Set<AnnotationInstance> withAny(Set<AnnotationInstance> qualifiers) {
+        Set<AnnotationInstance> ret = new LinkedHashSet<>(qualifiers);
+        for (AnnotationInstance qualifier : qualifiers) {
+            if (DotNames.ANY.equals(qualifier.name())) {
+                return ret;
+            }
+        }
+        ret.add(BuiltinQualifier.ANY.getInstance());
+        return ret;
+    }
+
     private Map<BeanInfo, List<BeanInfo>> initBeanToInjections(BeanDeployment beanDeployment) {
         Function<BeanInfo, List<BeanInfo>> computeNewArrayFun = new Function<BeanInfo, List<BeanInfo>>() {
 
@@ -330,8 +460,9 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
     }
 
     private boolean addBeans(BeanAdder beanAdder,
-            Map<BeanInfo, List<BeanInfo>> beanToInjections, Set<BeanInfo> processed,
-            ResultHandle beanIdToBeanHandle, Map<BeanInfo, String> beanToGeneratedName, Predicate<BeanInfo> filter) {
+            Map<BeanInfo, List<BeanInfo>> beanToInjections, Map<BeanInfo, Integer> dependencyCounts,
+            Set<BeanInfo> processed, ResultHandle beanIdToBeanHandle, Map<BeanInfo, String> beanToGeneratedName,
+            Predicate<BeanInfo> filter) {
         boolean stuck = true;
         for (Iterator<Entry<BeanInfo, List<BeanInfo>>> iterator = beanToInjections.entrySet().iterator(); iterator
                 .hasNext();) {
@@ -339,6 +470,9 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
             BeanInfo bean = entry.getKey();
             if (filter.test(bean)) {
                 iterator.remove();
+                for (BeanInfo injection : new HashSet<>(entry.getValue())) {
+                    dependencyCounts.merge(injection, -1, Integer::sum);
+                }
                 beanAdder.addComponent(bean);
                 processed.add(bean);
                 stuck = false;
@@ -347,14 +481,9 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
         return stuck;
     }
 
-    private boolean isDependency(BeanInfo bean, Map<BeanInfo, List<BeanInfo>> beanToInjections) {
-        for (Iterator<Entry<BeanInfo, List<BeanInfo>>> iterator = beanToInjections.entrySet().iterator(); iterator.hasNext();) {
-            Entry<BeanInfo, List<BeanInfo>> entry = iterator.next();
-            if (entry.getValue().contains(bean)) {
-                return true;
-            }
-        }
-        return false;
+    private boolean isDependency(BeanInfo bean, Map<BeanInfo, Integer> dependencyCounts) {
+        Integer count = dependencyCounts.get(bean);
+        return count != null && count > 0;
     }
 
     static class ObserverAdder extends ComponentAdder<ObserverInfo> {
@@ -563,6 +692,168 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
 
     }
 
+    class ResolutionAdder extends ComponentAdder<Resolution> {
+
+        private final ResultHandle resolutionSnapshotHandle;
+        private final ResultHandle typeCacheHandle;
+        private final BeanDeployment beanDeployment;
+        private ResultHandle tccl;
+        // Shared annotation literals for an individual addResolutionsX() method
+        private final Map<AnnotationInstanceKey, ResultHandle> sharedQualifers;
+
+        private final MapTypeCache typeCache;
+
+        ResolutionAdder(ClassCreator componentsProvider, MethodCreator getComponentsMethod,
+                ResultHandle resolutionSnapshotHandle, ResultHandle typeCacheHandle, BeanDeployment beanDeployment) {
+            super(getComponentsMethod, componentsProvider);
+            this.resolutionSnapshotHandle = resolutionSnapshotHandle;
+            this.typeCacheHandle = typeCacheHandle;
+            this.beanDeployment = beanDeployment;
+            this.sharedQualifers = new HashMap<>();
+            this.typeCache = new MapTypeCache();
+        }
+
+        @Override
+        MethodCreator newAddMethod() {
+            // Clear the shared maps for each addResolutionsX() method
+            sharedQualifers.clear();
+
+            // private void addResolutions1(ResolutionSnapshot snapshot, Map typeCache)
+            MethodCreator addMethod = componentsProvider
+                    .getMethodCreator(ADD_RESOLUTIONS + group++, void.class, ResolutionSnapshot.class, Map.class)
+                    .setModifiers(ACC_PRIVATE);
+            // Get the TCCL - we will use it later
+            ResultHandle currentThread = addMethod
+                    .invokeStaticMethod(MethodDescriptors.THREAD_CURRENT_THREAD);
+            tccl = addMethod.invokeVirtualMethod(MethodDescriptors.THREAD_GET_TCCL, currentThread);
+
+            typeCache.initialize(addMethod);
+
+            return addMethod;
+        }
+
+        @Override
+        void invokeAddMethod() {
+            getComponentsMethod.invokeVirtualMethod(
+                    MethodDescriptor.ofMethod(componentsProvider.getClassName(),
+                            addMethod.getMethodDescriptor().getName(), void.class, ResolutionSnapshot.class, Map.class),
+                    getComponentsMethod.getThis(), resolutionSnapshotHandle, typeCacheHandle);
+        }
+
+        @Override
+        void addComponentInternal(Resolution resolution) {
+            ResultHandle resolutionSnapshotHandle = addMethod.getMethodParam(0);
+
+            List<ResultHandle> qualifierHandles = new ArrayList<>();
+            for (AnnotationInstance qualifier : resolution.qualifiers) {
+                ResultHandle qualifierHandle = getQualifierHandle(qualifier);
+                if (qualifierHandle == null) {
+                    // Not a registered qualifier - leave the resolution to the runtime
+                    return;
+                }
+                qualifierHandles.add(qualifierHandle);
+            }
+
+            AssignableResultHandle typeHandle = addMethod.createVariable(Object.class);
+            try {
+                Types.getTypeHandle(typeHandle, addMethod, resolution.type, tccl, typeCache);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalStateException(
+                        "Unable to construct the type handle for " + resolution.type + ": " + e.getMessage());
+            }
+
+            if (resolution.beanIdentifier != null) {
+                // snapshot.addBeans(type, qualifiers, identifiers)
+                ResultHandle qualifiersHandle = addMethod.newArray(Annotation.class, qualifierHandles.size());
+                for (int i = 0; i < qualifierHandles.size(); i++) {
+                    addMethod.writeArrayValue(qualifiersHandle, i, qualifierHandles.get(i));
+                }
+                ResultHandle identifiersHandle = addMethod.newArray(String.class, 1);
+                addMethod.writeArrayValue(identifiersHandle, 0, addMethod.load(resolution.beanIdentifier));
+                addMethod.invokeVirtualMethod(
+                        MethodDescriptor.ofMethod(ResolutionSnapshot.class, "addBeans", void.class,
+                                java.lang.reflect.Type.class, Annotation[].class, String[].class),
+                        resolutionSnapshotHandle, typeHandle, qualifiersHandle, identifiersHandle);
+            } else {
+                // snapshot.addEvent(type, qualifiers)
+                ResultHandle qualifiersHandle = addMethod.newInstance(MethodDescriptor.ofConstructor(HashSet.class));
+                for (ResultHandle qualifierHandle : qualifierHandles) {
+                    addMethod.invokeInterfaceMethod(MethodDescriptors.SET_ADD, qualifiersHandle, qualifierHandle);
+                }
+                addMethod.invokeVirtualMethod(
+                        MethodDescriptor.ofMethod(ResolutionSnapshot.class, "addEvent", void.class,
+                                java.lang.reflect.Type.class, Set.class),
+                        resolutionSnapshotHandle, typeHandle, qualifiersHandle);
+            }
+        }
+
+        private ResultHandle getQualifierHandle(AnnotationInstance qualifierAnnotation) {
+            BuiltinQualifier qualifier = BuiltinQualifier.of(qualifierAnnotation);
+            if (qualifier != null) {
+                // Use the literal instance for built-in qualifiers
+                return qualifier.getLiteralInstance(addMethod);
+            }
+            AnnotationInstanceKey key = new AnnotationInstanceKey(qualifierAnnotation);
+            ResultHandle sharedQualifier = sharedQualifers.get(key);
+            if (sharedQualifier == null) {
+                ClassInfo qualifierClass = beanDeployment.getQualifier(qualifierAnnotation.name());
+                if (qualifierClass == null) {
+                    return null;
+                }
+                sharedQualifier = annotationLiterals.create(addMethod, qualifierClass, qualifierAnnotation);
+                sharedQualifers.put(key, sharedQualifier);
+            }
+            return sharedQualifier;
+        }
+
+    }
+
+    /**
+     * A required type and qualifiers resolved to a single bean, or an event type and qualifiers if no bean identifier is
+     * set.
+     */
+    static final class Resolution {
+
+        static Resolution beans(org.jboss.jandex.Type type, Set<AnnotationInstance> qualifiers, BeanInfo bean) {
+            return new Resolution(type, qualifiers, bean.getIdentifier());
+        }
+
+        static Resolution event(org.jboss.jandex.Type type, Set<AnnotationInstance> qualifiers) {
+            return new Resolution(type, qualifiers, null);
+        }
+
+        final org.jboss.jandex.Type type;
+        final Set<AnnotationInstance> qualifiers;
+        final String beanIdentifier;
+        private final Set<AnnotationInstanceKey> qualifierKeys;
+
+        private Resolution(org.jboss.jandex.Type type, Set<AnnotationInstance> qualifiers, String beanIdentifier) {
+            this.type = type;
+            this.qualifiers = qualifiers;
+            this.beanIdentifier = beanIdentifier;
+            this.qualifierKeys = qualifiers.stream().map(AnnotationInstanceKey::new).collect(Collectors.toSet());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, qualifierKeys, beanIdentifier == null);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Resolution)) {
+                return false;
+            }
+            Resolution other = (Resolution) obj;
+            return type.equals(other.type) && qualifierKeys.equals(other.qualifierKeys)
+                    && (beanIdentifier == null) == (other.beanIdentifier == null);
+        }
+
+    }
+
     static class MapTypeCache implements Types.TypeCache {
 
         private ResultHandle mapHandle;
@@ -695,7 +986,7 @@ public class ComponentsProviderGenerator extends AbstractGenerator {
 
     }
 
-    static abstract class ComponentAdder<T extends InjectionTargetInfo> implements AutoCloseable {
+    static abstract class ComponentAdder<T> implements AutoCloseable {
 
         private static final int GROUP_LIMIT = 30;
         protected int group;
@@ -89,6 +89,7 @@ public class DecoratorGenerator extends BeanGenerator {
         ClassCreator decoratorCreator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
                 .interfaces(InjectableDecorator.class, Supplier.class)
                 .build();
+        MemberHandles memberHandles = new MemberHandles(decoratorCreator, privateMembers);
 
         // Generate the implementation class for an abstract decorator
         if (decorator.isAbstract()) {
@@ -120,7 +121,7 @@ public class DecoratorGenerator extends BeanGenerator {
 
         implementGetIdentifier(decorator, decoratorCreator);
         implementSupplierGet(decoratorCreator);
-        implementCreate(classOutput, decoratorCreator, decorator, providerType, baseName,
+        implementCreate(classOutput, decoratorCreator, memberHandles, decorator, providerType, baseName,
                 injectionPointToProviderField, Collections.emptyMap(), Collections.emptyMap(),
                 targetPackage, isApplicationClass);
         implementGet(decorator, decoratorCreator, providerType, baseName);
@@ -134,6 +135,7 @@ public class DecoratorGenerator extends BeanGenerator {
         implementGetDelegateQualifiers(decoratorCreator, delegateQualifiers);
         implementGetPriority(decoratorCreator, decorator);
 
+        memberHandles.close();
         decoratorCreator.close();
 
         return classOutput.getResources();
@@ -7,6 +7,7 @@ import io.quarkus.arc.DefaultBean;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableInstance;
 import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.KeepClientProxy;
 import io.quarkus.arc.NoClassInterceptors;
 import io.quarkus.arc.Unremovable;
 import io.quarkus.arc.VetoedProducer;
@@ -128,6 +129,7 @@ public final class DotNames {
     public static final DotName IDENTIFIED = create(Identified.class);
     public static final DotName INSTANCE_HANDLE = create(InstanceHandle.class);
     public static final DotName NO_CLASS_INTERCEPTORS = create(NoClassInterceptors.class);
+    public static final DotName KEEP_CLIENT_PROXY = create(KeepClientProxy.class);
     public static final DotName DEPRECATED = create(Deprecated.class);
     public static final DotName KOTLIN_METADATA_ANNOTATION = create("kotlin.Metadata");
 
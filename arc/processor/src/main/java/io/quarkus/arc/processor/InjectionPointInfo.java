@@ -90,6 +90,7 @@ public class InjectionPointInfo {
     private final int position;
     private final boolean isTransientReference;
     private final boolean isDelegate;
+    private volatile boolean proxyElided;
 
     InjectionPointInfo(Type requiredType, Set<AnnotationInstance> requiredQualifiers, AnnotationTarget target, int position,
             boolean isTransientReference, boolean isDelegate) {
@@ -120,6 +121,20 @@ public class InjectionPointInfo {
         return resolvedBean.get();
     }
 
+    /**
+     * Note that the result is only valid after the bean deployment was initialized.
+     *
+     * @return {@code true} if the contextual instance of the resolved bean is injected directly instead of a client proxy
+     * @see BeanProcessor.Builder#setProxyElision(boolean)
+     */
+    public boolean isProxyElided() {
+        return proxyElided;
+    }
+
+    void setProxyElided() {
+        this.proxyElided = true;
+    }
+
     public Optional<BeanInfo> getTargetBean() {
         return Optional.ofNullable(targetBean.get());
     }
@@ -95,6 +95,7 @@ public class InterceptorGenerator extends BeanGenerator {
         ClassCreator interceptorCreator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
                 .interfaces(InjectableInterceptor.class, Supplier.class)
                 .build();
+        MemberHandles memberHandles = new MemberHandles(interceptorCreator, privateMembers);
 
         // Fields
         FieldCreator beanTypes = interceptorCreator.getFieldCreator(FIELD_NAME_BEAN_TYPES, Set.class)
@@ -112,7 +113,7 @@ public class InterceptorGenerator extends BeanGenerator {
 
         implementGetIdentifier(interceptor, interceptorCreator);
         implementSupplierGet(interceptorCreator);
-        implementCreate(classOutput, interceptorCreator, interceptor, providerType, baseName,
+        implementCreate(classOutput, interceptorCreator, memberHandles, interceptor, providerType, baseName,
                 injectionPointToProviderField,
                 Collections.emptyMap(), Collections.emptyMap(),
                 targetPackage, isApplicationClass);
@@ -124,12 +125,14 @@ public class InterceptorGenerator extends BeanGenerator {
         // InjectableInterceptor methods
         implementGetInterceptorBindings(interceptorCreator, bindings.getFieldDescriptor());
         implementIntercepts(interceptorCreator, interceptor);
-        implementIntercept(interceptorCreator, interceptor, providerType, reflectionRegistration, isApplicationClass);
+        implementIntercept(interceptorCreator, memberHandles, interceptor, providerType, reflectionRegistration,
+                isApplicationClass);
         implementGetPriority(interceptorCreator, interceptor);
 
         implementEquals(interceptor, interceptorCreator);
         implementHashCode(interceptor, interceptorCreator);
 
+        memberHandles.close();
         interceptorCreator.close();
         return classOutput.getResources();
 
@@ -205,25 +208,26 @@ public class InterceptorGenerator extends BeanGenerator {
      *
      * @see InjectableInterceptor#intercept(InterceptionType, Object, javax.interceptor.InvocationContext)
      */
-    protected void implementIntercept(ClassCreator creator, InterceptorInfo interceptor, ProviderType providerType,
+    protected void implementIntercept(ClassCreator creator, MemberHandles memberHandles, InterceptorInfo interceptor,
+            ProviderType providerType,
             ReflectionRegistration reflectionRegistration, boolean isApplicationClass) {
         MethodCreator intercept = creator
                 .getMethodCreator("intercept", Object.class, InterceptionType.class, Object.class, InvocationContext.class)
                 .setModifiers(ACC_PUBLIC).addException(Exception.class);
 
-        addIntercept(intercept, interceptor.getAroundInvoke(), InterceptionType.AROUND_INVOKE, providerType,
-                reflectionRegistration, isApplicationClass);
-        addIntercept(intercept, interceptor.getPostConstruct(), InterceptionType.POST_CONSTRUCT, providerType,
+        addIntercept(intercept, memberHandles, interceptor.getAroundInvoke(), InterceptionType.AROUND_INVOKE, providerType,
                 reflectionRegistration, isApplicationClass);
-        addIntercept(intercept, interceptor.getPreDestroy(), InterceptionType.PRE_DESTROY, providerType,
+        addIntercept(intercept, memberHandles, interceptor.getPostConstruct(), InterceptionType.POST_CONSTRUCT, providerType,
                 reflectionRegistration, isApplicationClass);
-        addIntercept(intercept, interceptor.getAroundConstruct(), InterceptionType.AROUND_CONSTRUCT, providerType,
+        addIntercept(intercept, memberHandles, interceptor.getPreDestroy(), InterceptionType.PRE_DESTROY, providerType,
                 reflectionRegistration, isApplicationClass);
+        addIntercept(intercept, memberHandles, interceptor.getAroundConstruct(), InterceptionType.AROUND_CONSTRUCT,
+                providerType, reflectionRegistration, isApplicationClass);
         intercept.returnValue(intercept.loadNull());
     }
 
-    private void addIntercept(MethodCreator intercept, MethodInfo interceptorMethod, InterceptionType interceptionType,
-            ProviderType providerType,
+    private void addIntercept(MethodCreator intercept, MemberHandles memberHandles, MethodInfo interceptorMethod,
+            InterceptionType interceptionType, ProviderType providerType,
             ReflectionRegistration reflectionRegistration, boolean isApplicationClass) {
         if (interceptorMethod != null) {
             ResultHandle enumValue = intercept
@@ -251,17 +255,10 @@ public class InterceptorGenerator extends BeanGenerator {
                 privateMembers.add(isApplicationClass,
                         String.format("Interceptor method %s#%s()", interceptorMethod.declaringClass().name(),
                                 interceptorMethod.name()));
-                // Use reflection fallback
-                ResultHandle paramTypesArray = trueBranch.newArray(Class.class, trueBranch.load(1));
-                trueBranch.writeArrayValue(paramTypesArray, 0, trueBranch.loadClass(invocationContextClass));
-                ResultHandle argsArray = trueBranch.newArray(Object.class, trueBranch.load(1));
-                trueBranch.writeArrayValue(argsArray, 0, intercept.getMethodParam(2));
+                // Use the method handle fallback
                 reflectionRegistration.registerMethod(interceptorMethod);
-                ret = trueBranch.invokeStaticMethod(MethodDescriptors.REFLECTIONS_INVOKE_METHOD,
-                        trueBranch.loadClass(interceptorMethod.declaringClass()
-                                .name()
-                                .toString()),
-                        trueBranch.load(interceptorMethod.name()), paramTypesArray, intercept.getMethodParam(1), argsArray);
+                ret = memberHandles.invokeMethod(trueBranch, interceptorMethod, intercept.getMethodParam(1),
+                        intercept.getMethodParam(2));
             } else {
                 ret = trueBranch.invokeVirtualMethod(
                         MethodDescriptor.ofMethod(providerType.className(), interceptorMethod.name(), retType,
@@ -0,0 +1,207 @@
+package io.quarkus.arc.processor;
+
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_STATIC;
+import static org.objectweb.asm.Opcodes.ACC_SYNTHETIC;
+
+import io.quarkus.arc.impl.Reflections;
+import io.quarkus.arc.processor.BeanProcessor.PrivateMembersCollector;
+import io.quarkus.gizmo.BytecodeCreator;
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+
+/**
+ * Declares the {@link MethodHandle} constants a generated class needs to access members it cannot access directly, e.g.
+ * private members of a bean class.
+ * <p>
+ * Each handle is looked up once in the static initializer of the generated class and stored in a static final field so
+ * that the JIT compiler can inline the target member. {@link #close()} must be called before the class creator is closed.
+ */
+final class MemberHandles {
+
+    static final String FIELD_NAME_PREFIX = "arc$handle";
+
+    static final MethodDescriptor FIND_CONSTRUCTOR_HANDLE = MethodDescriptor.ofMethod(Reflections.class,
+            "findConstructorHandle", MethodHandle.class, Class.class, Class[].class);
+    static final MethodDescriptor FIND_METHOD_HANDLE = MethodDescriptor.ofMethod(Reflections.class, "findMethodHandle",
+            MethodHandle.class, Class.class, String.class, Class[].class);
+    static final MethodDescriptor FIND_FIELD_GETTER = MethodDescriptor.ofMethod(Reflections.class, "findFieldGetter",
+            MethodHandle.class, Class.class, String.class);
+    static final MethodDescriptor FIND_FIELD_SETTER = MethodDescriptor.ofMethod(Reflections.class, "findFieldSetter",
+            MethodHandle.class, Class.class, String.class);
+    static final MethodDescriptor NEW_INSTANCE = MethodDescriptor.ofMethod(Reflections.class, "newInstance",
+            Object.class, MethodHandle.class, Object[].class);
+    static final MethodDescriptor INVOKE_METHOD = MethodDescriptor.ofMethod(Reflections.class, "invokeMethod",
+            Object.class, MethodHandle.class, Object.class, Object[].class);
+    static final MethodDescriptor READ_FIELD = MethodDescriptor.ofMethod(Reflections.class, "readField",
+            Object.class, MethodHandle.class, Object.class);
+    static final MethodDescriptor WRITE_FIELD = MethodDescriptor.ofMethod(Reflections.class, "writeField",
+            void.class, MethodHandle.class, Object.class, Object.class);
+
+    private final ClassCreator classCreator;
+    private final PrivateMembersCollector privateMembers;
+    private final Map<String, FieldDescriptor> handles;
+    private final List<String> descriptions;
+    private MethodCreator staticInit;
+
+    /**
+     *
+     * @param classCreator
+     * @param privateMembers the collector used for the build-time report, may be {@code null}
+     */
+    MemberHandles(ClassCreator classCreator, PrivateMembersCollector privateMembers) {
+        this.classCreator = classCreator;
+        this.privateMembers = privateMembers;
+        this.handles = new HashMap<>();
+        this.descriptions = new ArrayList<>();
+    }
+
+    /**
+     * Invokes the given constructor. The arguments are passed in an {@code Object[]}.
+     *
+     * @param bytecode
+     * @param constructor
+     * @param args
+     * @return the new instance
+     */
+    ResultHandle newInstance(BytecodeCreator bytecode, MethodInfo constructor, ResultHandle... args) {
+        FieldDescriptor handle = handle(key("c", constructor), constructor.toString(),
+                init -> init.invokeStaticMethod(FIND_CONSTRUCTOR_HANDLE,
+                        init.loadClass(constructor.declaringClass().name().toString()),
+                        parameterTypes(init, constructor)));
+        return bytecode.invokeStaticMethod(NEW_INSTANCE, bytecode.readStaticField(handle), argsArray(bytecode, args));
+    }
+
+    /**
+     * Invokes the given method. The arguments are passed in an {@code Object[]}.
+     *
+     * @param bytecode
+     * @param method
+     * @param instance the instance, ignored for static methods
+     * @param args
+     * @return the return value or {@code null} for void methods
+     */
+    ResultHandle invokeMethod(BytecodeCreator bytecode, MethodInfo method, ResultHandle instance, ResultHandle... args) {
+        FieldDescriptor handle = handle(key("m", method), method.declaringClass().name() + "#" + method.name() + "()",
+                init -> init.invokeStaticMethod(FIND_METHOD_HANDLE,
+                        init.loadClass(method.declaringClass().name().toString()), init.load(method.name()),
+                        parameterTypes(init, method)));
+        return bytecode.invokeStaticMethod(INVOKE_METHOD, bytecode.readStaticField(handle), instance,
+                argsArray(bytecode, args));
+    }
+
+    /**
+     *
+     * @param bytecode
+     * @param field
+     * @param instance the instance, ignored for static fields
+     * @return the field value
+     */
+    ResultHandle readField(BytecodeCreator bytecode, FieldInfo field, ResultHandle instance) {
+        FieldDescriptor handle = handle(key("g", field), field.declaringClass().name() + "#" + field.name(),
+                init -> init.invokeStaticMethod(FIND_FIELD_GETTER,
+                        init.loadClass(field.declaringClass().name().toString()), init.load(field.name())));
+        return bytecode.invokeStaticMethod(READ_FIELD, bytecode.readStaticField(handle), instance);
+    }
+
+    /**
+     *
+     * @param bytecode
+     * @param field
+     * @param instance the instance, ignored for static fields
+     * @param value
+     */
+    void writeField(BytecodeCreator bytecode, FieldInfo field, ResultHandle instance, ResultHandle value) {
+        FieldDescriptor handle = handle(key("s", field), field.declaringClass().name() + "#" + field.name(),
+                init -> init.invokeStaticMethod(FIND_FIELD_SETTER,
+                        init.loadClass(field.declaringClass().name().toString()), init.load(field.name())));
+        bytecode.invokeStaticMethod(WRITE_FIELD, bytecode.readStaticField(handle), instance, value);
+    }
+
+    /**
+     * Completes the static initializer, if needed, and reports the members accessed via method handles.
+     */
+    void close() {
+        if (staticInit != null) {
+            staticInit.returnValue(null);
+            if (privateMembers != null) {
+                privateMembers.addHandles(classCreator.getClassName(), descriptions);
+            }
+        }
+    }
+
+    private FieldDescriptor handle(String key, String description, Function<BytecodeCreator, ResultHandle> lookup) {
+        FieldDescriptor field = handles.get(key);
+        if (field != null) {
+            return field;
+        }
+        if (staticInit == null) {
+            staticInit = classCreator.getMethodCreator(Methods.CLINIT, void.class).setModifiers(ACC_STATIC);
+        }
+        // Package-private so that the handles can be read from the functions generated for the class
+        field = classCreator.getFieldCreator(FIELD_NAME_PREFIX + handles.size(), MethodHandle.class)
+                .setModifiers(ACC_STATIC | ACC_FINAL | ACC_SYNTHETIC).getFieldDescriptor();
+        staticInit.writeStaticField(field, lookup.apply(staticInit));
+        handles.put(key, field);
+        descriptions.add(description);
+        return field;
+    }
+
+    private static ResultHandle parameterTypes(BytecodeCreator bytecode, MethodInfo method) {
+        ResultHandle paramTypesArray = bytecode.newArray(Class.class, bytecode.load(method.parametersCount()));
+        for (int i = 0; i < method.parametersCount(); i++) {
+            Type paramType = method.parameterType(i);
+            ResultHandle paramClass;
+            if (paramType.kind() == Type.Kind.PRIMITIVE) {
+                // int.class is Integer.TYPE
+                paramClass = bytecode.readStaticField(
+                        FieldDescriptor.of(Types.box(paramType).name().toString(), "TYPE", Class.class));
+            } else {
+                paramClass = bytecode.loadClass(rawTypeName(paramType));
+            }
+            bytecode.writeArrayValue(paramTypesArray, i, paramClass);
+        }
+        return paramTypesArray;
+    }
+
+    private static String rawTypeName(Type type) {
+        switch (type.kind()) {
+            case TYPE_VARIABLE:
+                List<Type> bounds = type.asTypeVariable().bounds();
+                return bounds.isEmpty() ? Object.class.getName() : rawTypeName(bounds.get(0));
+            case UNRESOLVED_TYPE_VARIABLE:
+                return Object.class.getName();
+            default:
+                return type.name().toString();
+        }
+    }
+
+    private static ResultHandle argsArray(BytecodeCreator bytecode, ResultHandle[] args) {
+        ResultHandle argsArray = bytecode.newArray(Object.class, bytecode.load(args.length));
+        for (int i = 0; i < args.length; i++) {
+            bytecode.writeArrayValue(argsArray, i, args[i]);
+        }
+        return argsArray;
+    }
+
+    private static String key(String kind, MethodInfo method) {
+        return kind + method.declaringClass().name() + "#" + method.name() + method.parameterTypes();
+    }
+
+    private static String key(String kind, FieldInfo field) {
+        return kind + field.declaringClass().name() + "#" + field.name();
+    }
+
+}
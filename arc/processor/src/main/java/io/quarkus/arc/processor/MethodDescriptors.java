@@ -9,10 +9,13 @@ import io.quarkus.arc.InjectableBean.Kind;
 import io.quarkus.arc.InjectableContext;
 import io.quarkus.arc.InjectableInterceptor;
 import io.quarkus.arc.InjectableReferenceProvider;
+import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.impl.ClientProxies;
+import io.quarkus.arc.impl.ContextInstanceHandleImpl;
 import io.quarkus.arc.impl.CreationalContextImpl;
 import io.quarkus.arc.impl.DecoratorDelegateProvider;
 import io.quarkus.arc.impl.FixedValueSupplier;
+import io.quarkus.arc.impl.FusedAroundInvokeInvocationContext;
 import io.quarkus.arc.impl.InjectableReferenceProviders;
 import io.quarkus.arc.impl.Instances;
 import io.quarkus.arc.impl.InterceptedMethodMetadata;
@@ -39,6 +42,7 @@ import javax.enterprise.context.spi.Contextual;
 import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.inject.spi.EventContext;
 import javax.enterprise.inject.spi.EventMetadata;
+import javax.enterprise.inject.spi.InterceptionType;
 import javax.interceptor.InvocationContext;
 
 /**
@@ -163,6 +167,24 @@ public final class MethodDescriptors {
             Object.class, Object.class, Method.class, Function.class, Object[].class, List.class,
             Set.class);
 
+    public static final MethodDescriptor INVOCATION_CONTEXTS_IS_FUSED_CHAINS_ENABLED = MethodDescriptor.ofMethod(
+            InvocationContexts.class,
+            "isFusedChainsEnabled",
+            boolean.class);
+
+    public static final MethodDescriptor FUSED_INVOCATION_CONTEXT_CONSTRUCTOR = MethodDescriptor.ofConstructor(
+            FusedAroundInvokeInvocationContext.class,
+            Object.class, Method.class, Object[].class, Set.class);
+
+    public static final MethodDescriptor FUSED_INVOCATION_CONTEXT_NEXT_CONSTRUCTOR = MethodDescriptor.ofConstructor(
+            FusedAroundInvokeInvocationContext.class,
+            FusedAroundInvokeInvocationContext.class);
+
+    public static final MethodDescriptor INJECTABLE_INTERCEPTOR_INTERCEPT = MethodDescriptor.ofMethod(
+            InjectableInterceptor.class,
+            "intercept",
+            Object.class, InterceptionType.class, Object.class, InvocationContext.class);
+
     public static final MethodDescriptor INVOCATION_CONTEXTS_AROUND_CONSTRUCT = MethodDescriptor.ofMethod(
             InvocationContexts.class,
             "aroundConstruct",
@@ -245,8 +267,14 @@ public final class MethodDescriptors {
     public static final MethodDescriptor REMOVED_BEAN_IMPL = MethodDescriptor.ofConstructor(RemovedBeanImpl.class, Kind.class,
             String.class, Set.class, Set.class);
 
-    public static final MethodDescriptor CLIENT_PROXIES_GET_APP_SCOPED_DELEGATE = MethodDescriptor.ofMethod(ClientProxies.class,
-            "getApplicationScopedDelegate", Object.class, InjectableContext.class, InjectableBean.class);
+    public static final MethodDescriptor CLIENT_PROXIES_GET_APP_SCOPED_HANDLE = MethodDescriptor.ofMethod(ClientProxies.class,
+            "getApplicationScopedHandle", ContextInstanceHandleImpl.class, InjectableContext.class, InjectableBean.class);
+
+    public static final MethodDescriptor CONTEXT_INSTANCE_HANDLE_IS_VALID = MethodDescriptor
+            .ofMethod(ContextInstanceHandleImpl.class, "isValid", boolean.class);
+
+    public static final MethodDescriptor INSTANCE_HANDLE_GET = MethodDescriptor.ofMethod(InstanceHandle.class, "get",
+            Object.class);
 
     public static final MethodDescriptor CLIENT_PROXIES_GET_DELEGATE = MethodDescriptor.ofMethod(ClientProxies.class,
             "getDelegate", Object.class, InjectableBean.class);
@@ -193,6 +193,7 @@ public class ObserverGenerator extends AbstractGenerator {
         ClassCreator observerCreator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
                 .interfaces(interfaces.toArray((new Class[0])))
                 .build();
+        MemberHandles memberHandles = new MemberHandles(observerCreator, privateMembers);
 
         // Fields
         FieldCreator observedType = observerCreator.getFieldCreator(OBSERVERVED_TYPE, Type.class)
@@ -222,7 +223,8 @@ public class ObserverGenerator extends AbstractGenerator {
         }
 
         implementGetBeanClass(observerCreator, observer.getBeanClass());
-        implementNotify(observer, observerCreator, injectionPointToProviderField, reflectionRegistration, isApplicationClass);
+        implementNotify(observer, observerCreator, memberHandles, injectionPointToProviderField, reflectionRegistration,
+                isApplicationClass);
         if (observer.getPriority() != ObserverMethod.DEFAULT_PRIORITY) {
             implementGetPriority(observerCreator, observer);
         }
@@ -237,6 +239,7 @@ public class ObserverGenerator extends AbstractGenerator {
 
         implementToString(observerCreator, observer);
 
+        memberHandles.close();
         observerCreator.close();
         return classOutput.getResources();
     }
@@ -322,7 +325,7 @@ public class ObserverGenerator extends AbstractGenerator {
         toString.returnValue(toString.load(val.toString()));
     }
 
-    protected void implementNotify(ObserverInfo observer, ClassCreator observerCreator,
+    protected void implementNotify(ObserverInfo observer, ClassCreator observerCreator, MemberHandles memberHandles,
             Map<InjectionPointInfo, String> injectionPointToProviderField,
             ReflectionRegistration reflectionRegistration, boolean isApplicationClass) {
 
@@ -442,22 +445,13 @@ public class ObserverGenerator extends AbstractGenerator {
         }
 
         if (Modifier.isPrivate(observer.getObserverMethod().flags())) {
-            // Reflection fallback
+            // Method handle fallback
             privateMembers.add(isApplicationClass,
                     String.format("Observer method %s#%s()", observer.getObserverMethod().declaringClass().name(),
                             observer.getObserverMethod().name()));
-            ResultHandle paramTypesArray = notify.newArray(Class.class, notify.load(referenceHandles.length));
-            ResultHandle argsArray = notify.newArray(Object.class, notify.load(referenceHandles.length));
-            for (int i = 0; i < referenceHandles.length; i++) {
-                notify.writeArrayValue(paramTypesArray, i,
-                        notify.loadClass(observer.getObserverMethod().parameterType(i).name().toString()));
-                notify.writeArrayValue(argsArray, i, referenceHandles[i]);
-            }
             reflectionRegistration.registerMethod(observer.getObserverMethod());
-            notify.invokeStaticMethod(MethodDescriptors.REFLECTIONS_INVOKE_METHOD,
-                    notify.loadClass(observer.getObserverMethod().declaringClass().name().toString()),
-                    notify.load(observer.getObserverMethod().name()),
-                    paramTypesArray, declaringProviderInstanceHandle, argsArray);
+            memberHandles.invokeMethod(notify, observer.getObserverMethod(), declaringProviderInstanceHandle,
+                    referenceHandles);
         } else {
             if (isStatic) {
                 notify.invokeStaticMethod(MethodDescriptor.of(observer.getObserverMethod()), referenceHandles);
@@ -4,10 +4,12 @@ import static io.quarkus.arc.processor.IndexClassLookupUtils.getClassByName;
 import static org.objectweb.asm.Opcodes.ACC_FINAL;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
 
+import io.quarkus.arc.ArcInvocationContext;
 import io.quarkus.arc.ArcUndeclaredThrowableException;
 import io.quarkus.arc.InjectableDecorator;
 import io.quarkus.arc.InjectableInterceptor;
 import io.quarkus.arc.Subclass;
+import io.quarkus.arc.impl.FusedAroundInvokeInvocationContext;
 import io.quarkus.arc.impl.InterceptedMethodMetadata;
 import io.quarkus.arc.processor.BeanInfo.DecorationInfo;
 import io.quarkus.arc.processor.BeanInfo.InterceptionInfo;
@@ -67,10 +69,13 @@ public class SubclassGenerator extends AbstractGenerator {
     private static final DotName JAVA_LANG_RUNTIME_EXCEPTION = DotNames.create(RuntimeException.class.getName());
 
     static final String SUBCLASS_SUFFIX = "_Subclass";
+    static final String CHAIN_SUFFIX = "_Chain";
     static final String DESTROY_METHOD_NAME = "arc$destroy";
 
     protected static final String FIELD_NAME_PREDESTROYS = "arc$preDestroys";
     protected static final String FIELD_NAME_CONSTRUCTED = "arc$constructed";
+    protected static final String FIELD_NAME_INTERCEPTOR = "arc$interceptor";
+    protected static final String FIELD_NAME_INTERCEPTOR_PROVIDER = "arc$interceptorProvider";
     protected static final FieldDescriptor FIELD_METADATA_METHOD = FieldDescriptor.of(InterceptedMethodMetadata.class, "method",
             Method.class);
     protected static final FieldDescriptor FIELD_METADATA_CHAIN = FieldDescriptor.of(InterceptedMethodMetadata.class, "chain",
@@ -80,6 +85,7 @@ public class SubclassGenerator extends AbstractGenerator {
 
     private final Predicate<DotName> applicationClassPredicate;
     private final Set<String> existingClasses;
+    private final boolean fusedChains;
 
     static String generatedName(DotName providerTypeName, String baseName) {
         String packageName = DotNames.internalPackageNameWithTrailingSlash(providerTypeName);
@@ -90,11 +96,12 @@ public class SubclassGenerator extends AbstractGenerator {
 
     public SubclassGenerator(AnnotationLiteralProcessor annotationLiterals, Predicate<DotName> applicationClassPredicate,
             boolean generateSources, ReflectionRegistration reflectionRegistration,
-            Set<String> existingClasses) {
+            Set<String> existingClasses, boolean fusedChains) {
         super(generateSources, reflectionRegistration);
         this.applicationClassPredicate = applicationClassPredicate;
         this.annotationLiterals = annotationLiterals;
         this.existingClasses = existingClasses;
+        this.fusedChains = fusedChains;
     }
 
     Collection<Resource> generate(BeanInfo bean, String beanClassName) {
@@ -181,6 +188,25 @@ public class SubclassGenerator extends AbstractGenerator {
             interceptorInstanceToResultHandle.put(interceptorInfo.getIdentifier(), interceptorInstance);
         }
 
+        // Fused interceptor chains read the interceptor instances and providers from package-private fields
+        Map<String, FieldDescriptor> interceptorInstanceFields = new HashMap<>();
+        Map<String, FieldDescriptor> interceptorProviderFields = new HashMap<>();
+        if (fusedChains) {
+            for (int j = 0; j < boundInterceptors.size(); j++) {
+                String identifier = boundInterceptors.get(j).getIdentifier();
+                FieldDescriptor instanceField = subclass.getFieldCreator(FIELD_NAME_INTERCEPTOR + j, Object.class)
+                        .setModifiers(ACC_FINAL).getFieldDescriptor();
+                constructor.writeInstanceField(instanceField, constructor.getThis(),
+                        interceptorInstanceToResultHandle.get(identifier));
+                interceptorInstanceFields.put(identifier, instanceField);
+                FieldDescriptor providerField = subclass
+                        .getFieldCreator(FIELD_NAME_INTERCEPTOR_PROVIDER + j, InjectableInterceptor.class)
+                        .setModifiers(ACC_FINAL).getFieldDescriptor();
+                constructor.writeInstanceField(providerField, constructor.getThis(), interceptorToResultHandle.get(identifier));
+                interceptorProviderFields.put(identifier, providerField);
+            }
+        }
+
         Map<MethodDescriptor, MethodDescriptor> forwardingMethods = new HashMap<>();
         List<MethodInfo> interceptedOrDecoratedMethods = bean.getInterceptedOrDecoratedMethods();
         int methodIdx = 1;
@@ -303,9 +329,17 @@ public class SubclassGenerator extends AbstractGenerator {
             if (interception != null) {
                 // Each intercepted method has a corresponding InterceptedMethodMetadata field
                 FieldCreator metadataField = subclass
-                        .getFieldCreator("arc$" + methodIdx++, InterceptedMethodMetadata.class.getName())
+                        .getFieldCreator("arc$" + methodIdx, InterceptedMethodMetadata.class.getName())
                         .setModifiers(ACC_PRIVATE | ACC_FINAL);
 
+                // Decorated methods always use the generic interceptor chain
+                String chainClassName = null;
+                if (fusedChains && decoration == null) {
+                    chainClassName = createFusedChain(classOutput, subclass, method, methodIdx, interception.interceptors,
+                            interceptorInstanceFields, interceptorProviderFields, forwardDescriptor);
+                }
+                methodIdx++;
+
                 // 1. Interceptor chain
                 ResultHandle chainHandle = interceptorChains.computeIfAbsent(interception.interceptors, interceptorChainsFun);
 
@@ -344,7 +378,7 @@ public class SubclassGenerator extends AbstractGenerator {
                 // Finally create the intercepted method
                 createInterceptedMethod(classOutput, bean, method, subclass, providerTypeName,
                         metadataField.getFieldDescriptor(), constructedField.getFieldDescriptor(), forwardDescriptor,
-                        decoration != null ? decoration.decorators.get(0) : null);
+                        decoration != null ? decoration.decorators.get(0) : null, chainClassName);
             } else {
                 // Only decorators are applied
                 MethodCreator decoratedMethod = subclass.getMethodCreator(methodDescriptor);
@@ -661,7 +695,7 @@ public class SubclassGenerator extends AbstractGenerator {
 
     private void createInterceptedMethod(ClassOutput classOutput, BeanInfo bean, MethodInfo method, ClassCreator subclass,
             String providerTypeName, FieldDescriptor metadataField, FieldDescriptor constructedField,
-            MethodDescriptor forwardMethod, DecoratorInfo decorator) {
+            MethodDescriptor forwardMethod, DecoratorInfo decorator, String chainClassName) {
 
         MethodDescriptor originalMethodDescriptor = MethodDescriptor.of(method);
         MethodCreator interceptedMethod = subclass.getMethodCreator(originalMethodDescriptor);
@@ -778,8 +812,22 @@ public class SubclassGenerator extends AbstractGenerator {
             catchOtherExceptions.throwException(ArcUndeclaredThrowableException.class, "Error invoking subclass method",
                     catchOtherExceptions.getCaughtException());
         }
-        // InvocationContexts.performAroundInvoke(...)
         ResultHandle methodMetadataHandle = tryCatch.readInstanceField(metadataField, tryCatch.getThis());
+        if (chainClassName != null) {
+            // if (InvocationContexts.isFusedChainsEnabled())
+            //     return new Foo_Subclass_Chain1_0(this, method, params, bindings).proceed();
+            BytecodeCreator fused = tryCatch
+                    .ifTrue(tryCatch.invokeStaticMethod(MethodDescriptors.INVOCATION_CONTEXTS_IS_FUSED_CHAINS_ENABLED))
+                    .trueBranch();
+            ResultHandle chainHandle = fused.newInstance(
+                    MethodDescriptor.ofConstructor(chainClassName, Object.class, Method.class, Object[].class, Set.class),
+                    fused.getThis(), fused.readInstanceField(FIELD_METADATA_METHOD, methodMetadataHandle), paramsHandle,
+                    fused.readInstanceField(FIELD_METADATA_BINDINGS, methodMetadataHandle));
+            fused.returnValue(fused.invokeVirtualMethod(MethodDescriptor.ofMethod(chainClassName, "proceed", Object.class),
+                    chainHandle));
+        }
+
+        // InvocationContexts.performAroundInvoke(...)
         ResultHandle ret = tryCatch.invokeStaticMethod(MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE,
                 tryCatch.getThis(),
                 tryCatch.readInstanceField(FIELD_METADATA_METHOD, methodMetadataHandle), func.getInstance(), paramsHandle,
@@ -788,6 +836,132 @@ public class SubclassGenerator extends AbstractGenerator {
         tryCatch.returnValue(ret);
     }
 
+    /**
+     * Foo_Subclass_Chain1_0 ... Foo_Subclass_Chain1_N extend FusedAroundInvokeInvocationContext
+     * <p>
+     * The class for position {@code i} invokes the {@link javax.interceptor.AroundInvoke} method of the interceptor at the
+     * given position and passes a new instance of the class for the next position. The class for the last position invokes
+     * the intercepted method. A separate class is used for each position so that there is no recursive
+     * {@link InvocationContext#proceed()} call that would stop the JIT compiler from inlining the whole chain.
+     * <p>
+     * The {@link javax.interceptor.AroundInvoke} method of an interceptor is invoked directly unless it is not accessible from
+     * the generated class, in which case {@link InjectableInterceptor#intercept(InterceptionType, Object, InvocationContext)}
+     * is used instead.
+     *
+     * @return the name of the class for the first position
+     */
+    private String createFusedChain(ClassOutput classOutput, ClassCreator subclass, MethodInfo method, int methodIdx,
+            List<InterceptorInfo> interceptors, Map<String, FieldDescriptor> interceptorInstanceFields,
+            Map<String, FieldDescriptor> interceptorProviderFields, MethodDescriptor forwardMethod) {
+        String chainBaseName = subclass.getClassName() + CHAIN_SUFFIX + methodIdx + UNDERSCORE;
+        String packageName = DotNames.packageName(DotName.createSimple(subclass.getClassName().replace('/', '.')));
+
+        for (int position = 0; position <= interceptors.size(); position++) {
+            String chainClassName = chainBaseName + position;
+            ClassCreator chain = ClassCreator.builder().classOutput(classOutput).className(chainClassName)
+                    .superClass(FusedAroundInvokeInvocationContext.class).setFinal(true)
+                    .build();
+
+            MethodCreator constructor;
+            if (position == 0) {
+                constructor = chain.getMethodCreator(Methods.INIT, "V", Object.class, Method.class, Object[].class,
+                        Set.class);
+                constructor.invokeSpecialMethod(MethodDescriptors.FUSED_INVOCATION_CONTEXT_CONSTRUCTOR, constructor.getThis(),
+                        constructor.getMethodParam(0), constructor.getMethodParam(1), constructor.getMethodParam(2),
+                        constructor.getMethodParam(3));
+            } else {
+                constructor = chain.getMethodCreator(Methods.INIT, "V", FusedAroundInvokeInvocationContext.class);
+                constructor.invokeSpecialMethod(MethodDescriptors.FUSED_INVOCATION_CONTEXT_NEXT_CONSTRUCTOR,
+                        constructor.getThis(), constructor.getMethodParam(0));
+            }
+            constructor.returnValue(null);
+
+            MethodCreator proceed = chain.getMethodCreator("proceed", Object.class).addException(Exception.class);
+            if (position < interceptors.size()) {
+                ResultHandle target = proceed.checkCast(
+                        proceed.invokeVirtualMethod(MethodDescriptor.ofMethod(chainClassName, "getTarget", Object.class),
+                                proceed.getThis()),
+                        subclass.getClassName());
+                InterceptorInfo interceptor = interceptors.get(position);
+                ResultHandle interceptorInstance = proceed
+                        .readInstanceField(interceptorInstanceFields.get(interceptor.getIdentifier()), target);
+                // new Foo_Subclass_Chain1_1(this)
+                ResultHandle next = proceed.newInstance(MethodDescriptor.ofConstructor(chainBaseName + (position + 1),
+                        FusedAroundInvokeInvocationContext.class), proceed.getThis());
+                // The context data may be created by the rest of the chain
+                MethodDescriptor joinContextData = MethodDescriptor.ofMethod(chainClassName, "joinContextData", void.class,
+                        FusedAroundInvokeInvocationContext.class);
+                MethodInfo aroundInvoke = interceptor.getAroundInvoke();
+                ResultHandle ret;
+                if (isAccessibleFrom(interceptor, aroundInvoke, packageName)) {
+                    // Check if interceptor method uses InvocationContext or ArcInvocationContext
+                    Class<?> invocationContextClass;
+                    if (aroundInvoke.parameterType(0).name().equals(DotNames.INVOCATION_CONTEXT)) {
+                        invocationContextClass = InvocationContext.class;
+                    } else {
+                        invocationContextClass = ArcInvocationContext.class;
+                    }
+                    String interceptorClass = interceptor.getBeanClass().toString();
+                    ret = proceed.invokeVirtualMethod(
+                            MethodDescriptor.ofMethod(interceptorClass, aroundInvoke.name(), Object.class,
+                                    invocationContextClass),
+                            proceed.checkCast(interceptorInstance, interceptorClass), next);
+                } else {
+                    // InjectableInterceptor.intercept(InterceptionType.AROUND_INVOKE, interceptorInstance, next)
+                    ResultHandle provider = proceed
+                            .readInstanceField(interceptorProviderFields.get(interceptor.getIdentifier()), target);
+                    ResultHandle aroundInvokeType = proceed.readStaticField(FieldDescriptor.of(InterceptionType.class,
+                            InterceptionType.AROUND_INVOKE.name(), InterceptionType.class));
+                    ret = proceed.invokeInterfaceMethod(MethodDescriptors.INJECTABLE_INTERCEPTOR_INTERCEPT, provider,
+                            aroundInvokeType, interceptorInstance, next);
+                }
+                proceed.invokeVirtualMethod(joinContextData, proceed.getThis(), next);
+                proceed.returnValue(ret);
+            } else {
+                // Finally invoke the intercepted method - see FusedAroundInvokeInvocationContext#proceedTarget()
+                proceed.returnValue(proceed.invokeVirtualMethod(
+                        MethodDescriptor.ofMethod(chainClassName, "proceedTarget", Object.class), proceed.getThis()));
+            }
+
+            // The method is abstract, i.e. it's implemented for each position although only the last one invokes it
+            // super.foo((java.lang.String)getParameters()[0])
+            MethodCreator invokeTarget = chain.getMethodCreator("invokeTarget", Object.class)
+                    .setModifiers(Modifier.PROTECTED).addException(Exception.class);
+            ResultHandle target = invokeTarget.checkCast(
+                    invokeTarget.invokeVirtualMethod(MethodDescriptor.ofMethod(chainClassName, "getTarget", Object.class),
+                            invokeTarget.getThis()),
+                    subclass.getClassName());
+            List<Type> parameters = method.parameterTypes();
+            ResultHandle[] superParamHandles = new ResultHandle[parameters.size()];
+            if (!parameters.isEmpty()) {
+                ResultHandle paramsHandle = invokeTarget.invokeVirtualMethod(
+                        MethodDescriptor.ofMethod(chainClassName, "getParameters", Object[].class),
+                        invokeTarget.getThis());
+                // autoboxing is handled inside Gizmo
+                for (int i = 0; i < superParamHandles.length; i++) {
+                    superParamHandles[i] = invokeTarget.readArrayValue(paramsHandle, i);
+                }
+            }
+            ResultHandle superResult = invokeTarget.invokeVirtualMethod(forwardMethod, target, superParamHandles);
+            invokeTarget.returnValue(superResult != null ? superResult : invokeTarget.loadNull());
+            chain.close();
+        }
+        return chainBaseName + 0;
+    }
+
+    private static boolean isAccessibleFrom(InterceptorInfo interceptor, MethodInfo aroundInvoke, String packageName) {
+        if (Modifier.isPrivate(aroundInvoke.flags())) {
+            return false;
+        }
+        ClassInfo interceptorClass = interceptor.getTarget().get().asClass();
+        if (!Modifier.isPublic(interceptorClass.flags())
+                && !DotNames.packageName(interceptorClass.name()).equals(packageName)) {
+            return false;
+        }
+        return Modifier.isPublic(aroundInvoke.flags())
+                || DotNames.packageName(aroundInvoke.declaringClass().name()).equals(packageName);
+    }
+
     /**
      *
      * @param classOutput
@@ -0,0 +1,60 @@
+package io.quarkus.arc.processor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import io.quarkus.arc.processor.ResourceOutput.Resource;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BatchedResourceOutputTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setup() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testAllResourcesWritten() throws Exception {
+        Set<String> written = ConcurrentHashMap.newKeySet();
+        BatchedResourceOutput output = new BatchedResourceOutput(resource -> written.add(resource.getName()), executor, 8);
+        for (int i = 0; i < 100; i++) {
+            output.writeResource(resource("com/foo/Bean" + i));
+        }
+        output.await();
+        assertEquals(100, written.size());
+        // The last batch is flushed on each await
+        output.writeResource(resource("com/foo/Last"));
+        output.await();
+        assertEquals(101, written.size());
+    }
+
+    @Test
+    public void testFailurePropagated() throws Exception {
+        IOException failure = new IOException("Disk full");
+        BatchedResourceOutput output = new BatchedResourceOutput(resource -> {
+            throw failure;
+        }, executor);
+        output.writeResource(resource("com/foo/Bean"));
+        assertSame(failure, assertThrows(IOException.class, output::await));
+    }
+
+    private static Resource resource(String name) {
+        return ResourceImpl.javaClass(name, new byte[0], null, true, null);
+    }
+
+}
@@ -0,0 +1,141 @@
+package io.quarkus.arc.processor;
+
+import static io.quarkus.arc.processor.Basics.index;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.inject.spi.DeploymentException;
+import javax.inject.Inject;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class BeanDeploymentInitTest {
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    public void setup() {
+        executor = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testParallelInitResolvesSameBeans() throws IOException {
+        Index index = index(Alpha.class, Bravo.class, Charlie.class, Object.class);
+        Map<String, List<String>> serial = resolvedBeans(init(index, null));
+        Map<String, List<String>> parallel = resolvedBeans(init(index, executor));
+        assertEquals(3, serial.size());
+        assertEquals(serial, parallel);
+    }
+
+    @Test
+    public void testParallelInitReportsErrorsInOrder() throws IOException {
+        Index index = index(Alpha.class, Bravo.class, Charlie.class, Delta.class, Echo.class, Missing.class,
+                Object.class);
+        List<String> serial = errors(index, null);
+        List<String> parallel = errors(index, executor);
+        assertEquals(2, serial.size());
+        assertEquals(serial, parallel);
+    }
+
+    private static BeanDeployment init(Index index, ExecutorService executor) {
+        BeanProcessor processor = BeanProcessor.builder()
+                .setBeanArchiveIndex(BeanArchives.buildBeanArchiveIndex(BeanDeploymentInitTest.class.getClassLoader(),
+                        new ConcurrentHashMap<>(), index))
+                .build();
+        processor.registerCustomContexts();
+        processor.registerScopes();
+        processor.registerBeans();
+        processor.getBeanDeployment().initBeanByTypeMap();
+        processor.registerSyntheticObservers();
+        processor.initialize(transformer -> {
+            throw new UnsupportedOperationException();
+        }, Collections.emptyList(), executor);
+        return processor.getBeanDeployment();
+    }
+
+    private static List<String> errors(Index index, ExecutorService executor) {
+        DeploymentException e = assertThrows(DeploymentException.class, () -> init(index, executor));
+        return Arrays.stream(e.getSuppressed()).map(Throwable::getMessage).collect(Collectors.toList());
+    }
+
+    private static Map<String, List<String>> resolvedBeans(BeanDeployment deployment) {
+        Map<String, List<String>> resolved = new TreeMap<>();
+        for (BeanInfo bean : deployment.getBeans()) {
+            if (!bean.getBeanClass().toString().startsWith(BeanDeploymentInitTest.class.getName())) {
+                // Built-in beans
+                continue;
+            }
+            resolved.put(bean.getBeanClass().toString(), bean.getAllInjectionPoints().stream()
+                    .map(injectionPoint -> injectionPoint.getResolvedBean().getIdentifier())
+                    .collect(Collectors.toList()));
+        }
+        return resolved;
+    }
+
+    @Dependent
+    static class Alpha {
+
+    }
+
+    @Dependent
+    static class Bravo {
+
+        @Inject
+        Alpha alpha;
+
+    }
+
+    @ApplicationScoped
+    static class Charlie {
+
+        @Inject
+        Alpha alpha;
+
+        @Inject
+        Bravo bravo;
+
+    }
+
+    @ApplicationScoped
+    static class Delta {
+
+        @Inject
+        Missing missing;
+
+    }
+
+    @Dependent
+    static class Echo {
+
+        @Inject
+        Bravo bravo;
+
+        @Inject
+        Missing missing;
+
+    }
+
+    interface Missing {
+
+    }
+
+}
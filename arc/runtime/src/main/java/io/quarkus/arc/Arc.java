@@ -40,6 +40,16 @@ public final class Arc {
         INSTANCE.get().setExecutor(executor);
     }
 
+    /**
+     *
+     * @param executor
+     * @param propagateRequestContext
+     * @see ContextCarrier
+     */
+    public static void setExecutor(ExecutorService executor, boolean propagateRequestContext) {
+        INSTANCE.get().setExecutor(executor, propagateRequestContext);
+    }
+
     /**
      *
      * @return the container instance
@@ -99,6 +99,21 @@ public interface ArcContainer {
      */
     <T> Supplier<InstanceHandle<T>> instanceSupplier(Class<T> type, Annotation... qualifiers);
 
+    /**
+     * Returns a supplier of instance handles for the given required type and qualifiers. The qualifiers are validated once
+     * and the typesafe resolution is performed when the supplier is used for the first time; the resolved bean is then
+     * reused. Unlike {@link #instance(Type, Annotation...)} this method is intended for callers that hold the supplier and
+     * obtain an instance repeatedly, e.g. once per request.
+     * <p>
+     * If no bean or more than one bean matches then the supplied handle is not available.
+     *
+     * @param type
+     * @param qualifiers
+     * @param <T>
+     * @return a supplier of instance handles
+     */
+    <T> Supplier<InstanceHandle<T>> instanceResolver(Type type, Annotation... qualifiers);
+
     /**
      *
      * @param bean
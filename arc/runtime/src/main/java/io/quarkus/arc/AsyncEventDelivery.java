@@ -0,0 +1,88 @@
+package io.quarkus.arc;
+
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.NotificationOptions;
+
+/**
+ * Options for asynchronous events fired via {@link Event#fireAsync(Object, NotificationOptions)}.
+ * <p>
+ * By default, each asynchronous event is delivered in a separate task submitted to the executor. If batched delivery is
+ * enabled, events with the same runtime type and qualifiers that are fired with the same executor are appended to a
+ * bounded buffer and delivered in micro-batches, in the order in which they were fired. A single task delivers up to 256
+ * buffered events. If the buffer is full, the firing thread waits until the delivery task makes room for the event, so
+ * that the order is kept. Therefore, a batched event should not be fired from a thread that the executor needs to run the
+ * delivery task, e.g. from the only thread of a single-threaded executor. Each event is delivered in a separate request
+ * context.
+ * <p>
+ * If coalescing is enabled, a buffered event is replaced with an event with the same key fired later. The replaced event
+ * is never delivered to the observers and its completion stage completes once the event that replaced it is delivered.
+ *
+ * <pre>
+ * event.fireAsync(new CacheInvalidated(key), AsyncEventDelivery.coalesced(CacheInvalidated::getKey));
+ * </pre>
+ *
+ * @see javax.enterprise.event.ObservesAsync
+ */
+public final class AsyncEventDelivery {
+
+    /**
+     * The name of the option that enables batched delivery. The value must be a {@link Boolean}.
+     */
+    public static final String BATCHED = "io.quarkus.arc.async.batched";
+
+    /**
+     * The name of the option that enables coalescing. The value must be a {@link Function} that extracts the key from an
+     * event object. Coalescing implies batched delivery.
+     */
+    public static final String COALESCE_BY = "io.quarkus.arc.async.coalesce-by";
+
+    /**
+     * The capacity of the buffer used for batched delivery.
+     */
+    public static final String BUFFER_CAPACITY_PROPERTY = "quarkus.arc.async-buffer-capacity";
+
+    private AsyncEventDelivery() {
+    }
+
+    /**
+     *
+     * @return the options that enable batched delivery
+     */
+    public static NotificationOptions batched() {
+        return NotificationOptions.of(BATCHED, Boolean.TRUE);
+    }
+
+    /**
+     *
+     * @param executor
+     * @return the options that enable batched delivery using the given executor
+     */
+    public static NotificationOptions batched(Executor executor) {
+        return NotificationOptions.builder().setExecutor(Objects.requireNonNull(executor)).set(BATCHED, Boolean.TRUE)
+                .build();
+    }
+
+    /**
+     *
+     * @param keyExtractor
+     * @return the options that enable coalescing
+     */
+    public static <T> NotificationOptions coalesced(Function<? super T, ?> keyExtractor) {
+        return NotificationOptions.of(COALESCE_BY, Objects.requireNonNull(keyExtractor));
+    }
+
+    /**
+     *
+     * @param keyExtractor
+     * @param executor
+     * @return the options that enable coalescing using the given executor
+     */
+    public static <T> NotificationOptions coalesced(Function<? super T, ?> keyExtractor, Executor executor) {
+        return NotificationOptions.builder().setExecutor(Objects.requireNonNull(executor))
+                .set(COALESCE_BY, Objects.requireNonNull(keyExtractor)).build();
+    }
+
+}
@@ -14,6 +14,8 @@ public final class Components {
     private final Collection<InjectableContext> contexts;
     private final Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings;
     private final Map<String, Set<String>> qualifierNonbindingMembers;
+    private final ResolutionSnapshot resolutionSnapshot;
+    private final Collection<QualifierComparator> qualifierComparators;
 
     public Components(Collection<InjectableBean<?>> beans, Collection<InjectableObserverMethod<?>> observers,
             Collection<InjectableContext> contexts,
@@ -25,12 +27,31 @@ public final class Components {
             Collection<InjectableContext> contexts,
             Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings,
             Collection<RemovedBean> removedBeans, Map<String, Set<String>> qualifierNonbindingMembers) {
+        this(beans, observers, contexts, transitiveInterceptorBindings, removedBeans, qualifierNonbindingMembers, null);
+    }
+
+    public Components(Collection<InjectableBean<?>> beans, Collection<InjectableObserverMethod<?>> observers,
+            Collection<InjectableContext> contexts,
+            Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings,
+            Collection<RemovedBean> removedBeans, Map<String, Set<String>> qualifierNonbindingMembers,
+            ResolutionSnapshot resolutionSnapshot) {
+        this(beans, observers, contexts, transitiveInterceptorBindings, removedBeans, qualifierNonbindingMembers,
+                resolutionSnapshot, Collections.emptyList());
+    }
+
+    public Components(Collection<InjectableBean<?>> beans, Collection<InjectableObserverMethod<?>> observers,
+            Collection<InjectableContext> contexts,
+            Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings,
+            Collection<RemovedBean> removedBeans, Map<String, Set<String>> qualifierNonbindingMembers,
+            ResolutionSnapshot resolutionSnapshot, Collection<QualifierComparator> qualifierComparators) {
         this.beans = beans;
         this.observers = observers;
         this.contexts = contexts;
         this.transitiveInterceptorBindings = transitiveInterceptorBindings;
         this.removedBeans = removedBeans;
         this.qualifierNonbindingMembers = qualifierNonbindingMembers;
+        this.resolutionSnapshot = resolutionSnapshot;
+        this.qualifierComparators = qualifierComparators;
     }
 
     public Collection<InjectableBean<?>> getBeans() {
@@ -57,4 +78,20 @@ public final class Components {
         return qualifierNonbindingMembers;
     }
 
+    /**
+     *
+     * @return the resolution snapshot computed at build time or {@code null}
+     */
+    public ResolutionSnapshot getResolutionSnapshot() {
+        return resolutionSnapshot;
+    }
+
+    /**
+     *
+     * @return the comparators generated for the qualifiers with binding members
+     */
+    public Collection<QualifierComparator> getQualifierComparators() {
+        return qualifierComparators;
+    }
+
 }
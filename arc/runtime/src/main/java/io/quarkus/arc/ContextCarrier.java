@@ -0,0 +1,126 @@
+package io.quarkus.arc;
+
+import io.quarkus.arc.InjectableContext.ContextState;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+
+/**
+ * Carries the state of the request context captured on one thread to a task executed on another thread.
+ * <p>
+ * The request context is activated with the captured state before the task is executed and deactivated afterwards. The
+ * contextual instances are not destroyed, i.e. the thread that owns the request context remains responsible for its
+ * termination. If the captured state was already invalidated, e.g. the request context was terminated in the meantime, the
+ * task is executed as if no state was captured.
+ *
+ * <pre>
+ * ContextCarrier carrier = ContextCarrier.capture();
+ * executor.execute(carrier.wrap(() -&gt; requestScopedBean.ping()));
+ * </pre>
+ *
+ * @see ArcContainer#getExecutorService()
+ */
+public final class ContextCarrier {
+
+    private static final ContextCarrier EMPTY = new ContextCarrier(null, null);
+
+    /**
+     *
+     * @return the carrier of the request context state of the current thread
+     */
+    public static ContextCarrier capture() {
+        ArcContainer container = Arc.container();
+        if (container == null) {
+            return EMPTY;
+        }
+        ManagedContext requestContext = container.requestContext();
+        ContextState state = requestContext.getStateIfActive();
+        return state != null ? new ContextCarrier(requestContext, state) : EMPTY;
+    }
+
+    private final ManagedContext requestContext;
+    private final ContextState state;
+
+    private ContextCarrier(ManagedContext requestContext, ContextState state) {
+        this.requestContext = requestContext;
+        this.state = state;
+    }
+
+    /**
+     *
+     * @return {@code true} if no state was captured
+     */
+    public boolean isEmpty() {
+        return state == null;
+    }
+
+    /**
+     *
+     * @param task
+     * @return a task executed with the captured state
+     */
+    public Runnable wrap(Runnable task) {
+        Objects.requireNonNull(task);
+        if (state == null) {
+            return task;
+        }
+        return new Runnable() {
+            @Override
+            public void run() {
+                ContextState previous = activate();
+                try {
+                    task.run();
+                } finally {
+                    deactivate(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     *
+     * @param task
+     * @return a task executed with the captured state
+     */
+    public <V> Callable<V> wrap(Callable<V> task) {
+        Objects.requireNonNull(task);
+        if (state == null) {
+            return task;
+        }
+        return new Callable<V>() {
+            @Override
+            public V call() throws Exception {
+                ContextState previous = activate();
+                try {
+                    return task.call();
+                } finally {
+                    deactivate(previous);
+                }
+            }
+        };
+    }
+
+    /**
+     *
+     * @return the state that was active on the current thread, or the captured state if it's already active
+     */
+    private ContextState activate() {
+        ContextState previous = requestContext.getStateIfActive();
+        if (previous != state && state.isValid()) {
+            requestContext.activate(state);
+        }
+        return previous;
+    }
+
+    private void deactivate(ContextState previous) {
+        if (previous == state) {
+            // The captured state was already active, e.g. the task was executed on the same thread
+            return;
+        }
+        if (previous != null) {
+            requestContext.activate(previous);
+        } else if (requestContext.getStateIfActive() == state) {
+            requestContext.deactivate();
+        }
+    }
+
+}
@@ -0,0 +1,28 @@
+package io.quarkus.arc;
+
+import javax.enterprise.context.Dependent;
+
+/**
+ * An {@link InjectableInstance} that keeps track of the {@link Dependent} instances obtained through it, including the
+ * instances obtained through its {@code select()} variants, and destroys all of them when closed.
+ *
+ * <pre>
+ * try (DependentArena&lt;Washcloth&gt; arena = washcloth.arena()) {
+ *     arena.get().wash();
+ * }
+ * </pre>
+ *
+ * An arena is not meant to be used after it was closed.
+ *
+ * @param <T>
+ * @see InjectableInstance#arena()
+ */
+public interface DependentArena<T> extends InjectableInstance<T>, AutoCloseable {
+
+    /**
+     * Destroys all {@link Dependent} instances obtained through this arena that were not destroyed yet.
+     */
+    @Override
+    void close();
+
+}
@@ -116,6 +116,17 @@ public interface InjectableBean<T> extends Bean<T>, InjectableReferenceProvider<
         return false;
     }
 
+    /**
+     * A {@link javax.enterprise.context.Dependent} instance of a destruction-free bean does not need to be destroyed,
+     * i.e. neither the bean nor any of its dependencies declares destruction logic. The container does not have to keep
+     * track of such an instance.
+     *
+     * @return {@code true} if the bean is destruction-free
+     */
+    default boolean isDestructionFree() {
+        return false;
+    }
+
     /**
      * Suppressed beans cannot be obtained by programmatic lookup via {@link Instance}.
      *
@@ -141,6 +152,18 @@ public interface InjectableBean<T> extends Bean<T>, InjectableReferenceProvider<
         return 0;
     }
 
+    /**
+     * Beans with the built-in {@link javax.enterprise.context.RequestScoped},
+     * {@link javax.enterprise.context.ApplicationScoped} and {@link javax.inject.Singleton} scopes are assigned a slot at
+     * build time so that the context can store the contextual instances in an array instead of a map. The slots are dense
+     * within a scope.
+     *
+     * @return the slot or -1 if no slot was assigned
+     */
+    default int getContextSlot() {
+        return -1;
+    }
+
     enum Kind {
 
         CLASS,
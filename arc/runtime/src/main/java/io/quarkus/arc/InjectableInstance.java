@@ -34,6 +34,17 @@ public interface InjectableInstance<T> extends Instance<T> {
      */
     void clearCache();
 
+    /**
+     * The {@link Dependent} instances obtained through this instance are destroyed when this instance is destroyed,
+     * i.e. usually when the bean it was injected into is destroyed, or explicitly via {@link #destroy(Object)}. A
+     * long-lived instance that is used repeatedly within a unit of work should obtain the instances through an arena
+     * instead.
+     *
+     * @return a new arena for the same required type and qualifiers
+     * @see DependentArena
+     */
+    DependentArena<T> arena();
+
     /**
      * This method attempts to resolve ambiguities.
      * <p>
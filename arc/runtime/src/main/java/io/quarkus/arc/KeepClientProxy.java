@@ -0,0 +1,24 @@
+package io.quarkus.arc;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * If the client proxy elision is enabled at build time then an {@link javax.enterprise.context.ApplicationScoped} bean may
+ * be injected directly, i.e. without a client proxy, into the injection points of application scoped beans and
+ * singletons.
+ * <p>
+ * A bean marked with this annotation is always injected through its client proxy. If a bean with an injection point is
+ * marked with this annotation then all its injection points receive a client proxy.
+ * <p>
+ * <strong>The annotation is required for every application scoped bean whose contextual instance may be destroyed before
+ * the container is shut down</strong>, e.g. via {@link InjectableContext#destroy(javax.enterprise.context.spi.Contextual)}
+ * or {@link InstanceHandle#destroy()}. An elided injection point holds the contextual instance itself and is not
+ * updated, i.e. it keeps referencing the destroyed instance while other clients get a new one.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.FIELD, ElementType.METHOD })
+public @interface KeepClientProxy {
+}
@@ -9,6 +9,7 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
 import javax.enterprise.util.Nonbinding;
 import javax.interceptor.InterceptorBinding;
 
@@ -16,7 +17,8 @@ import javax.interceptor.InterceptorBinding;
  * Defines a concurrency lock for a bean.
  * <p>
  * The container provides a built-in interceptor for this interceptor binding. Each interceptor instance associated with a
- * contextual instance of an intercepted bean holds a {@link ReadWriteLock} instance with non-fair ordering policy.
+ * contextual instance of an intercepted bean holds a {@link ReadWriteLock} instance with non-fair ordering policy, and a
+ * {@link StampedLock} used to validate {@link Type#OPTIMISTIC_READ} invocations.
  */
 @InterceptorBinding
 @Inherited
@@ -56,6 +58,20 @@ public @interface Lock {
          * Acquires the write (exclusive) lock before the business method is invoked.
          */
         WRITE,
+        /**
+         * Acquires no lock and invokes the business method. If a write lock was acquired in the meantime, the business
+         * method is invoked again. If the validation fails repeatedly or a write lock is held when the business method is
+         * invoked, the read lock is acquired instead.
+         * <p>
+         * This is useful for read-mostly beans as optimistic reads do not write to shared memory. However, the business
+         * method may observe an inconsistent state and may be invoked multiple times. Therefore, it must be free of side
+         * effects and must tolerate an inconsistent state, e.g. it must not loop over a structure that can be modified
+         * concurrently. Only the business method itself is invoked again; interceptors with a lower priority than the lock
+         * interceptor are invoked once.
+         *
+         * @see StampedLock#tryOptimisticRead()
+         */
+        OPTIMISTIC_READ,
         /**
          * Acquires no lock.
          * <p>
@@ -0,0 +1,37 @@
+package io.quarkus.arc;
+
+import java.lang.annotation.Annotation;
+
+/**
+ * Compares the values of the binding members of a qualifier, i.e. the members that are not annotated with
+ * {@link javax.enterprise.util.Nonbinding} and are not configured as non-binding.
+ * <p>
+ * An implementation is generated at build time for each qualifier with binding members so that the container does not
+ * need to read the member values reflectively during typesafe resolution and observer resolution.
+ */
+public interface QualifierComparator {
+
+    /**
+     *
+     * @return the qualifier type
+     */
+    Class<? extends Annotation> annotationType();
+
+    /**
+     * Both instances must be of the {@link #annotationType()}.
+     *
+     * @param qualifier
+     * @param other
+     * @return {@code true} if all the binding members have the same value
+     */
+    boolean bindingEquals(Annotation qualifier, Annotation other);
+
+    /**
+     * The instance must be of the {@link #annotationType()}.
+     *
+     * @param qualifier
+     * @return the hash code computed from the values of the binding members
+     */
+    int bindingHashCode(Annotation qualifier);
+
+}
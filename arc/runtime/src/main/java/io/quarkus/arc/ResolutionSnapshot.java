@@ -0,0 +1,100 @@
+package io.quarkus.arc;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Typesafe resolution results computed at build time.
+ * <p>
+ * The container uses the snapshot to populate its resolution caches during startup so that the first lookup of a required
+ * type does not need to iterate over all the beans. A snapshot is only a hint; any lookup that is not part of the snapshot is
+ * resolved lazily.
+ */
+public final class ResolutionSnapshot {
+
+    private final List<ResolvedBeans> beans;
+    private final List<ObservedEvent> events;
+
+    public ResolutionSnapshot() {
+        this.beans = new ArrayList<>();
+        this.events = new ArrayList<>();
+    }
+
+    /**
+     *
+     * @param requiredType
+     * @param qualifiers
+     * @param beanIdentifiers the identifiers of the beans that are resolved for the given required type and qualifiers
+     */
+    public void addBeans(Type requiredType, Annotation[] qualifiers, String... beanIdentifiers) {
+        beans.add(new ResolvedBeans(requiredType, qualifiers, beanIdentifiers));
+    }
+
+    /**
+     *
+     * @param eventType
+     * @param qualifiers the set of event qualifiers, including {@link javax.enterprise.inject.Any}
+     */
+    public void addEvent(Type eventType, Set<Annotation> qualifiers) {
+        events.add(new ObservedEvent(eventType, qualifiers));
+    }
+
+    public List<ResolvedBeans> getBeans() {
+        return Collections.unmodifiableList(beans);
+    }
+
+    public List<ObservedEvent> getEvents() {
+        return Collections.unmodifiableList(events);
+    }
+
+    public static final class ResolvedBeans {
+
+        private final Type requiredType;
+        private final Annotation[] qualifiers;
+        private final String[] beanIdentifiers;
+
+        ResolvedBeans(Type requiredType, Annotation[] qualifiers, String[] beanIdentifiers) {
+            this.requiredType = requiredType;
+            this.qualifiers = qualifiers;
+            this.beanIdentifiers = beanIdentifiers;
+        }
+
+        public Type getRequiredType() {
+            return requiredType;
+        }
+
+        public Annotation[] getQualifiers() {
+            return qualifiers;
+        }
+
+        public String[] getBeanIdentifiers() {
+            return beanIdentifiers;
+        }
+
+    }
+
+    public static final class ObservedEvent {
+
+        private final Type eventType;
+        private final Set<Annotation> qualifiers;
+
+        ObservedEvent(Type eventType, Set<Annotation> qualifiers) {
+            this.eventType = eventType;
+            this.qualifiers = qualifiers;
+        }
+
+        public Type getEventType() {
+            return eventType;
+        }
+
+        public Set<Annotation> getQualifiers() {
+            return qualifiers;
+        }
+
+    }
+
+}
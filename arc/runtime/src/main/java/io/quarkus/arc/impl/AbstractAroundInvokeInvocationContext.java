@@ -0,0 +1,38 @@
+package io.quarkus.arc.impl;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * The superclass of the invocation contexts of {@link javax.interceptor.AroundInvoke} interceptor chains.
+ */
+abstract class AbstractAroundInvokeInvocationContext extends AbstractInvocationContext {
+
+    // Set by an interceptor that needs to wrap the invocation of the target method
+    TargetWrapper targetWrapper;
+
+    AbstractAroundInvokeInvocationContext(Object target, Method method, Object[] parameters,
+            ContextDataMap contextData, Set<Annotation> interceptorBindings, List<InterceptorInvocation> chain) {
+        super(target, method, null, parameters, contextData, interceptorBindings, chain);
+    }
+
+    /**
+     * Invokes the target method of the interceptor chain, bypassing the {@link TargetWrapper}.
+     */
+    abstract Object invokeTarget() throws Exception;
+
+    /**
+     * Wraps the invocation of the target method of an interceptor chain. Unlike {@link #proceed()}, the target method can be
+     * invoked multiple times without invoking the rest of the chain again.
+     *
+     * @see LockInterceptor
+     */
+    interface TargetWrapper {
+
+        Object invoke(AbstractAroundInvokeInvocationContext ctx) throws Exception;
+
+    }
+
+}
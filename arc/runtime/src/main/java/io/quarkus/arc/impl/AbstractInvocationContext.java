@@ -13,7 +13,7 @@ import java.util.Set;
 
 abstract class AbstractInvocationContext implements ArcInvocationContext {
 
-    private static final Object[] EMPTY_PARAMS = new Object[0];
+    static final Object[] EMPTY_PARAMS = new Object[0];
 
     protected final Method method;
     protected final Constructor<?> constructor;
@@ -21,6 +21,7 @@ abstract class AbstractInvocationContext implements ArcInvocationContext {
     protected final List<InterceptorInvocation> chain;
     protected Object target;
     protected Object[] parameters;
+    // Lazily initialized, see getContextData()
     protected ContextDataMap contextData;
 
     protected AbstractInvocationContext(Object target, Method method,
@@ -31,13 +32,16 @@ abstract class AbstractInvocationContext implements ArcInvocationContext {
         this.method = method;
         this.constructor = constructor;
         this.parameters = parameters != null ? parameters : EMPTY_PARAMS;
-        this.contextData = contextData != null ? contextData : new ContextDataMap(interceptorBindings);
+        this.contextData = contextData;
         this.interceptorBindings = interceptorBindings;
         this.chain = chain;
     }
 
     @Override
     public Map<String, Object> getContextData() {
+        if (contextData == null) {
+            contextData = new ContextDataMap(interceptorBindings);
+        }
         return contextData;
     }
 
@@ -3,23 +3,47 @@ package io.quarkus.arc.impl;
 import io.quarkus.arc.ContextInstanceHandle;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableContext;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Supplier;
-import java.util.stream.Collectors;
 import javax.enterprise.context.spi.Contextual;
 import javax.enterprise.context.spi.CreationalContext;
 
 import com.google.common.collect.ImmutableMap;
 
+/**
+ * Instances of beans with a slot assigned at build time are stored in an array indexed by the slot. Other instances, e.g.
+ * of synthetic beans registered without a slot, are stored in a map keyed by the bean identifier.
+ */
 abstract class AbstractSharedContext implements InjectableContext, InjectableContext.ContextState {
 
     protected final ComputingCache<String, ContextInstanceHandle<?>> instances;
 
+    // null if no slots are used
+    private final AtomicReferenceArray<ContextInstanceHandle<?>> slots;
+    private final Object[] slotLocks;
+
     public AbstractSharedContext() {
+        this(0);
+    }
+
+    public AbstractSharedContext(int slots) {
         this.instances = new ComputingCache<>();
+        if (slots > 0) {
+            this.slots = new AtomicReferenceArray<>(slots);
+            this.slotLocks = new Object[slots];
+            for (int i = 0; i < slots; i++) {
+                slotLocks[i] = new Object();
+            }
+        } else {
+            this.slots = null;
+            this.slotLocks = null;
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -31,6 +55,10 @@ abstract class AbstractSharedContext implements InjectableContext, InjectableCon
         if (!Scopes.scopeMatches(this, bean)) {
             throw Scopes.scopeDoesNotMatchException(this, bean);
         }
+        int slot = slotOf(bean);
+        if (slot >= 0) {
+            return (T) getOrCreate(slot, bean, creationalContext).get();
+        }
         return (T) instances.computeIfAbsent(bean.getIdentifier(), new Supplier<ContextInstanceHandle<?>>() {
             @Override
             public ContextInstanceHandle<?> get() {
@@ -47,10 +75,31 @@ abstract class AbstractSharedContext implements InjectableContext, InjectableCon
         if (!Scopes.scopeMatches(this, bean)) {
             throw Scopes.scopeDoesNotMatchException(this, bean);
         }
-        ContextInstanceHandle<?> handle = instances.getValueIfPresent(bean.getIdentifier());
+        int slot = slotOf(bean);
+        ContextInstanceHandle<?> handle = slot >= 0 ? slots.get(slot) : instances.getValueIfPresent(bean.getIdentifier());
         return handle != null ? (T) handle.get() : null;
     }
 
+    /**
+     *
+     * @param bean
+     * @return the handle of the existing contextual instance or of a newly created instance
+     */
+    @SuppressWarnings("unchecked")
+    <T> ContextInstanceHandleImpl<T> getInstanceHandle(InjectableBean<T> bean) {
+        int slot = slotOf(bean);
+        if (slot >= 0) {
+            return (ContextInstanceHandleImpl<T>) getOrCreate(slot, bean, null);
+        }
+        return (ContextInstanceHandleImpl<T>) instances.computeIfAbsent(bean.getIdentifier(),
+                new Supplier<ContextInstanceHandle<?>>() {
+                    @Override
+                    public ContextInstanceHandle<?> get() {
+                        return createInstanceHandle(bean, new CreationalContextImpl<>(bean));
+                    }
+                });
+    }
+
     @Override
     public ContextState getState() {
         return this;
@@ -63,8 +112,11 @@ abstract class AbstractSharedContext implements InjectableContext, InjectableCon
 
     @Override
     public Map<InjectableBean<?>, Object> getContextualInstances() {
-        return ImmutableMap.copyOf(instances.getPresentValues().stream()
-                .collect(Collectors.toMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get)));
+        Map<InjectableBean<?>, Object> contextualInstances = new HashMap<>();
+        for (ContextInstanceHandle<?> handle : getPresentHandles()) {
+            contextualInstances.put(handle.getBean(), handle.get());
+        }
+        return ImmutableMap.copyOf(contextualInstances);
     }
 
     @Override
@@ -74,8 +126,7 @@ abstract class AbstractSharedContext implements InjectableContext, InjectableCon
 
     @Override
     public void destroy(Contextual<?> contextual) {
-        InjectableBean<?> bean = (InjectableBean<?>) contextual;
-        ContextInstanceHandle<?> handle = instances.remove(bean.getIdentifier());
+        ContextInstanceHandle<?> handle = remove((InjectableBean<?>) contextual);
         if (handle != null) {
             handle.destroy();
         }
@@ -83,7 +134,16 @@ abstract class AbstractSharedContext implements InjectableContext, InjectableCon
 
     @Override
     public synchronized void destroy() {
-        Set<ContextInstanceHandle<?>> values = instances.getPresentValues();
+        List<ContextInstanceHandle<?>> values = new ArrayList<>();
+        if (slots != null) {
+            for (int i = 0; i < slots.length(); i++) {
+                ContextInstanceHandle<?> handle = slots.getAndSet(i, null);
+                if (handle != null) {
+                    values.add(handle);
+                }
+            }
+        }
+        values.addAll(instances.getPresentValues());
         // Destroy the producers first
         for (Iterator<ContextInstanceHandle<?>> iterator = values.iterator(); iterator.hasNext();) {
             ContextInstanceHandle<?> instanceHandle = iterator.next();
@@ -107,6 +167,73 @@ abstract class AbstractSharedContext implements InjectableContext, InjectableCon
         }
     }
 
+    /**
+     *
+     * @return the handles of all existing contextual instances
+     */
+    List<ContextInstanceHandle<?>> getPresentHandles() {
+        List<ContextInstanceHandle<?>> handles = new ArrayList<>();
+        if (slots != null) {
+            for (int i = 0; i < slots.length(); i++) {
+                ContextInstanceHandle<?> handle = slots.get(i);
+                if (handle != null) {
+                    handles.add(handle);
+                }
+            }
+        }
+        handles.addAll(instances.getPresentValues());
+        return handles;
+    }
+
+    /**
+     *
+     * @param bean
+     * @return the removed handle or {@code null} if no contextual instance exists
+     */
+    ContextInstanceHandle<?> remove(InjectableBean<?> bean) {
+        int slot = slotOf(bean);
+        return slot >= 0 ? slots.getAndSet(slot, null) : instances.remove(bean.getIdentifier());
+    }
+
+    /**
+     *
+     * @param bean
+     * @return the slot of the given bean or -1 if the instance is stored in the map
+     */
+    private int slotOf(InjectableBean<?> bean) {
+        if (slots == null) {
+            return -1;
+        }
+        int slot = bean.getContextSlot();
+        return slot < slots.length() ? slot : -1;
+    }
+
+    /**
+     * The instance is created at most once per slot. Contextual instances of different beans may be created concurrently.
+     *
+     * @param slot
+     * @param bean
+     * @param creationalContext may be {@code null}, a new creational context is used if needed
+     * @return the handle of the existing contextual instance or of a newly created instance
+     */
+    @SuppressWarnings("unchecked")
+    private <T> ContextInstanceHandle<?> getOrCreate(int slot, InjectableBean<T> bean,
+            CreationalContext<T> creationalContext) {
+        ContextInstanceHandle<?> handle = slots.get(slot);
+        if (handle != null) {
+            return handle;
+        }
+        synchronized (slotLocks[slot]) {
+            handle = slots.get(slot);
+            if (handle == null) {
+                handle = createInstanceHandle(bean,
+                        creationalContext != null ? creationalContext : new CreationalContextImpl<>(bean));
+                slots.set(slot, handle);
+            }
+            return handle;
+        }
+    }
+
     @SuppressWarnings({ "unchecked", "rawtypes" })
     private static <T> ContextInstanceHandle createInstanceHandle(InjectableBean<T> bean,
             CreationalContext<T> creationalContext) {
@@ -7,6 +7,7 @@ import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -66,14 +67,35 @@ import io.quarkus.arc.InjectableInterceptor;
 import io.quarkus.arc.InjectableObserverMethod;
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.QualifierComparator;
 import io.quarkus.arc.RemovedBean;
+import io.quarkus.arc.ResolutionSnapshot;
 import io.quarkus.arc.ResourceReferenceProvider;
 import io.quarkus.arc.impl.ArcCDIProvider.ArcCDI;
+import io.quarkus.arc.impl.EventImpl.Notifier;
+import io.quarkus.arc.impl.EventImpl.NotifierKey;
 
 public class ArcContainerImpl implements ArcContainer {
 
+    /**
+     * The name of the system property that can be used to disable the slot-indexed storage of the application and
+     * singleton contexts, e.g. {@code -Dquarkus.arc.shared-context-slots=false}. If disabled then all contextual instances
+     * are stored in a map keyed by the bean identifier.
+     */
+    public static final String SHARED_CONTEXT_SLOTS_PROPERTY = "quarkus.arc.shared-context-slots";
+
+    /**
+     * The name of the system property that can be used to limit the number of notifiers and resolved observer lists that
+     * are cached for the runtime types of fired events, e.g. {@code -Dquarkus.arc.event-cache-size=256}. Once the limit is
+     * reached, the notifiers and observers for new event types are resolved but not cached. The default value is 1024.
+     */
+    public static final String EVENT_CACHE_SIZE_PROPERTY = "quarkus.arc.event-cache-size";
+
+    private static final int EVENT_CACHE_SIZE = Integer.getInteger(EVENT_CACHE_SIZE_PROPERTY, 1024);
+
     private static final Logger LOGGER = Logger.getLogger(ArcContainerImpl.class.getPackage().getName());
     private static final AtomicInteger ID_GENERATOR = new AtomicInteger();
+    private static final Annotation[] DEFAULT_QUALIFIER = { Default.Literal.INSTANCE };
 
     private final String id;
 
@@ -86,13 +108,17 @@ public class ArcContainerImpl implements ArcContainer {
     private final List<InjectableObserverMethod<?>> observers;
     private final Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings;
     private final Map<String, Set<String>> qualifierNonbindingMembers;
+    private final QualifierComparators qualifierComparators;
 
     private final Map<Class<? extends Annotation>, List<InjectableContext>> contexts;
     private final ManagedContext requestContext;
     private final InjectableContext applicationContext;
     private final InjectableContext singletonContext;
 
+    private final BeanIndex beanIndex;
     private final ComputingCache<Resolvable, Set<InjectableBean<?>>> resolved;
+    private final ComputingCache<EventResolvable, List<InjectableObserverMethod<?>>> resolvedObservers;
+    private final ComputingCache<NotifierKey, Notifier<?>> notifiers;
     private final ComputingCache<String, InjectableBean<?>> beansById;
     private final ComputingCache<String, Set<InjectableBean<?>>> beansByName;
 
@@ -114,19 +140,19 @@ public class ArcContainerImpl implements ArcContainer {
         List<InjectableObserverMethod<?>> observers = new ArrayList<>();
         Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings = new HashMap<>();
         Map<String, Set<String>> qualifierNonbindingMembers = new HashMap<>();
+        List<QualifierComparator> qualifierComparators = new ArrayList<>();
         this.currentContextFactory = currentContextFactory == null ? new ThreadLocalCurrentContextFactory()
                 : currentContextFactory;
 
-        applicationContext = new ApplicationContext();
-        singletonContext = new SingletonContext();
-        requestContext = new RequestContext(this.currentContextFactory.create(RequestScoped.class));
-        Map<Class<? extends Annotation>, List<InjectableContext>> contexts = new HashMap<>();
-        putContext(requestContext, contexts);
-        putContext(applicationContext, contexts);
-        putContext(singletonContext, contexts);
-
+        List<InjectableContext> customContexts = new ArrayList<>();
+        List<ResolutionSnapshot> resolutionSnapshots = new ArrayList<>();
+        int componentsProviders = 0;
         for (ComponentsProvider componentsProvider : ServiceLoader.load(ComponentsProvider.class)) {
             Components components = componentsProvider.getComponents();
+            componentsProviders++;
+            if (components.getResolutionSnapshot() != null) {
+                resolutionSnapshots.add(components.getResolutionSnapshot());
+            }
             for (InjectableBean<?> bean : components.getBeans()) {
                 if (bean instanceof InjectableInterceptor) {
                     interceptors.add((InjectableInterceptor<?>) bean);
@@ -148,12 +174,25 @@ public class ArcContainerImpl implements ArcContainer {
                     throw new IllegalStateException(
                             "Failed to register a context - built-in singleton context is always active: " + context);
                 }
-                putContext(context, contexts);
+                customContexts.add(context);
             }
             transitiveInterceptorBindings.putAll(components.getTransitiveInterceptorBindings());
             qualifierNonbindingMembers.putAll(components.getQualifierNonbindingMembers());
+            qualifierComparators.addAll(components.getQualifierComparators());
         }
 
+        boolean sharedContextSlots = Boolean.parseBoolean(System.getProperty(SHARED_CONTEXT_SLOTS_PROPERTY, "true"));
+        applicationContext = new ApplicationContext(sharedContextSlots ? getContextSlots(beans, ApplicationScoped.class) : 0);
+        singletonContext = new SingletonContext(sharedContextSlots ? getContextSlots(beans, Singleton.class) : 0);
+        requestContext = new RequestContext(this.currentContextFactory.create(RequestScoped.class),
+                getContextSlots(beans, RequestScoped.class));
+        Map<Class<? extends Annotation>, List<InjectableContext>> contexts = new HashMap<>();
+        putContext(requestContext, contexts);
+        putContext(applicationContext, contexts);
+        putContext(singletonContext, contexts);
+        for (InjectableContext context : customContexts) {
+            putContext(context, contexts);
+        }
         this.contexts = ImmutableMap.copyOf(contexts);
 
         // register built-in beans
@@ -162,6 +201,8 @@ public class ArcContainerImpl implements ArcContainer {
         interceptors.sort((i1, i2) -> Integer.compare(i2.getPriority(), i1.getPriority()));
 
         resolved = new ComputingCache<>(this::resolve);
+        resolvedObservers = new ComputingCache<>(this::resolveObservers);
+        notifiers = new ComputingCache<>(key -> EventImpl.createNotifier(key, this));
         beansById = new ComputingCache<>(this::findById);
         beansByName = new ComputingCache<>(this::resolve);
         resourceProviders = new ArrayList<>();
@@ -173,12 +214,49 @@ public class ArcContainerImpl implements ArcContainer {
         instance = InstanceImpl.of(Object.class, Collections.emptySet());
 
         this.beans = ImmutableList.copyOf(beans);
+        this.beanIndex = new BeanIndex(this.beans);
         this.interceptors = ImmutableList.copyOf(interceptors);
         this.decorators = ImmutableList.copyOf(decorators);
         this.observers = ImmutableList.copyOf(observers);
         this.removedBeans = ImmutableList.copyOf(removedBeans);
         this.transitiveInterceptorBindings = ImmutableMap.copyOf(transitiveInterceptorBindings);
         this.qualifierNonbindingMembers = ImmutableMap.copyOf(qualifierNonbindingMembers);
+        this.qualifierComparators = new QualifierComparators(qualifierComparators, this.qualifierNonbindingMembers);
+
+        // A snapshot only reflects the beans of a single deployment
+        if (componentsProviders == 1 && resolutionSnapshots.size() == 1) {
+            preload(resolutionSnapshots.get(0));
+        }
+    }
+
+    private void preload(ResolutionSnapshot snapshot) {
+        Map<String, InjectableBean<?>> beansById = new HashMap<>();
+        for (InjectableBean<?> bean : beans) {
+            beansById.put(bean.getIdentifier(), bean);
+        }
+        int preloadedBeans = 0;
+        beans: for (ResolutionSnapshot.ResolvedBeans resolvedBeans : snapshot.getBeans()) {
+            String[] identifiers = resolvedBeans.getBeanIdentifiers();
+            ImmutableSet.Builder<InjectableBean<?>> builder = ImmutableSet.builder();
+            for (String identifier : identifiers) {
+                InjectableBean<?> bean = beansById.get(identifier);
+                if (bean == null) {
+                    // The bean is not available - the lookup will be resolved lazily
+                    continue beans;
+                }
+                builder.add(bean);
+            }
+            Set<InjectableBean<?>> value = builder.build();
+            resolved.computeIfAbsent(
+                    new Resolvable(resolvedBeans.getRequiredType(), resolvedBeans.getQualifiers(), qualifierComparators),
+                    () -> value);
+            preloadedBeans++;
+        }
+        for (ResolutionSnapshot.ObservedEvent event : snapshot.getEvents()) {
+            resolvedObservers.getValue(new EventResolvable(event.getEventType(), event.getQualifiers(), qualifierComparators));
+        }
+        LOGGER.debugf("Resolution snapshot preloaded [beans=%s/%s, events=%s]", preloadedBeans, snapshot.getBeans().size(),
+                snapshot.getEvents().size());
     }
 
     private void putContext(InjectableContext context, Map<Class<? extends Annotation>, List<InjectableContext>> contexts) {
@@ -264,9 +342,9 @@ public class ArcContainerImpl implements ArcContainer {
     @Override
     public <T> Supplier<InstanceHandle<T>> instanceSupplier(Class<T> type, Annotation... qualifiers) {
         if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
+            qualifiers = DEFAULT_QUALIFIER;
         }
-        Set<InjectableBean<?>> resolvedBeans = resolved.getValue(new Resolvable(type, qualifiers));
+        Set<InjectableBean<?>> resolvedBeans = resolved.getValue(new Resolvable(type, qualifiers, qualifierComparators));
         Set<InjectableBean<?>> filteredBean = resolvedBeans;
         if (resolvedBeans.size() > 1) {
             //if there are multiple beans we look for an exact match
@@ -292,6 +370,21 @@ public class ArcContainerImpl implements ArcContainer {
         };
     }
 
+    @Override
+    public <T> Supplier<InstanceHandle<T>> instanceResolver(Type type, Annotation... qualifiers) {
+        Objects.requireNonNull(type);
+        if (type instanceof TypeVariable) {
+            throw new IllegalArgumentException("The given type is a type variable: " + type);
+        }
+        if (qualifiers == null || qualifiers.length == 0) {
+            qualifiers = DEFAULT_QUALIFIER;
+        } else {
+            Qualifiers.verify(qualifiers, qualifierNonbindingMembers.keySet());
+            qualifiers = qualifiers.clone();
+        }
+        return new InstanceResolver<>(new Resolvable(type, qualifiers, qualifierComparators));
+    }
+
     @Override
     public <T> InstanceHandle<T> instance(InjectableBean<T> bean) {
         Objects.requireNonNull(bean);
@@ -366,6 +459,20 @@ public class ArcContainerImpl implements ArcContainer {
     }
 
     public void setExecutor(ExecutorService executor) {
+        setExecutor(executor, false);
+    }
+
+    /**
+     *
+     * @param executor
+     * @param propagateRequestContext if set to {@code true} the request context of the submitting thread is propagated
+     *        to the tasks, including the notification of asynchronous observers
+     * @see io.quarkus.arc.ContextCarrier
+     */
+    public void setExecutor(ExecutorService executor, boolean propagateRequestContext) {
+        if (propagateRequestContext) {
+            executor = new ContextPropagatingExecutorService(executor != null ? executor : ForkJoinPool.commonPool());
+        }
         this.executorService = executor;
     }
 
@@ -415,7 +522,10 @@ public class ArcContainerImpl implements ArcContainer {
 
             // Clear caches
             Reflections.clearCaches();
+            LockMetrics.clear();
             resolved.clear();
+            resolvedObservers.clear();
+            notifiers.clear();
             running.set(false);
             InterceptedStaticMethods.clear();
 
@@ -460,11 +570,22 @@ public class ArcContainerImpl implements ArcContainer {
     static <T> InstanceHandle<T> beanInstanceHandle(InjectableBean<T> bean, CreationalContextImpl<T> parentContext,
             boolean resetCurrentInjectionPoint, Consumer<T> destroyLogic) {
         if (bean != null) {
-            if (parentContext == null && Dependent.class.equals(bean.getScope())) {
-                parentContext = new CreationalContextImpl<>(null);
+            CreationalContextImpl<T> creationalContext;
+            if (bean.isDestructionFree()) {
+                // A destruction-free bean never registers a dependent instance - no child context is needed and there is
+                // nothing to destroy
+                creationalContext = parentContext != null ? parentContext : new CreationalContextImpl<>(bean);
+                parentContext = null;
+                if (destroyLogic == null) {
+                    destroyLogic = instance -> {
+                    };
+                }
+            } else {
+                if (parentContext == null && Dependent.class.equals(bean.getScope())) {
+                    parentContext = new CreationalContextImpl<>(null);
+                }
+                creationalContext = parentContext != null ? parentContext.child(bean) : new CreationalContextImpl<>(bean);
             }
-            CreationalContextImpl<T> creationalContext = parentContext != null ? parentContext.child(bean)
-                    : new CreationalContextImpl<>(bean);
             InjectionPoint prev = null;
             if (resetCurrentInjectionPoint) {
                 prev = InjectionPointProvider.set(CurrentInjectionPointProvider.EMPTY);
@@ -489,11 +610,12 @@ public class ArcContainerImpl implements ArcContainer {
     @SuppressWarnings("unchecked")
     private <T> InjectableBean<T> getBean(Type requiredType, Annotation... qualifiers) {
         if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
+            qualifiers = DEFAULT_QUALIFIER;
         } else {
             Qualifiers.verify(qualifiers, qualifierNonbindingMembers.keySet());
         }
-        Set<InjectableBean<?>> resolvedBeans = resolved.getValue(new Resolvable(requiredType, qualifiers));
+        Set<InjectableBean<?>> resolvedBeans = resolved
+                .getValue(new Resolvable(requiredType, qualifiers, qualifierComparators));
         return resolvedBeans.size() != 1 ? null : (InjectableBean<T>) resolvedBeans.iterator().next();
     }
 
@@ -503,7 +625,8 @@ public class ArcContainerImpl implements ArcContainer {
         }
         Qualifiers.verify(qualifiers, qualifierNonbindingMembers.keySet());
         // This method does not cache the results
-        return ImmutableSet.copyOf(getMatchingBeans(new Resolvable(requiredType, qualifiers)).toArray(new Bean<?>[] {}));
+        return ImmutableSet.copyOf(getMatchingBeans(new Resolvable(requiredType, qualifiers, qualifierComparators))
+                .toArray(new Bean<?>[] {}));
     }
 
     Set<Bean<?>> getBeans(String name) {
@@ -651,7 +774,7 @@ public class ArcContainerImpl implements ArcContainer {
 
     List<InjectableBean<?>> getMatchingBeans(Resolvable resolvable) {
         List<InjectableBean<?>> matching = new ArrayList<>();
-        for (InjectableBean<?> bean : beans) {
+        for (InjectableBean<?> bean : beanIndex.candidates(resolvable.requiredType, resolvable.qualifiers)) {
             if (matches(bean, resolvable.requiredType, resolvable.qualifiers)) {
                 matching.add(bean);
             }
@@ -735,25 +858,92 @@ public class ArcContainerImpl implements ArcContainer {
         return priority2.compareTo(priority1);
     }
 
-    @SuppressWarnings("unchecked")
+    @SuppressWarnings({ "unchecked", "rawtypes" })
     <T> List<InjectableObserverMethod<? super T>> resolveObservers(Type eventType, Set<Annotation> eventQualifiers) {
-        Qualifiers.verify(eventQualifiers, qualifierNonbindingMembers.keySet());
         if (observers.isEmpty()) {
+            Qualifiers.verify(eventQualifiers, qualifierNonbindingMembers.keySet());
             return Collections.emptyList();
         }
-        Set<Type> eventTypes = new HierarchyDiscovery(eventType).getTypeClosure();
-        List<InjectableObserverMethod<? super T>> resolvedObservers = new ArrayList<>();
+        EventResolvable resolvable = new EventResolvable(eventType, eventQualifiers, qualifierComparators);
+        List<InjectableObserverMethod<?>> eventObservers = resolvedObservers.getValueIfPresent(resolvable);
+        if (eventObservers == null) {
+            eventObservers = isEventCacheable(Reflections.getRawType(eventType), resolvedObservers)
+                    ? resolvedObservers.getValue(resolvable)
+                    : resolveObservers(resolvable);
+        }
+        return (List) eventObservers;
+    }
+
+    /**
+     * The slots are assigned per bean deployment. If multiple deployments are present then the slots may conflict and the
+     * context stores all instances in a map.
+     *
+     * @param beans
+     * @param scope
+     * @return the number of slots
+     */
+    private static int getContextSlots(List<InjectableBean<?>> beans, Class<? extends Annotation> scope) {
+        BitSet slots = new BitSet();
+        for (InjectableBean<?> bean : beans) {
+            int slot = bean.getContextSlot();
+            if (slot < 0 || !scope.equals(bean.getScope())) {
+                continue;
+            }
+            if (slots.get(slot)) {
+                LOGGER.debugf("Conflicting %s context slots detected - slots are not used", scope.getSimpleName());
+                return 0;
+            }
+            slots.set(slot);
+        }
+        return slots.length();
+    }
+
+    /**
+     * The notifiers are shared by all {@link javax.enterprise.event.Event} instances, i.e. an {@code Event} obtained via
+     * {@code select()} does not need to resolve the observers again.
+     *
+     * @param key
+     * @return the notifier for the given key
+     */
+    @SuppressWarnings("unchecked")
+    <T> Notifier<T> getNotifier(NotifierKey key) {
+        Notifier<?> notifier = notifiers.getValueIfPresent(key);
+        if (notifier == null) {
+            notifier = isEventCacheable(key.runtimeType, notifiers) ? notifiers.getValue(key)
+                    : EventImpl.createNotifier(key, this);
+        }
+        return (Notifier<T>) notifier;
+    }
+
+    /**
+     * The event caches are keyed by the runtime type of an event object. The number of entries is limited so that the types
+     * created at runtime, e.g. the classes generated per invocation, do not grow the caches forever. The synthetic classes
+     * (lambdas) are never cached so that they can be unloaded.
+     */
+    private static boolean isEventCacheable(Class<?> type, ComputingCache<?, ?> cache) {
+        return (type == null || !type.isSynthetic()) && cache.size() < EVENT_CACHE_SIZE;
+    }
+
+    QualifierComparators getQualifierComparators() {
+        return qualifierComparators;
+    }
+
+    private List<InjectableObserverMethod<?>> resolveObservers(EventResolvable resolvable) {
+        Qualifiers.verify(resolvable.qualifiers, qualifierNonbindingMembers.keySet());
+        Set<Type> eventTypes = new HierarchyDiscovery(resolvable.eventType).getTypeClosure();
+        List<InjectableObserverMethod<?>> resolvedObservers = new ArrayList<>();
         for (InjectableObserverMethod<?> observer : observers) {
             if (EventTypeAssignabilityRules.instance().matches(observer.getObservedType(), eventTypes)) {
                 if (observer.getObservedQualifiers().isEmpty()
-                        || Qualifiers.isSubset(observer.getObservedQualifiers(), eventQualifiers, qualifierNonbindingMembers)) {
-                    resolvedObservers.add((InjectableObserverMethod<? super T>) observer);
+                        || Qualifiers.isSubset(observer.getObservedQualifiers(), resolvable.qualifiers,
+                                qualifierComparators)) {
+                    resolvedObservers.add(observer);
                 }
             }
         }
         // Observers with smaller priority values are called first
         resolvedObservers.sort(InjectableObserverMethod::compare);
-        return resolvedObservers;
+        return ImmutableList.copyOf(resolvedObservers);
     }
 
     List<Interceptor<?>> resolveInterceptors(InterceptionType type, Annotation... interceptorBindings) {
@@ -801,7 +991,7 @@ public class ArcContainerImpl implements ArcContainer {
         // The method or constructor has all the interceptor bindings of the interceptor
         for (Annotation binding : interceptor.getInterceptorBindings()) {
             // The resolution rules are the same for qualifiers
-            if (!Qualifiers.hasQualifier(bindings, binding, qualifierNonbindingMembers)) {
+            if (!Qualifiers.hasQualifier(bindings, binding, qualifierComparators)) {
                 return false;
             }
         }
@@ -817,9 +1007,9 @@ public class ArcContainerImpl implements ArcContainer {
      */
     Set<InjectableBean<?>> getResolvedBeans(Type requiredType, Annotation... qualifiers) {
         if (qualifiers == null || qualifiers.length == 0) {
-            qualifiers = new Annotation[] { Default.Literal.INSTANCE };
+            qualifiers = DEFAULT_QUALIFIER;
         }
-        return resolved.getValue(new Resolvable(requiredType, qualifiers));
+        return resolved.getValue(new Resolvable(requiredType, qualifiers, qualifierComparators));
     }
 
     private boolean matches(InjectableBean<?> bean, Type requiredType, Annotation... qualifiers) {
@@ -830,7 +1020,7 @@ public class ArcContainerImpl implements ArcContainer {
         if (!BeanTypeAssignabilityRules.instance().matches(requiredType, beanTypes)) {
             return false;
         }
-        return Qualifiers.hasQualifiers(beanQualifiers, qualifierNonbindingMembers, qualifiers);
+        return Qualifiers.hasQualifiers(beanQualifiers, qualifierComparators, qualifiers);
     }
 
     private boolean decoratorMatches(Set<Type> beanTypes, Set<Annotation> beanQualifiers, Type delegateType,
@@ -838,7 +1028,7 @@ public class ArcContainerImpl implements ArcContainer {
         if (!DelegateInjectionPointAssignabilityRules.instance().matches(delegateType, beanTypes)) {
             return false;
         }
-        return Qualifiers.hasQualifiers(beanQualifiers, qualifierNonbindingMembers, delegateQualifiers);
+        return Qualifiers.hasQualifiers(beanQualifiers, qualifierComparators, delegateQualifiers);
     }
 
     static ArcContainerImpl unwrap(ArcContainer container) {
@@ -891,7 +1081,11 @@ public class ArcContainerImpl implements ArcContainer {
 
         final Annotation[] qualifiers;
 
-        Resolvable(Type requiredType, Annotation[] qualifiers) {
+        final QualifierComparators comparators;
+
+        final int hashCode;
+
+        Resolvable(Type requiredType, Annotation[] qualifiers, QualifierComparators comparators) {
             // if the type is Event, Instance or InjectionPoint (the built-in types), the resolution simplifies
             // type to raw type and ignores qualifiers
             // this is so that every injection point matches the bean we provide for that type
@@ -903,15 +1097,22 @@ public class ArcContainerImpl implements ArcContainer {
                 this.requiredType = requiredType;
                 this.qualifiers = qualifiers;
             }
+            this.comparators = comparators;
+            // The order of qualifiers is not significant and only the binding members are considered
+            int qualifiersHash = 0;
+            for (Annotation qualifier : this.qualifiers) {
+                qualifiersHash += comparators.bindingHashCode(qualifier);
+            }
+            final int prime = 31;
+            int result = 1;
+            result = prime * result + qualifiersHash;
+            result = prime * result + (this.requiredType == null ? 0 : this.requiredType.hashCode());
+            this.hashCode = result;
         }
 
         @Override
         public int hashCode() {
-            final int prime = 31;
-            int result = 1;
-            result = prime * result + Arrays.hashCode(qualifiers);
-            result = prime * result + (requiredType == null ? 0 : requiredType.hashCode());
-            return result;
+            return hashCode;
         }
 
         @Override
@@ -926,6 +1127,9 @@ public class ArcContainerImpl implements ArcContainer {
                 return false;
             }
             Resolvable other = (Resolvable) obj;
+            if (hashCode != other.hashCode) {
+                return false;
+            }
             if (requiredType == null) {
                 if (other.requiredType != null) {
                     return false;
@@ -933,7 +1137,95 @@ public class ArcContainerImpl implements ArcContainer {
             } else if (!requiredType.equals(other.requiredType)) {
                 return false;
             }
-            return Arrays.equals(qualifiers, other.qualifiers);
+            return sameQualifiers(qualifiers, other.qualifiers);
+        }
+
+        private boolean sameQualifiers(Annotation[] qualifiers, Annotation[] otherQualifiers) {
+            if (qualifiers.length != otherQualifiers.length) {
+                return false;
+            }
+            for (int i = 0; i < qualifiers.length; i++) {
+                if (!comparators.bindingEquals(qualifiers[i], otherQualifiers[i])
+                        && !contains(otherQualifiers, qualifiers[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean contains(Annotation[] qualifiers, Annotation qualifier) {
+            for (Annotation q : qualifiers) {
+                if (comparators.bindingEquals(q, qualifier)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+    }
+
+    private static final class EventResolvable {
+
+        final Type eventType;
+
+        final Set<Annotation> qualifiers;
+
+        final QualifierComparators comparators;
+
+        final int hashCode;
+
+        EventResolvable(Type eventType, Set<Annotation> qualifiers, QualifierComparators comparators) {
+            this.eventType = eventType;
+            // The set of qualifiers of an event may be modified later
+            this.qualifiers = ImmutableSet.copyOf(qualifiers);
+            this.comparators = comparators;
+            // Only the binding members are considered
+            this.hashCode = 31 * eventType.hashCode() + comparators.bindingHashCode(this.qualifiers);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof EventResolvable)) {
+                return false;
+            }
+            EventResolvable other = (EventResolvable) obj;
+            return hashCode == other.hashCode && eventType.equals(other.eventType)
+                    && comparators.bindingEquals(qualifiers, other.qualifiers);
+        }
+
+    }
+
+    /**
+     * Holds the {@link Resolvable} and the resolved bean so that repeated lookups skip the cache.
+     */
+    private final class InstanceResolver<T> implements Supplier<InstanceHandle<T>> {
+
+        private final Resolvable resolvable;
+
+        private volatile Set<InjectableBean<?>> resolvedBeans;
+
+        InstanceResolver(Resolvable resolvable) {
+            this.resolvable = resolvable;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public InstanceHandle<T> get() {
+            Set<InjectableBean<?>> beans = resolvedBeans;
+            if (beans == null) {
+                beans = resolved.getValue(resolvable);
+                resolvedBeans = beans;
+            }
+            return beans.size() != 1 ? EagerInstanceHandle.unavailable()
+                    : beanInstanceHandle((InjectableBean<T>) beans.iterator().next(), null);
         }
 
     }
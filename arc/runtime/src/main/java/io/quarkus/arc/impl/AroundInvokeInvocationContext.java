@@ -4,6 +4,7 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 import javax.interceptor.InvocationContext;
@@ -18,18 +19,23 @@ import javax.interceptor.InvocationContext;
  * <p>
  * Note that context data and method parameters are mutable and are not guarded/synchronized. We expect them to be modified
  * before or after dispatch. If modified before and after dispatch an unpredicatble behavior may occur.
+ *
+ * @see SharedAroundInvokeInvocationContext
  */
-class AroundInvokeInvocationContext extends AbstractInvocationContext {
+class AroundInvokeInvocationContext extends AbstractAroundInvokeInvocationContext {
 
     private final int position;
     private final Function<InvocationContext, Object> aroundInvokeForward;
+    // The context data map is shared by all contexts of a chain
+    private final AroundInvokeInvocationContext parent;
 
     AroundInvokeInvocationContext(Object target, Method method, Object[] parameters,
-            ContextDataMap contextData, Set<Annotation> interceptorBindings, int position,
+            AroundInvokeInvocationContext parent, Set<Annotation> interceptorBindings, int position,
             List<InterceptorInvocation> chain, Function<InvocationContext, Object> aroundInvokeForward) {
-        super(target, method, null, parameters, contextData, interceptorBindings, chain);
+        super(target, method, parameters, null, interceptorBindings, chain);
         this.position = position;
         this.aroundInvokeForward = aroundInvokeForward;
+        this.parent = parent;
     }
 
     static Object perform(Object target, Method method,
@@ -46,11 +52,13 @@ class AroundInvokeInvocationContext extends AbstractInvocationContext {
         try {
             if (position < chain.size()) {
                 // Invoke the next interceptor in the chain
-                return chain.get(position).invoke(new AroundInvokeInvocationContext(target, method,
-                        parameters, contextData, interceptorBindings, position + 1, chain, aroundInvokeForward));
+                AroundInvokeInvocationContext next = new AroundInvokeInvocationContext(target, method,
+                        parameters, this, interceptorBindings, position + 1, chain, aroundInvokeForward);
+                next.targetWrapper = targetWrapper;
+                return chain.get(position).invoke(next);
             } else {
                 // Invoke the target method
-                return aroundInvokeForward.apply(this);
+                return targetWrapper != null ? targetWrapper.invoke(this) : aroundInvokeForward.apply(this);
             }
         } catch (InvocationTargetException e) {
             Throwable cause = e.getCause();
@@ -64,4 +72,18 @@ class AroundInvokeInvocationContext extends AbstractInvocationContext {
         }
     }
 
+    @Override
+    Object invokeTarget() {
+        return aroundInvokeForward.apply(this);
+    }
+
+    @Override
+    public Map<String, Object> getContextData() {
+        if (contextData == null) {
+            contextData = parent != null ? (ContextDataMap) parent.getContextData()
+                    : new ContextDataMap(interceptorBindings);
+        }
+        return contextData;
+    }
+
 }
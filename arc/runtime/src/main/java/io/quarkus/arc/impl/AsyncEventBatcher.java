@@ -0,0 +1,295 @@
+package io.quarkus.arc.impl;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.AsyncEventDelivery;
+import io.quarkus.arc.AsyncObserverExceptionHandler;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.impl.EventImpl.CollectingExceptionHandler;
+import io.quarkus.arc.impl.EventImpl.Notifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Function;
+
+/**
+ * Delivers asynchronous events of a single {@link Notifier} in micro-batches.
+ * <p>
+ * Events are appended to a bounded ring buffer. At most one delivery task per batcher is submitted to the executor at a
+ * time, so the events are delivered in the order in which they were fired. If the buffer is full, the firing thread waits
+ * until the delivery task makes room for the event, i.e. an event never overtakes the events fired before it.
+ * <p>
+ * A batcher is evicted from its notifier once all events were delivered, i.e. the notifier does not hold the batcher and the
+ * executor while no events are pending. The buffer grows on demand so that a new batcher is cheap to create.
+ *
+ * @param <T>
+ * @see AsyncEventDelivery
+ */
+final class AsyncEventBatcher<T> implements Runnable {
+
+    static final int DEFAULT_CAPACITY = 1024;
+
+    // Returned by offer() if the batcher was evicted in the meantime
+    static final CompletableFuture<?> EVICTED = new CompletableFuture<>();
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    // The maximum number of events delivered by a single task
+    static final int MAX_BATCH_SIZE = 256;
+
+    private final Notifier<T> notifier;
+    private final Executor executor;
+
+    private final int capacity;
+
+    // All the fields below are guarded by this
+    private PendingEvent<T>[] buffer;
+    // Lazily initialized
+    private Map<Object, PendingEvent<T>> coalesced;
+    private int head;
+    private int size;
+    private boolean scheduled;
+    private boolean evicted;
+    // The thread that delivers the events, it must not wait for itself if an observer fires an event
+    private Thread deliveringThread;
+
+    @SuppressWarnings("unchecked")
+    AsyncEventBatcher(Notifier<T> notifier, Executor executor) {
+        this.notifier = notifier;
+        this.executor = executor;
+        this.capacity = Integer.getInteger(AsyncEventDelivery.BUFFER_CAPACITY_PROPERTY, DEFAULT_CAPACITY);
+        this.buffer = new PendingEvent[Math.min(INITIAL_CAPACITY, capacity)];
+    }
+
+    /**
+     *
+     * @param event
+     * @param keyExtractor the function used to extract the coalescing key, may be {@code null}
+     * @return the future completed when the event is delivered or {@link #EVICTED}
+     */
+    @SuppressWarnings("unchecked")
+    <U extends T> CompletableFuture<U> offer(U event, Function<Object, Object> keyExtractor) {
+        CompletableFuture<U> future = new CompletableFuture<>();
+        Object key = keyExtractor != null ? keyExtractor.apply(event) : null;
+        boolean schedule;
+        synchronized (this) {
+            if (evicted) {
+                return (CompletableFuture<U>) EVICTED;
+            }
+            PendingEvent<T> pending = key != null && coalesced != null ? coalesced.get(key) : null;
+            if (pending != null) {
+                pending.replace(event, (CompletableFuture<T>) future);
+                return future;
+            }
+            while (size == buffer.length && !grow()) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    future.completeExceptionally(new CompletionException(e));
+                    return future;
+                }
+                if (evicted) {
+                    return (CompletableFuture<U>) EVICTED;
+                }
+            }
+            pending = new PendingEvent<>(event, (CompletableFuture<T>) future, key);
+            buffer[(head + size++) % buffer.length] = pending;
+            if (key != null) {
+                if (coalesced == null) {
+                    coalesced = new HashMap<>();
+                }
+                coalesced.put(key, pending);
+            }
+            schedule = !scheduled;
+            scheduled = true;
+        }
+        if (schedule) {
+            schedule();
+        }
+        return future;
+    }
+
+    @Override
+    public void run() {
+        synchronized (this) {
+            deliveringThread = Thread.currentThread();
+        }
+        try {
+            deliver(poll());
+        } finally {
+            boolean schedule;
+            synchronized (this) {
+                deliveringThread = null;
+                schedule = size > 0;
+                scheduled = schedule;
+                evicted = !schedule;
+            }
+            if (schedule) {
+                schedule();
+            } else {
+                notifier.evict(executor, this);
+            }
+        }
+    }
+
+    private boolean grow() {
+        int length;
+        if (buffer.length < capacity) {
+            length = Math.min(capacity, buffer.length * 2);
+        } else if (deliveringThread == Thread.currentThread()) {
+            // An observer fired an event - the delivery task would wait for itself
+            length = buffer.length * 2;
+        } else {
+            return false;
+        }
+        @SuppressWarnings("unchecked")
+        PendingEvent<T>[] grown = new PendingEvent[length];
+        for (int i = 0; i < size; i++) {
+            grown[i] = buffer[(head + i) % buffer.length];
+        }
+        buffer = grown;
+        head = 0;
+        return true;
+    }
+
+    private void schedule() {
+        try {
+            executor.execute(this);
+        } catch (RejectedExecutionException e) {
+            List<PendingEvent<T>> rejected = new ArrayList<>();
+            synchronized (this) {
+                PendingEvent<T>[] batch;
+                while ((batch = poll()).length > 0) {
+                    for (PendingEvent<T> pending : batch) {
+                        rejected.add(pending);
+                    }
+                }
+                scheduled = false;
+                evicted = true;
+                // Wake up the threads waiting for room in the buffer
+                notifyAll();
+            }
+            notifier.evict(executor, this);
+            for (PendingEvent<T> pending : rejected) {
+                pending.fail(e);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private synchronized PendingEvent<T>[] poll() {
+        int length = Math.min(size, MAX_BATCH_SIZE);
+        PendingEvent<T>[] batch = new PendingEvent[length];
+        for (int i = 0; i < length; i++) {
+            PendingEvent<T> pending = buffer[head];
+            buffer[head] = null;
+            head = (head + 1) % buffer.length;
+            if (pending.key != null && coalesced != null) {
+                // The event can't be replaced once it's taken from the buffer
+                coalesced.remove(pending.key);
+            }
+            batch[i] = pending;
+        }
+        size -= length;
+        if (length > 0) {
+            notifyAll();
+        }
+        return batch;
+    }
+
+    private void deliver(PendingEvent<T>[] batch) {
+        if (batch.length == 0) {
+            return;
+        }
+        try {
+            // Look up the handler and the request context once per batch
+            AsyncObserverExceptionHandler handler = Arc.container().instance(AsyncObserverExceptionHandler.class).get();
+            ManagedContext requestContext = notifier.isActivateRequestContext() ? Arc.container().requestContext() : null;
+            deliver(batch, handler, requestContext);
+        } catch (Throwable e) {
+            // E.g. the container is not running anymore
+            for (PendingEvent<T> pending : batch) {
+                if (!pending.future.isDone()) {
+                    pending.fail(e);
+                }
+            }
+        }
+    }
+
+    private void deliver(PendingEvent<T>[] batch, AsyncObserverExceptionHandler handler, ManagedContext requestContext) {
+        for (PendingEvent<T> pending : batch) {
+            CollectingExceptionHandler exceptionHandler = new CollectingExceptionHandler(new ArrayList<>(), handler);
+            // Each event is delivered in a separate request context, as if it was fired without batching
+            boolean activate = requestContext != null && !requestContext.isActive();
+            try {
+                if (activate) {
+                    requestContext.activate();
+                }
+                try {
+                    notifier.notifyAsyncObservers(pending.event, exceptionHandler);
+                } finally {
+                    if (activate) {
+                        requestContext.terminate();
+                    }
+                }
+                EventImpl.handleExceptions(exceptionHandler);
+                pending.complete();
+            } catch (Throwable e) {
+                pending.fail(e);
+            }
+        }
+    }
+
+    private static final class PendingEvent<T> {
+
+        final Object key;
+
+        // Guarded by the batcher until the event is taken from the buffer
+        T event;
+        CompletableFuture<T> future;
+        List<PendingEvent<T>> replaced;
+
+        PendingEvent(T event, CompletableFuture<T> future, Object key) {
+            this.event = event;
+            this.future = future;
+            this.key = key;
+        }
+
+        void replace(T event, CompletableFuture<T> future) {
+            if (replaced == null) {
+                replaced = new ArrayList<>();
+            }
+            replaced.add(new PendingEvent<>(this.event, this.future, null));
+            this.event = event;
+            this.future = future;
+        }
+
+        void complete() {
+            future.complete(event);
+            if (replaced != null) {
+                for (PendingEvent<T> pending : replaced) {
+                    pending.future.complete(pending.event);
+                }
+            }
+        }
+
+        void fail(Throwable failure) {
+            if (!(failure instanceof CompletionException)) {
+                failure = new CompletionException(failure);
+            }
+            future.completeExceptionally(failure);
+            if (replaced != null) {
+                for (PendingEvent<T> pending : replaced) {
+                    pending.future.completeExceptionally(failure);
+                }
+            }
+        }
+
+    }
+
+}
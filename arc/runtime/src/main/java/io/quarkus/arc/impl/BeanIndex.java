@@ -0,0 +1,162 @@
+package io.quarkus.arc.impl;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.common.collect.ImmutableMap;
+
+import io.quarkus.arc.InjectableBean;
+
+/**
+ * An immutable index used to narrow down the set of candidate beans for typesafe resolution.
+ * <p>
+ * Beans are indexed by the raw type of each bean type and then by the annotation type of each qualifier. The index never
+ * excludes a bean that could match; the assignability rules and qualifier member values still need to be checked for each
+ * candidate. Beans with a bean type whose raw type cannot be determined are considered a candidate for every lookup.
+ */
+final class BeanIndex {
+
+    private static final InjectableBean<?>[] EMPTY = new InjectableBean<?>[0];
+
+    private final InjectableBean<?>[] all;
+
+    private final InjectableBean<?>[] unindexed;
+
+    private final Map<Class<?>, RawTypeEntry> index;
+
+    BeanIndex(List<InjectableBean<?>> beans) {
+        this.all = beans.toArray(EMPTY);
+        List<InjectableBean<?>> unindexed = new ArrayList<>();
+        for (InjectableBean<?> bean : all) {
+            for (Type type : bean.getTypes()) {
+                if (indexKey(type) == null) {
+                    unindexed.add(bean);
+                    break;
+                }
+            }
+        }
+        this.unindexed = unindexed.toArray(EMPTY);
+
+        // Beans are processed in the original order so that the candidates preserve the order of the beans
+        Map<Class<?>, RawTypeEntryBuilder> builders = new HashMap<>();
+        for (InjectableBean<?> bean : all) {
+            for (Type type : bean.getTypes()) {
+                Class<?> key = indexKey(type);
+                if (key != null) {
+                    builders.computeIfAbsent(key, k -> new RawTypeEntryBuilder());
+                }
+            }
+        }
+        for (InjectableBean<?> bean : all) {
+            if (this.unindexed.length > 0 && unindexed.contains(bean)) {
+                for (RawTypeEntryBuilder builder : builders.values()) {
+                    builder.add(bean);
+                }
+                continue;
+            }
+            for (Type type : bean.getTypes()) {
+                builders.get(indexKey(type)).add(bean);
+            }
+        }
+
+        ImmutableMap.Builder<Class<?>, RawTypeEntry> index = ImmutableMap.builder();
+        for (Map.Entry<Class<?>, RawTypeEntryBuilder> e : builders.entrySet()) {
+            index.put(e.getKey(), e.getValue().build());
+        }
+        this.index = index.build();
+    }
+
+    /**
+     *
+     * @param requiredType
+     * @param qualifiers
+     * @return the beans that may match the given required type and qualifiers
+     */
+    InjectableBean<?>[] candidates(Type requiredType, Annotation[] qualifiers) {
+        Class<?> key = indexKey(requiredType);
+        if (key == null) {
+            return all;
+        }
+        RawTypeEntry entry = index.get(key);
+        if (entry == null) {
+            return unindexed;
+        }
+        // A matching bean must declare all the required qualifiers - pick the smallest set of candidates
+        InjectableBean<?>[] candidates = entry.beans;
+        for (Annotation qualifier : qualifiers) {
+            InjectableBean<?>[] beans = entry.byQualifier.get(qualifier.annotationType());
+            if (beans == null) {
+                return EMPTY;
+            }
+            if (beans.length < candidates.length) {
+                candidates = beans;
+            }
+        }
+        return candidates;
+    }
+
+    private static Class<?> indexKey(Type type) {
+        if (type instanceof Class) {
+            // The assignability rules treat primitive types and their wrappers as identical
+            return Types.boxedClass((Class<?>) type);
+        }
+        if (type instanceof ParameterizedType) {
+            Type rawType = ((ParameterizedType) type).getRawType();
+            if (rawType instanceof Class) {
+                return (Class<?>) rawType;
+            }
+        }
+        return null;
+    }
+
+    private static final class RawTypeEntry {
+
+        final InjectableBean<?>[] beans;
+
+        final Map<Class<? extends Annotation>, InjectableBean<?>[]> byQualifier;
+
+        RawTypeEntry(InjectableBean<?>[] beans, Map<Class<? extends Annotation>, InjectableBean<?>[]> byQualifier) {
+            this.beans = beans;
+            this.byQualifier = byQualifier;
+        }
+
+    }
+
+    private static final class RawTypeEntryBuilder {
+
+        private final List<InjectableBean<?>> beans = new ArrayList<>();
+
+        private final Map<Class<? extends Annotation>, List<InjectableBean<?>>> byQualifier = new LinkedHashMap<>();
+
+        void add(InjectableBean<?> bean) {
+            // A bean may have several bean types with the same raw type
+            if (!beans.isEmpty() && beans.get(beans.size() - 1) == bean) {
+                return;
+            }
+            beans.add(bean);
+            for (Annotation qualifier : bean.getQualifiers()) {
+                List<InjectableBean<?>> qualified = byQualifier.computeIfAbsent(qualifier.annotationType(),
+                        k -> new ArrayList<>());
+                if (qualified.isEmpty() || qualified.get(qualified.size() - 1) != bean) {
+                    qualified.add(bean);
+                }
+            }
+        }
+
+        RawTypeEntry build() {
+            ImmutableMap.Builder<Class<? extends Annotation>, InjectableBean<?>[]> qualified = ImmutableMap.builder();
+            for (Map.Entry<Class<? extends Annotation>, List<InjectableBean<?>>> e : byQualifier.entrySet()) {
+                qualified.put(e.getKey(), e.getValue().toArray(EMPTY));
+            }
+            return new RawTypeEntry(beans.toArray(EMPTY), qualified.build());
+        }
+
+    }
+
+}
@@ -21,6 +21,18 @@ public final class ClientProxies {
         return result;
     }
 
+    /**
+     * The handle may be cached by the client proxy as long as it's {@link ContextInstanceHandleImpl#isValid() valid}.
+     *
+     * @param applicationContext
+     * @param bean
+     * @return the handle of the contextual instance
+     */
+    public static <T> ContextInstanceHandleImpl<T> getApplicationScopedHandle(InjectableContext applicationContext,
+            InjectableBean<T> bean) {
+        return ((AbstractSharedContext) applicationContext).getInstanceHandle(bean);
+    }
+
     public static <T> T getDelegate(InjectableBean<T> bean) {
         List<InjectableContext> contexts = Arc.container().getContexts(bean.getScope());
         T result = null;
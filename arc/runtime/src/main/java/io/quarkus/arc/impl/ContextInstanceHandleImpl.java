@@ -11,13 +11,27 @@ import javax.enterprise.context.spi.CreationalContext;
  */
 public class ContextInstanceHandleImpl<T> extends EagerInstanceHandle<T> implements ContextInstanceHandle<T> {
 
+    // Set when the instance is destroyed, i.e. when it's removed from the context
+    private volatile boolean invalidated;
+
     public ContextInstanceHandleImpl(InjectableBean<T> bean, T instance, CreationalContext<T> creationalContext) {
         super(bean, instance, creationalContext);
     }
 
     @Override
     public void destroy() {
+        invalidated = true;
         destroyInternal();
     }
 
+    /**
+     * A client proxy of an {@link javax.enterprise.context.ApplicationScoped} bean may hold a valid handle instead of
+     * looking up the instance in the context for every invocation.
+     *
+     * @return {@code true} if the instance was not destroyed yet
+     */
+    public boolean isValid() {
+        return !invalidated;
+    }
+
 }
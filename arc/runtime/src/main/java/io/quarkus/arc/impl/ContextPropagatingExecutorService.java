@@ -0,0 +1,64 @@
+package io.quarkus.arc.impl;
+
+import io.quarkus.arc.ContextCarrier;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Propagates the request context of the submitting thread to the tasks.
+ *
+ * @see ContextCarrier
+ */
+final class ContextPropagatingExecutorService extends AbstractExecutorService {
+
+    private final ExecutorService delegate;
+
+    ContextPropagatingExecutorService(ExecutorService delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+        delegate.execute(ContextCarrier.capture().wrap(command));
+    }
+
+    @Override
+    public void shutdown() {
+        delegate.shutdown();
+    }
+
+    @Override
+    public List<Runnable> shutdownNow() {
+        return delegate.shutdownNow();
+    }
+
+    @Override
+    public boolean isShutdown() {
+        return delegate.isShutdown();
+    }
+
+    @Override
+    public boolean isTerminated() {
+        return delegate.isTerminated();
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return delegate.awaitTermination(timeout, unit);
+    }
+
+    /**
+     *
+     * @param executor
+     * @return the executor that does not propagate the request context
+     */
+    static Executor unwrap(Executor executor) {
+        return executor instanceof ContextPropagatingExecutorService
+                ? ((ContextPropagatingExecutorService) executor).delegate
+                : executor;
+    }
+
+}
@@ -4,11 +4,14 @@ import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableReferenceProvider;
 import io.quarkus.arc.InstanceHandle;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Function;
 import javax.enterprise.context.spi.Contextual;
 import javax.enterprise.context.spi.CreationalContext;
+import org.jboss.logging.Logger;
 
 /**
  *
@@ -18,9 +21,31 @@ import javax.enterprise.context.spi.CreationalContext;
  */
 public class CreationalContextImpl<T> implements CreationalContext<T>, Function<Contextual<T>, CreationalContext<T>> {
 
+    /**
+     * The name of the system property that can be used to set the number of dependent instances a creational context
+     * may hold before a possible leak is reported, e.g. {@code -Dquarkus.arc.dependent-leak-threshold=1000}. A warning is
+     * logged when the threshold is reached and then each time the number of dependent instances doubles. Use a
+     * non-positive value to disable the reporting.
+     */
+    public static final String LEAK_THRESHOLD_PROPERTY = "quarkus.arc.dependent-leak-threshold";
+
+    private static final Logger LOGGER = Logger.getLogger(CreationalContextImpl.class.getName());
+
+    private static final int LEAK_THRESHOLD = Integer.getInteger(LEAK_THRESHOLD_PROPERTY, 10000);
+
+    // Above this number of dependent instances the instances are kept in a map
+    private static final int MAX_ARRAY_SIZE = 8;
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicReferenceFieldUpdater<CreationalContextImpl, Object> DEPENDENT_INSTANCES_UPDATER =
+            AtomicReferenceFieldUpdater.newUpdater(CreationalContextImpl.class, Object.class, "dependentInstances");
+
     private final Contextual<T> contextual;
     private final CreationalContextImpl<?> parent;
-    private List<InstanceHandle<?>> dependentInstances;
+    // Either null, an immutable InstanceHandle[] that is replaced as a whole, or a DependentMap keyed by identity where a
+    // value is either an InstanceHandle or an InstanceHandle[] if the same instance (e.g. null) was added more than once;
+    // both keep the order in which the instances were added
+    private volatile Object dependentInstances;
 
     public CreationalContextImpl(Contextual<T> contextual) {
         this(contextual, null);
@@ -29,38 +54,114 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, Function<
     public CreationalContextImpl(Contextual<T> contextual, CreationalContextImpl<?> parent) {
         this.contextual = contextual;
         this.parent = parent;
-        this.dependentInstances = null;
     }
 
     public <I> void addDependentInstance(InjectableBean<I> bean, I instance, CreationalContext<I> ctx) {
         addDependentInstance(new EagerInstanceHandle<I>(bean, instance, ctx));
     }
 
-    public synchronized <I> void addDependentInstance(InstanceHandle<I> instanceHandle) {
-        if (dependentInstances == null) {
-            dependentInstances = new ArrayList<>();
+    public <I> void addDependentInstance(InstanceHandle<I> instanceHandle) {
+        for (;;) {
+            Object dependents = dependentInstances;
+            if (dependents instanceof DependentMap) {
+                addDependentInstance((DependentMap) dependents, instanceHandle);
+                return;
+            }
+            InstanceHandle<?>[] instanceHandles = (InstanceHandle<?>[]) dependents;
+            Object added;
+            if (instanceHandles == null) {
+                added = new InstanceHandle<?>[] { instanceHandle };
+            } else if (instanceHandles.length < MAX_ARRAY_SIZE) {
+                added = append(instanceHandles, instanceHandle);
+            } else {
+                DependentMap map = new DependentMap();
+                for (InstanceHandle<?> existing : instanceHandles) {
+                    map.merge(new DependentKey(existing.get()), existing, CreationalContextImpl::merge);
+                }
+                map.merge(new DependentKey(instanceHandle.get()), instanceHandle, CreationalContextImpl::merge);
+                added = map;
+            }
+            if (DEPENDENT_INSTANCES_UPDATER.compareAndSet(this, dependents, added)) {
+                return;
+            }
         }
-        dependentInstances.add(instanceHandle);
     }
 
-    public synchronized boolean hasDependentInstances() {
-        return dependentInstances != null && !dependentInstances.isEmpty();
+    private void addDependentInstance(DependentMap dependents, InstanceHandle<?> instanceHandle) {
+        long count;
+        synchronized (dependents) {
+            dependents.merge(new DependentKey(instanceHandle.get()), instanceHandle, CreationalContextImpl::merge);
+            count = dependents.size();
+        }
+        if (LEAK_THRESHOLD > 0 && count % LEAK_THRESHOLD == 0 && Long.bitCount(count / LEAK_THRESHOLD) == 1) {
+            LOGGER.warnf("%s dependent instances of [%s] were not destroyed yet - make sure the instances obtained from "
+                    + "an Instance are destroyed, e.g. via Instance#destroy() or InjectableInstance#arena(): %s", count,
+                    contextual, instanceHandle.getBean());
+        }
+    }
+
+    public boolean hasDependentInstances() {
+        Object dependents = dependentInstances;
+        if (dependents instanceof DependentMap) {
+            synchronized (dependents) {
+                return !((DependentMap) dependents).isEmpty();
+            }
+        }
+        return dependents != null;
     }
 
     boolean destroyDependentInstance(Object dependentInstance) {
-        synchronized (this) {
-            if (dependentInstances != null) {
-                for (Iterator<InstanceHandle<?>> iterator = dependentInstances.iterator(); iterator.hasNext();) {
-                    InstanceHandle<?> instanceHandle = iterator.next();
-                    if (instanceHandle.get() == dependentInstance) {
-                        instanceHandle.destroy();
-                        iterator.remove();
-                        return true;
-                    }
+        for (;;) {
+            Object dependents = dependentInstances;
+            if (dependents == null) {
+                return false;
+            }
+            if (dependents instanceof DependentMap) {
+                return destroyDependentInstance((DependentMap) dependents, dependentInstance);
+            }
+            InstanceHandle<?>[] instanceHandles = (InstanceHandle<?>[]) dependents;
+            int idx = -1;
+            for (int i = 0; i < instanceHandles.length; i++) {
+                if (instanceHandles[i].get() == dependentInstance) {
+                    idx = i;
+                    break;
                 }
             }
+            if (idx == -1) {
+                return false;
+            }
+            if (DEPENDENT_INSTANCES_UPDATER.compareAndSet(this, dependents, remove(instanceHandles, idx))) {
+                instanceHandles[idx].destroy();
+                return true;
+            }
         }
-        return false;
+    }
+
+    private static boolean destroyDependentInstance(DependentMap dependents, Object dependentInstance) {
+        DependentKey key = new DependentKey(dependentInstance);
+        InstanceHandle<?> instanceHandle;
+        synchronized (dependents) {
+            Object value = dependents.get(key);
+            if (value == null) {
+                return false;
+            }
+            if (value instanceof InstanceHandle) {
+                instanceHandle = (InstanceHandle<?>) value;
+                dependents.remove(key);
+            } else {
+                InstanceHandle<?>[] instanceHandles = (InstanceHandle<?>[]) value;
+                instanceHandle = instanceHandles[0];
+                Object remaining = remove(instanceHandles, 0);
+                if (remaining != null) {
+                    dependents.put(key, remaining);
+                } else {
+                    dependents.remove(key);
+                }
+            }
+        }
+        // Destroyed outside the lock, a dependent may destroy other instances of this context
+        instanceHandle.destroy();
+        return true;
     }
 
     @Override
@@ -70,12 +171,22 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, Function<
 
     @Override
     public void release() {
-        synchronized (this) {
-            if (dependentInstances != null) {
-                for (InstanceHandle<?> instance : dependentInstances) {
-                    instance.destroy();
-                }
+        Object dependents = dependentInstances;
+        if (dependents instanceof DependentMap) {
+            List<Object> values;
+            synchronized (dependents) {
+                values = new ArrayList<>(((DependentMap) dependents).values());
+                ((DependentMap) dependents).clear();
             }
+            // In the order in which the instances were added
+            for (Object value : values) {
+                destroy(value);
+            }
+        } else if (dependents != null && DEPENDENT_INSTANCES_UPDATER.compareAndSet(this, dependents, null)) {
+            destroy(dependents);
+        } else if (dependents != null) {
+            // Modified concurrently
+            release();
         }
     }
 
@@ -124,4 +235,73 @@ public class CreationalContextImpl<T> implements CreationalContext<T>, Function<
         }
     }
 
+    private static void destroy(Object value) {
+        if (value instanceof InstanceHandle) {
+            ((InstanceHandle<?>) value).destroy();
+        } else {
+            for (InstanceHandle<?> instanceHandle : (InstanceHandle<?>[]) value) {
+                instanceHandle.destroy();
+            }
+        }
+    }
+
+    private static Object merge(Object value, Object instanceHandle) {
+        if (value instanceof InstanceHandle) {
+            return new InstanceHandle<?>[] { (InstanceHandle<?>) value, (InstanceHandle<?>) instanceHandle };
+        }
+        return append((InstanceHandle<?>[]) value, (InstanceHandle<?>) instanceHandle);
+    }
+
+    private static InstanceHandle<?>[] append(InstanceHandle<?>[] instanceHandles, InstanceHandle<?> instanceHandle) {
+        InstanceHandle<?>[] appended = Arrays.copyOf(instanceHandles, instanceHandles.length + 1);
+        appended[instanceHandles.length] = instanceHandle;
+        return appended;
+    }
+
+    /**
+     * @return the remaining handle or handles, or {@code null} if no handle remains
+     */
+    private static Object remove(InstanceHandle<?>[] instanceHandles, int idx) {
+        if (instanceHandles.length == 1) {
+            return null;
+        }
+        InstanceHandle<?>[] removed = new InstanceHandle<?>[instanceHandles.length - 1];
+        System.arraycopy(instanceHandles, 0, removed, 0, idx);
+        System.arraycopy(instanceHandles, idx + 1, removed, idx, removed.length - idx);
+        return removed;
+    }
+
+    /**
+     * Dependent instances in the order in which they were added. Guarded by its own monitor.
+     */
+    @SuppressWarnings("serial")
+    static final class DependentMap extends LinkedHashMap<DependentKey, Object> {
+
+    }
+
+    /**
+     * Identity-based key of a dependent instance.
+     */
+    static final class DependentKey {
+
+        private final Object instance;
+        private final int hashCode;
+
+        DependentKey(Object instance) {
+            this.instance = instance;
+            this.hashCode = System.identityHashCode(instance);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof DependentKey && ((DependentKey) obj).instance == instance;
+        }
+
+    }
+
 }
@@ -3,7 +3,9 @@ package io.quarkus.arc.impl;
 import static javax.transaction.Status.STATUS_COMMITTED;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.AsyncEventDelivery;
 import io.quarkus.arc.AsyncObserverExceptionHandler;
+import io.quarkus.arc.InjectableObserverMethod;
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
 import java.lang.annotation.Annotation;
@@ -21,7 +23,7 @@ import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
-import java.util.function.Predicate;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import javax.enterprise.event.Event;
 import javax.enterprise.event.NotificationOptions;
@@ -39,7 +41,7 @@ import javax.transaction.SystemException;
 import javax.transaction.TransactionManager;
 import org.jboss.logging.Logger;
 
-import com.google.common.base.Predicates;
+import com.google.common.collect.ImmutableSet;
 
 /**
  *
@@ -49,13 +51,13 @@ import com.google.common.base.Predicates;
  */
 class EventImpl<T> implements Event<T> {
 
-    private static final int DEFAULT_CACHE_CAPACITY = 4;
     private static final NotificationOptions EMPTY_OPTIONS = NotificationOptions.builder().build();
 
-    private final HierarchyDiscovery injectionPointTypeHierarchy;
     private final Type eventType;
     private final Set<Annotation> qualifiers;
-    private final ConcurrentMap<Class<?>, Notifier<? super T>> notifiers;
+    // Hash of the event type and qualifiers, the runtime type of an event object is added when a notifier is needed
+    // Computed lazily with the qualifier comparators of the container, zero means not computed yet
+    private int notifierKeyHash;
 
     private transient volatile Notifier<? super T> lastNotifier;
 
@@ -63,10 +65,7 @@ class EventImpl<T> implements Event<T> {
 
     EventImpl(Type eventType, Set<Annotation> qualifiers) {
         this.eventType = initEventType(eventType);
-        this.injectionPointTypeHierarchy = new HierarchyDiscovery(this.eventType);
-        this.qualifiers = qualifiers;
-        this.qualifiers.add(Any.Literal.INSTANCE);
-        this.notifiers = new ConcurrentHashMap<>(DEFAULT_CACHE_CAPACITY);
+        this.qualifiers = ImmutableSet.<Annotation> builder().addAll(qualifiers).add(Any.Literal.INSTANCE).build();
     }
 
     @Override
@@ -96,6 +95,16 @@ class EventImpl<T> implements Event<T> {
             return AsyncEventDeliveryStage.completed(event, executor);
         }
 
+        @SuppressWarnings("unchecked")
+        Function<Object, Object> coalesceBy = (Function<Object, Object>) options.get(AsyncEventDelivery.COALESCE_BY);
+        if (coalesceBy != null || Boolean.TRUE.equals(options.get(AsyncEventDelivery.BATCHED))) {
+            // Events of a batch may be fired from different requests - the request context is never propagated
+            // If the buffer is full, this thread waits until there is room for the event so that the order is kept
+            CompletableFuture<U> future = notifier.offer(ContextPropagatingExecutorService.unwrap(executor), event,
+                    coalesceBy);
+            return new AsyncEventDeliveryStage<>(future, executor);
+        }
+
         Supplier<U> notifyLogic = new Supplier<U>() {
             @Override
             public U get() {
@@ -117,7 +126,15 @@ class EventImpl<T> implements Event<T> {
         if (notifier != null && notifier.runtimeType.equals(runtimeType)) {
             return notifier;
         }
-        return this.lastNotifier = notifiers.computeIfAbsent(runtimeType, this::createNotifier);
+        ArcContainerImpl container = ArcContainerImpl.unwrap(Arc.container());
+        QualifierComparators comparators = container.getQualifierComparators();
+        int hash = notifierKeyHash;
+        if (hash == 0) {
+            hash = 31 * eventType.hashCode() + comparators.bindingHashCode(qualifiers);
+            notifierKeyHash = hash;
+        }
+        return this.lastNotifier = container.getNotifier(new NotifierKey(eventType, qualifiers, hash, runtimeType,
+                comparators));
     }
 
     @Override
@@ -148,9 +165,16 @@ class EventImpl<T> implements Event<T> {
         return new EventImpl<U>(subtype.getType(), mergerdQualifiers);
     }
 
-    private Notifier<? super T> createNotifier(Class<?> runtimeType) {
-        Type eventType = getEventType(runtimeType);
-        return createNotifier(runtimeType, eventType, qualifiers, ArcContainerImpl.unwrap(Arc.container()));
+    /**
+     * Notifiers are cached by the container and shared by all {@link Event} instances.
+     *
+     * @param key
+     * @param container
+     * @return a new notifier for the given key
+     * @see ArcContainerImpl#getNotifier(NotifierKey)
+     */
+    static <T> Notifier<T> createNotifier(NotifierKey key, ArcContainerImpl container) {
+        return createNotifier(key.runtimeType, getEventType(key.eventType, key.runtimeType), key.qualifiers, container);
     }
 
     static <T> Notifier<T> createNotifier(Class<?> runtimeType, Type eventType, Set<Annotation> qualifiers,
@@ -161,12 +185,12 @@ class EventImpl<T> implements Event<T> {
     static <T> Notifier<T> createNotifier(Class<?> runtimeType, Type eventType, Set<Annotation> qualifiers,
             ArcContainerImpl container, boolean activateRequestContext) {
         EventMetadata metadata = new EventMetadataImpl(qualifiers, eventType);
-        List<ObserverMethod<? super T>> notifierObserverMethods = new ArrayList<>(
-                container.resolveObservers(eventType, qualifiers));
+        List<InjectableObserverMethod<? super T>> notifierObserverMethods = container.resolveObservers(eventType,
+                qualifiers);
         return new Notifier<>(runtimeType, notifierObserverMethods, metadata, activateRequestContext);
     }
 
-    private Type initEventType(Type type) {
+    private static Type initEventType(Type type) {
         if (type instanceof ParameterizedType) {
             ParameterizedType parameterizedType = (ParameterizedType) type;
             if (Event.class.isAssignableFrom(Types.getRawType(parameterizedType.getRawType()))) {
@@ -176,16 +200,17 @@ class EventImpl<T> implements Event<T> {
         return type;
     }
 
-    private Type getEventType(Class<?> runtimeType) {
-        Type resolvedType = runtimeType;
-        if (Types.containsTypeVariable(resolvedType)) {
-            /*
-             * If the container is unable to resolve the parameterized type of the event object, it uses the specified type to
-             * infer the parameterized type of
-             * the event types.
-             */
-            resolvedType = injectionPointTypeHierarchy.resolveType(resolvedType);
+    private static Type getEventType(Type eventType, Class<?> runtimeType) {
+        if (!Types.containsTypeVariable(runtimeType)) {
+            return runtimeType;
         }
+        HierarchyDiscovery injectionPointTypeHierarchy = new HierarchyDiscovery(eventType);
+        /*
+         * If the container is unable to resolve the parameterized type of the event object, it uses the specified type to
+         * infer the parameterized type of
+         * the event types.
+         */
+        Type resolvedType = injectionPointTypeHierarchy.resolveType(runtimeType);
         if (Types.containsTypeVariable(resolvedType)) {
             /*
              * Examining the hierarchy of the specified type did not help. This may still be one of the cases when combining the
@@ -201,7 +226,7 @@ class EventImpl<T> implements Event<T> {
         return resolvedType;
     }
 
-    private void handleExceptions(ObserverExceptionHandler handler) {
+    static void handleExceptions(ObserverExceptionHandler handler) {
         List<Throwable> handledExceptions = handler.getHandledExceptions();
         if (!handledExceptions.isEmpty()) {
             CompletionException exception = null;
@@ -220,130 +245,250 @@ class EventImpl<T> implements Event<T> {
 
     static class Notifier<T> {
 
+        private static final ObserverMethod<?>[] NO_OBSERVERS = new ObserverMethod<?>[0];
+
         private final Class<?> runtimeType;
-        private final List<ObserverMethod<? super T>> observerMethods;
         private final EventMetadata eventMetadata;
-        private final boolean hasTxObservers;
         private final boolean activateRequestContext;
 
-        Notifier(Class<?> runtimeType, List<ObserverMethod<? super T>> observerMethods, EventMetadata eventMetadata) {
+        // The observers are partitioned once so that no filtering is needed when an event is fired
+        // All synchronous observers, including transactional observers if no transaction is active
+        private final ObserverMethod<? super T>[] syncObservers;
+        // Synchronous observers notified immediately if a JTA synchronization was registered
+        private final ObserverMethod<? super T>[] syncNonTxObservers;
+        // Synchronous observers notified immediately if a JTA synchronization could not be registered
+        private final ObserverMethod<? super T>[] syncNonAfterSuccessObservers;
+        private final ObserverMethod<? super T>[] txObservers;
+        private final ObserverMethod<? super T>[] asyncObservers;
+
+        // Batchers for async events are created lazily and evicted once drained, usually there is only one executor
+        private final ConcurrentMap<Executor, AsyncEventBatcher<T>> batchers;
+
+        Notifier(Class<?> runtimeType, List<? extends ObserverMethod<? super T>> observerMethods,
+                EventMetadata eventMetadata) {
             this(runtimeType, observerMethods, eventMetadata, true);
         }
 
-        Notifier(Class<?> runtimeType, List<ObserverMethod<? super T>> observerMethods, EventMetadata eventMetadata,
-                boolean activateRequestContext) {
+        Notifier(Class<?> runtimeType, List<? extends ObserverMethod<? super T>> observerMethods,
+                EventMetadata eventMetadata, boolean activateRequestContext) {
             this.runtimeType = runtimeType;
-            this.observerMethods = observerMethods;
             this.eventMetadata = eventMetadata;
-            this.hasTxObservers = observerMethods.stream().anyMatch(this::isTxObserver);
             this.activateRequestContext = activateRequestContext;
+            List<ObserverMethod<? super T>> sync = new ArrayList<>();
+            List<ObserverMethod<? super T>> syncNonTx = new ArrayList<>();
+            List<ObserverMethod<? super T>> syncNonAfterSuccess = new ArrayList<>();
+            List<ObserverMethod<? super T>> tx = new ArrayList<>();
+            List<ObserverMethod<? super T>> async = new ArrayList<>();
+            for (ObserverMethod<? super T> observerMethod : observerMethods) {
+                if (observerMethod.isAsync()) {
+                    async.add(observerMethod);
+                    continue;
+                }
+                sync.add(observerMethod);
+                if (isTxObserver(observerMethod)) {
+                    tx.add(observerMethod);
+                } else {
+                    syncNonTx.add(observerMethod);
+                }
+                if (isNotAfterSuccess(observerMethod)) {
+                    syncNonAfterSuccess.add(observerMethod);
+                }
+            }
+            this.syncObservers = toArray(sync);
+            this.syncNonTxObservers = toArray(syncNonTx);
+            this.syncNonAfterSuccessObservers = toArray(syncNonAfterSuccess);
+            this.txObservers = toArray(tx);
+            this.asyncObservers = toArray(async);
+            this.batchers = new ConcurrentHashMap<>(2);
         }
 
         void notify(T event) {
             notify(event, ObserverExceptionHandler.IMMEDIATE_HANDLER, false);
         }
 
-        @SuppressWarnings("rawtypes")
         void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
-            if (!isEmpty()) {
+            ObserverMethod<? super T>[] observers = async ? asyncObservers : syncObservers;
+            if (observers.length == 0) {
+                return;
+            }
+            if (!async && txObservers.length > 0) {
+                // Note that tx observers are never async
+                observers = registerTxObservers(event);
+            }
 
-                Predicate<ObserverMethod<? super T>> predicate = async ? ObserverMethod::isAsync
-                        : Predicates.not(ObserverMethod::isAsync);
+            // Non-tx observers notifications
+            if (activateRequestContext) {
+                ManagedContext requestContext = Arc.container().requestContext();
+                if (requestContext.isActive()) {
+                    notifyObservers(event, exceptionHandler, observers);
+                } else {
+                    try {
+                        requestContext.activate();
+                        notifyObservers(event, exceptionHandler, observers);
+                    } finally {
+                        requestContext.terminate();
+                    }
+                }
+            } else {
+                notifyObservers(event, exceptionHandler, observers);
+            }
+        }
 
-                if (!async && hasTxObservers) {
-                    // Note that tx observers are never async
-                    InstanceHandle<TransactionManager> transactionManagerInstance = Arc.container()
-                            .instance(TransactionManager.class);
+        /**
+         *
+         * @param event
+         * @return the observers that should be notified immediately
+         */
+        private ObserverMethod<? super T>[] registerTxObservers(T event) {
+            InstanceHandle<TransactionManager> transactionManagerInstance = Arc.container()
+                    .instance(TransactionManager.class);
+            try {
+                if (transactionManagerInstance.isAvailable() &&
+                        transactionManagerInstance.get().getStatus() == javax.transaction.Status.STATUS_ACTIVE) {
+                    // we have one or more transactional OM, and TransactionManager is available
+                    // we attempt to register a JTA synchronization
+                    List<DeferredEventNotification<?>> deferredEvents = new ArrayList<>(txObservers.length);
+                    EventContext<T> eventContext = new EventContextImpl<>(event, eventMetadata);
+
+                    for (ObserverMethod<? super T> om : txObservers) {
+                        deferredEvents.add(new DeferredEventNotification<>(om, eventContext,
+                                Status.valueOf(om.getTransactionPhase())));
+                    }
 
+                    Synchronization sync = new ArcSynchronization(deferredEvents);
+                    TransactionManager txManager = transactionManagerInstance.get();
                     try {
-                        if (transactionManagerInstance.isAvailable() &&
-                                transactionManagerInstance.get().getStatus() == javax.transaction.Status.STATUS_ACTIVE) {
-                            // we have one or more transactional OM, and TransactionManager is available
-                            // we attempt to register a JTA synchronization
-                            List<DeferredEventNotification<?>> deferredEvents = new ArrayList<>();
-                            EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
-
-                            for (ObserverMethod<? super T> om : observerMethods) {
-                                if (isTxObserver(om)) {
-                                    deferredEvents.add(new DeferredEventNotification<>(om, eventContext,
-                                            Status.valueOf(om.getTransactionPhase())));
-                                }
-                            }
-
-                            Synchronization sync = new ArcSynchronization(deferredEvents);
-                            TransactionManager txManager = transactionManagerInstance.get();
-                            try {
-                                // NOTE - We are using standard synchronization on purpose as that seems more
-                                // fitting than interposed sync. Either way will have some use-cases that won't work.
-                                // See for instance discussions on https://github.com/eclipse-ee4j/cdi/issues/467
-                                txManager.getTransaction().registerSynchronization(sync);
-                                // registration succeeded, notify all non-tx observers synchronously
-                                predicate = predicate.and(this::isNotTxObserver);
-                            } catch (Exception e) {
-                                if (e.getCause() instanceof RollbackException
-                                        || e.getCause() instanceof IllegalStateException
-                                        || e.getCause() instanceof SystemException) {
-                                    // registration failed, AFTER_SUCCESS OMs are accordingly to CDI spec left out
-                                    predicate = predicate.and(this::isNotAfterSuccess);
-                                }
-                            }
+                        // NOTE - We are using standard synchronization on purpose as that seems more
+                        // fitting than interposed sync. Either way will have some use-cases that won't work.
+                        // See for instance discussions on https://github.com/eclipse-ee4j/cdi/issues/467
+                        txManager.getTransaction().registerSynchronization(sync);
+                        // registration succeeded, notify all non-tx observers synchronously
+                        return syncNonTxObservers;
+                    } catch (Exception e) {
+                        if (e.getCause() instanceof RollbackException
+                                || e.getCause() instanceof IllegalStateException
+                                || e.getCause() instanceof SystemException) {
+                            // registration failed, AFTER_SUCCESS OMs are accordingly to CDI spec left out
+                            return syncNonAfterSuccessObservers;
                         }
-                    } catch (SystemException e) {
-                        // In theory, this can be thrown by TransactionManager#getStatus() at which point we cannot even
-                        // determine if we should register some synchronization, therefore, we only log this
-                        LOGGER.debugf("Failure when trying to invoke TransactionManager#getStatus(). Stacktrace: %s",
-                                e.getCause() != null ? e.getCause() : e);
                     }
                 }
+            } catch (SystemException e) {
+                // In theory, this can be thrown by TransactionManager#getStatus() at which point we cannot even
+                // determine if we should register some synchronization, therefore, we only log this
+                LOGGER.debugf("Failure when trying to invoke TransactionManager#getStatus(). Stacktrace: %s",
+                        e.getCause() != null ? e.getCause() : e);
+            }
+            return syncObservers;
+        }
 
-                // Non-tx observers notifications
-                if (activateRequestContext) {
-                    ManagedContext requestContext = Arc.container().requestContext();
-                    if (requestContext.isActive()) {
-                        notifyObservers(event, exceptionHandler, predicate);
-                    } else {
-                        try {
-                            requestContext.activate();
-                            notifyObservers(event, exceptionHandler, predicate);
-                        } finally {
-                            requestContext.terminate();
-                        }
-                    }
-                } else {
-                    notifyObservers(event, exceptionHandler, predicate);
+        /**
+         * The request context is not activated.
+         *
+         * @param event
+         * @param exceptionHandler
+         */
+        void notifyAsyncObservers(T event, ObserverExceptionHandler exceptionHandler) {
+            notifyObservers(event, exceptionHandler, asyncObservers);
+        }
+
+        boolean isActivateRequestContext() {
+            return activateRequestContext;
+        }
+
+        /**
+         *
+         * @see AsyncEventBatcher#offer(Object, Function)
+         */
+        <U extends T> CompletableFuture<U> offer(Executor executor, U event, Function<Object, Object> coalesceBy) {
+            while (true) {
+                AsyncEventBatcher<T> batcher = batchers.get(executor);
+                if (batcher == null) {
+                    batcher = batchers.computeIfAbsent(executor, e -> new AsyncEventBatcher<>(this, e));
+                }
+                CompletableFuture<U> future = batcher.offer(event, coalesceBy);
+                if (future != AsyncEventBatcher.EVICTED) {
+                    return future;
                 }
+                // The batcher was drained in the meantime - all its events were delivered so a new one can be used
+                evict(executor, batcher);
             }
         }
 
+        void evict(Executor executor, AsyncEventBatcher<T> batcher) {
+            batchers.remove(executor, batcher);
+        }
+
         @SuppressWarnings({ "rawtypes", "unchecked" })
         private void notifyObservers(T event, ObserverExceptionHandler exceptionHandler,
-                Predicate<ObserverMethod<? super T>> predicate) {
+                ObserverMethod<? super T>[] observers) {
             EventContext eventContext = new EventContextImpl<>(event, eventMetadata);
-            for (ObserverMethod<? super T> observerMethod : observerMethods) {
-                if (predicate.test(observerMethod)) {
-                    try {
-                        observerMethod.notify(eventContext);
-                    } catch (Throwable t) {
-                        exceptionHandler.handle(t, observerMethod, eventContext);
-                    }
+            for (ObserverMethod<? super T> observerMethod : observers) {
+                try {
+                    observerMethod.notify(eventContext);
+                } catch (Throwable t) {
+                    exceptionHandler.handle(t, observerMethod, eventContext);
                 }
             }
         }
 
         boolean isEmpty() {
-            return observerMethods.isEmpty();
+            return syncObservers.length == 0 && asyncObservers.length == 0;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> ObserverMethod<? super T>[] toArray(List<ObserverMethod<? super T>> observers) {
+            return observers.isEmpty() ? (ObserverMethod<? super T>[]) NO_OBSERVERS
+                    : observers.toArray((ObserverMethod<? super T>[]) new ObserverMethod<?>[observers.size()]);
         }
 
-        private boolean isTxObserver(ObserverMethod<?> observer) {
+        private static boolean isTxObserver(ObserverMethod<?> observer) {
             return !observer.getTransactionPhase().equals(TransactionPhase.IN_PROGRESS);
         }
 
-        private boolean isNotAfterSuccess(ObserverMethod<?> observer) {
+        private static boolean isNotAfterSuccess(ObserverMethod<?> observer) {
             return !observer.getTransactionPhase().equals(TransactionPhase.AFTER_SUCCESS);
         }
 
-        private boolean isNotTxObserver(ObserverMethod<?> observer) {
-            return !isTxObserver(observer);
+    }
+
+    /**
+     * Identifies a {@link Notifier} cached by the container.
+     */
+    static final class NotifierKey {
+
+        final Type eventType;
+        final Set<Annotation> qualifiers;
+        final Class<?> runtimeType;
+        private final QualifierComparators comparators;
+        private final int hashCode;
+
+        NotifierKey(Type eventType, Set<Annotation> qualifiers, int hashCode, Class<?> runtimeType,
+                QualifierComparators comparators) {
+            this.eventType = eventType;
+            this.qualifiers = qualifiers;
+            this.runtimeType = runtimeType;
+            this.comparators = comparators;
+            this.hashCode = 31 * hashCode + runtimeType.hashCode();
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof NotifierKey)) {
+                return false;
+            }
+            NotifierKey other = (NotifierKey) obj;
+            // The notifier holds the event metadata and so the non-binding members must be compared as well
+            return hashCode == other.hashCode && runtimeType.equals(other.runtimeType) && eventType.equals(other.eventType)
+                    && comparators.qualifiersEqual(qualifiers, other.qualifiers);
         }
 
     }
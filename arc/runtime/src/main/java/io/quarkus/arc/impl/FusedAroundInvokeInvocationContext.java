@@ -0,0 +1,66 @@
+package io.quarkus.arc.impl;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Set;
+
+/**
+ * The superclass of the invocation contexts generated for an intercepted method if the fused interceptor chains are enabled
+ * at build time.
+ * <p>
+ * A separate class is generated for each position in the interceptor chain of a method. The generated {@link #proceed()}
+ * method invokes the {@link javax.interceptor.AroundInvoke} method of the next interceptor directly, passing a new instance
+ * of the class for the next position, or the intercepted method of the superclass if the end of the chain is reached.
+ * Therefore, there is no megamorphic call site and no recursive call that would prevent the JIT compiler from inlining the
+ * whole chain. Like {@link AroundInvokeInvocationContext}, the "asynchronous continuation" of an interceptor chain is
+ * supported.
+ * <p>
+ * The context data map is created lazily. Each context references it directly instead of its predecessor, because contexts
+ * that reference each other are not scalar-replaced by the JIT compiler. Therefore, the map is passed to the next context
+ * when it's created and taken back when the next interceptor returns, see
+ * {@link #joinContextData(FusedAroundInvokeInvocationContext)}.
+ *
+ * @see InvocationContexts#isFusedChainsEnabled()
+ */
+public abstract class FusedAroundInvokeInvocationContext extends AbstractAroundInvokeInvocationContext {
+
+    protected FusedAroundInvokeInvocationContext(Object target, Method method, Object[] parameters,
+            Set<Annotation> interceptorBindings) {
+        super(target, method, parameters, null, interceptorBindings, null);
+    }
+
+    protected FusedAroundInvokeInvocationContext(FusedAroundInvokeInvocationContext previous) {
+        super(previous.target, previous.method, previous.parameters, previous.contextData, previous.interceptorBindings,
+                null);
+        this.targetWrapper = previous.targetWrapper;
+    }
+
+    /**
+     * Invoked by the class for each position except the last one after the next interceptor returns, so that the context
+     * data created by the rest of the chain is shared with this context. It's not invoked if an exception is thrown because
+     * an exception handler that references the next context prevents its scalar replacement.
+     *
+     * @param next
+     */
+    protected final void joinContextData(FusedAroundInvokeInvocationContext next) {
+        if (contextData == null) {
+            contextData = next.contextData;
+        }
+    }
+
+    /**
+     * Invoked by the class for the last position in the chain.
+     *
+     * @return the return value of the intercepted method
+     */
+    protected final Object proceedTarget() throws Exception {
+        return targetWrapper != null ? targetWrapper.invoke(this) : invokeTarget();
+    }
+
+    /**
+     * Implemented by the class for each position in the chain.
+     */
+    @Override
+    protected abstract Object invokeTarget() throws Exception;
+
+}
@@ -2,6 +2,7 @@ package io.quarkus.arc.impl;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ClientProxy;
+import io.quarkus.arc.DependentArena;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableContext;
 import io.quarkus.arc.InjectableInstance;
@@ -62,7 +63,12 @@ public class InstanceImpl<T> implements InjectableInstance<T> {
     }
 
     private InstanceImpl(InstanceImpl<?> parent, Type requiredType, Set<Annotation> requiredQualifiers) {
-        this(parent.targetBean, parent.injectionPointType, requiredType, requiredQualifiers, parent.creationalContext,
+        this(parent, requiredType, requiredQualifiers, parent.creationalContext);
+    }
+
+    private InstanceImpl(InstanceImpl<?> parent, Type requiredType, Set<Annotation> requiredQualifiers,
+            CreationalContextImpl<?> creationalContext) {
+        this(parent.targetBean, parent.injectionPointType, requiredType, requiredQualifiers, creationalContext,
                 parent.annotations, parent.javaMember, parent.position);
     }
 
@@ -162,6 +168,11 @@ public class InstanceImpl<T> implements InjectableInstance<T> {
     }
 
     private <H> InstanceHandle<H> getHandle(InjectableBean<H> bean) {
+        if (bean.isDestructionFree()) {
+            // No need to track the instance - there is nothing to destroy
+            return new LazyInstanceHandle<>(bean, null, null, () -> getBeanInstance(bean), instance -> {
+            });
+        }
         CreationalContextImpl<H> context = this.creationalContext.child(bean);
         return new LazyInstanceHandle<>(bean, context, this.creationalContext, new Supplier<H>() {
 
@@ -205,6 +216,11 @@ public class InstanceImpl<T> implements InjectableInstance<T> {
         }
     }
 
+    @Override
+    public DependentArena<T> arena() {
+        return new Arena<>(this);
+    }
+
     private T getInternal() {
         return getBeanInstance(bean());
     }
@@ -213,12 +229,15 @@ public class InstanceImpl<T> implements InjectableInstance<T> {
         creationalContext.release();
     }
 
-    private T getBeanInstance(InjectableBean<T> bean) {
-        CreationalContextImpl<T> ctx = creationalContext.child(bean);
+    @SuppressWarnings("unchecked")
+    private <H> H getBeanInstance(InjectableBean<H> bean) {
+        // A destruction-free bean never registers a dependent instance
+        CreationalContextImpl<H> ctx = bean.isDestructionFree() ? (CreationalContextImpl<H>) creationalContext
+                : creationalContext.child(bean);
         InjectionPoint prev = InjectionPointProvider
                 .set(new InjectionPointImpl(injectionPointType, requiredType, requiredQualifiers, targetBean, annotations,
                         javaMember, position));
-        T instance;
+        H instance;
         try {
             instance = bean.get(ctx);
         } finally {
@@ -235,6 +254,20 @@ public class InstanceImpl<T> implements InjectableInstance<T> {
         return Instances.resolveBeans(requiredType, requiredQualifiers);
     }
 
+    static final class Arena<T> extends InstanceImpl<T> implements DependentArena<T> {
+
+        private Arena(InstanceImpl<T> parent) {
+            super(parent, parent.requiredType, parent.requiredQualifiers,
+                    new CreationalContextImpl<>(null, parent.creationalContext));
+        }
+
+        @Override
+        public void close() {
+            destroy();
+        }
+
+    }
+
     class InstanceIterator implements Iterator<T> {
 
         protected final Iterator<InjectableBean<?>> delegate;
@@ -4,6 +4,8 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -11,9 +13,82 @@ import javax.interceptor.InvocationContext;
 
 public final class InvocationContexts {
 
+    /**
+     * The name of the system property that can be used to set the initial {@link AroundInvokeMode}, e.g.
+     * {@code -Dquarkus.arc.around-invoke-context=shared}.
+     */
+    public static final String AROUND_INVOKE_MODE_PROPERTY = "quarkus.arc.around-invoke-context";
+
+    /**
+     * The name of the system property that can be used to disable the fused interceptor chains generated at build time,
+     * e.g. {@code -Dquarkus.arc.fused-interceptor-chains=false}. If disabled then the generic interceptor chain is used for
+     * all intercepted methods, see {@link #performAroundInvoke(Object, Method, Function, Object[], List, Set)}.
+     */
+    public static final String FUSED_CHAINS_PROPERTY = "quarkus.arc.fused-interceptor-chains";
+
+    // A constant so that the JIT compiler can eliminate the branch in the generated subclasses
+    private static final boolean FUSED_CHAINS = Boolean.parseBoolean(System.getProperty(FUSED_CHAINS_PROPERTY, "true"));
+
+    private static volatile AroundInvokeMode aroundInvokeMode = AroundInvokeMode
+            .from(System.getProperty(AROUND_INVOKE_MODE_PROPERTY));
+
     private InvocationContexts() {
     }
 
+    /**
+     * Determines how invocation contexts are created for {@link javax.interceptor.AroundInvoke} interceptor chains.
+     */
+    public enum AroundInvokeMode {
+
+        /**
+         * A new invocation context is created for each interceptor in the chain. This mode supports the "asynchronous
+         * continuation" of an interceptor chain, i.e. an interceptor may return immediately and invoke
+         * {@link InvocationContext#proceed()} later, possibly on a different thread. This is the default mode.
+         */
+        PER_INTERCEPTOR,
+
+        /**
+         * A single invocation context is created for each invocation and shared by all interceptors in the chain. If an
+         * interceptor invokes {@link InvocationContext#proceed()} on a different thread or after the intercepted method
+         * returned then new contexts are created for the rest of the chain, as in {@link #PER_INTERCEPTOR} mode.
+         */
+        SHARED;
+
+        static AroundInvokeMode from(String value) {
+            if (value == null || value.isEmpty()) {
+                return PER_INTERCEPTOR;
+            }
+            return valueOf(value.trim().toUpperCase(Locale.ROOT).replace('-', '_'));
+        }
+
+    }
+
+    /**
+     *
+     * @param mode
+     */
+    public static void setAroundInvokeMode(AroundInvokeMode mode) {
+        aroundInvokeMode = Objects.requireNonNull(mode);
+    }
+
+    /**
+     *
+     * @return the current mode
+     */
+    public static AroundInvokeMode getAroundInvokeMode() {
+        return aroundInvokeMode;
+    }
+
+    /**
+     * The subclasses generated with fused interceptor chains use a {@link FusedAroundInvokeInvocationContext} if this method
+     * returns {@code true}. The {@link AroundInvokeMode} does not apply to the fused interceptor chains.
+     *
+     * @return {@code true} unless disabled via {@link #FUSED_CHAINS_PROPERTY}
+     */
+    public static boolean isFusedChainsEnabled() {
+        return FUSED_CHAINS;
+    }
+
     /**
      *
      * @param target
@@ -29,7 +104,14 @@ public final class InvocationContexts {
             Function<InvocationContext, Object> aroundInvokeForward, Object[] args,
             List<InterceptorInvocation> chain,
             Set<Annotation> interceptorBindings) throws Exception {
-        return AroundInvokeInvocationContext.perform(target, method, aroundInvokeForward, args, chain, interceptorBindings);
+        switch (aroundInvokeMode) {
+            case SHARED:
+                return SharedAroundInvokeInvocationContext.perform(target, method, aroundInvokeForward, args, chain,
+                        interceptorBindings);
+            default:
+                return AroundInvokeInvocationContext.perform(target, method, aroundInvokeForward, args, chain,
+                        interceptorBindings);
+        }
     }
 
     /**
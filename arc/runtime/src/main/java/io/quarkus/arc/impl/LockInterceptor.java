@@ -5,10 +5,15 @@ import static javax.interceptor.Interceptor.Priority.PLATFORM_BEFORE;
 import io.quarkus.arc.ArcInvocationContext;
 import io.quarkus.arc.Lock;
 import io.quarkus.arc.LockException;
+import io.quarkus.arc.impl.AbstractAroundInvokeInvocationContext.TargetWrapper;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
 import java.util.Set;
-import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.StampedLock;
 import javax.annotation.Priority;
 import javax.interceptor.AroundInvoke;
 import javax.interceptor.Interceptor;
@@ -19,74 +24,172 @@ import javax.interceptor.InvocationContext;
 @Priority(PLATFORM_BEFORE)
 public class LockInterceptor {
 
-    private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+    static final int OPTIMISTIC_READ_ATTEMPTS = 3;
+
+    private final ReentrantReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+
+    // Write-locked by the outermost write lock holder so that optimistic reads can be validated
+    // Never contended because only the holder of the write lock of the readWriteLock can acquire it
+    private final StampedLock stampedLock = new StampedLock();
+
+    // Lock bindings never change, they are resolved once per business method
+    private final ConcurrentMap<Method, MethodLock> methodLocks = new ConcurrentHashMap<>();
 
     @AroundInvoke
     Object lock(InvocationContext ctx) throws Exception {
-        Lock lock = getLock(ctx);
-        switch (lock.value()) {
+        MethodLock methodLock = getMethodLock(ctx);
+        switch (methodLock.lock.value()) {
             case WRITE:
-                return writeLock(lock, ctx);
+                return writeLock(methodLock, ctx);
             case READ:
-                return readLock(lock, ctx);
+                return readLock(methodLock, ctx);
+            case OPTIMISTIC_READ:
+                return optimisticRead(methodLock, ctx);
             case NONE:
                 return ctx.proceed();
         }
         throw new LockException("Unsupported @Lock type found on business method " + ctx.getMethod());
     }
 
-    private Object writeLock(Lock lock, InvocationContext ctx) throws Exception {
-        boolean locked = false;
-        long time = lock.time();
+    private Object writeLock(MethodLock methodLock, InvocationContext ctx) throws Exception {
+        acquire(readWriteLock.writeLock(), false, methodLock, "Write");
+        long stamp = 0;
         try {
-            if (time > 0) {
-                locked = readWriteLock.writeLock().tryLock(time, lock.unit());
-                if (!locked) {
-                    throw new LockException("Write lock not acquired in " + lock.unit().toMillis(time) + " ms");
-                }
-            } else {
-                readWriteLock.writeLock().lock();
-                locked = true;
+            if (readWriteLock.getWriteHoldCount() == 1) {
+                // Invalidate all optimistic reads
+                stamp = stampedLock.writeLock();
             }
             return ctx.proceed();
         } finally {
-            if (locked) {
-                readWriteLock.writeLock().unlock();
+            if (stamp != 0) {
+                stampedLock.unlockWrite(stamp);
             }
+            readWriteLock.writeLock().unlock();
         }
     }
 
-    private Object readLock(Lock lock, InvocationContext ctx) throws Exception {
-        boolean locked = false;
-        long time = lock.time();
+    private Object readLock(MethodLock methodLock, InvocationContext ctx) throws Exception {
+        acquire(readWriteLock.readLock(), true, methodLock, "Read");
+        try {
+            return ctx.proceed();
+        } finally {
+            readWriteLock.readLock().unlock();
+        }
+    }
+
+    private Object optimisticRead(MethodLock methodLock, InvocationContext ctx) throws Exception {
+        if (!(ctx instanceof AbstractAroundInvokeInvocationContext)) {
+            // The target method cannot be invoked separately
+            return readLock(methodLock, ctx);
+        }
+        // Only the target method is invoked again if the validation fails, not the rest of the interceptor chain
+        AbstractAroundInvokeInvocationContext context = (AbstractAroundInvokeInvocationContext) ctx;
+        TargetWrapper previous = context.targetWrapper;
+        context.targetWrapper = methodLock;
+        try {
+            return ctx.proceed();
+        } finally {
+            context.targetWrapper = previous;
+        }
+    }
+
+    private void acquire(java.util.concurrent.locks.Lock lock, boolean shared, MethodLock methodLock, String lockType)
+            throws InterruptedException {
+        // ReadLock.tryLock() barges past queued writers; the timed variant does not so that writers cannot starve
+        if (shared ? lock.tryLock(0, TimeUnit.NANOSECONDS) : lock.tryLock()) {
+            // Fast path - uncontended
+            return;
+        }
+        long time = methodLock.lock.time();
+        long start = System.nanoTime();
         try {
             if (time > 0) {
-                locked = readWriteLock.readLock().tryLock(time, lock.unit());
-                if (!locked) {
-                    throw new LockException("Read lock not acquired in " + lock.unit().toMillis(time) + " ms");
+                if (!lock.tryLock(time, methodLock.lock.unit())) {
+                    methodLock.metrics.timeout();
+                    throw new LockException(
+                            lockType + " lock not acquired in " + methodLock.lock.unit().toMillis(time) + " ms");
                 }
             } else {
-                readWriteLock.readLock().lock();
-                locked = true;
+                lock.lock();
             }
-            return ctx.proceed();
         } finally {
-            if (locked) {
-                readWriteLock.readLock().unlock();
-            }
+            methodLock.metrics.contended(System.nanoTime() - start);
+        }
+    }
+
+    private MethodLock getMethodLock(InvocationContext ctx) {
+        Method method = ctx.getMethod();
+        MethodLock methodLock = methodLocks.get(method);
+        if (methodLock == null) {
+            methodLock = methodLocks.computeIfAbsent(method, m -> new MethodLock(getLock(ctx), LockMetrics.forMethod(m)));
         }
+        return methodLock;
     }
 
     @SuppressWarnings("unchecked")
     Lock getLock(InvocationContext ctx) {
-        Set<Annotation> bindings = (Set<Annotation>) ctx.getContextData().get(ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS);
-        for (Annotation annotation : bindings) {
-            if (annotation.annotationType().equals(Lock.class)) {
-                return (Lock) annotation;
+        if (ctx instanceof ArcInvocationContext) {
+            Lock lock = ((ArcInvocationContext) ctx).findIterceptorBinding(Lock.class);
+            if (lock != null) {
+                return lock;
+            }
+        } else {
+            Set<Annotation> bindings = (Set<Annotation>) ctx.getContextData()
+                    .get(ArcInvocationContext.KEY_INTERCEPTOR_BINDINGS);
+            for (Annotation annotation : bindings) {
+                if (annotation.annotationType().equals(Lock.class)) {
+                    return (Lock) annotation;
+                }
             }
         }
         // This should never happen
         throw new LockException("@Lock binding not found on business method " + ctx.getMethod());
     }
 
+    private final class MethodLock implements TargetWrapper {
+
+        final Lock lock;
+        final LockMetrics metrics;
+
+        MethodLock(Lock lock, LockMetrics metrics) {
+            this.lock = lock;
+            this.metrics = metrics;
+        }
+
+        // Optimistic read of the target method
+        @Override
+        public Object invoke(AbstractAroundInvokeInvocationContext ctx) throws Exception {
+            for (int i = 0; i < OPTIMISTIC_READ_ATTEMPTS; i++) {
+                long stamp = stampedLock.tryOptimisticRead();
+                if (stamp == 0) {
+                    // Write lock is held, possibly by the current thread
+                    break;
+                }
+                Object result = null;
+                Exception failure = null;
+                try {
+                    result = ctx.invokeTarget();
+                } catch (Exception e) {
+                    // The exception may be caused by an inconsistent state
+                    failure = e;
+                }
+                if (stampedLock.validate(stamp)) {
+                    if (failure != null) {
+                        throw failure;
+                    }
+                    return result;
+                }
+                metrics.optimisticRetry();
+            }
+            metrics.optimisticFallback();
+            acquire(readWriteLock.readLock(), true, this, "Read");
+            try {
+                return ctx.invokeTarget();
+            } finally {
+                readWriteLock.readLock().unlock();
+            }
+        }
+
+    }
+
 }
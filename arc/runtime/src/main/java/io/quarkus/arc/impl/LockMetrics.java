@@ -0,0 +1,136 @@
+package io.quarkus.arc.impl;
+
+import io.quarkus.arc.Lock;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock metrics of a business method intercepted by the {@link LockInterceptor}.
+ * <p>
+ * The metrics are aggregated for all the intercepted beans. Only the slow path is recorded, i.e. an uncontended lock
+ * acquisition does not update any metric.
+ *
+ * @see Lock
+ */
+public final class LockMetrics {
+
+    private static final ConcurrentMap<Method, LockMetrics> METRICS = new ConcurrentHashMap<>();
+
+    /**
+     *
+     * @param method
+     * @return the metrics for the given business method or {@code null} if no metrics are available
+     */
+    public static LockMetrics of(Method method) {
+        return METRICS.get(method);
+    }
+
+    /**
+     *
+     * @return an immutable view of all metrics
+     */
+    public static Map<Method, LockMetrics> all() {
+        return Collections.unmodifiableMap(METRICS);
+    }
+
+    static LockMetrics forMethod(Method method) {
+        LockMetrics metrics = METRICS.get(method);
+        if (metrics == null) {
+            metrics = METRICS.computeIfAbsent(method, m -> new LockMetrics());
+        }
+        return metrics;
+    }
+
+    static void clear() {
+        METRICS.clear();
+    }
+
+    private final LongAdder contended = new LongAdder();
+    private final LongAdder waitTime = new LongAdder();
+    private final LongAccumulator maxWaitTime = new LongAccumulator(Math::max, 0);
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder optimisticRetries = new LongAdder();
+    private final LongAdder optimisticFallbacks = new LongAdder();
+
+    private LockMetrics() {
+    }
+
+    void contended(long waitTimeNanos) {
+        contended.increment();
+        waitTime.add(waitTimeNanos);
+        maxWaitTime.accumulate(waitTimeNanos);
+    }
+
+    void timeout() {
+        timeouts.increment();
+    }
+
+    void optimisticRetry() {
+        optimisticRetries.increment();
+    }
+
+    void optimisticFallback() {
+        optimisticFallbacks.increment();
+    }
+
+    /**
+     *
+     * @return the number of lock acquisitions that could not be satisfied immediately
+     */
+    public long getContended() {
+        return contended.sum();
+    }
+
+    /**
+     *
+     * @return the total time spent waiting for a lock in nanoseconds
+     */
+    public long getWaitTime() {
+        return waitTime.sum();
+    }
+
+    /**
+     *
+     * @return the maximum time spent waiting for a lock in nanoseconds
+     */
+    public long getMaxWaitTime() {
+        return maxWaitTime.get();
+    }
+
+    /**
+     *
+     * @return the number of lock acquisitions that timed out
+     */
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    /**
+     *
+     * @return the number of optimistic reads that failed the validation and were invoked again
+     */
+    public long getOptimisticRetries() {
+        return optimisticRetries.sum();
+    }
+
+    /**
+     *
+     * @return the number of optimistic reads that acquired the read lock instead
+     */
+    public long getOptimisticFallbacks() {
+        return optimisticFallbacks.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "LockMetrics [contended=" + getContended() + ", waitTime=" + getWaitTime() + ", maxWaitTime="
+                + getMaxWaitTime() + ", timeouts=" + getTimeouts() + ", optimisticRetries=" + getOptimisticRetries()
+                + ", optimisticFallbacks=" + getOptimisticFallbacks() + "]";
+    }
+
+}
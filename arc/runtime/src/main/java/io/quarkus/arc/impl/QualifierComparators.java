@@ -0,0 +1,214 @@
+package io.quarkus.arc.impl;
+
+import io.quarkus.arc.QualifierComparator;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import javax.enterprise.util.Nonbinding;
+
+/**
+ * Compares the binding members of qualifiers (and interceptor bindings).
+ * <p>
+ * The comparators generated at build time are used for the qualifiers of the application. The binding members of any
+ * other annotation type are discovered reflectively once and the reflective comparator is cached.
+ */
+final class QualifierComparators {
+
+    static final QualifierComparators EMPTY = new QualifierComparators(Collections.emptyList(), Collections.emptyMap());
+
+    private final Map<Class<? extends Annotation>, QualifierComparator> generated;
+    private final Map<String, Set<String>> nonbindingMembers;
+    private final ComputingCache<Class<? extends Annotation>, QualifierComparator> reflective;
+    private final ComputingCache<Class<? extends Annotation>, Boolean> hasNonbindingMembers;
+
+    QualifierComparators(Iterable<QualifierComparator> generated, Map<String, Set<String>> nonbindingMembers) {
+        Map<Class<? extends Annotation>, QualifierComparator> comparators = new HashMap<>();
+        for (QualifierComparator comparator : generated) {
+            comparators.put(comparator.annotationType(), comparator);
+        }
+        this.generated = comparators;
+        this.nonbindingMembers = nonbindingMembers;
+        this.reflective = new ComputingCache<>(this::createReflective);
+        this.hasNonbindingMembers = new ComputingCache<>(this::hasNonbindingMembers);
+    }
+
+    /**
+     *
+     * @param annotationType
+     * @return the comparator for the given annotation type
+     */
+    QualifierComparator get(Class<? extends Annotation> annotationType) {
+        QualifierComparator comparator = generated.get(annotationType);
+        return comparator != null ? comparator : reflective.getValue(annotationType);
+    }
+
+    boolean bindingEquals(Annotation qualifier, Annotation other) {
+        if (qualifier == other) {
+            return true;
+        }
+        Class<? extends Annotation> annotationType = qualifier.annotationType();
+        return annotationType.equals(other.annotationType()) && get(annotationType).bindingEquals(qualifier, other);
+    }
+
+    int bindingHashCode(Annotation qualifier) {
+        Class<? extends Annotation> annotationType = qualifier.annotationType();
+        return 31 * annotationType.hashCode() + get(annotationType).bindingHashCode(qualifier);
+    }
+
+    /**
+     * Unlike {@link #bindingEquals(Annotation, Annotation)}, the values of non-binding members are compared as well.
+     * However, {@link Annotation#equals(Object)} is only used if the annotation type declares a non-binding member.
+     */
+    boolean qualifierEquals(Annotation qualifier, Annotation other) {
+        if (qualifier == other) {
+            return true;
+        }
+        return bindingEquals(qualifier, other)
+                && (!hasNonbindingMembers.getValue(qualifier.annotationType()) || qualifier.equals(other));
+    }
+
+    /**
+     *
+     * @param qualifiers
+     * @return the sum of the binding hash codes, i.e. the order of qualifiers is not significant
+     */
+    int bindingHashCode(Set<Annotation> qualifiers) {
+        int hashCode = 0;
+        for (Annotation qualifier : qualifiers) {
+            hashCode += bindingHashCode(qualifier);
+        }
+        return hashCode;
+    }
+
+    /**
+     *
+     * @param qualifiers
+     * @param other
+     * @return {@code true} if both sets contain the same qualifiers, only the binding members are considered
+     */
+    boolean bindingEquals(Set<Annotation> qualifiers, Set<Annotation> other) {
+        return sameQualifiers(qualifiers, other, false);
+    }
+
+    /**
+     *
+     * @param qualifiers
+     * @param other
+     * @return {@code true} if both sets contain the same qualifiers, see {@link #qualifierEquals(Annotation, Annotation)}
+     */
+    boolean qualifiersEqual(Set<Annotation> qualifiers, Set<Annotation> other) {
+        return sameQualifiers(qualifiers, other, true);
+    }
+
+    private boolean sameQualifiers(Set<Annotation> qualifiers, Set<Annotation> other, boolean nonbinding) {
+        if (qualifiers == other) {
+            return true;
+        }
+        if (qualifiers.size() != other.size()) {
+            return false;
+        }
+        for (Annotation qualifier : qualifiers) {
+            if (!contains(other, qualifier, nonbinding)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean contains(Set<Annotation> qualifiers, Annotation qualifier, boolean nonbinding) {
+        for (Annotation q : qualifiers) {
+            if (nonbinding ? qualifierEquals(q, qualifier) : bindingEquals(q, qualifier)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Boolean hasNonbindingMembers(Class<? extends Annotation> annotationType) {
+        if (nonbindingMembers.containsKey(annotationType.getName())) {
+            return true;
+        }
+        for (Method method : annotationType.getDeclaredMethods()) {
+            if (method.isAnnotationPresent(Nonbinding.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private QualifierComparator createReflective(Class<? extends Annotation> annotationType) {
+        Set<String> nonbinding = nonbindingMembers.getOrDefault(annotationType.getName(), Collections.emptySet());
+        List<Method> members = new ArrayList<>();
+        for (Method method : annotationType.getDeclaredMethods()) {
+            if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 0
+                    || method.isAnnotationPresent(Nonbinding.class) || nonbinding.contains(method.getName())) {
+                continue;
+            }
+            if (!method.isAccessible()) {
+                method.setAccessible(true);
+            }
+            members.add(method);
+        }
+        return new ReflectiveComparator(annotationType, members.toArray(new Method[0]));
+    }
+
+    private static final class ReflectiveComparator implements QualifierComparator {
+
+        private final Class<? extends Annotation> annotationType;
+        private final Method[] members;
+
+        ReflectiveComparator(Class<? extends Annotation> annotationType, Method[] members) {
+            this.annotationType = annotationType;
+            this.members = members;
+        }
+
+        @Override
+        public Class<? extends Annotation> annotationType() {
+            return annotationType;
+        }
+
+        @Override
+        public boolean bindingEquals(Annotation qualifier, Annotation other) {
+            for (Method member : members) {
+                // Objects.deepEquals() also handles the arrays of primitives
+                if (!Objects.deepEquals(invoke(member, qualifier), invoke(member, other))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int bindingHashCode(Annotation qualifier) {
+            if (members.length == 0) {
+                return 0;
+            }
+            Object[] values = new Object[members.length];
+            for (int i = 0; i < members.length; i++) {
+                values[i] = invoke(members[i], qualifier);
+            }
+            return Arrays.deepHashCode(values);
+        }
+
+        private static Object invoke(Method method, Object instance) {
+            try {
+                return method.invoke(instance);
+            } catch (IllegalArgumentException | IllegalAccessException | InvocationTargetException e) {
+                throw new RuntimeException(
+                        "Error checking value of member method " + method.getName() + " on " + method.getDeclaringClass(),
+                        e);
+            }
+        }
+
+    }
+
+}
@@ -2,9 +2,6 @@ package io.quarkus.arc.impl;
 
 import java.lang.annotation.Annotation;
 import java.lang.annotation.Repeatable;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -14,11 +11,12 @@ import java.util.function.BiFunction;
 
 import javax.enterprise.inject.Any;
 import javax.enterprise.inject.Default;
-import javax.enterprise.util.Nonbinding;
 import javax.inject.Qualifier;
 
 import com.google.common.collect.ImmutableSet;
 
+import io.quarkus.arc.QualifierComparator;
+
 public final class Qualifiers {
 
     public static final Set<Annotation> DEFAULT_QUALIFIERS = ImmutableSet.of(Default.Literal.INSTANCE, Any.Literal.INSTANCE);
@@ -75,10 +73,10 @@ public final class Qualifiers {
         }
     }
 
-    static boolean hasQualifiers(Set<Annotation> beanQualifiers, Map<String, Set<String>> qualifierNonbindingMembers,
+    static boolean hasQualifiers(Set<Annotation> beanQualifiers, QualifierComparators comparators,
             Annotation... requiredQualifiers) {
         for (Annotation qualifier : requiredQualifiers) {
-            if (!hasQualifier(beanQualifiers, qualifier, qualifierNonbindingMembers)) {
+            if (!hasQualifier(beanQualifiers, qualifier, comparators)) {
                 return false;
             }
         }
@@ -86,40 +84,22 @@ public final class Qualifiers {
     }
 
     static boolean hasQualifier(Iterable<Annotation> qualifiers, Annotation requiredQualifier,
-            Map<String, Set<String>> qualifierNonbindingMembers) {
+            QualifierComparators comparators) {
 
         Class<? extends Annotation> requiredQualifierClass = requiredQualifier.annotationType();
-        Method[] members = requiredQualifierClass.getDeclaredMethods();
+        QualifierComparator comparator = null;
 
         for (Annotation qualifier : qualifiers) {
-            Class<? extends Annotation> qualifierClass = qualifier.annotationType();
-            if (!qualifierClass.equals(requiredQualifierClass)) {
+            if (qualifier == requiredQualifier) {
+                return true;
+            }
+            if (!qualifier.annotationType().equals(requiredQualifierClass)) {
                 continue;
             }
-            boolean matches = true;
-            for (Method value : members) {
-                if (value.isAnnotationPresent(Nonbinding.class)) {
-                    continue;
-                }
-                if (!qualifierNonbindingMembers.isEmpty()) {
-                    Set<String> nonbindingMembers = qualifierNonbindingMembers.get(qualifierClass.getName());
-                    if (nonbindingMembers != null && nonbindingMembers.contains(value.getName())) {
-                        continue;
-                    }
-                }
-                Object val1 = invoke(value, requiredQualifier);
-                Object val2 = invoke(value, qualifier);
-                if (val1.getClass().isArray()) {
-                    if (!val2.getClass().isArray() || !Arrays.equals((Object[]) val1, (Object[]) val2)) {
-                        matches = false;
-                        break;
-                    }
-                } else if (!val1.equals(val2)) {
-                    matches = false;
-                    break;
-                }
+            if (comparator == null) {
+                comparator = comparators.get(requiredQualifierClass);
             }
-            if (matches) {
+            if (comparator.bindingEquals(requiredQualifier, qualifier)) {
                 return true;
             }
         }
@@ -127,27 +107,15 @@ public final class Qualifiers {
     }
 
     static boolean isSubset(Set<Annotation> observedQualifiers, Set<Annotation> eventQualifiers,
-            Map<String, Set<String>> qualifierNonbindingMembers) {
+            QualifierComparators comparators) {
         for (Annotation required : observedQualifiers) {
-            if (!hasQualifier(eventQualifiers, required, qualifierNonbindingMembers)) {
+            if (!hasQualifier(eventQualifiers, required, comparators)) {
                 return false;
             }
         }
         return true;
     }
 
-    private static Object invoke(Method method, Object instance) {
-        try {
-            if (!method.isAccessible()) {
-                method.setAccessible(true);
-            }
-            return method.invoke(instance);
-        } catch (IllegalArgumentException | IllegalAccessException | InvocationTargetException e) {
-            throw new RuntimeException(
-                    "Error checking value of member method " + method.getName() + " on " + method.getDeclaringClass(), e);
-        }
-    }
-
     private static void verifyQualifier(Class<? extends Annotation> annotationType, Set<String> customQualifiers) {
         if (customQualifiers.contains(annotationType.getName())) {
             return;
@@ -1,11 +1,14 @@
 package io.quarkus.arc.impl;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.GenericArrayType;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
@@ -41,9 +44,47 @@ public final class Reflections {
                 }
             });
 
+    private static final ComputingCache<FieldKey, MethodHandle> FIELD_GETTERS_CACHE = new ComputingCache<>(
+            new Function<FieldKey, MethodHandle>() {
+                @Override
+                public MethodHandle apply(FieldKey key) {
+                    return findFieldGetterInternal(key.clazz, key.fieldName);
+                }
+            });
+    private static final ComputingCache<FieldKey, MethodHandle> FIELD_SETTERS_CACHE = new ComputingCache<>(
+            new Function<FieldKey, MethodHandle>() {
+                @Override
+                public MethodHandle apply(FieldKey key) {
+                    return findFieldSetterInternal(key.clazz, key.fieldName);
+                }
+            });
+    private static final ComputingCache<MethodKey, MethodHandle> METHOD_HANDLES_CACHE = new ComputingCache<>(
+            new Function<MethodKey, MethodHandle>() {
+                @Override
+                public MethodHandle apply(MethodKey key) {
+                    return findMethodHandleInternal(key.clazz, key.methodName, key.parameterTypes);
+                }
+            });
+    private static final ComputingCache<MethodKey, MethodHandle> CONSTRUCTOR_HANDLES_CACHE = new ComputingCache<>(
+            new Function<MethodKey, MethodHandle>() {
+                @Override
+                public MethodHandle apply(MethodKey key) {
+                    return findConstructorHandleInternal(key.clazz, key.parameterTypes);
+                }
+            });
+
+    private static final MethodType FIELD_GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType FIELD_SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType METHOD_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
+
     static void clearCaches() {
         FIELDS_CACHE.clear();
         METHODS_CACHE.clear();
+        FIELD_GETTERS_CACHE.clear();
+        FIELD_SETTERS_CACHE.clear();
+        METHOD_HANDLES_CACHE.clear();
+        CONSTRUCTOR_HANDLES_CACHE.clear();
     }
 
     private Reflections() {
@@ -119,60 +160,191 @@ public final class Reflections {
     }
 
     public static Object newInstance(Class<?> clazz, Class<?>[] parameterTypes, Object[] args) {
+        return newInstance(findConstructorHandle(clazz, parameterTypes), args);
+    }
+
+    public static Object readField(Class<?> clazz, String name, Object instance) {
+        return readField(findFieldGetter(clazz, name), instance);
+    }
+
+    public static void writeField(Class<?> clazz, String name, Object instance, Object value) {
+        writeField(findFieldSetter(clazz, name), instance, value);
+    }
+
+    public static Object invokeMethod(Class<?> clazz, String name, Class<?>[] paramTypes, Object instance, Object[] args) {
+        return invokeMethod(findMethodHandle(clazz, name, paramTypes), instance, args);
+    }
+
+    /**
+     *
+     * @param clazz
+     * @param parameterTypes
+     * @return a handle of type {@code (Object[])Object} that creates a new instance
+     * @see #newInstance(MethodHandle, Object[])
+     */
+    public static MethodHandle findConstructorHandle(Class<?> clazz, Class<?>... parameterTypes) {
+        return CONSTRUCTOR_HANDLES_CACHE.getValue(new MethodKey(clazz, "<init>", parameterTypes));
+    }
+
+    /**
+     *
+     * @param clazz
+     * @param fieldName
+     * @return a handle of type {@code (Object)Object} that reads the field value; the instance is ignored for static fields
+     * @see #readField(MethodHandle, Object)
+     */
+    public static MethodHandle findFieldGetter(Class<?> clazz, String fieldName) {
+        return FIELD_GETTERS_CACHE.getValue(new FieldKey(clazz, fieldName));
+    }
+
+    /**
+     *
+     * @param clazz
+     * @param fieldName
+     * @return a handle of type {@code (Object,Object)void} that sets the field value; the instance is ignored for static
+     *         fields
+     * @see #writeField(MethodHandle, Object, Object)
+     */
+    public static MethodHandle findFieldSetter(Class<?> clazz, String fieldName) {
+        return FIELD_SETTERS_CACHE.getValue(new FieldKey(clazz, fieldName));
+    }
+
+    /**
+     *
+     * @param clazz
+     * @param methodName
+     * @param parameterTypes
+     * @return a handle of type {@code (Object,Object[])Object} that invokes the method; the instance is ignored for static
+     *         methods
+     * @see #invokeMethod(MethodHandle, Object, Object[])
+     */
+    public static MethodHandle findMethodHandle(Class<?> clazz, String methodName, Class<?>... parameterTypes) {
+        return METHOD_HANDLES_CACHE.getValue(new MethodKey(clazz, methodName, parameterTypes));
+    }
+
+    /**
+     * Any exception thrown by the constructor is rethrown unchanged, i.e. checked exceptions are not wrapped.
+     *
+     * @param constructor a handle obtained from {@link #findConstructorHandle(Class, Class...)}
+     * @param args
+     * @return the new instance
+     */
+    public static Object newInstance(MethodHandle constructor, Object[] args) {
+        try {
+            return constructor.invokeExact(args);
+        } catch (Throwable e) {
+            throw sneakyThrow(e);
+        }
+    }
+
+    /**
+     *
+     * @param getter a handle obtained from {@link #findFieldGetter(Class, String)}
+     * @param instance the instance, ignored for static fields
+     * @return the field value
+     */
+    public static Object readField(MethodHandle getter, Object instance) {
+        try {
+            return getter.invokeExact(instance);
+        } catch (Throwable e) {
+            throw sneakyThrow(e);
+        }
+    }
+
+    /**
+     *
+     * @param setter a handle obtained from {@link #findFieldSetter(Class, String)}
+     * @param instance the instance, ignored for static fields
+     * @param value
+     */
+    public static void writeField(MethodHandle setter, Object instance, Object value) {
+        try {
+            setter.invokeExact(instance, value);
+        } catch (Throwable e) {
+            throw sneakyThrow(e);
+        }
+    }
+
+    /**
+     * Any exception thrown by the method is rethrown unchanged, i.e. checked exceptions are not wrapped.
+     *
+     * @param method a handle obtained from {@link #findMethodHandle(Class, String, Class...)}
+     * @param instance the instance, ignored for static methods
+     * @param args
+     * @return the return value or {@code null} for void methods
+     */
+    public static Object invokeMethod(MethodHandle method, Object instance, Object[] args) {
+        try {
+            return method.invokeExact(instance, args);
+        } catch (Throwable e) {
+            throw sneakyThrow(e);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> RuntimeException sneakyThrow(Throwable e) throws E {
+        throw (E) e;
+    }
+
+    private static MethodHandle findConstructorHandleInternal(Class<?> clazz, Class<?>[] parameterTypes) {
         Constructor<?> constructor = findConstructor(clazz, parameterTypes);
-        if (constructor != null) {
-            if (!constructor.isAccessible()) {
-                constructor.setAccessible(true);
-            }
-            try {
-                return constructor.newInstance(args);
-            } catch (InstantiationException | IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-                throw new RuntimeException("Cannot invoke constructor: " + clazz.getName(), e);
-            }
+        if (!constructor.isAccessible()) {
+            constructor.setAccessible(true);
+        }
+        try {
+            return MethodHandles.lookup().unreflectConstructor(constructor)
+                    .asSpreader(Object[].class, parameterTypes.length)
+                    .asType(CONSTRUCTOR_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Cannot access constructor: " + constructor, e);
         }
-        throw new RuntimeException(
-                "No " + clazz.getName() + "constructor found for params: " + Arrays.toString(parameterTypes));
     }
 
-    public static Object readField(Class<?> clazz, String name, Object instance) {
+    private static MethodHandle findFieldGetterInternal(Class<?> clazz, String fieldName) {
+        Field field = findField(clazz, fieldName);
+        if (!field.isAccessible()) {
+            field.setAccessible(true);
+        }
         try {
-            Field field = clazz.getDeclaredField(name);
-            if (!field.isAccessible()) {
-                field.setAccessible(true);
+            MethodHandle getter = MethodHandles.lookup().unreflectGetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                getter = MethodHandles.dropArguments(getter, 0, Object.class);
             }
-            return field.get(instance);
-        } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-            throw new RuntimeException("Cannot read field value: " + clazz.getName() + "#" + name, e);
+            return getter.asType(FIELD_GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Cannot read field value: " + clazz.getName() + "#" + fieldName, e);
         }
     }
 
-    public static void writeField(Class<?> clazz, String name, Object instance, Object value) {
+    private static MethodHandle findFieldSetterInternal(Class<?> clazz, String fieldName) {
+        Field field = findField(clazz, fieldName);
+        if (!field.isAccessible()) {
+            field.setAccessible(true);
+        }
         try {
-            Field field = clazz.getDeclaredField(name);
-            if (!field.isAccessible()) {
-                field.setAccessible(true);
+            MethodHandle setter = MethodHandles.lookup().unreflectSetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                setter = MethodHandles.dropArguments(setter, 0, Object.class);
             }
-            field.set(instance, value);
-        } catch (NoSuchFieldException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-            throw new RuntimeException("Cannot set field value: " + clazz.getName() + "#" + name, e);
+            return setter.asType(FIELD_SETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Cannot set field value: " + clazz.getName() + "#" + fieldName, e);
         }
     }
 
-    public static Object invokeMethod(Class<?> clazz, String name, Class<?>[] paramTypes, Object instance, Object[] args) {
+    private static MethodHandle findMethodHandleInternal(Class<?> clazz, String methodName, Class<?>[] parameterTypes) {
+        Method method = findMethod(clazz, methodName, parameterTypes);
+        if (!method.isAccessible()) {
+            method.setAccessible(true);
+        }
         try {
-            Method method = clazz.getDeclaredMethod(name, paramTypes);
-            if (!method.isAccessible()) {
-                method.setAccessible(true);
-            }
-            return method.invoke(instance, args);
-        } catch (InvocationTargetException e) {
-            Throwable t = e.getTargetException();
-            if (t instanceof RuntimeException) {
-                throw (RuntimeException) t;
+            MethodHandle handle = MethodHandles.lookup().unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
             }
-            throw new RuntimeException("Cannot invoke method: " + clazz.getName() + "#" + name + " on " + instance, e);
-        } catch (NoSuchMethodException | SecurityException | IllegalArgumentException | IllegalAccessException e) {
-            throw new RuntimeException("Cannot invoke method: " + clazz.getName() + "#" + name + " on " + instance, e);
+            return handle.asSpreader(Object[].class, parameterTypes.length).asType(METHOD_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Cannot invoke method: " + clazz.getName() + "#" + methodName, e);
         }
     }
 
@@ -12,6 +12,8 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.enterprise.context.BeforeDestroyed;
@@ -43,8 +45,16 @@ class RequestContext implements ManagedContext {
 
     private final boolean traceEnabled;
 
+    // The number of slots assigned to request scoped beans at build time
+    private final int slots;
+
     public RequestContext(CurrentContext<RequestContextState> currentContext) {
+        this(currentContext, 0);
+    }
+
+    public RequestContext(CurrentContext<RequestContextState> currentContext, int slots) {
         this.currentContext = currentContext;
+        this.slots = slots;
         this.initializedNotifier = new LazyValue<>(RequestContext::createInitializedNotifier);
         this.beforeDestroyedNotifier = new LazyValue<>(RequestContext::createBeforeDestroyedNotifier);
         this.destroyedNotifier = new LazyValue<>(RequestContext::createDestroyedNotifier);
@@ -71,13 +81,17 @@ class RequestContext implements ManagedContext {
             // Context is not active!
             return null;
         }
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctxState.map.get(contextual);
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctxState.get(bean);
         if (instance == null) {
             CreationalContext<T> creationalContext = creationalContextFun.apply(contextual);
             // Bean instance does not exist - create one if we have CreationalContext
-            instance = new ContextInstanceHandleImpl<T>((InjectableBean<T>) contextual,
-                    contextual.create(creationalContext), creationalContext);
-            ctxState.map.put(contextual, instance);
+            instance = new ContextInstanceHandleImpl<T>(bean, contextual.create(creationalContext), creationalContext);
+            ContextInstanceHandle<T> previous = (ContextInstanceHandle<T>) ctxState.putIfAbsent(bean, instance);
+            if (previous != null) {
+                // Another thread created the instance in the meantime
+                instance.destroy();
+                instance = previous;
+            }
         }
         return instance.get();
     }
@@ -104,7 +118,7 @@ class RequestContext implements ManagedContext {
         if (state == null) {
             throw notActive();
         }
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) state.map.get(contextual);
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) state.get(bean);
         return instance == null ? null : instance.get();
     }
 
@@ -120,7 +134,7 @@ class RequestContext implements ManagedContext {
             // Context is not active
             throw notActive();
         }
-        ContextInstanceHandle<?> instance = state.map.remove(contextual);
+        ContextInstanceHandle<?> instance = state.remove(contextual);
         if (instance != null) {
             instance.destroy();
         }
@@ -138,7 +152,7 @@ class RequestContext implements ManagedContext {
                     initialState != null ? Integer.toHexString(initialState.hashCode()) : "new", stack);
         }
         if (initialState == null) {
-            currentContext.set(new RequestContextState(new ConcurrentHashMap<>()));
+            currentContext.set(new RequestContextState(slots));
             // Fire an event with qualifier @Initialized(RequestScoped.class) if there are any observers for it
             fireIfNotEmpty(initializedNotifier);
         } else {
@@ -200,29 +214,26 @@ class RequestContext implements ManagedContext {
             RequestContextState reqState = ((RequestContextState) state);
             reqState.isValid = false;
             synchronized (state) {
-                Map<Contextual<?>, ContextInstanceHandle<?>> map = ((RequestContextState) state).map;
                 // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
                 try {
                     fireIfNotEmpty(beforeDestroyedNotifier);
                 } catch (Exception e) {
                     LOG.warn("An error occurred during delivery of the @BeforeDestroyed(RequestScoped.class) event", e);
                 }
-                //Performance: avoid an iterator on the map elements
-                map.forEach(this::destroyContextElement);
+                reqState.destroyAll(this::destroyContextElement);
                 // Fire an event with qualifier @Destroyed(RequestScoped.class) if there are any observers for it
                 try {
                     fireIfNotEmpty(destroyedNotifier);
                 } catch (Exception e) {
                     LOG.warn("An error occurred during delivery of the @Destroyed(RequestScoped.class) event", e);
                 }
-                map.clear();
             }
         } else {
             throw new IllegalArgumentException("Invalid state implementation: " + state.getClass().getName());
         }
     }
 
-    private void destroyContextElement(Contextual<?> contextual, ContextInstanceHandle<?> contextInstanceHandle) {
+    private void destroyContextElement(ContextInstanceHandle<?> contextInstanceHandle) {
         try {
             contextInstanceHandle.destroy();
         } catch (Exception e) {
@@ -260,21 +271,130 @@ class RequestContext implements ManagedContext {
                 ArcContainerImpl.instance(), false);
     }
 
+    /**
+     * Instances of beans with a slot assigned at build time are stored in an array indexed by the slot. Other instances,
+     * e.g. of custom beans, are stored in a map.
+     */
     static class RequestContextState implements ContextState {
 
-        private final Map<Contextual<?>, ContextInstanceHandle<?>> map;
+        private final AtomicReferenceArray<ContextInstanceHandle<?>> instances;
+
+        // Guarded by this
+        private int[] creationOrder;
+        private int created;
+        private volatile ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map;
 
         private volatile boolean isValid;
 
-        RequestContextState(ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value) {
-            this.map = Objects.requireNonNull(value);
+        RequestContextState(int slots) {
+            this.instances = slots > 0 ? new AtomicReferenceArray<>(slots) : null;
+            this.creationOrder = slots > 0 ? new int[slots] : null;
             this.isValid = true;
         }
 
+        ContextInstanceHandle<?> get(InjectableBean<?> bean) {
+            int slot = bean.getContextSlot();
+            if (instances != null && slot >= 0 && slot < instances.length()) {
+                return instances.get(slot);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = this.map;
+            return map != null ? map.get(bean) : null;
+        }
+
+        /**
+         *
+         * @param bean
+         * @param instance
+         * @return the previous instance or {@code null}
+         */
+        ContextInstanceHandle<?> putIfAbsent(InjectableBean<?> bean, ContextInstanceHandle<?> instance) {
+            int slot = bean.getContextSlot();
+            if (instances != null && slot >= 0 && slot < instances.length()) {
+                if (instances.compareAndSet(slot, null, instance)) {
+                    synchronized (this) {
+                        if (created == creationOrder.length) {
+                            // An instance was removed and created again
+                            creationOrder = Arrays.copyOf(creationOrder, created * 2);
+                        }
+                        creationOrder[created++] = slot;
+                    }
+                    return null;
+                }
+                return instances.get(slot);
+            }
+            return getMap().putIfAbsent(bean, instance);
+        }
+
+        ContextInstanceHandle<?> remove(Contextual<?> contextual) {
+            if (instances != null && contextual instanceof InjectableBean) {
+                int slot = ((InjectableBean<?>) contextual).getContextSlot();
+                if (slot >= 0 && slot < instances.length()) {
+                    // The slot stays in the creation order - an instance created later is recorded again
+                    return instances.getAndSet(slot, null);
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = this.map;
+            return map != null ? map.remove(contextual) : null;
+        }
+
+        /**
+         * The instances stored in slots are destroyed in reverse creation order.
+         *
+         * @param action
+         */
+        void destroyAll(Consumer<ContextInstanceHandle<?>> action) {
+            if (instances != null) {
+                int[] order;
+                synchronized (this) {
+                    order = Arrays.copyOf(creationOrder, created);
+                    created = 0;
+                }
+                for (int i = order.length - 1; i >= 0; i--) {
+                    ContextInstanceHandle<?> instance = instances.getAndSet(order[i], null);
+                    if (instance != null) {
+                        action.accept(instance);
+                    }
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = this.map;
+            if (map != null) {
+                //Performance: avoid an iterator on the map elements
+                map.forEach((contextual, instance) -> action.accept(instance));
+                map.clear();
+            }
+        }
+
+        private ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> getMap() {
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = this.map;
+            if (map == null) {
+                synchronized (this) {
+                    map = this.map;
+                    if (map == null) {
+                        this.map = map = new ConcurrentHashMap<>();
+                    }
+                }
+            }
+            return map;
+        }
+
         @Override
         public Map<InjectableBean<?>, Object> getContextualInstances() {
-            return ImmutableMap.copyOf(map.values().stream()
-                    .collect(Collectors.toMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get)));
+            ImmutableMap.Builder<InjectableBean<?>, Object> builder = ImmutableMap.builder();
+            if (instances != null) {
+                for (int i = 0; i < instances.length(); i++) {
+                    ContextInstanceHandle<?> instance = instances.get(i);
+                    if (instance != null) {
+                        builder.put(instance.getBean(), instance.get());
+                    }
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = this.map;
+            if (map != null) {
+                for (ContextInstanceHandle<?> instance : map.values()) {
+                    builder.put(instance.getBean(), instance.get());
+                }
+            }
+            return builder.build();
         }
 
         @Override
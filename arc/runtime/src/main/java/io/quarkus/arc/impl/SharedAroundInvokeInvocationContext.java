@@ -0,0 +1,122 @@
+package io.quarkus.arc.impl;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.Function;
+import javax.interceptor.InvocationContext;
+
+/**
+ * Special type of InvocationContext for AroundInvoke interceptors.
+ * <p>
+ * A single instance of {@link SharedAroundInvokeInvocationContext} is passed to all interceptors in the chain and the
+ * position in the chain is advanced and restored around each call of {@link #proceed()}. The "asynchronous continuation" of
+ * an interceptor chain is supported as well: if {@link #proceed()} is invoked on a different thread or after the intercepted
+ * method returned then the rest of the chain is invoked with new {@link AroundInvokeInvocationContext} instances. While the
+ * chain is running, it continues after the innermost interceptor that is running. Otherwise, it continues after the innermost
+ * interceptor that returned without invoking {@link #proceed()} during the last pass through the chain, or after the first
+ * interceptor if the chain was completed.
+ *
+ * @see InvocationContexts.AroundInvokeMode
+ */
+final class SharedAroundInvokeInvocationContext extends AbstractAroundInvokeInvocationContext {
+
+    private static final AtomicIntegerFieldUpdater<SharedAroundInvokeInvocationContext> POSITION = AtomicIntegerFieldUpdater
+            .newUpdater(SharedAroundInvokeInvocationContext.class, "position");
+
+    private final Function<InvocationContext, Object> aroundInvokeForward;
+    // Only modified by the owner thread; the ordered writes make sure that resumePosition is visible to a different thread
+    // that observes the restored position
+    private volatile int position;
+    // The position after the interceptor that cut the chain off during the last pass, or 0 if the chain was completed
+    private int resumePosition;
+    private int proceedCount;
+    private Thread owner;
+
+    private SharedAroundInvokeInvocationContext(Object target, Method method, Object[] parameters,
+            Set<Annotation> interceptorBindings, List<InterceptorInvocation> chain,
+            Function<InvocationContext, Object> aroundInvokeForward) {
+        super(target, method, parameters, null, interceptorBindings, chain);
+        this.aroundInvokeForward = aroundInvokeForward;
+    }
+
+    static Object perform(Object target, Method method,
+            Function<InvocationContext, Object> aroundInvokeForward, Object[] parameters,
+            List<InterceptorInvocation> chain,
+            Set<Annotation> interceptorBindings) throws Exception {
+        SharedAroundInvokeInvocationContext ctx = new SharedAroundInvokeInvocationContext(target, method, parameters,
+                interceptorBindings, chain, aroundInvokeForward);
+        ctx.owner = Thread.currentThread();
+        try {
+            return ctx.proceed();
+        } finally {
+            ctx.owner = null;
+        }
+    }
+
+    @Override
+    public Object proceed() throws Exception {
+        if (owner != Thread.currentThread()) {
+            return proceedDetached();
+        }
+        proceedCount++;
+        try {
+            int current = position;
+            if (current < chain.size()) {
+                // Invoke the next interceptor in the chain
+                return invokeNext(current);
+            } else {
+                // Invoke the target method
+                return targetWrapper != null ? targetWrapper.invoke(this) : aroundInvokeForward.apply(this);
+            }
+        } catch (InvocationTargetException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    private Object invokeNext(int current) throws Exception {
+        // A new pass through the rest of the chain - forget where a previous pass was cut off
+        resumePosition = 0;
+        POSITION.lazySet(this, current + 1);
+        int proceedCount = this.proceedCount;
+        try {
+            Object ret = chain.get(current).invoke(this);
+            if (proceedCount == this.proceedCount) {
+                // The interceptor did not invoke proceed() - it may continue the chain later
+                resumePosition = current + 1;
+            }
+            return ret;
+        } finally {
+            POSITION.lazySet(this, current);
+        }
+    }
+
+    private Object proceedDetached() throws Exception {
+        int next = position;
+        if (next == 0) {
+            // The chain is not running - the chain always continues after an interceptor
+            next = resumePosition != 0 ? resumePosition : 1;
+        }
+        AroundInvokeInvocationContext ctx = new AroundInvokeInvocationContext(target, method, parameters, null,
+                interceptorBindings, next, chain, aroundInvokeForward);
+        ctx.contextData = (ContextDataMap) getContextData();
+        ctx.targetWrapper = targetWrapper;
+        return ctx.proceed();
+    }
+
+    @Override
+    Object invokeTarget() {
+        return aroundInvokeForward.apply(this);
+    }
+
+}
@@ -7,6 +7,10 @@ import javax.inject.Singleton;
 
 class SingletonContext extends AbstractSharedContext {
 
+    SingletonContext(int slots) {
+        super(slots);
+    }
+
     @Override
     public Class<? extends Annotation> getScope() {
         return Singleton.class;
@@ -14,14 +18,14 @@ class SingletonContext extends AbstractSharedContext {
 
     void destroyInstance(Object instance) {
         InstanceHandle<?> handle = null;
-        for (ContextInstanceHandle<?> contextInstance : instances.getPresentValues()) {
+        for (ContextInstanceHandle<?> contextInstance : getPresentHandles()) {
             if (contextInstance.get() == instance) {
                 handle = contextInstance;
                 break;
             }
         }
         if (handle != null) {
-            handle = instances.remove(handle.getBean().getIdentifier());
+            handle = remove(handle.getBean());
             if (handle != null) {
                 handle.destroy();
             }
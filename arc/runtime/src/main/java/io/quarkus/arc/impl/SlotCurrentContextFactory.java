@@ -0,0 +1,57 @@
+package io.quarkus.arc.impl;
+
+import io.quarkus.arc.CurrentContext;
+import io.quarkus.arc.CurrentContextFactory;
+import io.quarkus.arc.InjectableContext.ContextState;
+import java.lang.annotation.Annotation;
+
+/**
+ * Each thread is assigned a mutable slot the first time the current context is accessed. Unlike the default
+ * {@link ThreadLocal} implementation, activation and deactivation of a context only write a field of the slot and do not
+ * insert and remove entries of the thread-local map, which is considerably cheaper if the context is activated and
+ * deactivated repeatedly on the same threads, e.g. on a worker pool.
+ * <p>
+ * Note that the slot is kept for the lifetime of the thread. The state itself is released when the context is
+ * deactivated.
+ *
+ * <pre>
+ * Arc.initialize(new SlotCurrentContextFactory());
+ * </pre>
+ *
+ * @see io.quarkus.arc.ContextCarrier
+ */
+public final class SlotCurrentContextFactory implements CurrentContextFactory {
+
+    @Override
+    public <T extends ContextState> CurrentContext<T> create(Class<? extends Annotation> scope) {
+        return new SlotCurrentContext<>();
+    }
+
+    private static final class SlotCurrentContext<T extends ContextState> implements CurrentContext<T> {
+
+        private final ThreadLocal<Slot<T>> slots = ThreadLocal.withInitial(Slot::new);
+
+        @Override
+        public T get() {
+            return slots.get().state;
+        }
+
+        @Override
+        public void set(T state) {
+            slots.get().state = state;
+        }
+
+        @Override
+        public void remove() {
+            slots.get().state = null;
+        }
+
+    }
+
+    private static final class Slot<T> {
+
+        T state;
+
+    }
+
+}
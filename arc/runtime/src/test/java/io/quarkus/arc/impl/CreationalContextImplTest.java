@@ -0,0 +1,78 @@
+package io.quarkus.arc.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.arc.InstanceHandle;
+
+public class CreationalContextImplTest {
+
+    @Test
+    public void testReleaseInCreationOrder() {
+        // Below and above the number of instances kept in an array
+        assertReleaseOrder(5);
+        assertReleaseOrder(50);
+    }
+
+    @Test
+    public void testDestroyDependentInstance() {
+        List<Object> destroyed = new ArrayList<>();
+        CreationalContextImpl<Object> ctx = new CreationalContextImpl<>(null);
+        List<Object> instances = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            Object instance = new Object();
+            instances.add(instance);
+            ctx.addDependentInstance(new RecordingHandle(instance, destroyed));
+        }
+        assertTrue(ctx.destroyDependentInstance(instances.get(3)));
+        assertFalse(ctx.destroyDependentInstance(instances.get(3)));
+        ctx.release();
+        instances.add(0, instances.remove(3));
+        assertEquals(instances, destroyed);
+        assertFalse(ctx.hasDependentInstances());
+    }
+
+    private static void assertReleaseOrder(int count) {
+        List<Object> destroyed = new ArrayList<>();
+        CreationalContextImpl<Object> ctx = new CreationalContextImpl<>(null);
+        List<Object> instances = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Object instance = new Object();
+            instances.add(instance);
+            ctx.addDependentInstance(new RecordingHandle(instance, destroyed));
+        }
+        assertTrue(ctx.hasDependentInstances());
+        ctx.release();
+        assertEquals(instances, destroyed);
+        assertFalse(ctx.hasDependentInstances());
+    }
+
+    static class RecordingHandle implements InstanceHandle<Object> {
+
+        private final Object instance;
+        private final List<Object> destroyed;
+
+        RecordingHandle(Object instance, List<Object> destroyed) {
+            this.instance = instance;
+            this.destroyed = destroyed;
+        }
+
+        @Override
+        public Object get() {
+            return instance;
+        }
+
+        @Override
+        public void destroy() {
+            destroyed.add(instance);
+        }
+
+    }
+
+}
@@ -1,14 +1,21 @@
 package io.quarkus.arc.impl;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
 import java.lang.annotation.Annotation;
+import java.lang.annotation.Retention;
 import java.util.Collections;
 import java.util.Set;
 
 import javax.enterprise.context.Initialized;
 import javax.enterprise.inject.Any;
+import javax.enterprise.util.AnnotationLiteral;
+import javax.enterprise.util.Nonbinding;
+import javax.inject.Qualifier;
 
 import org.junit.jupiter.api.Test;
 
@@ -20,16 +27,77 @@ public class QualifiersTest {
     public void testIsSubset() {
         Set<Annotation> observed = ImmutableSet.of(Initialized.Literal.REQUEST, Any.Literal.INSTANCE);
         Set<Annotation> event = ImmutableSet.of(Initialized.Literal.APPLICATION, Any.Literal.INSTANCE);
-        assertFalse(Qualifiers.isSubset(observed, event, Collections.emptyMap()));
+        assertFalse(Qualifiers.isSubset(observed, event, QualifierComparators.EMPTY));
 
         observed = ImmutableSet.of(Initialized.Literal.APPLICATION, Any.Literal.INSTANCE);
-        assertTrue(Qualifiers.isSubset(observed, event, Collections.emptyMap()));
+        assertTrue(Qualifiers.isSubset(observed, event, QualifierComparators.EMPTY));
 
         observed = ImmutableSet.of(Any.Literal.INSTANCE);
-        assertTrue(Qualifiers.isSubset(observed, event, Collections.emptyMap()));
+        assertTrue(Qualifiers.isSubset(observed, event, QualifierComparators.EMPTY));
 
         observed = ImmutableSet.of(Initialized.Literal.APPLICATION);
-        assertTrue(Qualifiers.isSubset(observed, event, Collections.emptyMap()));
+        assertTrue(Qualifiers.isSubset(observed, event, QualifierComparators.EMPTY));
+    }
+
+    @Test
+    public void testReflectiveComparator() {
+        QualifierComparators comparators = new QualifierComparators(Collections.emptyList(),
+                Collections.singletonMap(Marker.class.getName(), Collections.singleton("label")));
+        Set<Annotation> beanQualifiers = ImmutableSet.of(new MarkerLiteral(new int[] { 1, 2 }, "alpha", "a"));
+
+        // Primitive arrays are compared by value, nonbinding members are ignored
+        assertTrue(Qualifiers.hasQualifier(beanQualifiers, new MarkerLiteral(new int[] { 1, 2 }, "bravo", "b"),
+                comparators));
+        assertFalse(Qualifiers.hasQualifier(beanQualifiers, new MarkerLiteral(new int[] { 2, 1 }, "alpha", "a"),
+                comparators));
+        assertEquals(comparators.bindingHashCode(new MarkerLiteral(new int[] { 1, 2 }, "alpha", "a")),
+                comparators.bindingHashCode(new MarkerLiteral(new int[] { 1, 2 }, "bravo", "b")));
+        // Without the configuration the label is a binding member
+        assertFalse(Qualifiers.hasQualifier(beanQualifiers, new MarkerLiteral(new int[] { 1, 2 }, "alpha", "b"),
+                QualifierComparators.EMPTY));
+    }
+
+    @Qualifier
+    @Retention(RUNTIME)
+    public @interface Marker {
+
+        int[] codes();
+
+        @Nonbinding
+        String comment();
+
+        String label();
+
+    }
+
+    @SuppressWarnings("all")
+    static final class MarkerLiteral extends AnnotationLiteral<Marker> implements Marker {
+
+        private final int[] codes;
+        private final String comment;
+        private final String label;
+
+        MarkerLiteral(int[] codes, String comment, String label) {
+            this.codes = codes;
+            this.comment = comment;
+            this.label = label;
+        }
+
+        @Override
+        public int[] codes() {
+            return codes;
+        }
+
+        @Override
+        public String comment() {
+            return comment;
+        }
+
+        @Override
+        public String label() {
+            return label;
+        }
+
     }
 
 }
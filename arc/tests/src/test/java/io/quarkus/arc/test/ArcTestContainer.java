@@ -2,6 +2,7 @@ package io.quarkus.arc.test;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ComponentsProvider;
+import io.quarkus.arc.CurrentContextFactory;
 import io.quarkus.arc.ResourceReferenceProvider;
 import io.quarkus.arc.processor.AlternativePriorities;
 import io.quarkus.arc.processor.AnnotationsTransformer;
@@ -80,8 +81,12 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
         private final List<BeanDeploymentValidator> beanDeploymentValidators;
         private boolean shouldFail = false;
         private boolean removeUnusedBeans = false;
+        private boolean allowMocking = false;
+        private boolean proxyElision = false;
+        private boolean fusedInterceptorChains = false;
         private final List<Predicate<BeanInfo>> exclusions;
         private AlternativePriorities alternativePriorities;
+        private CurrentContextFactory currentContextFactory;
 
         public Builder() {
             resourceReferenceProviders = new ArrayList<>();
@@ -171,6 +176,21 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
             return this;
         }
 
+        public Builder allowMocking(boolean value) {
+            this.allowMocking = value;
+            return this;
+        }
+
+        public Builder proxyElision(boolean value) {
+            this.proxyElision = value;
+            return this;
+        }
+
+        public Builder fusedInterceptorChains(boolean value) {
+            this.fusedInterceptorChains = value;
+            return this;
+        }
+
         public Builder addRemovalExclusion(Predicate<BeanInfo> exclusion) {
             this.exclusions.add(exclusion);
             return this;
@@ -186,6 +206,11 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
             return this;
         }
 
+        public Builder currentContextFactory(CurrentContextFactory currentContextFactory) {
+            this.currentContextFactory = currentContextFactory;
+            return this;
+        }
+
         public ArcTestContainer build() {
             return new ArcTestContainer(this);
         }
@@ -215,8 +240,16 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
     private final boolean removeUnusedBeans;
     private final List<Predicate<BeanInfo>> exclusions;
 
+    private final boolean allowMocking;
+
+    private final boolean proxyElision;
+
+    private final boolean fusedInterceptorChains;
+
     private final AlternativePriorities alternativePriorities;
 
+    private final CurrentContextFactory currentContextFactory;
+
     public ArcTestContainer(Class<?>... beanClasses) {
         this.resourceReferenceProviders = Collections.emptyList();
         this.beanClasses = Arrays.asList(beanClasses);
@@ -234,8 +267,12 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
         this.buildFailure = new AtomicReference<Throwable>(null);
         this.shouldFail = false;
         this.removeUnusedBeans = false;
+        this.allowMocking = false;
+        this.proxyElision = false;
+        this.fusedInterceptorChains = false;
         this.exclusions = Collections.emptyList();
         this.alternativePriorities = null;
+        this.currentContextFactory = null;
     }
 
     public ArcTestContainer(Builder builder) {
@@ -255,8 +292,12 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
         this.buildFailure = new AtomicReference<Throwable>(null);
         this.shouldFail = builder.shouldFail;
         this.removeUnusedBeans = builder.removeUnusedBeans;
+        this.allowMocking = builder.allowMocking;
+        this.proxyElision = builder.proxyElision;
+        this.fusedInterceptorChains = builder.fusedInterceptorChains;
         this.exclusions = builder.exclusions;
         this.alternativePriorities = builder.alternativePriorities;
+        this.currentContextFactory = builder.currentContextFactory;
     }
 
     // this is where we start Arc, we operate on a per-method basis
@@ -398,6 +439,9 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
                 }
             });
             builder.setRemoveUnusedBeans(removeUnusedBeans);
+            builder.setAllowMocking(allowMocking);
+            builder.setProxyElision(proxyElision);
+            builder.setFusedInterceptorChains(fusedInterceptorChains);
             for (Predicate<BeanInfo> exclusion : exclusions) {
                 builder.addRemovalExclusion(exclusion);
             }
@@ -433,7 +477,7 @@ public class ArcTestContainer implements BeforeEachCallback, AfterEachCallback {
             getRootExtensionStore(context).put(KEY_TEST_CLASSLOADER, testClassLoader);
 
             // Now we are ready to initialize Arc
-            Arc.initialize();
+            Arc.initialize(currentContextFactory);
 
         } catch (Throwable e) {
             if (shouldFail) {
@@ -0,0 +1,133 @@
+package io.quarkus.arc.test.bean.destroy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableInstance;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.impl.InstanceImpl;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.inject.spi.InjectionPoint;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class DestructionFreeTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Root.class, Branch.class, Leaf.class, Service.class,
+            DirtyRoot.class, DirtyLeaf.class, Client.class);
+
+    @Test
+    public void testDestructionFreeGraph() {
+        assertTrue(Arc.container().instance(Leaf.class).getBean().isDestructionFree());
+        assertTrue(Arc.container().instance(Branch.class).getBean().isDestructionFree());
+        assertTrue(Arc.container().instance(Root.class).getBean().isDestructionFree());
+        // Not @Dependent
+        assertFalse(Arc.container().instance(Service.class).getBean().isDestructionFree());
+
+        Client client = Arc.container().instance(Client.class).get();
+        Root root = client.root.get();
+        assertNotNull(root.branch.leaf.injectionPoint);
+        assertEquals(Branch.class, root.branch.leaf.injectionPoint.getMember().getDeclaringClass());
+        assertEquals("pong", root.branch.service.ping());
+        // Nothing is tracked
+        assertFalse(((InstanceImpl<?>) client.root).hasDependentInstances());
+        try (InstanceHandle<Root> handle = client.root.getHandle()) {
+            assertNotNull(handle.get().branch);
+        }
+    }
+
+    @Test
+    public void testTransitiveDestroyLogic() {
+        // DirtyRoot has no destroy logic but one of its dependencies does
+        assertFalse(Arc.container().instance(DirtyLeaf.class).getBean().isDestructionFree());
+        assertFalse(Arc.container().instance(DirtyRoot.class).getBean().isDestructionFree());
+
+        Client client = Arc.container().instance(Client.class).get();
+        DirtyRoot root = client.dirtyRoot.get();
+        assertTrue(((InstanceImpl<?>) client.dirtyRoot).hasDependentInstances());
+        client.dirtyRoot.destroy(root);
+        assertEquals(1, DirtyLeaf.DESTROYED.get());
+        assertFalse(((InstanceImpl<?>) client.dirtyRoot).hasDependentInstances());
+    }
+
+    @Singleton
+    static class Client {
+
+        @Inject
+        InjectableInstance<Root> root;
+
+        @Inject
+        InjectableInstance<DirtyRoot> dirtyRoot;
+
+    }
+
+    @Dependent
+    static class Root {
+
+        @Inject
+        Branch branch;
+
+    }
+
+    @Dependent
+    static class Branch {
+
+        @Inject
+        Leaf leaf;
+
+        @Inject
+        Service service;
+
+    }
+
+    @Dependent
+    static class Leaf {
+
+        @Inject
+        InjectionPoint injectionPoint;
+
+    }
+
+    @ApplicationScoped
+    static class Service {
+
+        String ping() {
+            return "pong";
+        }
+
+    }
+
+    @Dependent
+    static class DirtyRoot {
+
+        @Inject
+        Leaf leaf;
+
+        @Inject
+        DirtyLeaf dirtyLeaf;
+
+    }
+
+    @Dependent
+    static class DirtyLeaf {
+
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+    }
+
+}
@@ -0,0 +1,91 @@
+package io.quarkus.arc.test.clientproxy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.impl.Mockable;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class ApplicationScopedProxyCacheTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder().beanClasses(Counter.class).allowMocking(true).build();
+
+    @Test
+    public void testDestroyInvalidatesCachedInstance() {
+        Counter.CREATED.set(0);
+        Counter.DESTROYED.set(0);
+        InstanceHandle<Counter> handle = Arc.container().instance(Counter.class);
+        Counter counter = handle.get();
+        assertTrue(counter instanceof ClientProxy);
+        int id = counter.getId();
+        assertEquals(id, counter.getId());
+        assertEquals(1, Counter.CREATED.get());
+
+        // Destroy the contextual instance - the proxy must not use the cached instance anymore
+        InjectableBean<Counter> bean = handle.getBean();
+        Arc.container().getActiveContext(ApplicationScoped.class).destroy(bean);
+        assertEquals(1, Counter.DESTROYED.get());
+        int newId = counter.getId();
+        assertNotEquals(id, newId);
+        assertEquals(2, Counter.CREATED.get());
+        assertEquals(newId, ((Counter) ((ClientProxy) counter).arc_contextualInstance()).getId());
+
+        // The same applies to the destruction via an instance handle
+        handle.destroy();
+        assertEquals(2, Counter.DESTROYED.get());
+        assertNotEquals(newId, counter.getId());
+    }
+
+    @Test
+    public void testMockTakesPrecedence() {
+        Counter counter = Arc.container().instance(Counter.class).get();
+        int id = counter.getId();
+        Mockable mockable = (Mockable) counter;
+        mockable.arc$setMock(new Counter() {
+            @Override
+            int getId() {
+                return -1;
+            }
+        });
+        assertEquals(-1, counter.getId());
+        mockable.arc$clearMock();
+        assertEquals(id, counter.getId());
+    }
+
+    @ApplicationScoped
+    static class Counter {
+
+        static final AtomicInteger CREATED = new AtomicInteger();
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        private int id;
+
+        @PostConstruct
+        void init() {
+            id = CREATED.incrementAndGet();
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+        int getId() {
+            return id;
+        }
+
+    }
+
+}
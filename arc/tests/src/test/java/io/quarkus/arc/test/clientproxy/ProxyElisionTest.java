@@ -0,0 +1,235 @@
+package io.quarkus.arc.test.clientproxy;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ClientProxy;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.KeepClientProxy;
+import io.quarkus.arc.test.ArcTestContainer;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.inject.Produces;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class ProxyElisionTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Service.class, Kept.class, RequestService.class, Factory.class, AppConsumer.class,
+                    SingletonConsumer.class, DependentConsumer.class, KeptConsumer.class, Ping.class, Pong.class)
+            .proxyElision(true).build();
+
+    @Test
+    public void testElided() {
+        ArcContainer arc = Arc.container();
+        Service service = (Service) ((ClientProxy) arc.instance(Service.class).get()).arc_contextualInstance();
+
+        AppConsumer appConsumer = arc.instance(AppConsumer.class).get();
+        assertFalse(appConsumer.service() instanceof ClientProxy);
+        assertSame(service, appConsumer.service());
+        assertFalse(appConsumer.produced() instanceof ClientProxy);
+        assertEquals("produced", appConsumer.produced().ping());
+
+        SingletonConsumer singletonConsumer = arc.instance(SingletonConsumer.class).get();
+        assertSame(service, singletonConsumer.service);
+        assertSame(service, singletonConsumer.initialized);
+    }
+
+    @Test
+    public void testDestroy() {
+        ArcContainer arc = Arc.container();
+        AppConsumer appConsumer = arc.instance(AppConsumer.class).get();
+        Service service = appConsumer.service();
+        Kept kept = (Kept) ((ClientProxy) appConsumer.kept()).arc_contextualInstance();
+
+        InstanceHandle<Service> serviceHandle = arc.instance(Service.class);
+        serviceHandle.destroy();
+        arc.instance(Kept.class).destroy();
+        // The elided injection point keeps the destroyed instance
+        assertTrue(service.destroyed);
+        assertSame(service, appConsumer.service());
+        assertNotSame(service, ((ClientProxy) arc.instance(Service.class).get()).arc_contextualInstance());
+        // The client proxy of a @KeepClientProxy bean delegates to a new instance
+        assertTrue(kept.destroyed);
+        assertNotSame(kept, ((ClientProxy) appConsumer.kept()).arc_contextualInstance());
+    }
+
+    @Test
+    public void testNotElided() {
+        ArcContainer arc = Arc.container();
+        AppConsumer appConsumer = arc.instance(AppConsumer.class).get();
+        // @KeepClientProxy on the injected bean
+        assertTrue(appConsumer.kept() instanceof ClientProxy);
+        // Not application scoped
+        assertTrue(appConsumer.requestService() instanceof ClientProxy);
+        // Not a container-lifetime consumer
+        assertTrue(arc.instance(DependentConsumer.class).get().service instanceof ClientProxy);
+        // @KeepClientProxy on the consumer
+        assertTrue(arc.instance(KeptConsumer.class).get().service() instanceof ClientProxy);
+        // Dependency cycle
+        assertTrue(arc.instance(Ping.class).get().pong() instanceof ClientProxy);
+        assertTrue(arc.instance(Pong.class).get().ping() instanceof ClientProxy);
+    }
+
+    @ApplicationScoped
+    static class Service {
+
+        boolean destroyed;
+
+        @PreDestroy
+        void destroy() {
+            destroyed = true;
+        }
+
+        String ping() {
+            return "service";
+        }
+
+    }
+
+    @KeepClientProxy
+    @ApplicationScoped
+    static class Kept {
+
+        boolean destroyed;
+
+        @PreDestroy
+        void destroy() {
+            destroyed = true;
+        }
+
+    }
+
+    @RequestScoped
+    static class RequestService {
+
+    }
+
+    static class Produced {
+
+        String ping() {
+            return "produced";
+        }
+
+    }
+
+    @Singleton
+    static class Factory {
+
+        @ApplicationScoped
+        @Produces
+        Produced produce() {
+            return new Produced();
+        }
+
+    }
+
+    @ApplicationScoped
+    static class AppConsumer {
+
+        @Inject
+        Service service;
+
+        @Inject
+        Produced produced;
+
+        @Inject
+        Kept kept;
+
+        @Inject
+        RequestService requestService;
+
+        Service service() {
+            return service;
+        }
+
+        Produced produced() {
+            return produced;
+        }
+
+        Kept kept() {
+            return kept;
+        }
+
+        RequestService requestService() {
+            return requestService;
+        }
+
+    }
+
+    @Singleton
+    static class SingletonConsumer {
+
+        final Service service;
+
+        Service initialized;
+
+        @Inject
+        SingletonConsumer(Service service) {
+            this.service = service;
+        }
+
+        @Inject
+        void init(Service service) {
+            this.initialized = service;
+        }
+
+    }
+
+    @Dependent
+    static class DependentConsumer {
+
+        @Inject
+        Service service;
+
+    }
+
+    @KeepClientProxy
+    @ApplicationScoped
+    static class KeptConsumer {
+
+        @Inject
+        Service service;
+
+        Service service() {
+            return service;
+        }
+
+    }
+
+    @ApplicationScoped
+    static class Ping {
+
+        @Inject
+        Pong pong;
+
+        Pong pong() {
+            return pong;
+        }
+
+    }
+
+    @ApplicationScoped
+    static class Pong {
+
+        @Inject
+        Ping ping;
+
+        Ping ping() {
+            return ping;
+        }
+
+    }
+
+}
@@ -0,0 +1,175 @@
+package io.quarkus.arc.test.contexts.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.impl.CreationalContextImpl;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.inject.Disposes;
+import javax.enterprise.inject.Produces;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class SharedContextSlotsTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Alpha.class, Bravo.class, Charlie.class);
+
+    static final List<String> DESTROYED = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void reset() {
+        DESTROYED.clear();
+    }
+
+    @Test
+    public void testSlotsAssigned() {
+        ArcContainer arc = Arc.container();
+        int alpha = arc.instance(Alpha.class).getBean().getContextSlot();
+        int bravo = arc.instance(Bravo.class).getBean().getContextSlot();
+        int charlie = arc.instance(Charlie.class).getBean().getContextSlot();
+        int delta = arc.instance(Delta.class).getBean().getContextSlot();
+        // The slots are dense within a scope - Alpha and the producer of Delta are application scoped
+        assertTrue(alpha >= 0 && alpha < 2);
+        assertTrue(delta >= 0 && delta < 2);
+        assertNotEquals(alpha, delta);
+        assertTrue(bravo >= 0);
+        assertTrue(charlie >= 0);
+        assertNotEquals(bravo, charlie);
+    }
+
+    @Test
+    public void testGetAndDestroy() {
+        ArcContainer arc = Arc.container();
+        InjectableContext appContext = arc.getActiveContext(ApplicationScoped.class);
+        InjectableBean<Alpha> alphaBean = arc.instance(Alpha.class).getBean();
+        assertNull(appContext.get(alphaBean));
+
+        Alpha alpha = appContext.get(alphaBean, new CreationalContextImpl<>(alphaBean));
+        assertSame(alpha, appContext.get(alphaBean));
+        assertSame(alpha, appContext.get(alphaBean, new CreationalContextImpl<>(alphaBean)));
+        Map<InjectableBean<?>, Object> instances = appContext.getState().getContextualInstances();
+        assertEquals(1, instances.size());
+        assertSame(alpha, instances.get(alphaBean));
+
+        appContext.destroy(alphaBean);
+        assertEquals(1, DESTROYED.size());
+        assertEquals("alpha", DESTROYED.get(0));
+        assertNull(appContext.get(alphaBean));
+        assertNotEquals(alpha.id, appContext.get(alphaBean, new CreationalContextImpl<>(alphaBean)).id);
+    }
+
+    @Test
+    public void testProducersDestroyedFirst() {
+        ArcContainer arc = Arc.container();
+        arc.instance(Delta.class).get().ping();
+        arc.instance(Alpha.class).get().ping();
+        arc.getActiveContext(ApplicationScoped.class).destroy();
+        assertEquals(2, DESTROYED.size());
+        assertEquals("delta", DESTROYED.get(0));
+        assertEquals("alpha", DESTROYED.get(1));
+    }
+
+    @Test
+    public void testConcurrentCreation() throws Exception {
+        ArcContainer arc = Arc.container();
+        InjectableContext singletonContext = arc.getActiveContext(Singleton.class);
+        InjectableBean<Bravo> bravoBean = arc.instance(Bravo.class).getBean();
+        singletonContext.destroy(bravoBean);
+        Bravo.CREATED.set(0);
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Bravo>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return singletonContext.get(bravoBean, new CreationalContextImpl<>(bravoBean));
+                }));
+            }
+            start.countDown();
+            Bravo bravo = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<Bravo> result : results) {
+                assertSame(bravo, result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, Bravo.CREATED.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @ApplicationScoped
+    static class Alpha {
+
+        private final String id = Double.toString(Math.random());
+
+        String ping() {
+            return id;
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.add("alpha");
+        }
+
+    }
+
+    @Singleton
+    static class Bravo {
+
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        @PostConstruct
+        void init() {
+            CREATED.incrementAndGet();
+        }
+
+    }
+
+    @Singleton
+    static class Charlie {
+
+        @ApplicationScoped
+        @Produces
+        Delta produceDelta() {
+            return new Delta();
+        }
+
+        void disposeDelta(@Disposes Delta delta) {
+            DESTROYED.add("delta");
+        }
+
+    }
+
+    static class Delta {
+
+        String ping() {
+            return "delta";
+        }
+
+    }
+
+}
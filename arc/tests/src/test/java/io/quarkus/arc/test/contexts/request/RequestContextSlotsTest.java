@@ -0,0 +1,140 @@
+package io.quarkus.arc.test.contexts.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.RequestScoped;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class RequestContextSlotsTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Alpha.class, Bravo.class, Charlie.class, Delta.class);
+
+    static final List<String> DESTROYED = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void reset() {
+        DESTROYED.clear();
+    }
+
+    @Test
+    public void testSlotsAssigned() {
+        ArcContainer arc = Arc.container();
+        InjectableBean<Alpha> alpha = arc.instance(Alpha.class).getBean();
+        InjectableBean<Bravo> bravo = arc.instance(Bravo.class).getBean();
+        InjectableBean<Charlie> charlie = arc.instance(Charlie.class).getBean();
+        assertTrue(alpha.getContextSlot() >= 0);
+        assertTrue(bravo.getContextSlot() >= 0);
+        assertTrue(charlie.getContextSlot() >= 0);
+        assertNotEquals(alpha.getContextSlot(), bravo.getContextSlot());
+        assertNotEquals(alpha.getContextSlot(), charlie.getContextSlot());
+        assertNotEquals(bravo.getContextSlot(), charlie.getContextSlot());
+        // The slots are dense within a scope
+        assertEquals(0, arc.instance(Delta.class).getBean().getContextSlot());
+    }
+
+    @Test
+    public void testDestroyedInReverseCreationOrder() {
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+        requestContext.activate();
+        try {
+            arc.instance(Charlie.class).get().ping();
+            arc.instance(Alpha.class).get().ping();
+            arc.instance(Bravo.class).get().ping();
+            Map<InjectableBean<?>, Object> instances = requestContext.getState().getContextualInstances();
+            assertEquals(3, instances.size());
+        } finally {
+            requestContext.terminate();
+        }
+        assertEquals(3, DESTROYED.size());
+        assertEquals("bravo", DESTROYED.get(0));
+        assertEquals("alpha", DESTROYED.get(1));
+        assertEquals("charlie", DESTROYED.get(2));
+    }
+
+    @Test
+    public void testDestroyAndCreateAgain() {
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+        requestContext.activate();
+        try {
+            Alpha alpha = arc.instance(Alpha.class).get();
+            String id = alpha.ping();
+            arc.instance(Bravo.class).get().ping();
+            requestContext.destroy(arc.instance(Alpha.class).getBean());
+            assertEquals(1, DESTROYED.size());
+            assertEquals("alpha", DESTROYED.get(0));
+            assertNotEquals(id, alpha.ping());
+        } finally {
+            requestContext.terminate();
+        }
+        assertEquals(3, DESTROYED.size());
+        assertEquals("alpha", DESTROYED.get(1));
+        assertEquals("bravo", DESTROYED.get(2));
+    }
+
+    @RequestScoped
+    static class Alpha {
+
+        private final String id = Double.toString(Math.random());
+
+        String ping() {
+            return id;
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.add("alpha");
+        }
+
+    }
+
+    @RequestScoped
+    static class Bravo {
+
+        String ping() {
+            return "bravo";
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.add("bravo");
+        }
+
+    }
+
+    @RequestScoped
+    static class Charlie {
+
+        String ping() {
+            return "charlie";
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.add("charlie");
+        }
+
+    }
+
+    @ApplicationScoped
+    static class Delta {
+
+    }
+
+}
@@ -0,0 +1,111 @@
+package io.quarkus.arc.test.contexts.request.propagation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.ContextCarrier;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.enterprise.event.ObservesAsync;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class ContextCarrierTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(YetAnotherReqScopedBean.class, PingObserver.class);
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void init() {
+        executor = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testWrap() throws Exception {
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+        assertTrue(ContextCarrier.capture().isEmpty());
+
+        requestContext.activate();
+        try {
+            YetAnotherReqScopedBean bean = arc.instance(YetAnotherReqScopedBean.class).get();
+            int number = bean.getRandomNumber();
+            ContextCarrier carrier = ContextCarrier.capture();
+            assertFalse(carrier.isEmpty());
+
+            assertEquals(number, (int) executor.submit(carrier.wrap(bean::getRandomNumber)).get(5, TimeUnit.SECONDS));
+            // The context is deactivated after the task
+            assertFalse(executor.submit(requestContext::isActive).get(5, TimeUnit.SECONDS));
+            // The task may be also executed on the same thread
+            assertEquals(number, (int) carrier.wrap(bean::getRandomNumber).call());
+            assertTrue(requestContext.isActive());
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    @Test
+    public void testTerminatedContextIsNotPropagated() throws Exception {
+        ManagedContext requestContext = Arc.container().requestContext();
+        requestContext.activate();
+        ContextCarrier carrier = ContextCarrier.capture();
+        requestContext.terminate();
+        assertFalse(executor.submit(carrier.wrap(requestContext::isActive)).get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testExecutorPropagation() throws Exception {
+        Arc.setExecutor(executor, true);
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+        requestContext.activate();
+        try {
+            int number = arc.instance(YetAnotherReqScopedBean.class).get().getRandomNumber();
+            assertEquals(number, (int) arc.getExecutorService()
+                    .submit(() -> Arc.container().instance(YetAnotherReqScopedBean.class).get().getRandomNumber())
+                    .get(5, TimeUnit.SECONDS));
+
+            // Async observers are notified within the same request context
+            arc.beanManager().getEvent().fireAsync(new Ping()).toCompletableFuture().get(5, TimeUnit.SECONDS);
+            assertEquals(number, PingObserver.NUMBER.get());
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    static class Ping {
+    }
+
+    @Singleton
+    static class PingObserver {
+
+        static final AtomicInteger NUMBER = new AtomicInteger();
+
+        @Inject
+        YetAnotherReqScopedBean bean;
+
+        void onPing(@ObservesAsync Ping ping) {
+            NUMBER.set(bean.getRandomNumber());
+        }
+
+    }
+
+}
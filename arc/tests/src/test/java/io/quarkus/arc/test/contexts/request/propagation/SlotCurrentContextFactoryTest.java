@@ -0,0 +1,70 @@
+package io.quarkus.arc.test.contexts.request.propagation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.impl.SlotCurrentContextFactory;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import javax.enterprise.context.ContextNotActiveException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class SlotCurrentContextFactoryTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder().beanClasses(YetAnotherReqScopedBean.class)
+            .currentContextFactory(new SlotCurrentContextFactory()).build();
+
+    @Test
+    public void testActivation() throws Exception {
+        ArcContainer arc = Arc.container();
+        assertTrue(arc.getCurrentContextFactory() instanceof SlotCurrentContextFactory);
+        ManagedContext requestContext = arc.requestContext();
+        YetAnotherReqScopedBean bean = arc.instance(YetAnotherReqScopedBean.class).get();
+        assertThrows(ContextNotActiveException.class, bean::getRandomNumber);
+
+        requestContext.activate();
+        int number = bean.getRandomNumber();
+        ContextState state = requestContext.getState();
+        requestContext.deactivate();
+        assertFalse(requestContext.isActive());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // The state is not visible on other threads
+            assertFalse(executor.submit(requestContext::isActive).get(5, TimeUnit.SECONDS));
+            assertEquals(number, (int) executor.submit(() -> {
+                requestContext.activate(state);
+                try {
+                    return bean.getRandomNumber();
+                } finally {
+                    requestContext.deactivate();
+                }
+            }).get(5, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        requestContext.activate(state);
+        assertEquals(number, bean.getRandomNumber());
+        requestContext.terminate();
+
+        requestContext.activate();
+        try {
+            assertNotEquals(state, requestContext.getState());
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+}
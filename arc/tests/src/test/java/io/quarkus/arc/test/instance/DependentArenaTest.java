@@ -0,0 +1,132 @@
+package io.quarkus.arc.test.instance;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.DependentArena;
+import io.quarkus.arc.InjectableInstance;
+import io.quarkus.arc.impl.InstanceImpl;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.inject.Disposes;
+import javax.enterprise.inject.Produces;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class DependentArenaTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Alpha.class, Washcloth.class, Brushes.class);
+
+    @BeforeEach
+    public void reset() {
+        Washcloth.DESTROYED.set(0);
+        Brushes.DESTROYED.set(0);
+    }
+
+    @Test
+    public void testArenaDestroysDependents() {
+        Alpha alpha = Arc.container().instance(Alpha.class).get();
+        DependentArena<Washcloth> arena;
+        try (DependentArena<Washcloth> washcloths = alpha.washcloth.arena()) {
+            arena = washcloths;
+            for (int i = 0; i < 10; i++) {
+                washcloths.get().wash();
+            }
+            assertTrue(((InstanceImpl<?>) washcloths).hasDependentInstances());
+            assertEquals(0, Washcloth.DESTROYED.get());
+        }
+        assertEquals(10, Washcloth.DESTROYED.get());
+        assertFalse(((InstanceImpl<?>) arena).hasDependentInstances());
+        // The instance itself does not hold the dependents obtained through the arena
+        assertFalse(((InstanceImpl<?>) alpha.washcloth).hasDependentInstances());
+    }
+
+    @Test
+    public void testDestroyInAnyOrder() {
+        Alpha alpha = Arc.container().instance(Alpha.class).get();
+        List<Washcloth> washcloths = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            washcloths.add(alpha.washcloth.get());
+        }
+        Collections.shuffle(washcloths);
+        for (Washcloth washcloth : washcloths) {
+            alpha.washcloth.destroy(washcloth);
+        }
+        assertEquals(1000, Washcloth.DESTROYED.get());
+        assertFalse(((InstanceImpl<?>) alpha.washcloth).hasDependentInstances());
+    }
+
+    @Test
+    public void testSameInstanceObtainedTwice() {
+        Alpha alpha = Arc.container().instance(Alpha.class).get();
+        List<String> first = alpha.brushes.get();
+        List<String> second = alpha.brushes.get();
+        assertTrue(first == second);
+        alpha.brushes.destroy(first);
+        assertEquals(1, Brushes.DESTROYED.get());
+        assertTrue(((InstanceImpl<?>) alpha.brushes).hasDependentInstances());
+        alpha.brushes.destroy(second);
+        assertEquals(2, Brushes.DESTROYED.get());
+        assertFalse(((InstanceImpl<?>) alpha.brushes).hasDependentInstances());
+    }
+
+    @Singleton
+    static class Alpha {
+
+        @Inject
+        InjectableInstance<Washcloth> washcloth;
+
+        @Named("brushes")
+        @Inject
+        InjectableInstance<List<String>> brushes;
+
+    }
+
+    @Dependent
+    static class Washcloth {
+
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        void wash() {
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+    }
+
+    @Singleton
+    static class Brushes {
+
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        static final List<String> BRUSHES = Collections.singletonList("brush");
+
+        @Named("brushes")
+        @Dependent
+        @Produces
+        List<String> produce() {
+            return BRUSHES;
+        }
+
+        void dispose(@Disposes @Named("brushes") List<String> brushes) {
+            DESTROYED.incrementAndGet();
+        }
+
+    }
+
+}
@@ -0,0 +1,197 @@
+package io.quarkus.arc.test.interceptors.context;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcInvocationContext;
+import io.quarkus.arc.impl.FusedAroundInvokeInvocationContext;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.interceptors.Logging;
+import io.quarkus.arc.test.interceptors.LoggingInterceptor;
+import java.io.IOException;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.List;
+import javax.annotation.Priority;
+import javax.inject.Singleton;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InterceptorBinding;
+import javax.interceptor.InvocationContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class FusedInterceptorChainTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(Fused.class, Logging.class, SimpleBean.class, AlphaInterceptor.class, BravoInterceptor.class,
+                    CharlieInterceptor.class, LoggingInterceptor.class)
+            .fusedInterceptorChains(true).build();
+
+    @Test
+    public void testChain() {
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        AlphaInterceptor.contexts.clear();
+
+        // Bravo proceeds twice, Charlie modifies the parameters
+        assertEquals("A:B:C:ok-2:C:ok-2", bean.foo(1));
+        assertEquals(2, AlphaInterceptor.contexts.size());
+        InvocationContext ctx = AlphaInterceptor.contexts.get(0);
+        assertTrue(ctx instanceof FusedAroundInvokeInvocationContext);
+        // A new context is created for each interceptor but the context data are shared
+        assertNotSame(ctx, AlphaInterceptor.contexts.get(1));
+        assertSame(ctx.getContextData(), AlphaInterceptor.contexts.get(1).getContextData());
+        assertEquals("foo", ctx.getMethod().getName());
+        assertTrue(((ArcInvocationContext) ctx).findIterceptorBinding(Fused.class) != null);
+
+        AlphaInterceptor.contexts.clear();
+        assertEquals("A:B:C:ok-10:C:ok-10", bean.foo(10));
+        assertTrue(AlphaInterceptor.contexts.get(0) != ctx);
+    }
+
+    @Test
+    public void testContextDataCreatedDownstream() {
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        // Charlie creates the context data, Alpha reads it after proceed()
+        assertEquals(3, bean.sum(1, 2));
+        assertEquals("sum", AlphaInterceptor.downstream);
+    }
+
+    @Test
+    public void testReturnTypes() {
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        assertEquals(3, bean.sum(1, 2));
+        bean.ping();
+        assertEquals(1, bean.pings);
+        // The interceptor of the @Logging binding declares a package-private @AroundInvoke method in a different package,
+        // i.e. it's invoked through the InjectableInterceptor
+        assertEquals("logged", bean.logged());
+    }
+
+    @Test
+    public void testShortCircuit() {
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        assertEquals("A:B:C:cut:C:cut", bean.foo(-1));
+    }
+
+    @Test
+    public void testExceptions() {
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        assertThrows(IOException.class, () -> bean.fail(true));
+        assertThrows(IllegalStateException.class, () -> bean.fail(false));
+    }
+
+    @Target({ TYPE, METHOD })
+    @Retention(RUNTIME)
+    @InterceptorBinding
+    public @interface Fused {
+
+    }
+
+    @Singleton
+    static class SimpleBean {
+
+        int pings;
+
+        @Fused
+        String foo(int val) {
+            return "ok-" + val;
+        }
+
+        @Fused
+        int sum(int a, int b) {
+            return a + b;
+        }
+
+        @Fused
+        void ping() {
+            pings++;
+        }
+
+        @Fused
+        void fail(boolean checked) throws IOException {
+            if (checked) {
+                throw new IOException();
+            }
+            throw new IllegalStateException();
+        }
+
+        @Logging
+        String logged() {
+            return "logged";
+        }
+
+    }
+
+    @Fused
+    @Priority(1)
+    @Interceptor
+    public static class AlphaInterceptor {
+
+        static final List<InvocationContext> contexts = new ArrayList<>();
+
+        static Object downstream;
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            if (!ctx.getMethod().getName().equals("foo")) {
+                Object ret = ctx.proceed();
+                downstream = ctx.getContextData().get("charlie");
+                return ret;
+            }
+            contexts.add(ctx);
+            ctx.getContextData().put("alpha", true);
+            return "A:" + ctx.proceed();
+        }
+    }
+
+    @Fused
+    @Priority(2)
+    @Interceptor
+    public static class BravoInterceptor {
+
+        @AroundInvoke
+        public Object around(ArcInvocationContext ctx) throws Exception {
+            if (!ctx.getMethod().getName().equals("foo")) {
+                return ctx.proceed();
+            }
+            AlphaInterceptor.contexts.add(ctx);
+            assertEquals(Boolean.TRUE, ctx.getContextData().get("alpha"));
+            Object first = ctx.proceed();
+            // Retry - the position in the chain must be restored
+            return "B:" + first + ":" + ctx.proceed();
+        }
+    }
+
+    @Fused
+    @Priority(3)
+    @Interceptor
+    public static class CharlieInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            if (!ctx.getMethod().getName().equals("foo")) {
+                ctx.getContextData().put("charlie", ctx.getMethod().getName());
+                return ctx.proceed();
+            }
+            int val = (int) ctx.getParameters()[0];
+            if (val < 0) {
+                return "C:cut";
+            }
+            if (val % 2 != 0) {
+                ctx.setParameters(new Object[] { val + 1 });
+            }
+            return "C:" + ctx.proceed();
+        }
+    }
+
+}
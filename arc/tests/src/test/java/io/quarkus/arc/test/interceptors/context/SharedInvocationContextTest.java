@@ -0,0 +1,200 @@
+package io.quarkus.arc.test.interceptors.context;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.impl.InvocationContexts;
+import io.quarkus.arc.impl.InvocationContexts.AroundInvokeMode;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.interceptors.Simple;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class SharedInvocationContextTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Simple.class, SimpleBean.class, NestedBean.class,
+            AlphaInterceptor.class, BravoInterceptor.class);
+
+    @AfterEach
+    void resetMode() {
+        InvocationContexts.setAroundInvokeMode(AroundInvokeMode.PER_INTERCEPTOR);
+    }
+
+    @Test
+    public void testShared() {
+        InvocationContexts.setAroundInvokeMode(AroundInvokeMode.SHARED);
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        AlphaInterceptor.reset();
+
+        // Bravo proceeds twice
+        assertEquals("A:B:ok-1:ok-1", bean.foo(1));
+        assertEquals(3, AlphaInterceptor.contexts.size());
+        assertSame(AlphaInterceptor.contexts.get(0), AlphaInterceptor.contexts.get(1));
+        assertSame(AlphaInterceptor.contexts.get(0), AlphaInterceptor.contexts.get(2));
+
+        AlphaInterceptor.reset();
+        bean.foo(2);
+        assertNotSame(AlphaInterceptor.contexts.get(0), AlphaInterceptor.last);
+    }
+
+    @Test
+    public void testNested() {
+        InvocationContexts.setAroundInvokeMode(AroundInvokeMode.SHARED);
+        AlphaInterceptor.reset();
+        // Nested invocations use a separate context
+        assertEquals("A:B:A:B:ok-3:ok-3:A:B:ok-3:ok-3", Arc.container().instance(NestedBean.class).get().foo(3));
+        assertEquals(9, AlphaInterceptor.contexts.size());
+        assertSame(AlphaInterceptor.contexts.get(0), AlphaInterceptor.contexts.get(1));
+        assertNotSame(AlphaInterceptor.contexts.get(0), AlphaInterceptor.contexts.get(2));
+    }
+
+    @Test
+    public void testAsynchronousContinuation() throws Exception {
+        InvocationContexts.setAroundInvokeMode(AroundInvokeMode.SHARED);
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // Bravo returns immediately and the chain is continued after the intercepted method returned
+            BravoInterceptor.defer = true;
+            AlphaInterceptor.reset();
+            assertEquals("A:deferred", bean.foo(1));
+            InvocationContext ctx = BravoInterceptor.deferred;
+            assertEquals("ok-1", executor.submit(() -> ctx.proceed()).get());
+            assertEquals("ok-1", ctx.proceed());
+            assertEquals(Boolean.TRUE, ctx.getContextData().get("alpha"));
+
+            // Bravo proceeds on a different thread before it returns
+            BravoInterceptor.defer = false;
+            BravoInterceptor.executor = executor;
+            AlphaInterceptor.reset();
+            assertEquals("A:B:ok-2:ok-2", bean.foo(2));
+        } finally {
+            BravoInterceptor.defer = false;
+            BravoInterceptor.executor = null;
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testContinuationPosition() throws Exception {
+        InvocationContexts.setAroundInvokeMode(AroundInvokeMode.SHARED);
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            AlphaInterceptor.twice = true;
+            // Bravo cuts the chain off, then Alpha proceeds again on a different thread while it's still running
+            BravoInterceptor.deferOnce = true;
+            AlphaInterceptor.executor = executor;
+            AlphaInterceptor.reset();
+            assertEquals("A:deferred|B:ok-1:ok-1", bean.foo(1));
+
+            // Bravo cuts the chain off, then Alpha proceeds again and the chain is completed
+            BravoInterceptor.deferOnce = true;
+            AlphaInterceptor.executor = null;
+            AlphaInterceptor.reset();
+            assertEquals("A:deferred|B:ok-2:ok-2", bean.foo(2));
+            // The continuation starts after Alpha
+            InvocationContext ctx = AlphaInterceptor.contexts.get(0);
+            assertEquals("B:ok-2:ok-2", executor.submit(() -> ctx.proceed()).get());
+        } finally {
+            AlphaInterceptor.twice = false;
+            AlphaInterceptor.executor = null;
+            BravoInterceptor.deferOnce = false;
+            executor.shutdownNow();
+        }
+    }
+
+    @Simple
+    @Singleton
+    static class SimpleBean {
+
+        String foo(int val) {
+            return "ok-" + val;
+        }
+
+    }
+
+    @Singleton
+    static class NestedBean {
+
+        @Inject
+        SimpleBean simpleBean;
+
+        @Simple
+        String foo(int val) {
+            return simpleBean.foo(val);
+        }
+
+    }
+
+    @Simple
+    @Priority(1)
+    @Interceptor
+    public static class AlphaInterceptor {
+
+        static final List<InvocationContext> contexts = new ArrayList<>();
+        static InvocationContext last;
+        static volatile boolean twice;
+        static volatile ExecutorService executor;
+
+        static void reset() {
+            if (!contexts.isEmpty()) {
+                last = contexts.get(0);
+            }
+            contexts.clear();
+        }
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            contexts.add(ctx);
+            ctx.getContextData().put("alpha", true);
+            if (twice) {
+                Object first = ctx.proceed();
+                Object second = executor != null ? executor.submit(() -> ctx.proceed()).get() : ctx.proceed();
+                return "A:" + first + "|" + second;
+            }
+            return "A:" + ctx.proceed();
+        }
+    }
+
+    @Simple
+    @Priority(2)
+    @Interceptor
+    public static class BravoInterceptor {
+
+        static volatile boolean defer;
+        static volatile boolean deferOnce;
+        static volatile InvocationContext deferred;
+        static volatile ExecutorService executor;
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            AlphaInterceptor.contexts.add(ctx);
+            assertEquals(Boolean.TRUE, ctx.getContextData().get("alpha"));
+            if (defer || deferOnce) {
+                deferOnce = false;
+                deferred = ctx;
+                return "deferred";
+            }
+            Object first = executor != null ? executor.submit(() -> ctx.proceed()).get() : ctx.proceed();
+            // Retry - the position in the chain must be restored
+            AlphaInterceptor.contexts.add(ctx);
+            return "B:" + first + ":" + ctx.proceed();
+        }
+    }
+
+}
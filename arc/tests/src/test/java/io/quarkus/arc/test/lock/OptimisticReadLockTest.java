@@ -0,0 +1,195 @@
+package io.quarkus.arc.test.lock;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.Lock;
+import io.quarkus.arc.Lock.Type;
+import io.quarkus.arc.impl.LockInterceptor;
+import io.quarkus.arc.impl.LockMetrics;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Priority;
+import javax.enterprise.context.ApplicationScoped;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InterceptorBinding;
+import javax.interceptor.InvocationContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class OptimisticReadLockTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Counter.class, Lock.class, LockInterceptor.class,
+            Observed.class, ObservedInterceptor.class);
+
+    private ExecutorService executor;
+
+    @BeforeEach
+    void init() {
+        executor = Executors.newFixedThreadPool(2);
+        Counter.reset();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testReadersDoNotBlockEachOther() throws Exception {
+        Counter counter = Arc.container().instance(Counter.class).get();
+        CyclicBarrier barrier = new CyclicBarrier(2);
+        Future<Integer> first = executor.submit(() -> counter.await(barrier));
+        Future<Integer> second = executor.submit(() -> counter.await(barrier));
+        assertEquals(0, first.get(5, TimeUnit.SECONDS));
+        assertEquals(0, second.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testReadIsRetriedAfterWrite() throws Exception {
+        Counter counter = Arc.container().instance(Counter.class).get();
+        Counter.blockFirstRead();
+        Future<Integer> read = executor.submit(counter::get);
+        assertTrue(Counter.READ_INSIDE.await(5, TimeUnit.SECONDS));
+        // The optimistic read does not block the writer
+        counter.increment(null);
+        Counter.READ_MAY_COMPLETE.countDown();
+        assertEquals(1, read.get(5, TimeUnit.SECONDS));
+        assertEquals(2, Counter.READS.get());
+        // Only the business method is invoked again
+        assertEquals(1, ObservedInterceptor.READS.get());
+
+        LockMetrics metrics = LockMetrics.of(Counter.class.getDeclaredMethod("get"));
+        assertNotNull(metrics);
+        assertEquals(1, metrics.getOptimisticRetries());
+        assertEquals(0, metrics.getOptimisticFallbacks());
+    }
+
+    @Test
+    public void testReadFallsBackToReadLock() throws Exception {
+        Counter counter = Arc.container().instance(Counter.class).get();
+        CountDownLatch writeMayComplete = new CountDownLatch(1);
+        Future<?> write = executor.submit(() -> {
+            counter.increment(writeMayComplete);
+            return null;
+        });
+        assertTrue(Counter.WRITE_INSIDE.await(5, TimeUnit.SECONDS));
+        Future<Integer> read = executor.submit(counter::get);
+        Thread.sleep(100);
+        // Write lock is held
+        assertFalse(read.isDone());
+        writeMayComplete.countDown();
+        write.get(5, TimeUnit.SECONDS);
+        assertEquals(1, read.get(5, TimeUnit.SECONDS));
+
+        LockMetrics metrics = LockMetrics.of(Counter.class.getDeclaredMethod("get"));
+        assertEquals(1, metrics.getOptimisticFallbacks());
+        assertEquals(1, metrics.getContended());
+        assertTrue(metrics.getWaitTime() > 0);
+    }
+
+    @Test
+    public void testReadWithinWrite() throws Exception {
+        Counter counter = Arc.container().instance(Counter.class).get();
+        assertEquals(1, counter.incrementAndGet());
+    }
+
+    @Observed
+    @Lock(Type.OPTIMISTIC_READ)
+    @ApplicationScoped
+    static class Counter {
+
+        static final AtomicInteger READS = new AtomicInteger();
+        static CountDownLatch READ_INSIDE;
+        static CountDownLatch READ_MAY_COMPLETE;
+        static CountDownLatch WRITE_INSIDE;
+
+        static void reset() {
+            READS.set(0);
+            ObservedInterceptor.READS.set(0);
+            READ_INSIDE = null;
+            READ_MAY_COMPLETE = null;
+            WRITE_INSIDE = new CountDownLatch(1);
+        }
+
+        static void blockFirstRead() {
+            READ_INSIDE = new CountDownLatch(1);
+            READ_MAY_COMPLETE = new CountDownLatch(1);
+        }
+
+        private int value;
+
+        int get() throws InterruptedException {
+            int current = value;
+            if (READS.incrementAndGet() == 1 && READ_INSIDE != null) {
+                READ_INSIDE.countDown();
+                READ_MAY_COMPLETE.await(5, TimeUnit.SECONDS);
+            }
+            return current;
+        }
+
+        int await(CyclicBarrier barrier) throws Exception {
+            barrier.await(5, TimeUnit.SECONDS);
+            return value;
+        }
+
+        @Lock(Type.WRITE)
+        void increment(CountDownLatch mayComplete) throws InterruptedException {
+            value++;
+            if (mayComplete != null) {
+                WRITE_INSIDE.countDown();
+                mayComplete.await(5, TimeUnit.SECONDS);
+            }
+        }
+
+        @Lock(Type.WRITE)
+        int incrementAndGet() throws InterruptedException {
+            increment(null);
+            return get();
+        }
+
+    }
+
+    @Target({ TYPE, METHOD })
+    @Retention(RUNTIME)
+    @InterceptorBinding
+    public @interface Observed {
+
+    }
+
+    @Observed
+    @Priority(10)
+    @Interceptor
+    public static class ObservedInterceptor {
+
+        static final AtomicInteger READS = new AtomicInteger();
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            if (ctx.getMethod().getName().equals("get")) {
+                READS.incrementAndGet();
+            }
+            return ctx.proceed();
+        }
+
+    }
+
+}
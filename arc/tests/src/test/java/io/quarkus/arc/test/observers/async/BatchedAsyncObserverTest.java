@@ -0,0 +1,249 @@
+package io.quarkus.arc.test.observers.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.AsyncEventDelivery;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.ObservesAsync;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class BatchedAsyncObserverTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(UpdateObserver.class, RequestState.class);
+
+    private QueueingExecutor executor;
+
+    @BeforeEach
+    void init() {
+        UpdateObserver.UPDATES.clear();
+        UpdateObserver.REQUEST_UPDATES.clear();
+        executor = new QueueingExecutor();
+    }
+
+    @Test
+    public void testBatched() throws Exception {
+        Event<Object> event = Arc.container().beanManager().getEvent();
+        List<CompletableFuture<Update>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(event.fireAsync(new Update("foo", i), AsyncEventDelivery.batched(executor)).toCompletableFuture());
+        }
+        // A single task delivers all the events
+        assertEquals(1, executor.tasks.size());
+        assertFalse(futures.get(0).isDone());
+        executor.runAll();
+
+        assertEquals(5, UpdateObserver.UPDATES.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, UpdateObserver.UPDATES.get(i).value);
+            assertEquals(i, futures.get(i).get().value);
+        }
+
+        // The next event is delivered in a new task
+        event.fireAsync(new Update("foo", 5), AsyncEventDelivery.batched(executor));
+        assertEquals(1, executor.tasks.size());
+        executor.runAll();
+        assertEquals(6, UpdateObserver.UPDATES.size());
+    }
+
+    @Test
+    public void testCoalesced() throws Exception {
+        Event<Update> event = Arc.container().beanManager().getEvent().select(Update.class);
+        Update foo1 = new Update("foo", 1);
+        CompletableFuture<Update> first = event
+                .fireAsync(foo1, AsyncEventDelivery.<Update> coalesced(u -> u.key, executor)).toCompletableFuture();
+        event.fireAsync(new Update("bar", 1), AsyncEventDelivery.<Update> coalesced(u -> u.key, executor));
+        CompletableFuture<Update> last = event
+                .fireAsync(new Update("foo", 2), AsyncEventDelivery.<Update> coalesced(u -> u.key, executor))
+                .toCompletableFuture();
+        executor.runAll();
+
+        // The first foo update was replaced but kept its position
+        assertEquals(2, UpdateObserver.UPDATES.size());
+        assertEquals("foo", UpdateObserver.UPDATES.get(0).key);
+        assertEquals(2, UpdateObserver.UPDATES.get(0).value);
+        assertEquals("bar", UpdateObserver.UPDATES.get(1).key);
+        assertSame(foo1, first.get());
+        assertEquals(2, last.get().value);
+
+        // The delivered event can't be replaced anymore
+        event.fireAsync(new Update("foo", 3), AsyncEventDelivery.<Update> coalesced(u -> u.key, executor));
+        executor.runAll();
+        assertEquals(3, UpdateObserver.UPDATES.size());
+    }
+
+    @Test
+    public void testExceptionsAreCollectedPerEvent() throws Exception {
+        Event<Object> event = Arc.container().beanManager().getEvent();
+        CompletableFuture<Update> ok = event.fireAsync(new Update("foo", 1), AsyncEventDelivery.batched(executor))
+                .toCompletableFuture();
+        CompletableFuture<Update> failed = event.fireAsync(new Update("fail", 1), AsyncEventDelivery.batched(executor))
+                .toCompletableFuture();
+        executor.runAll();
+        assertEquals(1, ok.get().value);
+        ExecutionException e = null;
+        try {
+            failed.get();
+        } catch (ExecutionException expected) {
+            e = expected;
+        }
+        assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testBufferGrows() throws Exception {
+        Event<Object> event = Arc.container().beanManager().getEvent();
+        for (int i = 0; i < 100; i++) {
+            event.fireAsync(new Update("foo", i), AsyncEventDelivery.batched(executor));
+        }
+        assertEquals(1, executor.tasks.size());
+        executor.runAll();
+        assertEquals(100, UpdateObserver.UPDATES.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, UpdateObserver.UPDATES.get(i).value);
+        }
+    }
+
+    @Test
+    public void testFullBufferKeepsOrder() throws Exception {
+        Event<Object> event = Arc.container().beanManager().getEvent();
+        System.setProperty(AsyncEventDelivery.BUFFER_CAPACITY_PROPERTY, "4");
+        try {
+            for (int i = 0; i < 4; i++) {
+                event.fireAsync(new Update("foo", i), AsyncEventDelivery.batched(executor));
+            }
+            // The buffer is full - the fifth event waits until the first batch is taken from the buffer
+            Thread firing = new Thread(() -> event.fireAsync(new Update("foo", 4), AsyncEventDelivery.batched(executor)));
+            firing.start();
+            while (firing.getState() != Thread.State.WAITING) {
+                assertTrue(firing.isAlive());
+                Thread.sleep(5);
+            }
+            assertEquals(0, UpdateObserver.UPDATES.size());
+            executor.runAll();
+            firing.join(5000);
+            assertFalse(firing.isAlive());
+            executor.runAll();
+        } finally {
+            System.clearProperty(AsyncEventDelivery.BUFFER_CAPACITY_PROPERTY);
+        }
+        assertEquals(5, UpdateObserver.UPDATES.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i, UpdateObserver.UPDATES.get(i).value);
+        }
+    }
+
+    @Test
+    public void testRequestContextPerEvent() throws Exception {
+        Event<Object> event = Arc.container().beanManager().getEvent();
+        for (int i = 0; i < 3; i++) {
+            event.fireAsync(new Update("foo", i), AsyncEventDelivery.batched(executor));
+        }
+        assertEquals(1, executor.tasks.size());
+        executor.runAll();
+        // Each event is delivered in a new request context
+        assertEquals(3, UpdateObserver.REQUEST_UPDATES.size());
+        for (Integer count : UpdateObserver.REQUEST_UPDATES) {
+            assertEquals(1, count);
+        }
+    }
+
+    @Test
+    public void testDrainedBatcherIsEvicted() throws Exception {
+        Event<Object> event = Arc.container().beanManager().getEvent();
+        event.fireAsync(new Update("foo", 1), AsyncEventDelivery.batched(executor));
+        executor.runAll();
+        assertEquals(1, UpdateObserver.UPDATES.size());
+
+        // The notifier does not hold the executor once all events were delivered
+        WeakReference<QueueingExecutor> ref = new WeakReference<>(executor);
+        executor = null;
+        for (int i = 0; i < 50 && ref.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(ref.get());
+    }
+
+    static class QueueingExecutor implements Executor {
+
+        // Tasks may be submitted by a thread that waits for room in the buffer
+        final List<Runnable> tasks = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        void runAll() {
+            while (!tasks.isEmpty()) {
+                tasks.remove(0).run();
+            }
+        }
+
+    }
+
+    static class Update {
+
+        final String key;
+        final int value;
+
+        Update(String key, int value) {
+            this.key = key;
+            this.value = value;
+        }
+
+    }
+
+    @Singleton
+    static class UpdateObserver {
+
+        static final List<Update> UPDATES = new CopyOnWriteArrayList<>();
+
+        // The number of updates observed in the request context of each update
+        static final List<Integer> REQUEST_UPDATES = new CopyOnWriteArrayList<>();
+
+        @Inject
+        RequestState state;
+
+        void onUpdate(@ObservesAsync Update update) {
+            if (update.key.equals("fail")) {
+                throw new IllegalStateException();
+            }
+            UPDATES.add(update);
+            REQUEST_UPDATES.add(state.increment());
+        }
+
+    }
+
+    @RequestScoped
+    static class RequestState {
+
+        private int updates;
+
+        int increment() {
+            return ++updates;
+        }
+
+    }
+
+}
@@ -1,15 +1,24 @@
 package io.quarkus.arc.test.observers.metadata;
 
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.test.ArcTestContainer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
 import java.math.BigDecimal;
 import java.util.concurrent.atomic.AtomicReference;
+import javax.enterprise.event.Event;
 import javax.enterprise.event.Observes;
 import javax.enterprise.inject.Any;
 import javax.enterprise.inject.spi.EventMetadata;
+import javax.enterprise.util.AnnotationLiteral;
+import javax.enterprise.util.Nonbinding;
+import javax.inject.Qualifier;
 import javax.inject.Singleton;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.RegisterExtension;
@@ -17,7 +26,7 @@ import org.junit.jupiter.api.extension.RegisterExtension;
 public class EventMetadataTest {
 
     @RegisterExtension
-    public ArcTestContainer container = new ArcTestContainer(BigDecimalObserver.class);
+    public ArcTestContainer container = new ArcTestContainer(BigDecimalObserver.class, Priced.class);
 
     @Test
     public void testMetadata() {
@@ -29,6 +38,53 @@ public class EventMetadataTest {
         assertEquals(BigDecimal.class, metadata.getType());
     }
 
+    @Test
+    public void testNonbindingMembers() {
+        Event<Object> event = Arc.container().beanManager().getEvent();
+        event.select(new PricedLiteral("EUR", "first")).fire(BigDecimal.ONE);
+        assertEquals("first", BigDecimalObserver.METADATA.get().getQualifiers().stream()
+                .filter(q -> q instanceof Priced).map(q -> ((Priced) q).note()).findFirst().orElse(null));
+        // The qualifiers differ in a non-binding member only - the metadata must not be shared
+        event.select(new PricedLiteral("EUR", "second")).fire(BigDecimal.ONE);
+        assertEquals("second", BigDecimalObserver.METADATA.get().getQualifiers().stream()
+                .filter(q -> q instanceof Priced).map(q -> ((Priced) q).note()).findFirst().orElse(null));
+    }
+
+    @Qualifier
+    @Retention(RUNTIME)
+    @Target({ FIELD, PARAMETER })
+    public @interface Priced {
+
+        String value();
+
+        @Nonbinding
+        String note() default "";
+
+    }
+
+    @SuppressWarnings("all")
+    static class PricedLiteral extends AnnotationLiteral<Priced> implements Priced {
+
+        private final String value;
+        private final String note;
+
+        PricedLiteral(String value, String note) {
+            this.value = value;
+            this.note = note;
+        }
+
+        @Override
+        public String value() {
+            return value;
+        }
+
+        @Override
+        public String note() {
+            return note;
+        }
+
+    }
+
     @Singleton
     static class BigDecimalObserver {
 
@@ -0,0 +1,120 @@
+package io.quarkus.arc.test.observers.notification;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.Observes;
+import javax.enterprise.event.ObservesAsync;
+import javax.enterprise.util.AnnotationLiteral;
+import javax.inject.Qualifier;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class SelectedEventNotificationTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Important.class, Observers.class);
+
+    @BeforeEach
+    void reset() {
+        Observers.EVENTS.clear();
+    }
+
+    @Test
+    public void testSelectAndFire() {
+        Event<Object> event = Arc.container().beanManager().getEvent();
+        for (int i = 0; i < 3; i++) {
+            event.select(Important.Literal.INSTANCE).fire("hello" + i);
+        }
+        assertEquals(6, Observers.EVENTS.size());
+        // Observers with the same priority are notified in no particular order
+        assertTrue(Observers.EVENTS.containsAll(Arrays.asList("string:hello0", "important:hello0", "string:hello2",
+                "important:hello2")));
+
+        Observers.EVENTS.clear();
+        // The notifier for @Important must not be used
+        event.select(String.class).fire("hi");
+        assertEquals(1, Observers.EVENTS.size());
+        assertEquals("string:hi", Observers.EVENTS.get(0));
+    }
+
+    @Test
+    public void testRuntimeTypeChanges() {
+        Event<Object> event = Arc.container().beanManager().getEvent();
+        event.fire("one");
+        event.fire(2);
+        event.fire("three");
+        assertEquals(3, Observers.EVENTS.size());
+        assertEquals("string:one", Observers.EVENTS.get(0));
+        assertEquals("integer:2", Observers.EVENTS.get(1));
+        assertEquals("string:three", Observers.EVENTS.get(2));
+    }
+
+    @Test
+    public void testSyncAndAsyncObserversAreSeparated() throws Exception {
+        Event<Object> event = Arc.container().beanManager().getEvent().select(Important.Literal.INSTANCE);
+        event.fireAsync("async").toCompletableFuture().get(5, TimeUnit.SECONDS);
+        assertEquals(1, Observers.EVENTS.size());
+        assertEquals("async:async", Observers.EVENTS.get(0));
+        event.fire("sync");
+        assertEquals(3, Observers.EVENTS.size());
+        assertTrue(Observers.EVENTS.containsAll(Arrays.asList("string:sync", "important:sync")));
+    }
+
+    @Singleton
+    static class Observers {
+
+        static final List<String> EVENTS = new CopyOnWriteArrayList<>();
+
+        void onString(@Observes String value) {
+            EVENTS.add("string:" + value);
+        }
+
+        void onImportant(@Observes @Important String value) {
+            EVENTS.add("important:" + value);
+        }
+
+        void onInteger(@Observes Integer value) {
+            EVENTS.add("integer:" + value);
+        }
+
+        void onAsync(@ObservesAsync String value) {
+            EVENTS.add("async:" + value);
+        }
+
+    }
+
+    @Qualifier
+    @Documented
+    @Retention(RUNTIME)
+    @Target({ TYPE, METHOD, FIELD, PARAMETER })
+    public @interface Important {
+
+        final class Literal extends AnnotationLiteral<Important> implements Important {
+
+            public static final Literal INSTANCE = new Literal();
+
+            private static final long serialVersionUID = 1L;
+
+        }
+
+    }
+
+}
@@ -0,0 +1,91 @@
+package io.quarkus.arc.test.producer.privatemember;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.Disposes;
+import javax.enterprise.inject.Produces;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class PrivateStaticMembersTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Producers.class, Consumer.class);
+
+    @Test
+    public void testPrivateMembers() {
+        ArcContainer arc = Arc.container();
+        assertEquals(42, (int) arc.instance(Integer.class).get());
+
+        InjectableBean<Long> longBean = arc.instance(Long.class).getBean();
+        assertTrue(hasHandleField(longBean.getClass()));
+        assertEquals(43L, (long) arc.instance(Long.class).get());
+        arc.instance(Long.class).destroy();
+        assertEquals(1, Producers.DISPOSED.size());
+        assertEquals(43L, (long) Producers.DISPOSED.get(0));
+
+        Consumer consumer = arc.instance(Consumer.class).get();
+        assertEquals(42, consumer.answer);
+        arc.beanManager().getEvent().fire("ping");
+        assertEquals("ping42", consumer.lastEvent);
+    }
+
+    static boolean hasHandleField(Class<?> beanClass) {
+        for (Field field : beanClass.getDeclaredFields()) {
+            if (field.getType().equals(MethodHandle.class) && Modifier.isStatic(field.getModifiers())
+                    && Modifier.isFinal(field.getModifiers())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Singleton
+    static class Producers {
+
+        static final List<Long> DISPOSED = new CopyOnWriteArrayList<>();
+
+        @Produces
+        private static Integer answer = 42;
+
+        @Dependent
+        @Produces
+        private static Long next(int answer) {
+            return answer + 1L;
+        }
+
+        private static void dispose(@Disposes Long value) {
+            DISPOSED.add(value);
+        }
+
+    }
+
+    @Singleton
+    static class Consumer {
+
+        @Inject
+        private int answer;
+
+        private String lastEvent;
+
+        private void onString(@Observes String event) {
+            lastEvent = event + answer;
+        }
+
+    }
+
+}
@@ -0,0 +1,206 @@
+package io.quarkus.arc.test.qualifiers;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.Components;
+import io.quarkus.arc.ComponentsProvider;
+import io.quarkus.arc.QualifierComparator;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.Observes;
+import javax.enterprise.util.AnnotationLiteral;
+import javax.enterprise.util.Nonbinding;
+import javax.inject.Inject;
+import javax.inject.Qualifier;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class QualifierComparatorTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Tag.class, Marker.class, Alpha.class, Bravo.class,
+            Client.class, PingObserver.class);
+
+    @Test
+    public void testGeneratedComparator() {
+        QualifierComparator comparator = findComparator(Tag.class);
+        assertNotNull(comparator);
+        // No binding members
+        assertEquals(null, findComparator(Marker.class));
+
+        Tag alpha = Alpha.class.getAnnotation(Tag.class);
+        assertTrue(comparator.bindingEquals(alpha, new TagLiteral("alpha", Level.LOW, new int[] { 1, 2 }, "other")));
+        assertEquals(comparator.bindingHashCode(alpha),
+                comparator.bindingHashCode(new TagLiteral("alpha", Level.LOW, new int[] { 1, 2 }, "other")));
+        assertFalse(comparator.bindingEquals(alpha, new TagLiteral("alpha", Level.HIGH, new int[] { 1, 2 }, "")));
+        assertFalse(comparator.bindingEquals(alpha, new TagLiteral("alpha", Level.LOW, new int[] { 2, 1 }, "")));
+        assertFalse(comparator.bindingEquals(alpha, Bravo.class.getAnnotation(Tag.class)));
+        assertNotEquals(comparator.bindingHashCode(alpha), comparator.bindingHashCode(Bravo.class.getAnnotation(Tag.class)));
+    }
+
+    @Test
+    public void testResolution() {
+        Client client = Arc.container().instance(Client.class).get();
+        assertEquals("alpha", client.alpha.ping());
+        // The non-binding member is ignored
+        assertEquals("alpha",
+                Arc.container().select(Service.class, new TagLiteral("alpha", Level.LOW, new int[] { 1, 2 }, "foo")).get()
+                        .ping());
+        assertEquals("bravo",
+                Arc.container().select(Service.class, new TagLiteral("bravo", Level.HIGH, new int[] {}, "")).get().ping());
+        assertTrue(
+                Arc.container().select(Service.class, new TagLiteral("alpha", Level.LOW, new int[] { 1 }, "")).isUnsatisfied());
+
+        PingObserver.PINGS.clear();
+        client.event.select(new TagLiteral("bravo", Level.HIGH, new int[] {}, "bar")).fire("ping");
+        client.event.select(new TagLiteral("bravo", Level.LOW, new int[] {}, "bar")).fire("ignored");
+        assertEquals(1, PingObserver.PINGS.size());
+        assertEquals("ping", PingObserver.PINGS.get(0));
+    }
+
+    private static QualifierComparator findComparator(Class<?> annotationType) {
+        for (ComponentsProvider provider : ServiceLoader.load(ComponentsProvider.class,
+                Thread.currentThread().getContextClassLoader())) {
+            Components components = provider.getComponents();
+            for (QualifierComparator comparator : components.getQualifierComparators()) {
+                if (comparator.annotationType().equals(annotationType)) {
+                    return comparator;
+                }
+            }
+        }
+        return null;
+    }
+
+    public enum Level {
+        LOW,
+        HIGH
+    }
+
+    @Qualifier
+    @Retention(RUNTIME)
+    @Target({ TYPE, FIELD, PARAMETER })
+    public @interface Tag {
+
+        String value();
+
+        Level level();
+
+        int[] codes();
+
+        @Nonbinding
+        String comment() default "";
+
+    }
+
+    @Qualifier
+    @Retention(RUNTIME)
+    @Target({ TYPE, FIELD, PARAMETER })
+    public @interface Marker {
+
+    }
+
+    @SuppressWarnings("all")
+    static class TagLiteral extends AnnotationLiteral<Tag> implements Tag {
+
+        private final String value;
+        private final Level level;
+        private final int[] codes;
+        private final String comment;
+
+        TagLiteral(String value, Level level, int[] codes, String comment) {
+            this.value = value;
+            this.level = level;
+            this.codes = codes;
+            this.comment = comment;
+        }
+
+        @Override
+        public String value() {
+            return value;
+        }
+
+        @Override
+        public Level level() {
+            return level;
+        }
+
+        @Override
+        public int[] codes() {
+            return codes;
+        }
+
+        @Override
+        public String comment() {
+            return comment;
+        }
+
+    }
+
+    interface Service {
+
+        String ping();
+
+    }
+
+    @Marker
+    @Tag(value = "alpha", level = Level.LOW, codes = { 1, 2 }, comment = "first")
+    @Singleton
+    static class Alpha implements Service {
+
+        @Override
+        public String ping() {
+            return "alpha";
+        }
+
+    }
+
+    @Tag(value = "bravo", level = Level.HIGH, codes = {})
+    @Singleton
+    static class Bravo implements Service {
+
+        @Override
+        public String ping() {
+            return "bravo";
+        }
+
+    }
+
+    @Singleton
+    static class Client {
+
+        @Inject
+        @Tag(value = "alpha", level = Level.LOW, codes = { 1, 2 })
+        Service alpha;
+
+        @Inject
+        Event<String> event;
+
+    }
+
+    @Singleton
+    static class PingObserver {
+
+        static final List<String> PINGS = new ArrayList<>();
+
+        void observe(@Observes @Tag(value = "bravo", level = Level.HIGH, codes = {}) String ping) {
+            PINGS.add(ping);
+        }
+
+    }
+
+}
@@ -0,0 +1,93 @@
+package io.quarkus.arc.test.resolution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.MyQualifier;
+import java.util.function.Supplier;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Produces;
+import javax.enterprise.util.AnnotationLiteral;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class InstanceResolverTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(MyQualifier.class, Alpha.class, Bravo.class,
+            Producers.class);
+
+    @SuppressWarnings("serial")
+    @Test
+    public void testResolver() {
+        ArcContainer arc = Arc.container();
+
+        Supplier<InstanceHandle<Service>> defaultService = arc.instanceResolver(Service.class);
+        assertEquals("alpha", defaultService.get().get().ping());
+        assertSame(defaultService.get().get(), defaultService.get().get());
+
+        Supplier<InstanceHandle<Service>> qualifiedService = arc.instanceResolver(Service.class,
+                new AnnotationLiteral<MyQualifier>() {
+                });
+        assertEquals("bravo", qualifiedService.get().get().ping());
+
+        // Ambiguous
+        assertFalse(arc.instanceResolver(Service.class, Any.Literal.INSTANCE).get().isAvailable());
+        // Unsatisfied
+        assertFalse(arc.instanceResolver(InstanceResolverTest.class).get().isAvailable());
+
+        // Primitive producer type and the wrapper are identical for the purposes of typesafe resolution
+        Supplier<InstanceHandle<Integer>> answer = arc.instanceResolver(Integer.class);
+        assertTrue(answer.get().isAvailable());
+        assertEquals(42, answer.get().get());
+        assertEquals(42, arc.instance(int.class).get());
+
+        assertThrows(IllegalArgumentException.class,
+                () -> arc.instanceResolver(Service.class, new AnnotationLiteral<Singleton>() {
+                }));
+    }
+
+    interface Service {
+
+        String ping();
+
+    }
+
+    @Singleton
+    static class Alpha implements Service {
+
+        @Override
+        public String ping() {
+            return "alpha";
+        }
+
+    }
+
+    @MyQualifier
+    @Singleton
+    static class Bravo implements Service {
+
+        @Override
+        public String ping() {
+            return "bravo";
+        }
+
+    }
+
+    @Singleton
+    static class Producers {
+
+        @Produces
+        int answer = 42;
+
+    }
+
+}
@@ -0,0 +1,146 @@
+package io.quarkus.arc.test.resolution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.Components;
+import io.quarkus.arc.ComponentsProvider;
+import io.quarkus.arc.ResolutionSnapshot;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.MyQualifier;
+import java.lang.annotation.Annotation;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ServiceLoader;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Default;
+import javax.enterprise.inject.Instance;
+import javax.enterprise.util.AnnotationLiteral;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class ResolutionSnapshotTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(MyQualifier.class, Alpha.class, Bravo.class, Client.class,
+            PingObserver.class);
+
+    @Test
+    public void testSnapshot() {
+        Components components = null;
+        for (ComponentsProvider provider : ServiceLoader.load(ComponentsProvider.class,
+                Thread.currentThread().getContextClassLoader())) {
+            components = provider.getComponents();
+        }
+        assertNotNull(components);
+        ResolutionSnapshot snapshot = components.getResolutionSnapshot();
+        assertNotNull(snapshot);
+
+        List<String> beans = new ArrayList<>();
+        for (ResolutionSnapshot.ResolvedBeans resolved : snapshot.getBeans()) {
+            beans.add(resolved.getRequiredType().getTypeName() + resolved.getQualifiers().length);
+        }
+        // Alpha via @Inject Service, Bravo via @Inject @MyQualifier Instance<Service>
+        assertTrue(beans.contains(Service.class.getName() + "1"), beans.toString());
+        assertEquals(1, snapshot.getBeans().stream()
+                .filter(r -> r.getRequiredType().equals(Service.class)
+                        && r.getQualifiers()[0].annotationType().equals(MyQualifier.class))
+                .count());
+        // @Any Instance<Service> is ambiguous and must be resolved at runtime
+        assertTrue(snapshot.getBeans().stream()
+                .noneMatch(r -> r.getQualifiers()[0].annotationType().equals(Any.class)));
+        assertTrue(snapshot.getEvents().stream().anyMatch(e -> e.getEventType().equals(Ping.class)
+                && e.getQualifiers().contains(Default.Literal.INSTANCE)
+                && e.getQualifiers().contains(Any.Literal.INSTANCE)));
+    }
+
+    @SuppressWarnings("serial")
+    @Test
+    public void testResolution() {
+        ArcContainer arc = Arc.container();
+        Client client = arc.instance(Client.class).get();
+        assertEquals("alpha", client.service.ping());
+        assertEquals("bravo", client.qualified.get().ping());
+        assertEquals(2, client.all.stream().count());
+        assertEquals("alpha", arc.instance(Service.class).get().ping());
+
+        // The order of qualifiers is not significant
+        Annotation myQualifier = new AnnotationLiteral<MyQualifier>() {
+        };
+        assertEquals("bravo", arc.instance(Service.class, myQualifier, Any.Literal.INSTANCE).get().ping());
+        assertEquals("bravo", arc.instance(Service.class, Any.Literal.INSTANCE, myQualifier).get().ping());
+
+        client.event.fire(new Ping());
+        client.event.fire(new Ping());
+        assertEquals(2, arc.instance(PingObserver.class).get().pings.size());
+    }
+
+    interface Service {
+
+        String ping();
+
+    }
+
+    @Singleton
+    static class Alpha implements Service {
+
+        @Override
+        public String ping() {
+            return "alpha";
+        }
+
+    }
+
+    @MyQualifier
+    @Singleton
+    static class Bravo implements Service {
+
+        @Override
+        public String ping() {
+            return "bravo";
+        }
+
+    }
+
+    @Singleton
+    static class Client {
+
+        @Inject
+        Service service;
+
+        @MyQualifier
+        @Inject
+        Instance<Service> qualified;
+
+        @Any
+        @Inject
+        Instance<Service> all;
+
+        @Inject
+        Event<Ping> event;
+
+    }
+
+    static class Ping {
+
+    }
+
+    @Singleton
+    static class PingObserver {
+
+        final List<Ping> pings = new ArrayList<>();
+
+        void observe(@Observes Ping ping) {
+            pings.add(ping);
+        }
+
+    }
+
+}
@@ -18,19 +18,24 @@ package com.ethwt.core.cdi.tool;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.annotation.Annotation;
-import java.nio.file.FileVisitResult;
-import java.nio.file.FileVisitor;
 import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -47,10 +52,12 @@ import org.jboss.jandex.CompositeIndex;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.Index;
 import org.jboss.jandex.IndexView;
+import org.jboss.jandex.IndexWriter;
 import org.jboss.jandex.Indexer;
 
 import io.quarkus.arc.processor.AlternativePriorities;
 import io.quarkus.arc.processor.AnnotationsTransformer;
+import io.quarkus.arc.processor.BatchedResourceOutput;
 import io.quarkus.arc.processor.BeanArchives;
 import io.quarkus.arc.processor.BeanDefiningAnnotation;
 import io.quarkus.arc.processor.BeanDeploymentValidator;
@@ -87,6 +94,48 @@ public class BeanMojo extends AbstractMojo {
     @Parameter
     private String[] excludeDependencies;
 
+    /**
+     * The directory of the persistent index cache.
+     */
+    @Parameter(defaultValue = "${project.build.directory}/cdi-index-cache")
+    private File indexCacheDirectory;
+
+    /**
+     * If set to true the index of the application classes is written to {@code META-INF/jandex.idx}, so that the
+     * modules depending on this one do not need to index it again. The index only covers the classes of this module and
+     * is used instead of scanning the jar, so it must not end up in a jar that merges several modules, e.g. a shaded
+     * jar; exclude {@code META-INF/jandex.idx} there.
+     */
+    @Parameter(property = "cdi.writeIndex", defaultValue = "false")
+    private boolean writeIndex;
+
+    /**
+     * The number of threads used to index the dependencies, generate the classes and write them. {@code 0} means the
+     * number of available processors and {@code 1} disables parallel processing.
+     */
+    @Parameter(property = "cdi.threads", defaultValue = "0")
+    private int threads;
+
+    /**
+     * If set to true the contextual instance of an application scoped bean is injected directly, i.e. without a client
+     * proxy, into the injection points where it is safe. See {@code BeanProcessor.Builder#setProxyElision(boolean)}.
+     * <p>
+     * Note that an elided injection point keeps referencing the contextual instance after it is destroyed at runtime,
+     * e.g. via {@code InjectableContext#destroy(Contextual)} or {@code InstanceHandle#destroy()}. Application scoped
+     * beans that may be destroyed before the container is shut down must be annotated with {@code @KeepClientProxy}.
+     */
+    @Parameter(property = "cdi.proxyElision", defaultValue = "false")
+    private boolean proxyElision;
+
+    /**
+     * If set to true a dedicated invocation context class that invokes the interceptors directly is generated for each
+     * intercepted method. See {@code BeanProcessor.Builder#setFusedInterceptorChains(boolean)}.
+     */
+    @Parameter(property = "cdi.fusedInterceptorChains", defaultValue = "false")
+    private boolean fusedInterceptorChains;
+
+    private final Map<String, Long> timings = new LinkedHashMap<>();
+
 
     private final List<Class<? extends Annotation>> resourceAnnotations;
 
@@ -106,10 +155,28 @@ public class BeanMojo extends AbstractMojo {
 
     @Override
     public void execute() throws MojoExecutionException, MojoFailureException {
+        int workers = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        ExecutorService executor = workers > 1 ? Executors.newFixedThreadPool(workers) : null;
+        try {
+            execute(executor);
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
+        }
+        getLog().info("Bean processing with " + workers + (workers > 1 ? " threads" : " thread") + " took "
+                + timings.values().stream().mapToLong(Long::longValue).sum() + " ms " + timings);
+    }
+
+    private void execute(ExecutorService executor) throws MojoExecutionException, MojoFailureException {
+        long start = System.nanoTime();
 
+        IndexCache indexCache = new IndexCache(indexCacheDirectory);
+        Index classesIndex;
         IndexView beanArchiveIndex;
         try {
-        	beanArchiveIndex = createArchiveIndex();
+            classesIndex = indexCache.indexClasses(outputDirectory);
+        	beanArchiveIndex = createArchiveIndex(indexCache, classesIndex, executor);
         } catch (IOException e) {
             throw new MojoFailureException("Failed to create bean archive index", e);
         }
@@ -120,6 +187,7 @@ public class BeanMojo extends AbstractMojo {
         } catch (IOException e) {
             throw new MojoFailureException("Failed to create application index", e);
         }
+        start = lap("index", start);
 
         BeanProcessor.Builder builder = BeanProcessor.builder()
                 .setBeanArchiveIndex(BeanArchives.buildBeanArchiveIndex(getClass().getClassLoader(),
@@ -144,37 +212,61 @@ public class BeanMojo extends AbstractMojo {
         		map((s) -> new BeanDefiningAnnotation(s, null)).
         		collect(Collectors.toSet())
         );
-        builder.setOutput(new ResourceOutput() {
-
-        	@Override
-	        public void writeResource(Resource resource) throws IOException {
-	        switch (resource.getType()) {
-	            case JAVA_CLASS:
-	                resource.writeTo(outputDirectory);
-	                break;
-	            case SERVICE_PROVIDER:
-	                resource.writeTo(new File(outputDirectory, "/META-INF/services/"));
-	            default:
-	                break;
-	        }
-      }
-
-        });
         builder.setRemoveUnusedBeans(removeUnusedBeans);
+        builder.setProxyElision(proxyElision);
+        builder.setFusedInterceptorChains(fusedInterceptorChains);
         for (Predicate<BeanInfo> exclusion : exclusions) {
             builder.addRemovalExclusion(exclusion);
         }
         builder.setAlternativePriorities(alternativePriorities);
 
-        BeanProcessor beanProcessor = builder.build();
-
+        Set<String> generatedClasses = ConcurrentHashMap.newKeySet();
+        ResourceOutput writer = resource -> {
+            switch (resource.getType()) {
+                case JAVA_CLASS:
+                    resource.writeTo(outputDirectory);
+                    generatedClasses.add(resource.getName() + ".class");
+                    break;
+                case SERVICE_PROVIDER:
+                    resource.writeTo(new File(outputDirectory, "/META-INF/services/"));
+                default:
+                    break;
+            }
+        };
+        // The resources are passed to the output as soon as they are generated and written asynchronously
+        BatchedResourceOutput output = executor != null ? new BatchedResourceOutput(writer, executor) : null;
+        builder.setOutput(output != null ? output : writer);
         try {
-            beanProcessor.process();
+            builder.build().process(executor);
+            start = lap("processing", start);
+            if (output != null) {
+                output.await();
+            }
         } catch (Exception e) {
             throw new MojoExecutionException("Error generating resources", e);
         }
+
+        try {
+            indexCache.setGenerated(generatedClasses);
+            if (writeIndex) {
+                File indexFile = new File(outputDirectory, IndexingUtil.JANDEX_INDEX);
+                Files.createDirectories(indexFile.getParentFile().toPath());
+                try (OutputStream out = Files.newOutputStream(indexFile.toPath())) {
+                    new IndexWriter(out).write(classesIndex);
+                }
+            }
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to write index", e);
+        }
+        lap("write", start);
     }
-    
+
+    private long lap(String phase, long start) {
+        long now = System.nanoTime();
+        timings.put(phase, TimeUnit.NANOSECONDS.toMillis(now - start));
+        return now;
+    }
+
     private boolean isDependencyToScan(Artifact artifact) {
     	if (excludeDependencies == null || excludeDependencies.length == 0) {
     		return true;
@@ -189,50 +281,43 @@ public class BeanMojo extends AbstractMojo {
     }
 
 
-    private IndexView createArchiveIndex() throws IOException {
+    private IndexView createArchiveIndex(IndexCache indexCache, Index classesIndex, ExecutorService executor)
+            throws IOException {
 
-        // Index dependencies
-        List<IndexView> depIndexes = new ArrayList<>();
-        List<File> dependenciesToIndex = project.getArtifacts().stream().
+        // Index dependencies, the jars that are not cached yet are indexed in parallel
+        List<File> dependencies = project.getArtifacts().stream().
         		filter(this::isDependencyToScan).
         		map(Artifact::getFile).
-        		filter(IndexingUtil::isBeanArchive).
+        		filter(file -> file != null).
                 collect(Collectors.toList());
-        for (File dependency : dependenciesToIndex) {
-        	getLog().info("Add jar file: "+dependency.getName()+" to bean archive.");
-            depIndexes.add(IndexingUtil.indexJar(dependency));
-        }
-
-        // Index output directory, i.e. target/classes
-        Indexer indexer = new Indexer();
-        Files.walkFileTree(outputDirectory.toPath(), new FileVisitor<Path>() {
-            @Override
-            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
-                return FileVisitResult.CONTINUE;
+        List<IndexView> depIndexes = new ArrayList<>();
+        try {
+            List<Future<Index>> futures = new ArrayList<>();
+            for (File dependency : dependencies) {
+                futures.add(executor != null ? executor.submit(() -> indexCache.indexJar(dependency))
+                        : CompletableFuture.completedFuture(indexCache.indexJar(dependency)));
             }
-
-            @Override
-            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
-                if (file.toString().endsWith(".class")) {
-                    try (InputStream stream = Files.newInputStream(file)) {
-                        indexer.index(stream);
-                    }
+            for (int i = 0; i < dependencies.size(); i++) {
+                Index index = futures.get(i).get();
+                if (index != null) {
+                    getLog().info("Add jar file: " + dependencies.get(i).getName() + " to bean archive.");
+                    depIndexes.add(index);
                 }
-                return FileVisitResult.CONTINUE;
             }
-
-            @Override
-            public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
-                return FileVisitResult.CONTINUE;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while indexing dependencies", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
             }
+            throw new IOException("Failed to index dependencies", e.getCause());
+        }
+        getLog().debug(indexCache.getHits() + " of " + (dependencies.size() + 1) + " indexes read from "
+                + indexCacheDirectory);
 
-            @Override
-            public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
-                return FileVisitResult.CONTINUE;
-            }
-        });
-
-        depIndexes.add(indexer.complete());
+        // Index output directory, i.e. target/classes
+        depIndexes.add(classesIndex);
         return CompositeIndex.create(depIndexes);
     }
 
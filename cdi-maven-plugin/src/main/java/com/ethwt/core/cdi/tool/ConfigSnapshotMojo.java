@@ -0,0 +1,163 @@
+package com.ethwt.core.cdi.tool;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.Index;
+import org.yaml.snakeyaml.Yaml;
+
+import com.ethwt.core.cdi.annotation.ConfigValue;
+import com.ethwt.core.cdi.config.ConfigSnapshot;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Writes a {@link ConfigSnapshot} of the config values referenced by {@link ConfigValue} injection points, so that the
+ * config files do not need to be parsed at startup. Must run after the classes are compiled.
+ * <p>
+ * The config files are looked up like light-4j looks them up on the classpath. {@code CRYPT:} values are never included,
+ * they are decrypted by light-4j at runtime. No snapshot is written if a custom {@code configLoaderClass} is set in
+ * {@code config.yml} because the values may then come from anywhere.
+ *
+ * @author neillin
+ */
+@Mojo(name = "config-snapshot", defaultPhase = LifecyclePhase.PROCESS_CLASSES, threadSafe = true)
+public class ConfigSnapshotMojo extends AbstractMojo {
+
+    private static final DotName CONFIG_VALUE_NAME = DotName.createSimple(ConfigValue.class.getName());
+    private static final String DEFAULT_NAME = "values";
+    private static final String LIGHT_4J_CONFIG_NAME = "config";
+    private static final String CONFIG_LOADER_CLASS = "configLoaderClass";
+
+    @Parameter(readonly = true, required = true, defaultValue = "${project.build.outputDirectory}")
+    private File outputDirectory;
+
+    /**
+     * The directory of the config files bundled with the application, relative to the output directory.
+     */
+    @Parameter(defaultValue = "config")
+    private String configDirectory;
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        if (!outputDirectory.isDirectory()) {
+            return;
+        }
+        Map<String, Set<String>> paths = new HashMap<>();
+        try {
+            Index index = IndexingUtil.indexDirectory(outputDirectory);
+            for (AnnotationInstance configValue : index.getAnnotations(CONFIG_VALUE_NAME)) {
+                String name = getName(configValue);
+                String path = getPropertyPath(configValue, name);
+                if (path != null) {
+                    paths.computeIfAbsent(name, k -> new TreeSet<>()).add(path);
+                }
+            }
+        } catch (IOException e) {
+            throw new MojoFailureException("Failed to index " + outputDirectory, e);
+        }
+
+        ObjectMapper mapper = new ObjectMapper();
+        File snapshot = new File(outputDirectory, ConfigSnapshot.RESOURCE);
+        String configLoaderClass = getConfigLoaderClass(mapper);
+        if (configLoaderClass != null) {
+            getLog().info("Config snapshot skipped, the configs are loaded by " + configLoaderClass);
+            snapshot.delete();
+            return;
+        }
+        Map<String, JsonNode> roots = new HashMap<>();
+        for (String name : paths.keySet()) {
+            try {
+                JsonNode root = readConfig(mapper, name);
+                if (root != null) {
+                    roots.put(name, root);
+                }
+            } catch (IOException | RuntimeException e) {
+                throw new MojoFailureException("Failed to read config: " + name, e);
+            }
+        }
+
+        if (roots.isEmpty()) {
+            snapshot.delete();
+            return;
+        }
+        snapshot.getParentFile().mkdirs();
+        try (OutputStream out = Files.newOutputStream(snapshot.toPath())) {
+            int count = ConfigSnapshot.write(roots, paths, out);
+            getLog().info("Config snapshot with " + count + " values of " + roots.keySet() + " written to " + snapshot);
+        } catch (IOException e) {
+            throw new MojoExecutionException("Failed to write config snapshot", e);
+        }
+    }
+
+    private String getConfigLoaderClass(ObjectMapper mapper) throws MojoFailureException {
+        JsonNode config;
+        try {
+            config = readConfig(mapper, LIGHT_4J_CONFIG_NAME);
+        } catch (IOException | RuntimeException e) {
+            throw new MojoFailureException("Failed to read config: " + LIGHT_4J_CONFIG_NAME, e);
+        }
+        String configLoaderClass = config != null ? config.path(CONFIG_LOADER_CLASS).asText("").trim() : "";
+        return configLoaderClass.isEmpty() ? null : configLoaderClass;
+    }
+
+    private JsonNode readConfig(ObjectMapper mapper, String name) throws IOException {
+        // The config directory of the classpath first, then the root of the classpath
+        for (File dir : new File[] { new File(outputDirectory, configDirectory), outputDirectory }) {
+            for (String extension : new String[] { ".yml", ".yaml" }) {
+                File file = new File(dir, name + extension);
+                if (file.isFile()) {
+                    try (InputStream in = Files.newInputStream(file.toPath())) {
+                        Object config = new Yaml().load(in);
+                        return config != null ? mapper.valueToTree(config) : null;
+                    }
+                }
+            }
+            File file = new File(dir, name + ".json");
+            if (file.isFile()) {
+                return mapper.readTree(file);
+            }
+        }
+        return null;
+    }
+
+    // Same rules as ConfigValueTransformer; injection points of the whole config object are not included
+
+    private static String getName(AnnotationInstance configValue) {
+        AnnotationValue value = configValue.value("name");
+        return value != null ? value.asString().trim() : DEFAULT_NAME;
+    }
+
+    private static String getPropertyPath(AnnotationInstance configValue, String name) {
+        AnnotationValue value = configValue.value("property");
+        String key = value != null ? value.asString().trim() : "";
+        if (!key.isEmpty()) {
+            return key;
+        }
+        AnnotationTarget target = configValue.target();
+        if (DEFAULT_NAME.equals(name) && target != null && target.kind() == AnnotationTarget.Kind.FIELD) {
+            FieldInfo field = target.asField();
+            return field.declaringClass().simpleName() + "." + field.name();
+        }
+        return null;
+    }
+
+}
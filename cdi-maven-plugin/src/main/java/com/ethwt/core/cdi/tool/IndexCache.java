@@ -0,0 +1,274 @@
+package com.ethwt.core.cdi.tool;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.hash.Hashing;
+
+/**
+ * Persistent cache of the Jandex indexes built by {@link BeanMojo}, kept in the build directory.
+ * <p>
+ * A dependency is identified by its path. Its cached index is reused if the size and the last modified time of the jar
+ * are unchanged, or otherwise if its content hash is unchanged. The index of the output directory is reused if no class
+ * file was added, removed or modified. Class files generated by the previous build are never indexed.
+ */
+final class IndexCache {
+
+    private static final Logger log = LoggerFactory.getLogger(IndexCache.class);
+
+    private static final String SIZE = "size";
+    private static final String LAST_MODIFIED = "lastModified";
+    private static final String HASH = "hash";
+    private static final String BEAN_ARCHIVE = "beanArchive";
+
+    private static final String CLASSES = "classes";
+    private static final String GENERATED = "generated.lst";
+
+    private final File directory;
+    private final AtomicInteger hits;
+
+    IndexCache(File directory) {
+        this.directory = directory;
+        this.hits = new AtomicInteger();
+    }
+
+    /**
+     * @return the number of indexes read from the cache so far
+     */
+    int getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Can be called concurrently for different jars.
+     *
+     * @param jar
+     * @return the index of the given jar, or {@code null} if it is not a bean archive
+     * @throws IOException
+     */
+    Index indexJar(File jar) throws IOException {
+        if (!jar.isFile()) {
+            return null;
+        }
+        String key = Hashing.sha256().hashString(jar.getAbsolutePath(), StandardCharsets.UTF_8).toString();
+        File metadataFile = new File(directory, key + ".properties");
+        File indexFile = new File(directory, key + ".idx");
+        String size = Long.toString(jar.length());
+        String lastModified = Long.toString(jar.lastModified());
+        String hash = null;
+
+        Properties metadata = readProperties(metadataFile);
+        if (size.equals(metadata.getProperty(SIZE))) {
+            boolean unchanged = lastModified.equals(metadata.getProperty(LAST_MODIFIED));
+            if (!unchanged) {
+                // Touched but not modified, e.g. installed again into the local repository
+                hash = hash(jar);
+                unchanged = hash.equals(metadata.getProperty(HASH));
+                if (unchanged) {
+                    metadata.setProperty(LAST_MODIFIED, lastModified);
+                    writeProperties(metadata, metadataFile);
+                }
+            }
+            if (unchanged) {
+                if (!Boolean.parseBoolean(metadata.getProperty(BEAN_ARCHIVE))) {
+                    hits.incrementAndGet();
+                    return null;
+                }
+                Index index = readIndex(indexFile);
+                if (index != null) {
+                    hits.incrementAndGet();
+                    return index;
+                }
+            }
+        }
+
+        Index index = IndexingUtil.indexBeanArchive(jar);
+        if (index != null) {
+            writeIndex(index, indexFile);
+        } else {
+            Files.deleteIfExists(indexFile.toPath());
+        }
+        metadata = new Properties();
+        metadata.setProperty(SIZE, size);
+        metadata.setProperty(LAST_MODIFIED, lastModified);
+        metadata.setProperty(HASH, hash != null ? hash : hash(jar));
+        metadata.setProperty(BEAN_ARCHIVE, Boolean.toString(index != null));
+        writeProperties(metadata, metadataFile);
+        return index;
+    }
+
+    /**
+     *
+     * @param classesDirectory
+     * @return the index of the class files in the given directory, excluding the classes generated by the previous build
+     * @throws IOException
+     */
+    Index indexClasses(File classesDirectory) throws IOException {
+        Set<String> generated = readGenerated();
+        Map<String, Path> classFiles = new TreeMap<>();
+        Path root = classesDirectory.toPath();
+        if (classesDirectory.isDirectory()) {
+            Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                    if (file.toString().endsWith(".class")) {
+                        String path = root.relativize(file).toString().replace(File.separatorChar, '/');
+                        if (!generated.contains(path)) {
+                            classFiles.put(path, file);
+                        }
+                    }
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        }
+
+        File manifestFile = new File(directory, CLASSES + ".properties");
+        File indexFile = new File(directory, CLASSES + ".idx");
+        Properties manifest = readProperties(manifestFile);
+        if (manifest.size() == classFiles.size()) {
+            boolean unchanged = true;
+            boolean touched = false;
+            for (Map.Entry<String, Path> entry : classFiles.entrySet()) {
+                String[] cached = manifest.getProperty(entry.getKey(), "").split(",");
+                File file = entry.getValue().toFile();
+                if (cached.length != 3 || !cached[0].equals(Long.toString(file.length()))) {
+                    unchanged = false;
+                    break;
+                }
+                if (!cached[1].equals(Long.toString(file.lastModified()))) {
+                    // Recompiled, possibly without any change
+                    if (!cached[2].equals(hash(file))) {
+                        unchanged = false;
+                        break;
+                    }
+                    manifest.setProperty(entry.getKey(), cached[0] + "," + file.lastModified() + "," + cached[2]);
+                    touched = true;
+                }
+            }
+            if (unchanged) {
+                Index index = readIndex(indexFile);
+                if (index != null) {
+                    if (touched) {
+                        writeProperties(manifest, manifestFile);
+                    }
+                    hits.incrementAndGet();
+                    return index;
+                }
+            }
+        }
+
+        Indexer indexer = new Indexer();
+        manifest = new Properties();
+        for (Map.Entry<String, Path> entry : classFiles.entrySet()) {
+            byte[] data = Files.readAllBytes(entry.getValue());
+            indexer.index(new ByteArrayInputStream(data));
+            File file = entry.getValue().toFile();
+            manifest.setProperty(entry.getKey(), data.length + "," + file.lastModified() + ","
+                    + Hashing.sha256().hashBytes(data).toString());
+        }
+        Index index = indexer.complete();
+        writeIndex(index, indexFile);
+        writeProperties(manifest, manifestFile);
+        return index;
+    }
+
+    /**
+     * Records the class files generated by the current build so that the next build does not index them.
+     *
+     * @param paths the class files, relative to the output directory
+     * @throws IOException
+     */
+    void setGenerated(Collection<String> paths) throws IOException {
+        Files.createDirectories(directory.toPath());
+        Files.write(new File(directory, GENERATED).toPath(), new TreeSet<>(paths), StandardCharsets.UTF_8);
+    }
+
+    private Set<String> readGenerated() throws IOException {
+        File file = new File(directory, GENERATED);
+        return file.isFile() ? new HashSet<>(Files.readAllLines(file.toPath(), StandardCharsets.UTF_8))
+                : Collections.emptySet();
+    }
+
+    private static String hash(File file) throws IOException {
+        return com.google.common.io.Files.asByteSource(file).hash(Hashing.sha256()).toString();
+    }
+
+    private static Properties readProperties(File file) throws IOException {
+        Properties properties = new Properties();
+        if (file.isFile()) {
+            try (InputStream in = Files.newInputStream(file.toPath())) {
+                properties.load(in);
+            }
+        }
+        return properties;
+    }
+
+    private void writeProperties(Properties properties, File file) throws IOException {
+        File tmp = createTempFile(file);
+        try (OutputStream out = Files.newOutputStream(tmp.toPath())) {
+            properties.store(out, null);
+        }
+        move(tmp, file);
+    }
+
+    private static Index readIndex(File file) {
+        if (!file.isFile()) {
+            return null;
+        }
+        try (InputStream in = Files.newInputStream(file.toPath())) {
+            return new IndexReader(in).read();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring invalid cached index: {}", file, e);
+            return null;
+        }
+    }
+
+    private void writeIndex(Index index, File file) throws IOException {
+        File tmp = createTempFile(file);
+        try (OutputStream out = Files.newOutputStream(tmp.toPath())) {
+            new IndexWriter(out).write(index);
+        }
+        move(tmp, file);
+    }
+
+    private File createTempFile(File file) throws IOException {
+        Files.createDirectories(directory.toPath());
+        return Files.createTempFile(directory.toPath(), file.getName(), ".tmp").toFile();
+    }
+
+    private static void move(File source, File target) throws IOException {
+        Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+    }
+
+}
@@ -6,7 +6,11 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.Method;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
@@ -79,32 +83,81 @@ public class IndexingUtil {
     	}
     }
 
+    /**
+     * Same as {@link #isBeanArchive(File)} followed by {@link #indexJar(File)} but the jar is only opened once. The
+     * index bundled with the jar is used if present.
+     *
+     * @param file
+     * @return the index, or {@code null} if the given file is not a bean archive
+     * @throws IOException
+     */
+    public static Index indexBeanArchive(File file) throws IOException {
+        JarFile jarFile;
+        try {
+            jarFile = new JarFile(file);
+        } catch (IOException e) {
+            log.error("Failed to read file content of: {}", file, e);
+            return null;
+        }
+        try (JarFile jar = jarFile) {
+            if (jar.getEntry(JANDEX_INDEX) == null && jar.getEntry(BEANS_XML) == null) {
+                return null;
+            }
+            return indexJar(jar, file, null);
+        }
+    }
+
+    public static Index indexDirectory(File directory) throws IOException {
+        Indexer indexer = new Indexer();
+        Files.walkFileTree(directory.toPath(), new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+                if (file.toString().endsWith(".class")) {
+                    try (InputStream stream = Files.newInputStream(file)) {
+                        indexer.index(stream);
+                    }
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return indexer.complete();
+    }
+
     public static Index indexJar(Path path, Set<String> removed) throws IOException {
         return indexJar(path.toFile(), removed);
     }
 
     public static Index indexJar(File file, Set<String> removed) throws IOException {
         try (JarFile jarFile = new JarFile(file)) {
-            ZipEntry existing = jarFile.getEntry(JANDEX_INDEX);
-            if (existing != null && removed == null) {
-                try (InputStream in = jarFile.getInputStream(existing)) {
-                    IndexReader reader = new IndexReader(in);
-                    if (reader.getIndexVersion() < REQUIRED_INDEX_VERSION) {
-                        log.warn(
-                                "Re-indexing {} - at least Jandex 2.1 must be used to index an application dependency",
-                                file);
-                        return indexJar(jarFile, removed);
-                    } else {
-                        try {
-                            return reader.read();
-                        } catch (UnsupportedVersion e) {
-                            throw new UnsupportedVersion("Can't read Jandex index from " + file + ": " + e.getMessage());
-                        }
+            return indexJar(jarFile, file, removed);
+        }
+    }
+
+    private static Index indexJar(JarFile jarFile, File file, Set<String> removed) throws IOException {
+        ZipEntry existing = jarFile.getEntry(JANDEX_INDEX);
+        if (existing != null && removed == null) {
+            try (InputStream in = jarFile.getInputStream(existing)) {
+                IndexReader reader = new IndexReader(in);
+                if (reader.getIndexVersion() < REQUIRED_INDEX_VERSION) {
+                    log.warn(
+                            "Re-indexing {} - at least Jandex 2.1 must be used to index an application dependency",
+                            file);
+                    return indexJar(jarFile, removed);
+                } else {
+                    try {
+                        return reader.read();
+                    } catch (UnsupportedVersion e) {
+                        throw new UnsupportedVersion("Can't read Jandex index from " + file + ": " + e.getMessage());
                     }
                 }
             }
-            return indexJar(jarFile, removed);
         }
+        return indexJar(jarFile, removed);
     }
 
     private static Index indexJar(JarFile file, Set<String> removed) throws IOException {
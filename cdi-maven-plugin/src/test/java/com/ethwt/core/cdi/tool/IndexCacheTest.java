@@ -0,0 +1,153 @@
+package com.ethwt.core.cdi.tool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class IndexCacheTest {
+
+    @TempDir
+    Path tmp;
+
+    @Test
+    public void testClasses() throws IOException {
+        File cacheDir = tmp.resolve("cache").toFile();
+        Path classes = tmp.resolve("classes");
+        copyClass(Alpha.class, classes);
+
+        IndexCache cache = new IndexCache(cacheDir);
+        assertKnown(cache.indexClasses(classes.toFile()), Alpha.class);
+        assertEquals(0, cache.getHits());
+
+        cache = new IndexCache(cacheDir);
+        assertKnown(cache.indexClasses(classes.toFile()), Alpha.class);
+        assertEquals(1, cache.getHits());
+
+        // Recompiled without any change
+        touch(classes.resolve(path(Alpha.class)));
+        cache = new IndexCache(cacheDir);
+        assertKnown(cache.indexClasses(classes.toFile()), Alpha.class);
+        assertEquals(1, cache.getHits());
+
+        // A new class file invalidates the index
+        copyClass(Bravo.class, classes);
+        cache = new IndexCache(cacheDir);
+        Index index = cache.indexClasses(classes.toFile());
+        assertKnown(index, Alpha.class, Bravo.class);
+        assertEquals(0, cache.getHits());
+
+        // Generated classes are never indexed
+        cache.setGenerated(Collections.singleton(path(Bravo.class)));
+        cache = new IndexCache(cacheDir);
+        assertKnown(cache.indexClasses(classes.toFile()), Alpha.class);
+        assertEquals(0, cache.getHits());
+    }
+
+    @Test
+    public void testJar() throws IOException {
+        File cacheDir = tmp.resolve("cache").toFile();
+        File jar = tmp.resolve("archive.jar").toFile();
+        writeJar(jar, true, Alpha.class);
+
+        IndexCache cache = new IndexCache(cacheDir);
+        assertKnown(cache.indexJar(jar), Alpha.class);
+        assertEquals(0, cache.getHits());
+
+        cache = new IndexCache(cacheDir);
+        assertKnown(cache.indexJar(jar), Alpha.class);
+        assertEquals(1, cache.getHits());
+
+        // Installed again without any change
+        touch(jar.toPath());
+        cache = new IndexCache(cacheDir);
+        assertKnown(cache.indexJar(jar), Alpha.class);
+        assertEquals(1, cache.getHits());
+
+        writeJar(jar, true, Alpha.class, Bravo.class);
+        cache = new IndexCache(cacheDir);
+        assertKnown(cache.indexJar(jar), Alpha.class, Bravo.class);
+        assertEquals(0, cache.getHits());
+
+        // Jars that are not bean archives are cached as well
+        File library = tmp.resolve("library.jar").toFile();
+        writeJar(library, false, Alpha.class);
+        assertNull(cache.indexJar(library));
+        cache = new IndexCache(cacheDir);
+        assertNull(cache.indexJar(library));
+        assertEquals(1, cache.getHits());
+
+        assertNull(cache.indexJar(tmp.resolve("missing.jar").toFile()));
+    }
+
+    private static void assertKnown(Index index, Class<?>... classes) {
+        assertNotNull(index);
+        assertEquals(classes.length, index.getKnownClasses().size());
+        for (Class<?> clazz : classes) {
+            assertNotNull(index.getClassByName(DotName.createSimple(clazz.getName())), clazz.getName());
+        }
+    }
+
+    private static String path(Class<?> clazz) {
+        return clazz.getName().replace('.', '/') + ".class";
+    }
+
+    private static byte[] bytes(Class<?> clazz) throws IOException {
+        try (InputStream in = IndexCacheTest.class.getClassLoader().getResourceAsStream(path(clazz))) {
+            byte[] buffer = new byte[in.available()];
+            int read = 0;
+            while (read < buffer.length) {
+                read += in.read(buffer, read, buffer.length - read);
+            }
+            return buffer;
+        }
+    }
+
+    private static void copyClass(Class<?> clazz, Path directory) throws IOException {
+        Path file = directory.resolve(path(clazz));
+        Files.createDirectories(file.getParent());
+        Files.write(file, bytes(clazz));
+    }
+
+    private static void writeJar(File jar, boolean beanArchive, Class<?>... classes) throws IOException {
+        try (OutputStream out = Files.newOutputStream(jar.toPath()); JarOutputStream jarOut = new JarOutputStream(out)) {
+            if (beanArchive) {
+                jarOut.putNextEntry(new JarEntry(IndexingUtil.BEANS_XML));
+                jarOut.closeEntry();
+            }
+            for (Class<?> clazz : classes) {
+                jarOut.putNextEntry(new JarEntry(path(clazz)));
+                jarOut.write(bytes(clazz));
+                jarOut.closeEntry();
+            }
+        }
+    }
+
+    private static void touch(Path file) {
+        File f = file.toFile();
+        f.setLastModified(f.lastModified() + 2000);
+    }
+
+    static class Alpha {
+
+    }
+
+    static class Bravo {
+
+    }
+
+}
@@ -5,6 +5,7 @@ package com.ethwt.core.cdi.config.deployment;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -12,12 +13,15 @@ import java.util.function.Supplier;
 
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.DotName;
+import org.jboss.jandex.ParameterizedType;
 import org.jboss.jandex.Type;
 import org.jboss.jandex.Type.Kind;
 
 import com.ethwt.core.cdi.annotation.ConfigValue;
 import com.ethwt.core.cdi.config.ConfigBeanCreator;
+import com.ethwt.core.cdi.config.ConfigValueCreator;
 
+import io.quarkus.arc.processor.BeanConfigurator;
 import io.quarkus.arc.processor.BeanRegistrar;
 import io.quarkus.arc.processor.BuildExtension;
 import io.quarkus.arc.processor.DotNames;
@@ -34,11 +38,112 @@ public class ConfigBeanRegistar implements BeanRegistrar {
     private static final DotName SET_NAME = DotName.createSimple(Set.class.getName());
     private static final DotName LIST_NAME = DotName.createSimple(List.class.getName());
     private static final DotName SUPPLIER_NAME = DotName.createSimple(Supplier.class.getName());
+    private static final DotName CONFIG_VALUE_CREATOR_NAME = DotName.createSimple(ConfigValueCreator.class.getName());
 	
 	@Override
 	public void register(RegistrationContext context) {
 		registerCustomConfigBeanTypes(context);
+		registerConfigValueBeans(context);
+	}
+
+	/**
+	 * Registers a synthetic bean for each distinct combination of required type and {@code @ConfigValueKey} added by
+	 * {@link ConfigValueTransformer}, so that the config value is read without inspecting the injection point.
+	 */
+	void registerConfigValueBeans(RegistrationContext context) {
+
+		Collection<InjectionPointInfo> injectionPointInfos = context.get(BuildExtension.Key.INJECTION_POINTS);
+
+		Map<String, InjectionPointInfo> keys = new LinkedHashMap<>();
+
+		for (InjectionPointInfo injectionPoint : injectionPointInfos) {
+			if (injectionPoint.hasDefaultedQualifier()) {
+				continue;
+			}
+			AnnotationInstance configValueKey = injectionPoint
+					.getRequiredQualifier(ConfigValueTransformer.CONFIG_VALUE_KEY_NAME);
+			if (configValueKey != null) {
+				// int and Integer injection points share the bean
+				keys.putIfAbsent(getKey(configValueKey, beanType(injectionPoint.getRequiredType())), injectionPoint);
+			}
+		}
+
+		for (Map.Entry<String, InjectionPointInfo> entry : keys.entrySet()) {
+			AnnotationInstance configValueKey = entry.getValue()
+					.getRequiredQualifier(ConfigValueTransformer.CONFIG_VALUE_KEY_NAME);
+			Type type = entry.getValue().getRequiredType();
+			Type beanType = beanType(type);
+			String path = configValueKey.value("property").asString();
+			String defaultValue = configValueKey.value("defaultValue").asString();
+
+			BeanConfigurator<Object> configurator = context.configure(CONFIG_VALUE_CREATOR_NAME)
+					.creator(ConfigValueCreator.class)
+					.providerType(beanType)
+					.types(beanType)
+					.addQualifier(configValueKey)
+					.param("key", entry.getKey())
+					.param("name", configValueKey.value("name").asString())
+					.param("rawType", beanType.name().toString());
+			if (!path.isEmpty()) {
+				configurator.param("path", path);
+			}
+			if (!ConfigValue.UNCONFIGURED_VALUE.equals(defaultValue)) {
+				configurator.param("defaultValue", defaultValue);
+			}
+			if (type.kind() == Kind.PARAMETERIZED_TYPE && isHandledByProducers(type)) {
+				ParameterizedType parameterizedType = type.asParameterizedType();
+				List<Type> arguments = parameterizedType.arguments();
+				Type argument = MAP_NAME.equals(type.name()) ? arguments.get(1) : arguments.get(0);
+				configurator.param("argumentType", rawTypeName(argument));
+			}
+			configurator.done();
+		}
+	}
+
+	private static String getKey(AnnotationInstance configValueKey, Type type) {
+		return configValueKey.value("name").asString() + "|" + configValueKey.value("property").asString() + "|"
+				+ configValueKey.value("defaultValue").asString() + "|" + type;
+	}
+
+	private static Type beanType(Type type) {
+		return type.kind() == Kind.PRIMITIVE ? Type.create(box(type), Kind.CLASS) : type;
+	}
+
+	private static DotName box(Type type) {
+		switch (type.asPrimitiveType().primitive()) {
+		case BOOLEAN:
+			return DotNames.BOOLEAN;
+		case BYTE:
+			return DotNames.BYTE;
+		case CHAR:
+			return DotNames.CHARACTER;
+		case DOUBLE:
+			return DotNames.DOUBLE;
+		case FLOAT:
+			return DotNames.FLOAT;
+		case INT:
+			return DotNames.INTEGER;
+		case LONG:
+			return DotNames.LONG;
+		case SHORT:
+			return DotNames.SHORT;
+		default:
+			throw new IllegalArgumentException("Unsupported primitive type: " + type);
+		}
+	}
 
+	private static String rawTypeName(Type type) {
+		switch (type.kind()) {
+		case WILDCARD_TYPE:
+			return rawTypeName(type.asWildcardType().extendsBound());
+		case TYPE_VARIABLE:
+			List<Type> bounds = type.asTypeVariable().bounds();
+			return bounds.isEmpty() ? Object.class.getName() : rawTypeName(bounds.get(0));
+		case UNRESOLVED_TYPE_VARIABLE:
+			return Object.class.getName();
+		default:
+			return type.name().toString();
+		}
 	}
 	
 	void registerCustomConfigBeanTypes(RegistrationContext context) {
@@ -55,7 +160,7 @@ public class ConfigBeanRegistar implements BeanRegistrar {
 
             AnnotationInstance configValue = injectionPoint.getRequiredQualifier(CONFIG_VALUE_NAME);
             if (configValue != null) {
-                // Register a custom bean for injection points that are not handled by ConfigProducer
+                // Register a custom bean for programmatic lookups that are not handled by ConfigProducer
                 Type injectedType = injectionPoint.getRequiredType();
                 if (!isHandledByProducers(injectedType)) {
                     customBeanTypes.add(injectedType);
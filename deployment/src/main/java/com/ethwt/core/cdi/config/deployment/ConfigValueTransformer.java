@@ -0,0 +1,133 @@
+package com.ethwt.core.cdi.config.deployment;
+
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.MethodParameterInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+import org.jboss.jandex.Type.Kind;
+
+import com.ethwt.core.cdi.annotation.ConfigValue;
+import com.ethwt.core.cdi.config.ConfigValueKey;
+
+import io.quarkus.arc.processor.DotNames;
+import io.quarkus.arc.processor.InjectionPointsTransformer;
+
+/**
+ * Replaces {@link ConfigValue} with {@link ConfigValueKey} on injection points. The name, property path and default
+ * value are resolved here, i.e. once at build time, instead of on every injection. {@link ConfigBeanRegistar} then
+ * registers a synthetic bean for each distinct key. Types not handled by
+ * {@link com.ethwt.core.cdi.config.ConfigProducer}, i.e. config POJOs and arrays, are bound to the whole config
+ * object.
+ *
+ * @author neillin
+ */
+public class ConfigValueTransformer implements InjectionPointsTransformer {
+
+	static final DotName CONFIG_VALUE_NAME = DotName.createSimple(ConfigValue.class.getName());
+	static final DotName CONFIG_VALUE_KEY_NAME = DotName.createSimple(ConfigValueKey.class.getName());
+
+	private static final String DEFAULT_NAME = "values";
+
+	@Override
+	public boolean appliesTo(Type requiredType) {
+		// Programmatic lookups keep @ConfigValue and are served by ConfigProducer or ConfigBeanCreator
+		return !DotNames.INSTANCE.equals(requiredType.name()) && !DotNames.INJECTABLE_INSTANCE.equals(requiredType.name())
+				&& !DotNames.PROVIDER.equals(requiredType.name());
+	}
+
+	@Override
+	public void transform(TransformationContext transformationContext) {
+		AnnotationInstance configValue = null;
+		for (AnnotationInstance qualifier : transformationContext.getQualifiers()) {
+			if (CONFIG_VALUE_NAME.equals(qualifier.name())) {
+				configValue = qualifier;
+				break;
+			}
+		}
+		if (configValue == null) {
+			return;
+		}
+		AnnotationTarget target = configValue.target();
+		Type type = getType(target);
+		if (type == null) {
+			return;
+		}
+		String name = getName(configValue);
+		String path;
+		String defaultValue;
+		if (ConfigBeanRegistar.isHandledByProducers(type)) {
+			path = getPropertyPath(configValue, name, target);
+			defaultValue = getDefaultValue(configValue, type);
+		} else {
+			// Other types are bound to the whole config object, see ConfigBeanCreator
+			path = null;
+			AnnotationValue value = configValue.value("defaultValue");
+			defaultValue = value != null && !value.asString().trim().isEmpty() ? value.asString().trim() : null;
+		}
+		transformationContext.transform()
+				.remove(qualifier -> CONFIG_VALUE_NAME.equals(qualifier.name()))
+				.add(CONFIG_VALUE_KEY_NAME,
+						AnnotationValue.createStringValue("name", name),
+						AnnotationValue.createStringValue("property", path != null ? path : ""),
+						AnnotationValue.createStringValue("defaultValue",
+								defaultValue != null ? defaultValue : ConfigValue.UNCONFIGURED_VALUE))
+				.done();
+	}
+
+	static String getName(AnnotationInstance configValue) {
+		AnnotationValue value = configValue.value("name");
+		return value != null ? value.asString().trim() : DEFAULT_NAME;
+	}
+
+	static String getPropertyPath(AnnotationInstance configValue, String name, AnnotationTarget target) {
+		AnnotationValue value = configValue.value("property");
+		String key = value != null ? value.asString().trim() : "";
+		if (!key.isEmpty()) {
+			return key;
+		}
+		if (DEFAULT_NAME.equals(name) && target != null && target.kind() == AnnotationTarget.Kind.FIELD) {
+			FieldInfo field = target.asField();
+			return field.declaringClass().simpleName() + "." + field.name();
+		}
+		return null;
+	}
+
+	static String getDefaultValue(AnnotationInstance configValue, Type type) {
+		AnnotationValue value = configValue.value("defaultValue");
+		String str = value != null ? value.asString().trim() : ConfigValue.UNCONFIGURED_VALUE;
+		if (!ConfigValue.UNCONFIGURED_VALUE.equals(str)) {
+			return str;
+		}
+		if (type.kind() == Kind.PRIMITIVE) {
+			PrimitiveType.Primitive primitive = type.asPrimitiveType().primitive();
+			if (primitive == PrimitiveType.Primitive.CHAR) {
+				return null;
+			} else if (primitive == PrimitiveType.Primitive.BOOLEAN) {
+				return "false";
+			} else {
+				return "0";
+			}
+		}
+		return null;
+	}
+
+	private static Type getType(AnnotationTarget target) {
+		if (target == null) {
+			return null;
+		}
+		switch (target.kind()) {
+		case FIELD:
+			return target.asField().type();
+		case METHOD_PARAMETER:
+			MethodParameterInfo parameter = target.asMethodParameter();
+			return parameter.method().parameterType(parameter.position());
+		default:
+			return null;
+		}
+	}
+
+}
@@ -0,0 +1,65 @@
+package com.ethwt.core.cdi.config.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import javax.enterprise.inject.Any;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.ethwt.core.cdi.annotation.ConfigValue;
+import com.ethwt.core.cdi.config.ConfigValueKey;
+import com.ethwt.core.cdi.test.ArcTestContainer;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableInstance;
+
+public class ConfigBeanRegistarTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(ConfigValue.class, ConfigValueKey.class, PortConsumer.class)
+            .injectionPointsTransformers(new ConfigValueTransformer())
+            .beanRegistrars(new ConfigBeanRegistar()).build();
+
+    @Test
+    public void testPrimitiveAndBoxedShareBean() {
+        PortConsumer consumer = Arc.container().instance(PortConsumer.class).get();
+        assertEquals(9090, consumer.port);
+        assertEquals(Integer.valueOf(9090), consumer.boxedPort);
+        assertEquals(Integer.valueOf(7070), consumer.missing);
+        assertEquals("deployment-test", consumer.name);
+
+        // int and Integer with the same key resolve to a single synthetic bean
+        InjectableInstance<Integer> integers = Arc.container().select(Integer.class, Any.Literal.INSTANCE);
+        int count = 0;
+        for (Integer value : integers) {
+            count++;
+        }
+        assertEquals(2, count);
+    }
+
+    @Singleton
+    static class PortConsumer {
+
+        @Inject
+        @ConfigValue(property = "server.port", defaultValue = "8080")
+        int port;
+
+        @Inject
+        @ConfigValue(property = "server.port", defaultValue = "8080")
+        Integer boxedPort;
+
+        @Inject
+        @ConfigValue(property = "server.missing", defaultValue = "7070")
+        Integer missing;
+
+        @Inject
+        @ConfigValue(property = "server.name")
+        String name;
+
+    }
+
+}
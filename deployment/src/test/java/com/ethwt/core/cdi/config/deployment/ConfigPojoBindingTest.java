@@ -0,0 +1,68 @@
+package com.ethwt.core.cdi.config.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Arrays;
+import java.util.List;
+
+import javax.enterprise.context.Dependent;
+import javax.inject.Inject;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.ethwt.core.cdi.annotation.ConfigValue;
+import com.ethwt.core.cdi.config.ConfigValueKey;
+import com.ethwt.core.cdi.test.ArcTestContainer;
+
+import io.quarkus.arc.Arc;
+
+public class ConfigPojoBindingTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = ArcTestContainer.builder()
+            .beanClasses(ConfigValue.class, ConfigValueKey.class, ServerConsumer.class)
+            .injectionPointsTransformers(new ConfigValueTransformer())
+            .beanRegistrars(new ConfigBeanRegistar()).build();
+
+    @Test
+    public void testBinding() {
+        ServerConsumer first = Arc.container().instance(ServerConsumer.class).get();
+        ServerConsumer second = Arc.container().instance(ServerConsumer.class).get();
+        assertNotSame(first, second);
+
+        assertEquals("localhost", first.server.host);
+        assertEquals(8443, first.server.port);
+        assertEquals(Arrays.asList("/a", "/b"), first.server.paths);
+        // The bound object is shared by all injection points with the same key
+        assertSame(first.server, second.server);
+
+        // The default value is bound if the config does not exist
+        assertEquals("fallback", first.fallback.host);
+        assertEquals(1, first.fallback.port);
+    }
+
+    @Dependent
+    static class ServerConsumer {
+
+        @Inject
+        @ConfigValue(name = "server")
+        ServerConfig server;
+
+        @Inject
+        @ConfigValue(name = "absent", defaultValue = "{\"host\":\"fallback\",\"port\":1}")
+        ServerConfig fallback;
+
+    }
+
+    public static class ServerConfig {
+
+        public String host;
+        public int port;
+        public List<String> paths;
+
+    }
+
+}
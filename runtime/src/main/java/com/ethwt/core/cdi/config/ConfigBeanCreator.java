@@ -3,6 +3,8 @@ package com.ethwt.core.cdi.config;
 import java.lang.annotation.Annotation;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.enterprise.context.spi.CreationalContext;
 import javax.enterprise.inject.spi.InjectionPoint;
@@ -17,18 +19,14 @@ import io.quarkus.arc.impl.InjectionPointProvider;
 
 public class ConfigBeanCreator implements BeanCreator<Object> {
 
+    private static final ConcurrentMap<String, Class<?>> REQUIRED_TYPES = new ConcurrentHashMap<>();
+
     @Override
     public Object create(CreationalContext<Object> creationalContext, Map<String, Object> params) {
         String requiredType = params.get("requiredType").toString();
-        ClassLoader cl = Thread.currentThread().getContextClassLoader();
-        if (cl == null) {
-            cl = ConfigBeanCreator.class.getClassLoader();
-        }
-        Class<?> clazz;
-        try {
-            clazz = Class.forName(requiredType, true, cl);
-        } catch (ClassNotFoundException e) {
-            throw new IllegalStateException("Cannot load required type: " + requiredType);
+        Class<?> clazz = REQUIRED_TYPES.get(requiredType);
+        if (clazz == null) {
+            clazz = REQUIRED_TYPES.computeIfAbsent(requiredType, ConfigBeanCreator::loadClass);
         }
 
         InjectionPoint injectionPoint = InjectionPointProvider.get();
@@ -57,6 +55,18 @@ public class ConfigBeanCreator implements BeanCreator<Object> {
     }
 
 
+    private static Class<?> loadClass(String name) {
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        if (cl == null) {
+            cl = ConfigBeanCreator.class.getClassLoader();
+        }
+        try {
+            return Class.forName(name, true, cl);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Cannot load required type: " + name);
+        }
+    }
+
     private ConfigValue getConfigValue(InjectionPoint injectionPoint) {
         for (Annotation qualifier : injectionPoint.getQualifiers()) {
             if (qualifier.annotationType().equals(ConfigValue.class)) {
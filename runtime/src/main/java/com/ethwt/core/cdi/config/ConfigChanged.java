@@ -0,0 +1,50 @@
+package com.ethwt.core.cdi.config;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Event fired by {@link ConfigWatcher} after a config was reloaded and at least one of its properties changed.
+ *
+ * @author neillin
+ */
+public final class ConfigChanged {
+
+	private final String name;
+	private final Set<String> changedKeys;
+
+	public ConfigChanged(String name, Set<String> changedKeys) {
+		this.name = name;
+		this.changedKeys = Collections.unmodifiableSet(new HashSet<>(changedKeys));
+	}
+
+	/**
+	 * @return the name of the config, e.g. {@code values}
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return the property paths whose values changed, were added or were removed
+	 */
+	public Set<String> getChangedKeys() {
+		return changedKeys;
+	}
+
+	/**
+	 *
+	 * @param key the property path
+	 * @return {@code true} if the value of the given property changed
+	 */
+	public boolean isChanged(String key) {
+		return changedKeys.contains(key);
+	}
+
+	@Override
+	public String toString() {
+		return "ConfigChanged [name=" + name + ", changedKeys=" + changedKeys + "]";
+	}
+
+}
@@ -1,6 +1,5 @@
 package com.ethwt.core.cdi.config;
 
-import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Array;
 import java.lang.reflect.GenericArrayType;
@@ -8,7 +7,6 @@ import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -33,7 +31,6 @@ import org.slf4j.LoggerFactory;
 import com.ethwt.core.cdi.annotation.ConfigValue;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.networknt.config.Config;
 import com.networknt.config.JsonMapper;
 
@@ -48,37 +45,6 @@ public class ConfigProducer {
 	
 	private static final Logger log = LoggerFactory.getLogger(ConfigProducer.class);
 	
-	private Map<String,Map<String, JsonNode>> configRoots = new HashMap<>();
-	
-	private synchronized Map<String, JsonNode> getConfigJson(String name) {
-		return configRoots.computeIfAbsent(name, key -> {
-			ObjectMapper mapper = Config.getInstance().getMapper();
-			Map<String, Object> map = Config.getInstance().getJsonMapConfigNoCache(name);
-			if(map != null && !map.isEmpty()) {
-				try {
-					return flatMap(mapper.readTree(JsonMapper.toJson(map)), null, null);
-				} catch(IOException e) {
-					log.error("Failed to load values config", e);
-				}
-			} 
-			return Collections.emptyMap();
-		});
-	}
-	
-	
-	private static Map<String, JsonNode> flatMap(JsonNode root, String parent, Map<String, JsonNode> map) {
-		if (map == null) {
-			map = new HashMap<>();
-		}
-		final Map<String, JsonNode> result = map;
-		root.fields().forEachRemaining(entry -> {
-			String key = Optional.ofNullable(parent).map(p -> p+"."+entry.getKey()).orElse(entry.getKey());
-			result.put(key, entry.getValue());
-			flatMap(entry.getValue(), key, result);
-		});
-		return map;
-	}
-	
     private static String getDefaultValue(InjectionPoint injectionPoint) {
         for (Annotation qualifier : injectionPoint.getQualifiers()) {
             if (qualifier.annotationType().equals(ConfigValue.class)) {
@@ -128,7 +94,8 @@ public class ConfigProducer {
         	result = json.asText().charAt(0);
         } else {
         	try {
-				result = JsonMapper.objectMapper.readValue(json.asText(), requiredType);
+				result = json.isTextual() ? JsonMapper.objectMapper.readValue(json.asText(), requiredType)
+						: JsonMapper.objectMapper.treeToValue(json, requiredType);
 			} catch (JsonProcessingException e) {
 				log.error("Failed to convert config value of type: {} from string: {}, returning NULL", requiredType, json, e);
 				result = null;
@@ -188,8 +155,8 @@ public class ConfigProducer {
 
     
     private JsonNode getJsonValue(String name, String path, String defaultValue) {
-    	JsonNode json = getConfigJson(name).get(path);
-        if(json.isMissingNode()||json.isNull()) {
+    	JsonNode json = ConfigValueAccessor.getConfigTree(name).get(path);
+        if(json == null||json.isMissingNode()||json.isNull()) {
         	try {
 				json = defaultValue != null ? JsonMapper.objectMapper.readTree(defaultValue) : null;
 			} catch (JsonProcessingException e) {
@@ -205,11 +172,14 @@ public class ConfigProducer {
         if (name == null) {
             return null;
         }
+        Class<?> rawType = rawTypeOf(type);
+        if(path == null) {
+        	return (T)Config.getInstance().getJsonObjectConfig(name, rawType);
+        }
         JsonNode json = getJsonValue(name, path, defaultValue);
         if(json == null||json.isMissingNode()||json.isNull()) {
         	return null;
         }
-        Class<?> rawType = rawTypeOf(type);
         if(rawType == List.class||rawType == Collection.class) {
         	Class<Object> actualType = (Class<Object>)((ParameterizedType)type).getActualTypeArguments()[0];
         	List<Object> result = new ArrayList<>();
@@ -241,8 +211,6 @@ public class ConfigProducer {
         } else if(rawType == OptionalDouble.class){
         	Double val = convertValue(json, Double.class);
         	return val != null ? (T)OptionalDouble.of(val) : (T)OptionalDouble.empty();
-        } else if(path == null) {
-        	return (T)Config.getInstance().getJsonObjectConfig(name, rawType);
         } else {
         	return (T)convertValue(json, rawType);
         }
@@ -0,0 +1,289 @@
+package com.ethwt.core.cdi.config;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.networknt.config.Config;
+import com.networknt.config.JsonMapper;
+
+/**
+ * Config values resolved at build time by the {@code config-snapshot} goal of the cdi-maven-plugin.
+ * <p>
+ * The snapshot holds the value of each property path referenced by a {@link com.ethwt.core.cdi.annotation.ConfigValue}
+ * injection point as JSON text. It is memory-mapped if it is a plain file and the values are only parsed when
+ * requested, so that the config files do not need to be parsed at startup. A config that is overridden in one of the
+ * externalized config directories is never read from the snapshot. Values that are resolved by light-4j when the
+ * config is loaded, i.e. {@code ${...}} references and {@code CRYPT:} encrypted values, are never included.
+ * <p>
+ * Format: magic, number of configs and for each config its name, number of entries and the entries sorted by path.
+ * An entry is the path followed by the length and the UTF-8 bytes of the value, or by {@code -1} if the property does
+ * not exist.
+ *
+ * @author neillin
+ */
+public final class ConfigSnapshot {
+
+	public static final String RESOURCE = "META-INF/cdi-config.snapshot";
+
+	private static final Logger log = LoggerFactory.getLogger(ConfigSnapshot.class);
+
+	private static final int MAGIC = 0x43464731;
+
+	private static final String[] EXTENSIONS = { ".yml", ".yaml", ".json" };
+
+	private static final String CRYPT_PREFIX = "CRYPT:";
+
+	private static final ConfigSnapshot EMPTY = new ConfigSnapshot(ByteBuffer.allocate(0), Collections.emptyMap());
+
+	private static volatile ConfigSnapshot instance;
+
+	private final ByteBuffer buffer;
+	private final Map<String, Map<String, Integer>> offsets;
+
+	private ConfigSnapshot(ByteBuffer buffer, Map<String, Map<String, Integer>> offsets) {
+		this.buffer = buffer;
+		this.offsets = offsets;
+	}
+
+	/**
+	 * @return the snapshot of the application, or an empty snapshot if there is none
+	 */
+	static ConfigSnapshot getInstance() {
+		ConfigSnapshot snapshot = instance;
+		if (snapshot == null) {
+			synchronized (ConfigSnapshot.class) {
+				snapshot = instance;
+				if (snapshot == null) {
+					snapshot = load();
+					instance = snapshot;
+				}
+			}
+		}
+		return snapshot;
+	}
+
+	/**
+	 *
+	 * @param name
+	 * @return {@code true} if the snapshot can be used for the given config
+	 */
+	boolean isAvailable(String name) {
+		return offsets.containsKey(name) && !isOverridden(name);
+	}
+
+	/**
+	 *
+	 * @param name
+	 * @param path
+	 * @return the value, {@link MissingNode} if the property does not exist, or {@code null} if the path is not part of
+	 *         the snapshot
+	 */
+	JsonNode get(String name, String path) {
+		Map<String, Integer> entries = offsets.get(name);
+		Integer offset = entries != null ? entries.get(path) : null;
+		if (offset == null) {
+			return null;
+		}
+		ByteBuffer view = buffer.duplicate();
+		view.position(offset);
+		int length = view.getInt();
+		if (length < 0) {
+			return MissingNode.getInstance();
+		}
+		byte[] value = new byte[length];
+		view.get(value);
+		try {
+			return JsonMapper.objectMapper.readTree(value);
+		} catch (IOException e) {
+			log.error("Failed to read {}#{} from config snapshot", name, path, e);
+			return null;
+		}
+	}
+
+	/**
+	 *
+	 * @param name
+	 * @return the number of properties of the given config in the snapshot
+	 */
+	int size(String name) {
+		Map<String, Integer> entries = offsets.get(name);
+		return entries != null ? entries.size() : 0;
+	}
+
+	/**
+	 * Writes a snapshot of the given property paths.
+	 *
+	 * @param roots the parsed configs
+	 * @param paths the property paths referenced per config
+	 * @param out
+	 * @return the number of entries written
+	 * @throws IOException
+	 */
+	public static int write(Map<String, JsonNode> roots, Map<String, Set<String>> paths, OutputStream out)
+			throws IOException {
+		int count = 0;
+		DataOutputStream data = new DataOutputStream(out);
+		Map<String, JsonNode> sortedRoots = new TreeMap<>(roots);
+		data.writeInt(MAGIC);
+		data.writeInt(sortedRoots.size());
+		for (Map.Entry<String, JsonNode> root : sortedRoots.entrySet()) {
+			ConfigTree tree = new ConfigTree(root.getValue(), 0);
+			Map<String, byte[]> values = new TreeMap<>();
+			for (String path : new TreeSet<>(paths.getOrDefault(root.getKey(), Collections.emptySet()))) {
+				JsonNode node = tree.get(path);
+				if (node.isMissingNode()) {
+					values.put(path, null);
+					continue;
+				}
+				String text = node.toString();
+				if (text.contains("${") || text.contains(CRYPT_PREFIX)) {
+					// Injected from the environment or values.yml, or decrypted, at runtime
+					continue;
+				}
+				values.put(path, text.getBytes(StandardCharsets.UTF_8));
+			}
+			writeString(data, root.getKey());
+			data.writeInt(values.size());
+			for (Map.Entry<String, byte[]> value : values.entrySet()) {
+				writeString(data, value.getKey());
+				if (value.getValue() == null) {
+					data.writeInt(-1);
+				} else {
+					data.writeInt(value.getValue().length);
+					data.write(value.getValue());
+				}
+			}
+			count += values.size();
+		}
+		data.flush();
+		return count;
+	}
+
+	private static ConfigSnapshot load() {
+		ClassLoader cl = Thread.currentThread().getContextClassLoader();
+		if (cl == null) {
+			cl = ConfigSnapshot.class.getClassLoader();
+		}
+		URL url = cl.getResource(RESOURCE);
+		if (url == null) {
+			return EMPTY;
+		}
+		try {
+			ConfigSnapshot snapshot = read(map(url));
+			if (snapshot == null) {
+				log.warn("Ignoring invalid config snapshot: {}", url);
+				return EMPTY;
+			}
+			return snapshot;
+		} catch (IOException | RuntimeException | URISyntaxException e) {
+			log.warn("Failed to read config snapshot: {}", url, e);
+			return EMPTY;
+		}
+	}
+
+	/**
+	 *
+	 * @param buffer the snapshot written by {@link #write(Map, Map, OutputStream)}
+	 * @return the snapshot, or {@code null} if the buffer does not hold a snapshot
+	 */
+	static ConfigSnapshot read(ByteBuffer buffer) {
+		if (buffer.remaining() < 8 || buffer.getInt() != MAGIC) {
+			return null;
+		}
+		Map<String, Map<String, Integer>> offsets = new HashMap<>();
+		int configs = buffer.getInt();
+		for (int i = 0; i < configs; i++) {
+			String name = readString(buffer);
+			int entries = buffer.getInt();
+			Map<String, Integer> configOffsets = new HashMap<>();
+			for (int j = 0; j < entries; j++) {
+				String path = readString(buffer);
+				configOffsets.put(path, buffer.position());
+				int length = buffer.getInt();
+				if (length > 0) {
+					buffer.position(buffer.position() + length);
+				}
+			}
+			offsets.put(name, configOffsets);
+		}
+		return new ConfigSnapshot(buffer, offsets);
+	}
+
+	private static ByteBuffer map(URL url) throws IOException, URISyntaxException {
+		if ("file".equals(url.getProtocol())) {
+			try (FileChannel channel = FileChannel.open(Paths.get(url.toURI()), StandardOpenOption.READ)) {
+				return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			}
+		}
+		// Entries of a jar cannot be mapped
+		try (InputStream in = url.openStream()) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] chunk = new byte[8192];
+			int read;
+			while ((read = in.read(chunk)) != -1) {
+				out.write(chunk, 0, read);
+			}
+			return ByteBuffer.wrap(out.toByteArray());
+		}
+	}
+
+	/**
+	 *
+	 * @param name
+	 * @return {@code true} if the config exists in any of the externalized config directories
+	 */
+	static boolean isOverridden(String name) {
+		String configDirs = System.getProperty(Config.LIGHT_4J_CONFIG_DIR);
+		if (configDirs == null) {
+			return false;
+		}
+		// Same as light-4j, the property may list several directories
+		for (String configDir : configDirs.split(File.pathSeparator)) {
+			if (configDir.isEmpty()) {
+				continue;
+			}
+			for (String extension : EXTENSIONS) {
+				if (Files.exists(Paths.get(configDir, name + extension))) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	private static void writeString(DataOutputStream data, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		data.writeInt(bytes.length);
+		data.write(bytes);
+	}
+
+	private static String readString(ByteBuffer buffer) {
+		byte[] bytes = new byte[buffer.getInt()];
+		buffer.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+}
@@ -0,0 +1,170 @@
+package com.ethwt.core.cdi.config;
+
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.MissingNode;
+
+/**
+ * Immutable snapshot of a parsed config file. Property paths, e.g. {@code Generator.sleepFor}, are resolved lazily
+ * against the original tree and the resolved nodes are indexed by path; the tree is never flattened or copied. A tree
+ * backed by a {@link ConfigSnapshot} only parses the config file when a path is not included in the snapshot.
+ *
+ * @author neillin
+ */
+final class ConfigTree {
+
+	static final ConfigTree EMPTY = new ConfigTree(MissingNode.getInstance(), 0);
+
+	private final int nodeCount;
+	private final ConcurrentMap<String, JsonNode> index;
+	private final Function<String, JsonNode> snapshot;
+	private final Supplier<JsonNode> rootLoader;
+	private volatile JsonNode root;
+
+	ConfigTree(JsonNode root, int nodeCount) {
+		this.root = root;
+		this.nodeCount = nodeCount;
+		this.index = new ConcurrentHashMap<>();
+		this.snapshot = null;
+		this.rootLoader = null;
+	}
+
+	/**
+	 *
+	 * @param snapshot returns the node for a path resolved at build time, or {@code null} if the path is not included
+	 * @param rootLoader parses the config file if a path is not included in the snapshot
+	 */
+	ConfigTree(Function<String, JsonNode> snapshot, Supplier<JsonNode> rootLoader) {
+		this.nodeCount = 0;
+		this.index = new ConcurrentHashMap<>();
+		this.snapshot = snapshot;
+		this.rootLoader = rootLoader;
+	}
+
+	/**
+	 *
+	 * @param path the property path
+	 * @return the node for the given path, or {@link MissingNode} if there is no such property
+	 */
+	JsonNode get(String path) {
+		JsonNode node = index.get(path);
+		if (node == null) {
+			node = snapshot != null ? snapshot.apply(path) : null;
+			if (node == null) {
+				node = resolve(root(), path, 0);
+			}
+			if (node == null) {
+				node = MissingNode.getInstance();
+			}
+			index.putIfAbsent(path, node);
+		}
+		return node;
+	}
+
+	/**
+	 * @return the number of nodes in the tree, {@code 0} for a tree backed by a snapshot
+	 */
+	int getNodeCount() {
+		return nodeCount;
+	}
+
+	/**
+	 *
+	 * @param previous
+	 * @return the property paths whose values differ from the previous snapshot
+	 */
+	Set<String> diff(ConfigTree previous) {
+		Set<String> changed = new LinkedHashSet<>();
+		if (previous.root == null) {
+			// The previous tree was read from a snapshot and the file it was built from may be gone, compare the
+			// properties read so far
+			for (Map.Entry<String, JsonNode> entry : previous.index.entrySet()) {
+				if (!entry.getValue().equals(get(entry.getKey()))) {
+					changed.add(entry.getKey());
+				}
+			}
+		} else {
+			diff(previous.root, root(), null, changed);
+		}
+		return changed;
+	}
+
+	private JsonNode root() {
+		JsonNode node = root;
+		if (node == null) {
+			synchronized (this) {
+				node = root;
+				if (node == null) {
+					node = rootLoader.get();
+					root = node;
+				}
+			}
+		}
+		return node;
+	}
+
+	static int countNodes(JsonNode node) {
+		int count = 1;
+		for (JsonNode child : node) {
+			count += countNodes(child);
+		}
+		return count;
+	}
+
+	private static JsonNode resolve(JsonNode node, String path, int start) {
+		if (!node.isObject()) {
+			return null;
+		}
+		// A property name may contain dots itself, try the shortest segment first
+		int end = path.indexOf('.', start);
+		while (end != -1) {
+			JsonNode child = node.get(path.substring(start, end));
+			if (child != null) {
+				JsonNode result = resolve(child, path, end + 1);
+				if (result != null) {
+					return result;
+				}
+			}
+			end = path.indexOf('.', end + 1);
+		}
+		return node.get(path.substring(start));
+	}
+
+	private static void diff(JsonNode oldNode, JsonNode newNode, String parent, Set<String> changed) {
+		Set<String> names = new LinkedHashSet<>();
+		if (oldNode.isObject()) {
+			oldNode.fieldNames().forEachRemaining(names::add);
+		}
+		if (newNode.isObject()) {
+			newNode.fieldNames().forEachRemaining(names::add);
+		}
+		for (String name : names) {
+			String key = parent != null ? parent + "." + name : name;
+			JsonNode oldValue = oldNode.isObject() ? oldNode.get(name) : null;
+			JsonNode newValue = newNode.isObject() ? newNode.get(name) : null;
+			if (oldValue == null || newValue == null) {
+				addAll(oldValue != null ? oldValue : newValue, key, changed);
+			} else if (!oldValue.equals(newValue)) {
+				changed.add(key);
+				diff(oldValue, newValue, key, changed);
+			}
+		}
+	}
+
+	private static void addAll(JsonNode node, String key, Set<String> changed) {
+		changed.add(key);
+		for (Iterator<Map.Entry<String, JsonNode>> it = node.fields(); it.hasNext();) {
+			Map.Entry<String, JsonNode> entry = it.next();
+			addAll(entry.getValue(), key + "." + entry.getKey(), changed);
+		}
+	}
+
+}
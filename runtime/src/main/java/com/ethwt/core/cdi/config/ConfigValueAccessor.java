@@ -0,0 +1,444 @@
+package com.ethwt.core.cdi.config;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.OptionalLong;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.MissingNode;
+import com.networknt.config.Config;
+import com.networknt.config.JsonMapper;
+
+/**
+ * Reads a {@link com.ethwt.core.cdi.annotation.ConfigValue} from the flattened config tree.
+ * <p>
+ * The default value is parsed and the converter for the required type is selected when the accessor is created, so
+ * that an accessor can be shared by all injection points with the same name, path, type and default value.
+ * <p>
+ * Each config is held as an immutable {@link ConfigTree} snapshot that is swapped atomically by
+ * {@link #reload(String)}. Converted values of immutable types are memoized until the value of their property
+ * changes, and an injected {@link Supplier} always returns the value from the current snapshot. {@link List} and
+ * {@link Map} values are read-only views of the snapshot.
+ *
+ * @author neillin
+ */
+public final class ConfigValueAccessor {
+
+	private static final Logger log = LoggerFactory.getLogger(ConfigValueAccessor.class);
+
+	private static final ConcurrentMap<String, ConfigTree> CONFIG_ROOTS = new ConcurrentHashMap<>();
+
+	private static final ConcurrentMap<String, ConfigValueAccessor> ACCESSORS = new ConcurrentHashMap<>();
+
+	// Config objects are bound by light-4j, a new version invalidates the memoized objects
+	private static final ConcurrentMap<String, Object> OBJECT_VERSIONS = new ConcurrentHashMap<>();
+
+	private static final Object RELOAD_LOCK = new Object();
+
+	private final String name;
+	private final String path;
+	private final Class<?> rawType;
+	private final JsonNode defaultValue;
+	private final Function<JsonNode, Object> converter;
+	private final boolean memoize;
+	private final Supplier<Object> supplier;
+	private volatile Memo memo;
+
+	/**
+	 *
+	 * @param name the config name
+	 * @param path the property path, or {@code null} if the whole config object is injected
+	 * @param rawType the raw required type; primitive types must be boxed
+	 * @param argumentType the element type of a collection, {@link Optional} or {@link Supplier}, or the value type of a
+	 *        map; may be {@code null} for other types
+	 * @param defaultValue the default value, may be {@code null}
+	 */
+	public ConfigValueAccessor(String name, String path, Class<?> rawType, Class<?> argumentType, String defaultValue) {
+		this.name = name;
+		this.path = path;
+		this.rawType = rawType;
+		this.defaultValue = parseDefaultValue(defaultValue);
+		if (rawType == Supplier.class) {
+			// The supplier always reads the current snapshot so that reloaded values are visible
+			this.converter = scalarConverter(argumentType);
+			this.memoize = true;
+			this.supplier = this::currentValue;
+		} else {
+			this.converter = converter(rawType, argumentType);
+			// Lists and maps are read-only views of the immutable snapshot
+			this.memoize = isImmutable(rawType) || rawType == List.class || rawType == Collection.class
+					|| rawType == Map.class || (rawType == Optional.class && isImmutable(argumentType));
+			this.supplier = null;
+		}
+	}
+
+	/**
+	 * The accessors are cached by the given key.
+	 *
+	 * @param key the key identifying the name, path, type and default value
+	 * @param factory
+	 * @return the shared accessor for the given key
+	 */
+	public static ConfigValueAccessor get(String key, Function<String, ConfigValueAccessor> factory) {
+		ConfigValueAccessor accessor = ACCESSORS.get(key);
+		if (accessor == null) {
+			accessor = ACCESSORS.computeIfAbsent(key, factory);
+		}
+		return accessor;
+	}
+
+	/**
+	 *
+	 * @param name
+	 * @return the current snapshot of the config tree
+	 */
+	static ConfigTree getConfigTree(String name) {
+		ConfigTree tree = CONFIG_ROOTS.get(name);
+		if (tree == null) {
+			tree = CONFIG_ROOTS.computeIfAbsent(name, ConfigValueAccessor::createConfigTree);
+		}
+		return tree;
+	}
+
+	/**
+	 *
+	 * @return the names of the configs read so far, i.e. the configs that can be reloaded
+	 */
+	static Set<String> getLoadedConfigNames() {
+		Set<String> names = new HashSet<>(CONFIG_ROOTS.keySet());
+		names.addAll(OBJECT_VERSIONS.keySet());
+		return names;
+	}
+
+	/**
+	 * Reads the config again and swaps in the new snapshot if any property changed. Memoized config objects are
+	 * always invalidated.
+	 *
+	 * @param name
+	 * @return the property paths whose values changed, were added or were removed
+	 */
+	static Set<String> reload(String name) {
+		synchronized (RELOAD_LOCK) {
+			OBJECT_VERSIONS.remove(name);
+			ConfigTree oldTree = CONFIG_ROOTS.get(name);
+			if (oldTree == null) {
+				return Collections.emptySet();
+			}
+			ConfigTree newTree = loadConfigTree(name);
+			Set<String> changed = newTree.diff(oldTree);
+			if (!changed.isEmpty()) {
+				CONFIG_ROOTS.put(name, newTree);
+			}
+			return changed;
+		}
+	}
+
+	public Object getValue() {
+		if (name == null) {
+			return null;
+		}
+		if (path == null) {
+			return configObject();
+		}
+		if (supplier != null) {
+			return supplier;
+		}
+		return currentValue();
+	}
+
+	private Object currentValue() {
+		ConfigTree tree = getConfigTree(name);
+		Memo current = memo;
+		if (memoize && current != null && current.version == tree) {
+			return current.value;
+		}
+		JsonNode json = tree.get(path);
+		if (isEmpty(json)) {
+			json = defaultValue;
+		}
+		if (isEmpty(json)) {
+			json = null;
+		}
+		if (!memoize) {
+			return json != null ? converter.apply(json) : null;
+		}
+		// A new snapshot only invalidates the memoized value if the property itself changed
+		Object value;
+		if (current != null && Objects.equals(current.source, json)) {
+			value = current.value;
+		} else {
+			value = json != null ? converter.apply(json) : null;
+		}
+		memo = new Memo(tree, json, value);
+		return value;
+	}
+
+	private Object configObject() {
+		Object version = OBJECT_VERSIONS.computeIfAbsent(name, k -> new Object());
+		Memo current = memo;
+		if (current != null && current.version == version) {
+			return current.value;
+		}
+		Object value = Config.getInstance().getJsonObjectConfig(name, rawType);
+		if (value == null && !isEmpty(defaultValue)) {
+			value = converter.apply(defaultValue);
+		}
+		memo = new Memo(version, null, value);
+		return value;
+	}
+
+	private static ConfigTree createConfigTree(String name) {
+		ConfigSnapshot snapshot = ConfigSnapshot.getInstance();
+		if (snapshot.isAvailable(name)) {
+			log.info("Config {} read from snapshot, {} properties", name, snapshot.size(name));
+			return new ConfigTree(path -> snapshot.get(name, path), () -> loadConfigRoot(name));
+		}
+		return loadConfigTree(name);
+	}
+
+	private static ConfigTree loadConfigTree(String name) {
+		long start = System.nanoTime();
+		JsonNode root = loadConfigRoot(name);
+		if (root.isMissingNode()) {
+			return ConfigTree.EMPTY;
+		}
+		ConfigTree tree = new ConfigTree(root, ConfigTree.countNodes(root));
+		log.info("Config {} loaded in {} ms, {} nodes", name,
+				TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), tree.getNodeCount());
+		return tree;
+	}
+
+	private static JsonNode loadConfigRoot(String name) {
+		Map<String, Object> map = Config.getInstance().getJsonMapConfigNoCache(name);
+		if (map == null || map.isEmpty()) {
+			return MissingNode.getInstance();
+		}
+		// Convert the parsed structure directly instead of writing and re-reading JSON
+		return Config.getInstance().getMapper().valueToTree(map);
+	}
+
+	private static boolean isImmutable(Class<?> type) {
+		return type == String.class || type == Boolean.class || type == Integer.class || type == Long.class
+				|| type == Float.class || type == Double.class || type == Short.class || type == Byte.class
+				|| type == Character.class || type == OptionalInt.class || type == OptionalLong.class
+				|| type == OptionalDouble.class;
+	}
+
+	private static JsonNode parseDefaultValue(String defaultValue) {
+		if (defaultValue == null) {
+			return null;
+		}
+		try {
+			return JsonMapper.objectMapper.readTree(defaultValue);
+		} catch (JsonProcessingException e) {
+			log.error("Failed to parse default value: {} ", defaultValue, e);
+			throw new IllegalArgumentException("Invalid default value: " + defaultValue);
+		}
+	}
+
+	private static boolean isEmpty(JsonNode json) {
+		return json == null || json.isMissingNode() || json.isNull();
+	}
+
+	private static Function<JsonNode, Object> converter(Class<?> rawType, Class<?> argumentType) {
+		if (rawType == List.class || rawType == Collection.class) {
+			Function<JsonNode, Object> element = scalarConverter(argumentType);
+			return json -> new ListView(json, element);
+		} else if (rawType == Set.class) {
+			Function<JsonNode, Object> element = scalarConverter(argumentType);
+			return json -> {
+				Set<Object> result = new HashSet<>();
+				json.forEach(n -> result.add(element.apply(n)));
+				return result;
+			};
+		} else if (rawType == Map.class) {
+			Function<JsonNode, Object> value = scalarConverter(argumentType);
+			return json -> new MapView(json, value);
+		} else if (rawType == Optional.class) {
+			Function<JsonNode, Object> value = scalarConverter(argumentType);
+			return json -> Optional.ofNullable(value.apply(json));
+		} else if (rawType == OptionalInt.class) {
+			Function<JsonNode, Object> value = scalarConverter(Integer.class);
+			return json -> {
+				Integer val = (Integer) value.apply(json);
+				return val != null ? OptionalInt.of(val) : OptionalInt.empty();
+			};
+		} else if (rawType == OptionalLong.class) {
+			Function<JsonNode, Object> value = scalarConverter(Long.class);
+			return json -> {
+				Long val = (Long) value.apply(json);
+				return val != null ? OptionalLong.of(val) : OptionalLong.empty();
+			};
+		} else if (rawType == OptionalDouble.class) {
+			Function<JsonNode, Object> value = scalarConverter(Double.class);
+			return json -> {
+				Double val = (Double) value.apply(json);
+				return val != null ? OptionalDouble.of(val) : OptionalDouble.empty();
+			};
+		}
+		return scalarConverter(rawType);
+	}
+
+	private static Function<JsonNode, Object> scalarConverter(Class<?> requiredType) {
+		Function<JsonNode, Object> converter;
+		if (requiredType == String.class) {
+			converter = JsonNode::asText;
+		} else if (requiredType == Boolean.class || requiredType == Boolean.TYPE) {
+			converter = JsonNode::asBoolean;
+		} else if (requiredType == Integer.class || requiredType == Integer.TYPE) {
+			converter = json -> json.numberValue().intValue();
+		} else if (requiredType == Long.class || requiredType == Long.TYPE) {
+			converter = json -> json.numberValue().longValue();
+		} else if (requiredType == Float.class || requiredType == Float.TYPE) {
+			converter = json -> json.numberValue().floatValue();
+		} else if (requiredType == Double.class || requiredType == Double.TYPE) {
+			converter = json -> json.numberValue().doubleValue();
+		} else if (requiredType == Short.class || requiredType == Short.TYPE) {
+			converter = json -> json.numberValue().shortValue();
+		} else if (requiredType == Byte.class || requiredType == Byte.TYPE) {
+			converter = json -> json.numberValue().byteValue();
+		} else if (requiredType == Character.class || requiredType == Character.TYPE) {
+			converter = json -> json.asText().charAt(0);
+		} else {
+			// The reader caches the deserializer for the type
+			ObjectReader reader = JsonMapper.objectMapper.readerFor(requiredType);
+			converter = json -> {
+				try {
+					// Values of custom types may be given as JSON text
+					return json.isTextual() ? reader.readValue(json.asText()) : reader.readValue(json);
+				} catch (IOException e) {
+					log.error("Failed to convert config value of type: {} from string: {}, returning NULL", requiredType,
+							json, e);
+					return null;
+				}
+			};
+		}
+		return json -> isEmpty(json) ? null : converter.apply(json);
+	}
+
+	private static final class Memo {
+
+		private final Object version;
+		private final JsonNode source;
+		private final Object value;
+
+		Memo(Object version, JsonNode source, Object value) {
+			this.version = version;
+			this.source = source;
+			this.value = value;
+		}
+
+	}
+
+	/**
+	 * Read-only list backed by an array node, the elements are converted on access.
+	 */
+	private static final class ListView extends AbstractList<Object> implements RandomAccess {
+
+		private final JsonNode array;
+		private final Function<JsonNode, Object> element;
+
+		ListView(JsonNode array, Function<JsonNode, Object> element) {
+			this.array = array;
+			this.element = element;
+		}
+
+		@Override
+		public Object get(int index) {
+			if (index < 0 || index >= array.size()) {
+				throw new IndexOutOfBoundsException("Index: " + index + ", size: " + array.size());
+			}
+			return element.apply(array.get(index));
+		}
+
+		@Override
+		public int size() {
+			return array.size();
+		}
+
+	}
+
+	/**
+	 * Read-only map backed by an object node, the values are converted on access.
+	 */
+	private static final class MapView extends AbstractMap<String, Object> {
+
+		private final JsonNode object;
+		private final Function<JsonNode, Object> value;
+
+		MapView(JsonNode object, Function<JsonNode, Object> value) {
+			this.object = object;
+			this.value = value;
+		}
+
+		@Override
+		public Object get(Object key) {
+			return key instanceof String ? value.apply(object.get((String) key)) : null;
+		}
+
+		@Override
+		public boolean containsKey(Object key) {
+			return key instanceof String && object.has((String) key);
+		}
+
+		@Override
+		public int size() {
+			return object.size();
+		}
+
+		@Override
+		public Set<Entry<String, Object>> entrySet() {
+			return new AbstractSet<Entry<String, Object>>() {
+
+				@Override
+				public Iterator<Entry<String, Object>> iterator() {
+					Iterator<Entry<String, JsonNode>> fields = object.fields();
+					return new Iterator<Entry<String, Object>>() {
+
+						@Override
+						public boolean hasNext() {
+							return fields.hasNext();
+						}
+
+						@Override
+						public Entry<String, Object> next() {
+							Entry<String, JsonNode> field = fields.next();
+							return new SimpleImmutableEntry<>(field.getKey(), value.apply(field.getValue()));
+						}
+					};
+				}
+
+				@Override
+				public int size() {
+					return object.size();
+				}
+			};
+		}
+
+	}
+
+}
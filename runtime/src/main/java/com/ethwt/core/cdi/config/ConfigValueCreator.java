@@ -0,0 +1,41 @@
+package com.ethwt.core.cdi.config;
+
+import java.util.Map;
+
+import javax.enterprise.context.spi.CreationalContext;
+
+import io.quarkus.arc.BeanCreator;
+
+/**
+ * Creates the synthetic beans registered for {@link ConfigValueKey} injection points. Unlike {@link ConfigProducer}
+ * the injection point metadata is not needed; the name, path, type and default value are resolved at build time and
+ * passed as parameters.
+ *
+ * @author neillin
+ */
+public class ConfigValueCreator implements BeanCreator<Object> {
+
+	@Override
+	public Object create(CreationalContext<Object> creationalContext, Map<String, Object> params) {
+		return ConfigValueAccessor.get(params.get("key").toString(), key -> {
+			Object argumentType = params.get("argumentType");
+			return new ConfigValueAccessor(params.get("name").toString(), (String) params.get("path"),
+					loadClass(params.get("rawType").toString()),
+					argumentType != null ? loadClass(argumentType.toString()) : null,
+					(String) params.get("defaultValue"));
+		}).getValue();
+	}
+
+	private static Class<?> loadClass(String name) {
+		ClassLoader cl = Thread.currentThread().getContextClassLoader();
+		if (cl == null) {
+			cl = ConfigValueCreator.class.getClassLoader();
+		}
+		try {
+			return Class.forName(name, true, cl);
+		} catch (ClassNotFoundException e) {
+			throw new IllegalStateException("Cannot load required type: " + name);
+		}
+	}
+
+}
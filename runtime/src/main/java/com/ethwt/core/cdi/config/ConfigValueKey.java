@@ -0,0 +1,43 @@
+package com.ethwt.core.cdi.config;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.PARAMETER;
+import static java.lang.annotation.ElementType.TYPE;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import javax.inject.Qualifier;
+
+import com.ethwt.core.cdi.annotation.ConfigValue;
+
+/**
+ * Internal qualifier that replaces {@link ConfigValue} on injection points at build time. All members are binding so
+ * that the injection points which read the same value share a single synthetic bean. It should never be used in
+ * application code.
+ *
+ * @author neillin
+ */
+@Qualifier
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ METHOD, FIELD, PARAMETER, TYPE })
+public @interface ConfigValueKey {
+
+	/**
+	 * @return the name of the config
+	 */
+	String name();
+
+	/**
+	 * @return the resolved property path, or an empty string if the whole config object is injected
+	 */
+	String property();
+
+	/**
+	 * @return the resolved default value, or {@link ConfigValue#UNCONFIGURED_VALUE} if there is none
+	 */
+	String defaultValue();
+
+}
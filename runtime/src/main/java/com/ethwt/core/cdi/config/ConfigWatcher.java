@@ -0,0 +1,211 @@
+package com.ethwt.core.cdi.config;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Initialized;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.networknt.config.Config;
+
+/**
+ * Watches the light-4j config directories and reloads the configs read by {@link ConfigValueAccessor} when their files
+ * change. A {@link ConfigChanged} event is fired for each config with changed properties.
+ * <p>
+ * The reload mode is disabled by default and enabled with the {@value #RELOAD_PROPERTY} system property. The directories
+ * are taken from the {@value Config#LIGHT_4J_CONFIG_DIR} system property.
+ * <p>
+ * The name of the file in a watch event is not used. Any event in a watched directory triggers a check of the content
+ * of all the configs read so far. This way a change is detected even if the file is replaced indirectly, e.g. when a
+ * Kubernetes ConfigMap volume swaps the {@code ..data} symlink and deletes the previous directory.
+ *
+ * @author neillin
+ */
+@ApplicationScoped
+public class ConfigWatcher {
+
+	public static final String RELOAD_PROPERTY = "light-4j-config-reload";
+
+	private static final Logger log = LoggerFactory.getLogger(ConfigWatcher.class);
+
+	@Inject
+	Event<ConfigChanged> configChanged;
+
+	private volatile WatchService watchService;
+
+	private volatile List<Path> configDirs;
+
+	// The content hash of each config file checked so far, 0 if the file does not exist
+	private final Map<String, Long> fingerprints = new ConcurrentHashMap<>();
+
+	void start(@Observes @Initialized(ApplicationScoped.class) Object event) {
+		if (!Boolean.getBoolean(RELOAD_PROPERTY)) {
+			return;
+		}
+		String configDir = System.getProperty(Config.LIGHT_4J_CONFIG_DIR);
+		if (configDir == null || configDir.trim().isEmpty()) {
+			log.warn("Config reload is enabled but {} is not set", Config.LIGHT_4J_CONFIG_DIR);
+			return;
+		}
+		List<Path> dirs = configDirs(configDir);
+		try {
+			watchService = FileSystems.getDefault().newWatchService();
+		} catch (IOException e) {
+			log.error("Failed to create config watcher", e);
+			return;
+		}
+		for (Path dir : dirs) {
+			try {
+				dir.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+				log.info("Watching config directory: {}", dir);
+			} catch (IOException e) {
+				log.error("Failed to watch config directory: {}", dir, e);
+			}
+		}
+		configDirs = dirs;
+		// Remember the content of the configs read during startup
+		for (String name : ConfigValueAccessor.getLoadedConfigNames()) {
+			fingerprints.put(name, fingerprint(name));
+		}
+		Thread thread = new Thread(this::watch, "config-watcher");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	@PreDestroy
+	void stop() {
+		WatchService service = watchService;
+		if (service != null) {
+			watchService = null;
+			try {
+				service.close();
+			} catch (IOException e) {
+				log.warn("Failed to close config watcher", e);
+			}
+		}
+	}
+
+	private void watch() {
+		WatchService service = watchService;
+		while (service != null) {
+			WatchKey key;
+			try {
+				key = service.take();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (ClosedWatchServiceException e) {
+				return;
+			}
+			// Any event, including OVERFLOW, may stand for a changed config - editors and symlink swaps produce several
+			// events per change so the content is checked once for all of them
+			key.pollEvents();
+			key.reset();
+			checkForChanges();
+			service = watchService;
+		}
+	}
+
+	/**
+	 * Reloads the configs read so far whose file content changed since the last check.
+	 */
+	void checkForChanges() {
+		Set<String> names = new TreeSet<>();
+		for (String name : ConfigValueAccessor.getLoadedConfigNames()) {
+			long fingerprint = fingerprint(name);
+			Long previous = fingerprints.put(name, fingerprint);
+			if (previous == null || previous != fingerprint) {
+				// A config read after the last check is reloaded as well, the reload only fires an event for real changes
+				names.add(name);
+			}
+		}
+		if (!names.isEmpty()) {
+			reload(names);
+		}
+	}
+
+	void reload(Set<String> names) {
+		// Whole config objects are cached by light-4j
+		Config.getInstance().clear();
+		for (String name : names) {
+			try {
+				Set<String> changedKeys = ConfigValueAccessor.reload(name);
+				if (!changedKeys.isEmpty()) {
+					log.info("Config {} reloaded, changed keys: {}", name, changedKeys);
+					configChanged.fire(new ConfigChanged(name, changedKeys));
+				}
+			} catch (RuntimeException e) {
+				log.error("Failed to reload config: {}", name, e);
+			}
+		}
+	}
+
+	/**
+	 *
+	 * @param name
+	 * @return the hash of the content of the first config file found in the config directories or {@code 0} if there is
+	 *         no such file
+	 */
+	private long fingerprint(String name) {
+		List<Path> dirs = configDirs;
+		if (dirs == null) {
+			dirs = configDirs(System.getProperty(Config.LIGHT_4J_CONFIG_DIR, ""));
+		}
+		for (Path dir : dirs) {
+			for (String extension : new String[] { ".yml", ".yaml", ".json" }) {
+				// Symlinks are followed, i.e. the content of the current target is read
+				Path file = dir.resolve(name + extension);
+				if (Files.isRegularFile(file)) {
+					try {
+						byte[] content = Files.readAllBytes(file);
+						CRC32 crc = new CRC32();
+						crc.update(content);
+						// Never 0 for an existing file
+						return ((long) content.length << 32 | crc.getValue()) + 1;
+					} catch (IOException e) {
+						log.warn("Failed to read config file: {}", file, e);
+						return 0;
+					}
+				}
+			}
+		}
+		return 0;
+	}
+
+	private static List<Path> configDirs(String value) {
+		// light-4j accepts a list of directories
+		List<Path> dirs = new ArrayList<>();
+		for (String dir : value.split(File.pathSeparator)) {
+			if (!dir.trim().isEmpty()) {
+				dirs.add(Paths.get(dir.trim()));
+			}
+		}
+		return dirs;
+	}
+
+}
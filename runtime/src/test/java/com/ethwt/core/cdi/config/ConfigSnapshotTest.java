@@ -0,0 +1,89 @@
+package com.ethwt.core.cdi.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.networknt.config.Config;
+import com.networknt.config.JsonMapper;
+
+public class ConfigSnapshotTest {
+
+	@Test
+	public void testRoundTrip() throws IOException {
+		Map<String, JsonNode> roots = new HashMap<>();
+		roots.put("snapshot", JsonMapper.objectMapper.readTree("{\"server\":{\"port\":9090,\"hosts\":[\"a\",\"b\"],"
+				+ "\"name\":\"${server.name}\",\"password\":\"CRYPT:0754fdcc\",\"auth\":{\"secret\":\"CRYPT:1234\"}}}"));
+		Map<String, Set<String>> paths = new HashMap<>();
+		paths.put("snapshot", new HashSet<>(Arrays.asList("server.port", "server.hosts", "server.missing",
+				"server.name", "server.password", "server.auth")));
+		paths.put("unknown", Collections.singleton("server.port"));
+
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		// Values resolved by light-4j at runtime are not included
+		assertEquals(3, ConfigSnapshot.write(roots, paths, out));
+
+		ConfigSnapshot snapshot = ConfigSnapshot.read(ByteBuffer.wrap(out.toByteArray()));
+		assertEquals(3, snapshot.size("snapshot"));
+		assertEquals(0, snapshot.size("unknown"));
+		assertEquals(9090, snapshot.get("snapshot", "server.port").intValue());
+		assertEquals(JsonMapper.objectMapper.readTree("[\"a\",\"b\"]"), snapshot.get("snapshot", "server.hosts"));
+		assertTrue(snapshot.get("snapshot", "server.missing").isMissingNode());
+		assertNull(snapshot.get("snapshot", "server.name"));
+		assertNull(snapshot.get("snapshot", "server.password"));
+		assertNull(snapshot.get("snapshot", "server.auth"));
+		assertNull(snapshot.get("snapshot", "server"));
+		assertNull(snapshot.get("unknown", "server.port"));
+		assertTrue(snapshot.isAvailable("snapshot"));
+		assertFalse(snapshot.isAvailable("unknown"));
+
+		assertNull(ConfigSnapshot.read(ByteBuffer.wrap(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 })));
+	}
+
+	@Test
+	public void testOverridden() throws IOException {
+		Path first = Files.createDirectories(Paths.get("target", "snapshot-config", "first"));
+		Path second = Files.createDirectories(Paths.get("target", "snapshot-config", "second"));
+		Path cwd = Paths.get("overridden.yml");
+		String configDir = System.getProperty(Config.LIGHT_4J_CONFIG_DIR);
+		try {
+			Files.write(second.resolve("overridden.json"), "{}".getBytes());
+			Files.write(cwd, "a: 1".getBytes());
+			// Every configured directory is checked
+			System.setProperty(Config.LIGHT_4J_CONFIG_DIR, first + File.pathSeparator + second);
+			assertTrue(ConfigSnapshot.isOverridden("overridden"));
+			assertFalse(ConfigSnapshot.isOverridden("other"));
+			System.setProperty(Config.LIGHT_4J_CONFIG_DIR, first.toString());
+			assertFalse(ConfigSnapshot.isOverridden("overridden"));
+			// No directory is checked if the property is not set
+			System.clearProperty(Config.LIGHT_4J_CONFIG_DIR);
+			assertFalse(ConfigSnapshot.isOverridden("overridden"));
+		} finally {
+			Files.delete(cwd);
+			if (configDir != null) {
+				System.setProperty(Config.LIGHT_4J_CONFIG_DIR, configDir);
+			} else {
+				System.clearProperty(Config.LIGHT_4J_CONFIG_DIR);
+			}
+		}
+	}
+
+}
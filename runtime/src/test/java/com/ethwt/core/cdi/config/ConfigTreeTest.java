@@ -0,0 +1,78 @@
+package com.ethwt.core.cdi.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.networknt.config.JsonMapper;
+
+public class ConfigTreeTest {
+
+	@Test
+	public void testResolve() throws IOException {
+		ConfigTree tree = tree("{\"server\":{\"port\":9090,\"hosts\":[\"a\",\"b\"]},\"server.name\":\"dotted\","
+				+ "\"a.b\":{\"c\":1},\"a\":{\"b\":{\"d\":2}}}");
+		assertEquals(9090, tree.get("server.port").intValue());
+		assertEquals(2, tree.get("server.hosts").size());
+		assertTrue(tree.get("server").isObject());
+		// Property names may contain dots
+		assertEquals("dotted", tree.get("server.name").asText());
+		assertEquals(1, tree.get("a.b.c").intValue());
+		assertEquals(2, tree.get("a.b.d").intValue());
+		assertTrue(tree.get("server.missing").isMissingNode());
+		assertTrue(tree.get("server.port.value").isMissingNode());
+		// Resolved nodes are indexed
+		assertSame(tree.get("server.hosts"), tree.get("server.hosts"));
+		assertEquals(12, tree.getNodeCount());
+		assertTrue(ConfigTree.EMPTY.get("server.port").isMissingNode());
+	}
+
+	@Test
+	public void testDiff() throws IOException {
+		ConfigTree previous = tree("{\"a\":1,\"b\":{\"c\":\"x\",\"d\":[1,2]},\"e\":{\"f\":true}}");
+		assertTrue(tree("{\"e\":{\"f\":true},\"b\":{\"d\":[1,2],\"c\":\"x\"},\"a\":1}").diff(previous).isEmpty());
+
+		ConfigTree current = tree("{\"a\":1,\"b\":{\"c\":\"y\",\"d\":[1,2,3]},\"g\":{\"h\":0}}");
+		assertEquals(new LinkedHashSet<>(Arrays.asList("b", "b.c", "b.d", "e", "e.f", "g", "g.h")),
+				current.diff(previous));
+		// A value replaced by an object
+		ConfigTree replaced = tree("{\"a\":{\"x\":1},\"b\":{\"c\":\"x\",\"d\":[1,2]},\"e\":{\"f\":true}}");
+		assertEquals(new LinkedHashSet<>(Arrays.asList("a", "a.x")), replaced.diff(previous));
+	}
+
+	@Test
+	public void testSnapshot() throws IOException {
+		AtomicInteger loads = new AtomicInteger();
+		JsonNode root = JsonMapper.objectMapper.readTree("{\"a\":10,\"b\":2}");
+		ConfigTree tree = new ConfigTree(path -> "a".equals(path) ? root.get("a") : null, () -> {
+			loads.incrementAndGet();
+			return root;
+		});
+		// Paths included in the snapshot are read without parsing the config
+		assertEquals(10, tree.get("a").intValue());
+		assertEquals(0, loads.get());
+		// Only the properties read so far are compared until the config is parsed
+		assertEquals(Collections.singleton("a"), tree("{\"a\":1,\"b\":3}").diff(tree));
+		assertEquals(0, loads.get());
+
+		assertEquals(2, tree.get("b").intValue());
+		assertTrue(tree.get("c").isMissingNode());
+		assertEquals(1, loads.get());
+		assertEquals(new LinkedHashSet<>(Arrays.asList("b", "c")), tree("{\"a\":10,\"b\":3,\"c\":4}").diff(tree));
+	}
+
+	private static ConfigTree tree(String json) throws IOException {
+		JsonNode root = JsonMapper.objectMapper.readTree(json);
+		return new ConfigTree(root, ConfigTree.countNodes(root));
+	}
+
+}
@@ -0,0 +1,151 @@
+package com.ethwt.core.cdi.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.networknt.config.Config;
+
+public class ConfigValueAccessorTest {
+
+	@Test
+	public void testScalarConversion() {
+		assertEquals(9090, value("Server.port", Integer.class, null, null));
+		assertEquals(9090L, value("Server.port", Long.class, null, null));
+		assertEquals((short) 9090, value("Server.port", Short.class, null, null));
+		assertEquals(0.75d, value("Server.ratio", Double.class, null, null));
+		assertEquals(0.75f, value("Server.ratio", Float.class, null, null));
+		assertEquals(Boolean.TRUE, value("Server.enabled", Boolean.class, null, null));
+		assertEquals("runtime-test", value("Server.name", String.class, null, null));
+		assertEquals('B', value("Server.grade", Character.class, null, null));
+	}
+
+	@Test
+	public void testDefaultValue() {
+		assertEquals(8080, value("Server.missing", Integer.class, null, "8080"));
+		assertEquals("fallback", value("Server.missing", String.class, null, "\"fallback\""));
+		assertEquals(Arrays.asList(1, 2), value("Server.missing", List.class, Integer.class, "[1,2]"));
+		// The default value is only used if the property does not exist
+		assertEquals(9090, value("Server.port", Integer.class, null, "8080"));
+		assertNull(value("Server.missing", Integer.class, null, null));
+		assertThrows(IllegalArgumentException.class,
+				() -> new ConfigValueAccessor("values", "Server.missing", Integer.class, null, "{invalid"));
+	}
+
+	@Test
+	public void testCollections() {
+		assertEquals(Arrays.asList(10, 20, 30), value("Server.hosts", List.class, Integer.class, null));
+		assertEquals(new HashSet<>(Arrays.asList(10L, 20L, 30L)), value("Server.hosts", Set.class, Long.class, null));
+		Map<?, ?> weights = (Map<?, ?>) value("Server.weights", Map.class, Integer.class, null);
+		assertEquals(2, weights.size());
+		assertEquals(1, weights.get("alpha"));
+		assertTrue(weights.containsKey("beta"));
+		assertFalse(weights.containsKey("gamma"));
+		@SuppressWarnings("unchecked")
+		List<Object> hosts = (List<Object>) value("Server.hosts", List.class, Integer.class, null);
+		assertThrows(UnsupportedOperationException.class, () -> hosts.add(40));
+	}
+
+	@Test
+	public void testOptionals() {
+		assertEquals(Optional.of("runtime-test"), value("Server.name", Optional.class, String.class, null));
+		assertEquals(OptionalInt.of(9090), value("Server.port", OptionalInt.class, null, null));
+	}
+
+	@Test
+	public void testSupplier() {
+		ConfigValueAccessor accessor = new ConfigValueAccessor("values", "Server.port", Supplier.class, Integer.class,
+				null);
+		Object supplier = accessor.getValue();
+		assertSame(supplier, accessor.getValue());
+		assertEquals(9090, ((Supplier<?>) supplier).get());
+	}
+
+	@Test
+	public void testCustomTypes() {
+		// Given as JSON text and as a nested object
+		assertEquals(new Endpoint("localhost", 8443), value("Server.endpoint", Endpoint.class, null, null));
+		assertEquals(new Endpoint("example.org", 443), value("Server.nested", Endpoint.class, null, null));
+	}
+
+	@Test
+	public void testMemoizedValue() {
+		ConfigValueAccessor accessor = new ConfigValueAccessor("values", "Server.hosts", List.class, Integer.class,
+				null);
+		assertSame(accessor.getValue(), accessor.getValue());
+		assertNull(new ConfigValueAccessor(null, "Server.port", Integer.class, null, null).getValue());
+		assertEquals(Collections.emptyList(), value("Server.missing", List.class, Integer.class, "[]"));
+	}
+
+	@Test
+	public void testConfigObject() throws IOException {
+		Path dir = Files.createDirectories(Paths.get(System.getProperty(Config.LIGHT_4J_CONFIG_DIR)));
+		Files.write(dir.resolve("endpoint.yml"), Arrays.asList("host: localhost", "port: 8080"));
+		ConfigValueAccessor accessor = new ConfigValueAccessor("endpoint", null, Endpoint.class, null, null);
+		Object endpoint = accessor.getValue();
+		assertEquals(new Endpoint("localhost", 8080), endpoint);
+		assertSame(endpoint, accessor.getValue());
+
+		// A reload invalidates the bound object even if no property was read
+		Files.write(dir.resolve("endpoint.yml"), Arrays.asList("host: localhost", "port: 9090"));
+		Config.getInstance().clear();
+		ConfigValueAccessor.reload("endpoint");
+		assertEquals(new Endpoint("localhost", 9090), accessor.getValue());
+
+		assertEquals(new Endpoint("fallback", 1), new ConfigValueAccessor("absent", null, Endpoint.class, null,
+				"{\"host\":\"fallback\",\"port\":1}").getValue());
+	}
+
+	private static Object value(String path, Class<?> rawType, Class<?> argumentType, String defaultValue) {
+		return new ConfigValueAccessor("values", path, rawType, argumentType, defaultValue).getValue();
+	}
+
+	public static class Endpoint {
+
+		public String host;
+		public int port;
+
+		public Endpoint() {
+		}
+
+		Endpoint(String host, int port) {
+			this.host = host;
+			this.port = port;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof Endpoint)) {
+				return false;
+			}
+			Endpoint other = (Endpoint) obj;
+			return host.equals(other.host) && port == other.port;
+		}
+
+		@Override
+		public int hashCode() {
+			return host.hashCode() * 31 + port;
+		}
+
+	}
+
+}
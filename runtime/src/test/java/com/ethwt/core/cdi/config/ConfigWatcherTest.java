@@ -0,0 +1,151 @@
+package com.ethwt.core.cdi.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.enterprise.event.Observes;
+import javax.inject.Singleton;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.ethwt.core.cdi.test.ArcTestContainer;
+import com.networknt.config.Config;
+
+import io.quarkus.arc.Arc;
+
+public class ConfigWatcherTest {
+
+	@RegisterExtension
+	public ArcTestContainer container = new ArcTestContainer(ConfigWatcher.class, ChangeObserver.class);
+
+	@Test
+	public void testReload() throws IOException {
+		write("watched.yml", "a: 1", "b:", "  c: x");
+		ConfigValueAccessor accessor = new ConfigValueAccessor("watched", "b.c", String.class, null, null);
+		assertEquals("x", accessor.getValue());
+
+		ChangeObserver observer = Arc.container().instance(ChangeObserver.class).get();
+		observer.events.clear();
+		ConfigWatcher watcher = Arc.container().instance(ConfigWatcher.class).get();
+
+		write("watched.yml", "a: 1", "b:", "  c: y", "  d: 2");
+		watcher.reload(Collections.singleton("watched"));
+		assertEquals(1, observer.events.size());
+		ConfigChanged changed = observer.events.get(0);
+		assertEquals("watched", changed.getName());
+		assertEquals(new HashSet<>(Arrays.asList("b", "b.c", "b.d")), changed.getChangedKeys());
+		assertTrue(changed.isChanged("b.c"));
+		assertFalse(changed.isChanged("a"));
+		assertEquals("y", accessor.getValue());
+
+		// Nothing changed, no event is fired
+		observer.events.clear();
+		watcher.reload(Collections.singleton("watched"));
+		assertTrue(observer.events.isEmpty());
+
+		write("watched.yml", "a: 1");
+		watcher.reload(Collections.singleton("watched"));
+		assertEquals(new HashSet<>(Arrays.asList("b", "b.c", "b.d")), observer.events.get(0).getChangedKeys());
+		assertNull(accessor.getValue());
+	}
+
+	@Test
+	public void testReloadNotLoaded() throws IOException {
+		write("unused.yml", "a: 1");
+		ChangeObserver observer = Arc.container().instance(ChangeObserver.class).get();
+		observer.events.clear();
+		// A config that was never read is not reloaded
+		Arc.container().instance(ConfigWatcher.class).get().reload(Collections.singleton("unused"));
+		assertTrue(observer.events.isEmpty());
+	}
+
+	@Test
+	public void testCheckForChanges() throws IOException {
+		write("checked.yml", "a: 1");
+		ConfigValueAccessor accessor = new ConfigValueAccessor("checked", "a", Integer.class, null, null);
+		assertEquals(1, accessor.getValue());
+		ChangeObserver observer = Arc.container().instance(ChangeObserver.class).get();
+		ConfigWatcher watcher = Arc.container().instance(ConfigWatcher.class).get();
+		watcher.checkForChanges();
+		observer.events.clear();
+
+		// The content is compared, not the name of the file in the watch event
+		watcher.checkForChanges();
+		assertTrue(observer.events.isEmpty());
+		write("checked.yml", "a: 2");
+		watcher.checkForChanges();
+		assertEquals(1, observer.events.size());
+		assertEquals("checked", observer.events.get(0).getName());
+		assertEquals(2, accessor.getValue());
+	}
+
+	@Test
+	public void testConfigMapSymlinkSwap() throws IOException {
+		// The layout of a Kubernetes ConfigMap volume: mapped.yml -> ..data/mapped.yml, ..data -> ..2024_01
+		Path dir = Paths.get(System.getProperty(Config.LIGHT_4J_CONFIG_DIR));
+		Path first = dir.resolve("..2024_01");
+		Files.createDirectories(first);
+		Files.write(first.resolve("mapped.yml"), Arrays.asList("a: 1"), StandardCharsets.UTF_8);
+		Path data = dir.resolve("..data");
+		Files.deleteIfExists(data);
+		Files.createSymbolicLink(data, first.getFileName());
+		Path link = dir.resolve("mapped.yml");
+		Files.deleteIfExists(link);
+		Files.createSymbolicLink(link, Paths.get("..data", "mapped.yml"));
+
+		ConfigValueAccessor accessor = new ConfigValueAccessor("mapped", "a", Integer.class, null, null);
+		assertEquals(1, accessor.getValue());
+		ChangeObserver observer = Arc.container().instance(ChangeObserver.class).get();
+		ConfigWatcher watcher = Arc.container().instance(ConfigWatcher.class).get();
+		watcher.checkForChanges();
+		observer.events.clear();
+
+		// The update writes a new directory, swaps the ..data symlink and deletes the previous directory
+		Path second = dir.resolve("..2024_02");
+		Files.createDirectories(second);
+		Files.write(second.resolve("mapped.yml"), Arrays.asList("a: 2"), StandardCharsets.UTF_8);
+		Path tmp = dir.resolve("..data_tmp");
+		Files.createSymbolicLink(tmp, second.getFileName());
+		Files.move(tmp, data, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		Files.delete(first.resolve("mapped.yml"));
+		Files.delete(first);
+
+		watcher.checkForChanges();
+		assertEquals(1, observer.events.size());
+		assertEquals("mapped", observer.events.get(0).getName());
+		assertEquals(2, accessor.getValue());
+	}
+
+	private static void write(String fileName, String... lines) throws IOException {
+		Path dir = Paths.get(System.getProperty(Config.LIGHT_4J_CONFIG_DIR));
+		Files.createDirectories(dir);
+		Files.write(dir.resolve(fileName), Arrays.asList(lines), StandardCharsets.UTF_8);
+	}
+
+	@Singleton
+	static class ChangeObserver {
+
+		final List<ConfigChanged> events = new CopyOnWriteArrayList<>();
+
+		void onChange(@Observes ConfigChanged event) {
+			events.add(event);
+		}
+
+	}
+
+}